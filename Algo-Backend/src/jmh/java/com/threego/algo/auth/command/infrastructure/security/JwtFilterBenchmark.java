@@ -0,0 +1,101 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import com.threego.algo.member.command.domain.aggregate.enums.Status;
+import com.threego.algo.member.query.dao.AuthMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. JWT 인증 필터 경로 벤치마크
+ *  - legacyDoubleParse: 변경 전 방식 (요청마다 파서 생성 + 검증용/클레임용 두 번 서명 검증)
+ *  - singleParse: 공유 파서로 한 번만 검증하고 클레임으로 인증 객체 생성
+ *  - filter: 상태 캐시 확인까지 포함한 JwtFilter 전체 경로
+ *  실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtFilterBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+
+    @Setup
+    public void setUp() {
+        Key signingKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        secret = Encoders.BASE64.encode(signingKey.getEncoded());
+
+        Claims claims = Jwts.claims().setSubject("algo@algo.co.kr");
+        claims.put(JwtUtil.AUTHORITIES_CLAIM, List.of("ROLE_USER"));
+        claims.put(JwtUtil.MEMBER_ID_CLAIM, 1);
+        token = Jwts.builder()
+                .setClaims(claims)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
+                .compact();
+
+        // 캐시 적중 이후의 경로를 측정하므로 회원 상태 조회는 항상 ACTIVE 를 반환
+        AuthMapper authMapper = (AuthMapper) Proxy.newProxyInstance(AuthMapper.class.getClassLoader(),
+                new Class<?>[]{AuthMapper.class}, (proxy, method, args) -> Status.ACTIVE);
+
+        jwtUtil = new JwtUtil(secret);
+        jwtFilter = new JwtFilter(jwtUtil,
+                new MemberStatusCache(authMapper, new SimpleMeterRegistry(), true, 10_000, 30),
+                new InternalIdentityVerifier(false, "", 30));
+    }
+
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return jwtUtil.getAuthentication(jwtUtil.parseClaims(token).orElseThrow());
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/algo/roadmaps");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,126 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 로그인 폭주 시 로그인 처리량과 다른 API 지연 비교
+ *  - login 스레드(요청 스레드 역할) 16개가 계속 로그인하는 동안 unrelatedEndpoint 스레드 2개가 가벼운 JSON 응답을 만든다.
+ *  - direct: 요청 스레드에서 바로 BCrypt 검증 (변경 전)
+ *  - bounded: PasswordHasher 전용 풀에서 검증, 포화 시 즉시 거절
+ *  - 거절된 로그인은 바로 반환되어 평균 시간/처리량을 좋아 보이게 하므로 성공과 거절을 따로 센다.
+ *    Throughput 결과의 mixed:successfulLogins 가 성공한 로그인 수, mixed:rejectedLogins 가 거절 수다. (ops/ms, x1000 하면 초당)
+ *    (login 자체의 ops/ms 와 SampleTime 평균은 거절을 섞어 계산하므로 로그인 처리량으로 쓰지 않는다.)
+ *  - SampleTime 결과에서 unrelatedEndpoint 의 p0.99 로 꼬리 지연을 본다.
+ *  실행: ./gradlew jmh
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginThroughputBenchmark {
+
+    private static final String RAW_PASSWORD = "pass01";
+
+    @Param({"direct", "bounded"})
+    private String mode;
+
+    private BCryptPasswordEncoder encoder;
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHasher passwordHasher;
+    private String encodedPassword;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Object> response = Map.of(
+            "id", 1,
+            "title", "버블 정렬",
+            "tags", List.of("정렬", "배열", "구현"),
+            "likeCount", 42);
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(10);
+        encodedPassword = encoder.encode(RAW_PASSWORD);
+
+        executor = new ThreadPoolTaskExecutor();
+        int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(64);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        passwordHasher = new PasswordHasher(encoder, executor, new SimpleMeterRegistry(), 3000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(16)
+    public boolean login(LoginCounters counters) {
+        if ("direct".equals(mode)) {
+            final boolean matched = encoder.matches(RAW_PASSWORD, encodedPassword);
+            counters.successfulLogins++;
+            return matched;
+        }
+
+        try {
+            final boolean matched = passwordHasher.matches(RAW_PASSWORD, encodedPassword);
+            counters.successfulLogins++;
+            return matched;
+        } catch (PasswordHashRejectedException e) {
+            // 거절된 로그인은 503 응답과 같이 바로 반환 (성공 처리량에는 넣지 않음)
+            counters.rejectedLogins++;
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public String unrelatedEndpoint() throws Exception {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    /* 설명. 로그인 스레드별 성공/거절 횟수 (Throughput 모드에서 ops/ms 로 보고) */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class LoginCounters {
+        public long successfulLogins;
+        public long rejectedLogins;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            successfulLogins = 0;
+            rejectedLogins = 0;
+        }
+    }
+}
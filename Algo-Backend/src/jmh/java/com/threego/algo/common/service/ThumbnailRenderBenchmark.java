@@ -0,0 +1,114 @@
+package com.threego.algo.common.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 썸네일 워커 처리량 (초당 처리한 원본 이미지 수)
+ *  - 원본 BATCH 장을 워커 풀(workers 개)에 한 번에 넘기고 모두 끝날 때까지 기다린다. (S3 입출력 제외, 디코딩/축소/JPEG 인코딩만)
+ *  - sourceWidth: 원본 너비 (휴대폰 사진 4000px 기준, 높이는 3/4)
+ *  - subsampling: 디코딩 단계에서 픽셀을 건너뛰며 읽는지 여부 (false 면 원본 크기 그대로 디코딩)
+ *  - workers 를 늘려도 처리량이 늘지 않는 지점이 image.thumbnail.worker-threads 의 상한이다.
+ *  실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThumbnailRenderBenchmark {
+
+    private static final int BATCH = 8;
+    private static final int[] WIDTHS = {320, 640};
+
+    @Param({"1600", "4000"})
+    private int sourceWidth;
+
+    @Param({"true", "false"})
+    private boolean subsampling;
+
+    @Param({"1", "2", "4"})
+    private int workers;
+
+    private byte[] source;
+    private ImageThumbnailRenderer renderer;
+    private ThreadPoolTaskExecutor executor;
+
+    @Setup
+    public void setUp() throws IOException {
+        source = photo(sourceWidth, sourceWidth * 3 / 4);
+        renderer = new ImageThumbnailRenderer(0.8f, 40_000_000L, subsampling);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(BATCH);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long renderBatch() throws Exception {
+        final List<Future<Integer>> results = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            results.add(executor.submit(() -> renderer.render(new ByteArrayInputStream(source), WIDTHS).size()));
+        }
+
+        long rendered = 0;
+        for (Future<Integer> result : results) {
+            rendered += result.get();
+        }
+        return rendered;
+    }
+
+    // 압축률이 사진과 비슷하도록 그라데이션 + 잡음이 섞인 JPEG
+    private static byte[] photo(int width, int height) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(30, 90, 160), width, height, new Color(230, 180, 60)));
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+
+        final Random random = new Random(42);
+        for (int i = 0; i < width * height / 20; i++) {
+            image.setRGB(random.nextInt(width), random.nextInt(height), random.nextInt(0xFFFFFF));
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        return output.toByteArray();
+    }
+}
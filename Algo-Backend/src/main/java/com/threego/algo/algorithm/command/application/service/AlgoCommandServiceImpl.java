@@ -3,18 +3,24 @@ package com.threego.algo.algorithm.command.application.service;
 import com.threego.algo.algorithm.command.application.dto.*;
 import com.threego.algo.algorithm.command.domain.aggregate.*;
 import com.threego.algo.algorithm.command.domain.repository.*;
-import com.threego.algo.common.service.S3Service;
+import com.threego.algo.algorithm.query.dao.AlgoProgressMapper;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import com.threego.algo.common.service.S3ImageUploader;
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
 import com.threego.algo.algorithm.query.service.AlgoQueryService;
 import com.threego.algo.likes.command.application.service.LikesCommandService;
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
-import com.threego.algo.likes.query.service.LikesQueryService;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
 import lombok.RequiredArgsConstructor;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,14 +37,17 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
     private final AlgoQuizOptionCommandRepository algoQuizOptionCommandRepository;
     private final AlgoCommentRepository algoCommentRepository;
     private final MemberAlgoCorrectQuizHistoryCommandRepository memberAlgoCorrectQuizHistoryCommandRepository;
+    private final AlgoProgressMapper algoProgressMapper;
 
     private final MemberCommandRepository memberCommandRepository;
 
     private final AlgoQueryService algoQueryService;
+    private final AlgoContentCache algoContentCache;
     private final LikesCommandService likesCommandService;
-    private final LikesQueryService likesQueryService;
 
-    private final S3Service s3Service;
+    private final S3ImageUploader s3ImageUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public AlgoRoadmap createAlgoRoadmap(final AlgoRoadmapRequestDTO request) {
@@ -47,7 +56,11 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
         final AlgoRoadmap algoRoadmap = new AlgoRoadmap(request.getTitle(), request.getDescription(),
                 request.getOrder() == null ? 1 : request.getOrder());
 
-        return algoRoadmapCommandRepository.save(algoRoadmap);
+        final AlgoRoadmap savedAlgoRoadmap = algoRoadmapCommandRepository.save(algoRoadmap);
+
+        algoContentCache.evictRoadmaps();
+
+        return savedAlgoRoadmap;
     }
 
     @Transactional
@@ -65,15 +78,26 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
                 || algoRoadmap.getOrder() != request.getOrder()) {
             algoRoadmap.updateAlgoRoadmap(request.getTitle(), request.getDescription(),
                     request.getOrder() == null ? 1 : request.getOrder());
+
+            algoContentCache.evictRoadmaps();
         }
 
         return algoRoadmap;
     }
 
-    @Transactional
+    /* 설명. 이미지는 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 이미지를 지운다. */
     @Override
     public AlgoPostDetailResponseDTO createAlgoPost(final int memberId, final int roadmapId,
                                                     final AlgoPostRequestDTO request) {
+        final List<String> uploadedImageUrls = s3ImageUploader.uploadAll(request.getImages(), "algo-posts");
+
+        return s3ImageUploader.compensateOnFailure(uploadedImageUrls, () -> transactionTemplate.execute(status ->
+                saveAlgoPost(memberId, roadmapId, request, uploadedImageUrls)));
+    }
+
+    private AlgoPostDetailResponseDTO saveAlgoPost(final int memberId, final int roadmapId,
+                                                   final AlgoPostRequestDTO request,
+                                                   final List<String> uploadedImageUrls) {
         final Member member = findMemberById(memberId);
         final AlgoRoadmap algoRoadmap = findAlgoRoadmapById(roadmapId);
 
@@ -82,37 +106,20 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
 
         final AlgoPostDetailResponseDTO response = AlgoPostDetailResponseDTO.of(algoPost);
 
-        // 이미지 처리 로직 수정
-        List<String> savedImageUrls = new ArrayList<>();
-
-        // 1. MultipartFile로 받은 이미지 처리 (새로 추가)
-        if (request.getImages() != null && !request.getImages().isEmpty()) {
-            for (MultipartFile image : request.getImages()) {
-                if (!image.isEmpty()) {
-                    // 이미지 파일 유효성 검사
-                    s3Service.validateImageFile(image);
-
-                    // S3에 업로드
-                    String imageUrl = s3Service.uploadFile(image, "algo-posts");
-
-                    // DB에 저장
-                    AlgoPostImage postImage = new AlgoPostImage(imageUrl, algoPost);
-                    algoPostImageCommandRepository.save(postImage);
-
-                    savedImageUrls.add(imageUrl);
-                }
-            }
+        // 업로드한 이미지 + 기존 imageUrls 로 받은 URL (하위 호환성 유지) 을 한 번에 저장
+        final List<String> imageUrls = new ArrayList<>(uploadedImageUrls);
+        if (request.getImageUrls() != null) {
+            imageUrls.addAll(request.getImageUrls());
         }
 
-        // 2. 기존 imageUrls로 받은 URL 처리 (하위 호환성 유지)
-        if (request.getImageUrls() != null && !request.getImageUrls().isEmpty()) {
-            List<AlgoPostImage> urlImages = saveAlgoPostImages(request.getImageUrls(), algoPost);
-            savedImageUrls.addAll(urlImages.stream()
-                    .map(AlgoPostImage::getImageUrl)
-                    .collect(Collectors.toList()));
-        }
+        final List<String> savedImageUrls = imageUrls.isEmpty() ? new ArrayList<>()
+                : saveAlgoPostImages(imageUrls, algoPost).stream()
+                        .map(AlgoPostImage::getImageUrl)
+                        .collect(Collectors.toList());
 
         response.setImageUrls(savedImageUrls);
+
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.ALGO, algoPost.getId()));
         return response;
     }
 
@@ -129,14 +136,22 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
         // 삭제할 게시물에 속한 문제 수 카운팅
         final int postQuizCount = algoQuizQuestionCommandRepository.countByAlgoPost(algoPost);
 
-        // 삭제할 게시물이 속한 로드맵의 문제 수 가져오기
-        final int totalQuizCount = algoPost.getAlgoRoadmap().getQuestionCount();
-
         // 게시물 상태 변경 (Y -> N)
         algoPost.updateVisibility();
 
         // 로드맵의 문제 수 갱신
-        algoPost.getAlgoRoadmap().updateQuestionCount(totalQuizCount - postQuizCount);
+        algoRoadmapCommandRepository.addQuestionCount(algoPost.getAlgoRoadmap().getId(), -postQuizCount);
+
+        // 삭제된 게시물의 문제를 맞힌 회원들의 진척도 차감
+        if (postQuizCount > 0) {
+            algoProgressMapper.decreaseProgressByPostId(postId, algoPost.getAlgoRoadmap().getId());
+        }
+
+        algoContentCache.evictRoadmaps();
+        algoContentCache.evictPost(postId);
+        algoContentCache.evictQuizzes(postId);
+
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.ALGO, postId));
     }
 
     @Transactional
@@ -156,7 +171,9 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
 
         algoCommentRepository.save(comment);
 
-        algoPost.updateCommentCount(algoPost.getCommentCount() + 1);
+        algoPostCommandRepository.increaseCommentCount(postId);
+
+        algoContentCache.evictPost(postId);
     }
 
     @Transactional
@@ -188,7 +205,9 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
 
         final AlgoPost algoPost = comment.getAlgoPost();
 
-        algoPost.updateCommentCount(algoPost.getCommentCount() - 1);
+        algoPostCommandRepository.decreaseCommentCount(algoPost.getId());
+
+        algoContentCache.evictPost(algoPost.getId());
     }
 
     @Transactional
@@ -206,13 +225,24 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
             throw new RuntimeException("이미 등록된 퀴즈 정답 제출 이력입니다.");
         }
 
-        final int correctQuizCount = algoQueryService.countMemberCorrectAnswersInRoadmap(memberId,
-                quizQuestion.getAlgoPost().getAlgoRoadmap().getId());
+        final AlgoPost algoPost = quizQuestion.getAlgoPost();
 
-        if (correctQuizCount + 1 == quizQuestion.getAlgoPost().getAlgoRoadmap().getQuestionCount()) {
+        // 삭제된 게시물의 문제는 진척도에 포함하지 않음
+        if (!algoPost.getVisibility().equals("Y")) {
+            return;
+        }
+
+        final AlgoRoadmap algoRoadmap = algoPost.getAlgoRoadmap();
+
+        // 진척도 원자적 증가 후 같은 트랜잭션에서 갱신된 값 조회 (행 잠금으로 동시 정답 등록에도 정확)
+        algoProgressMapper.increaseProgress(memberId, algoRoadmap.getId());
+
+        final int correctQuizCount = algoQueryService.countMemberCorrectAnswersInRoadmap(memberId, algoRoadmap.getId());
+
+        if (correctQuizCount == algoRoadmap.getQuestionCount()) {
             // TODO 로드맵 대분류의 퀴즈를 전부 맞힌 경우 포인트 20 증가
             log.info("{}번 회원이 로드맵 대분류 {}번의 퀴즈를 모두 달성했으므로 20 포인트가 지급되었습니다."
-                    , memberId, quizQuestion.getAlgoPost().getAlgoRoadmap().getId());
+                    , memberId, algoRoadmap.getId());
         }
     }
 
@@ -235,7 +265,14 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
                 .map(AlgoQuizOptionResponseDTO::of)
                 .collect(Collectors.toList());
 
-        algoPost.getAlgoRoadmap().updateQuestionCount(algoPost.getAlgoRoadmap().getQuestionCount() + 1);
+        // 로드맵 문제 수는 공개 게시물의 문제만 센다. (게시물 삭제/퀴즈 삭제 시 차감 기준과 동일)
+        if (algoPost.getVisibility().equals("Y")) {
+            algoRoadmapCommandRepository.addQuestionCount(algoPost.getAlgoRoadmap().getId(), 1);
+        }
+
+        algoContentCache.evictRoadmaps();
+        algoContentCache.evictPost(postId);
+        algoContentCache.evictQuizzes(postId);
 
         return AlgoQuizQuestionResponseDTO.of(savedAlgoQuizQuestion, optionResponse);
     }
@@ -267,6 +304,8 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
             optionResponse.add(AlgoQuizOptionResponseDTO.of(algoQuizOption));
         }
 
+        algoContentCache.evictQuizzes(quizQuestion.getAlgoPost().getId());
+
         return AlgoQuizQuestionResponseDTO.of(quizQuestion, optionResponse);
     }
 
@@ -303,6 +342,10 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
 
         response.setImageUrls(algoPostImages);
 
+        algoContentCache.evictPost(postId);
+
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.ALGO, postId));
+
         return response;
     }
 
@@ -319,7 +362,9 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
 
         final AlgoPost algoPost = comment.getAlgoPost();
 
-        algoPost.updateCommentCount(algoPost.getCommentCount() - 1);
+        algoPostCommandRepository.decreaseCommentCount(algoPost.getId());
+
+        algoContentCache.evictPost(algoPost.getId());
     }
 
     @Transactional
@@ -328,14 +373,23 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
         final AlgoQuizQuestion algoQuizQuestion = findAlgoQuizQuestion(quizQuestionId);
 
         final AlgoPost algoPost = algoQuizQuestion.getAlgoPost();
+        final int roadmapId = algoPost.getAlgoRoadmap().getId();
+
+        // 삭제된 게시물의 문제는 게시물 삭제 시 이미 문제 수/진척도에서 빠졌으므로 공개 게시물일 때만 차감
+        if (algoPost.getVisibility().equals("Y")) {
+            algoProgressMapper.decreaseProgressByQuestionId(quizQuestionId, roadmapId);
+            algoRoadmapCommandRepository.addQuestionCount(roadmapId, -1);
+        }
+
+        memberAlgoCorrectQuizHistoryCommandRepository.deleteByIdAlgoQuizQuestion(algoQuizQuestion);
 
         algoQuizOptionCommandRepository.deleteByAlgoQuizQuestion(algoQuizQuestion);
 
         algoQuizQuestionCommandRepository.deleteById(algoQuizQuestion.getId());
 
-        final int totalQuizCount = algoPost.getAlgoRoadmap().getQuestionCount();
-
-        algoPost.getAlgoRoadmap().updateQuestionCount(totalQuizCount - 1);
+        algoContentCache.evictRoadmaps();
+        algoContentCache.evictPost(algoPost.getId());
+        algoContentCache.evictQuizzes(algoPost.getId());
     }
 
     @Transactional
@@ -348,13 +402,7 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
             throw new RuntimeException("자신이 작성한 글은 추천할 수 없습니다.");
         }
 
-        if (likesQueryService.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId, Type.ALGO_POST)) {
-            throw new RuntimeException("이미 추천한 게시물입니다.");
-        }
-
         likesCommandService.createLikes(member, algoPost, Type.ALGO_POST);
-
-        algoPost.increaseLikeCount();
     }
 
     private void validQuizQuestion(final String question) {
@@ -381,11 +429,17 @@ public class AlgoCommandServiceImpl implements AlgoCommandService {
     }
 
     private List<AlgoPostImage> saveAlgoPostImages(final List<String> imageUrls, final AlgoPost algoPost) {
+        if (imageUrls.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         final List<AlgoPostImage> algoPostImages = imageUrls.stream()
                 .map((imageUrl) -> new AlgoPostImage(imageUrl, algoPost))
                 .collect(Collectors.toList());
 
-        return algoPostImageCommandRepository.saveAll(algoPostImages);
+        final List<AlgoPostImage> saved = algoPostImageCommandRepository.saveAll(algoPostImages);
+        eventPublisher.publishEvent(new PostImagesSavedEvent(ImageBoard.ALGO, algoPost.getId()));
+        return saved;
     }
 
     private void validAlgoRoadmapTitle(final String title) {
@@ -5,10 +5,12 @@ import com.threego.algo.member.command.domain.aggregate.Member;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Table(name = "algo_post")
 @NoArgsConstructor
+@DynamicUpdate
 @Entity
 public class AlgoPost {
     @Id
@@ -61,14 +63,6 @@ public class AlgoPost {
         this.updatedAt = DateTimeUtils.nowDateTime();
     }
 
-    public void updateCommentCount(final int commentCount) {
-        if (commentCount < 0) {
-            this.commentCount = 0;
-        } else {
-            this.commentCount = commentCount;
-        }
-    }
-
     public void updateAlgoPost(final String title, final String content) {
         if (!(title.equals(this.title) && content.equals(this.content))) {
             this.title = title;
@@ -76,8 +70,4 @@ public class AlgoPost {
             this.updatedAt = DateTimeUtils.nowDateTime();
         }
     }
-
-    public void increaseLikeCount() {
-        this.likeCount += 1;
-    }
 }
\ No newline at end of file
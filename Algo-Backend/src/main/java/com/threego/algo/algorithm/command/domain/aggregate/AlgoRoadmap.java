@@ -4,10 +4,12 @@ import com.threego.algo.common.util.DateTimeUtils;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Table(name = "algo_roadmap")
 @NoArgsConstructor
+@DynamicUpdate
 @Entity
 public class AlgoRoadmap {
     @Id
@@ -46,12 +48,4 @@ public class AlgoRoadmap {
         this.order = order;
         this.updatedAt = DateTimeUtils.nowDateTime();
     }
-
-    public void updateQuestionCount(final int questionCount) {
-        if (questionCount < 0) {
-            this.questionCount = 0;
-        } else {
-            this.questionCount = questionCount;
-        }
-    }
 }
\ No newline at end of file
@@ -2,6 +2,17 @@ package com.threego.algo.algorithm.command.domain.repository;
 
 import com.threego.algo.algorithm.command.domain.aggregate.AlgoPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AlgoPostCommandRepository extends JpaRepository<AlgoPost, Integer> {
-}
\ No newline at end of file
+    // 카운터는 엔티티를 읽어 +1 하지 않고 DB 에서 원자적으로 갱신 (동시 요청 시 갱신 유실 방지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AlgoPost p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int increaseCommentCount(@Param("id") final int id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AlgoPost p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("id") final int id);
+}
@@ -2,7 +2,17 @@ package com.threego.algo.algorithm.command.domain.repository;
 
 import com.threego.algo.algorithm.command.domain.aggregate.AlgoRoadmap;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AlgoRoadmapCommandRepository extends JpaRepository<AlgoRoadmap, Integer> {
     boolean existsByTitle(final String title);
-}
\ No newline at end of file
+
+    // delta 만큼 원자적으로 증감 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AlgoRoadmap r SET r.questionCount = " +
+            "CASE WHEN r.questionCount + :delta < 0 THEN 0 ELSE r.questionCount + :delta END " +
+            "WHERE r.id = :id")
+    int addQuestionCount(@Param("id") final int id, @Param("delta") final int delta);
+}
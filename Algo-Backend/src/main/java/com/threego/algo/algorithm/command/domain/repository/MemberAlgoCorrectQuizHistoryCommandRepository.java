@@ -1,9 +1,11 @@
 package com.threego.algo.algorithm.command.domain.repository;
 
+import com.threego.algo.algorithm.command.domain.aggregate.AlgoQuizQuestion;
 import com.threego.algo.algorithm.command.domain.aggregate.MemberAlgoCorrectQuizHistoryId;
 import com.threego.algo.algorithm.command.domain.aggregate.MemberAlgoCorrectQuizHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface MemberAlgoCorrectQuizHistoryCommandRepository extends
         JpaRepository<MemberAlgoCorrectQuizHistory, MemberAlgoCorrectQuizHistoryId> {
+    void deleteByIdAlgoQuizQuestion(final AlgoQuizQuestion algoQuizQuestion);
 }
\ No newline at end of file
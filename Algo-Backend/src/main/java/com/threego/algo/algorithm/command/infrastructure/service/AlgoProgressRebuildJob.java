@@ -0,0 +1,106 @@
+package com.threego.algo.algorithm.command.infrastructure.service;
+
+import com.threego.algo.algorithm.query.dao.AlgoProgressMapper;
+import com.threego.algo.common.service.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* 설명. 회원별 로드맵 진척도 재계산 작업
+ *  - 진척도 테이블 도입 전 회원의 값 채우기, 또는 어긋난 값 보정용
+ *  - 시작 시 진척도 테이블이 비어 있는데 정답 이력이 있으면 한 번 채운다. (migrations/03 으로 미리 채웠다면 건너뜀)
+ *  - 회원 ID 순으로 chunk-size 명씩 끊어 각 묶음을 별도 트랜잭션으로 재계산한다. (긴 잠금 방지)
+ *  - 여러 서버 중 Scheduler_Lease 를 선점한 한 곳에서만 실행된다.
+ */
+@Slf4j
+@Component
+public class AlgoProgressRebuildJob {
+
+    private static final String LEASE_NAME = "algo-progress-rebuild";
+
+    private final AlgoProgressMapper algoProgressMapper;
+    private final SchedulerLease schedulerLease;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean rebuildOnStartup;
+    private final Duration leaseTime;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public AlgoProgressRebuildJob(AlgoProgressMapper algoProgressMapper,
+                                  SchedulerLease schedulerLease,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${algo.progress.rebuild-chunk-size:500}") int chunkSize,
+                                  @Value("${algo.progress.rebuild-on-startup:false}") boolean rebuildOnStartup,
+                                  @Value("${algo.progress.rebuild-lease-seconds:1800}") long leaseSeconds) {
+        this.algoProgressMapper = algoProgressMapper;
+        this.schedulerLease = schedulerLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || algoProgressMapper.existsUnbuiltProgress()) {
+            rebuildWithLease();
+        }
+    }
+
+    @Scheduled(cron = "${algo.progress.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuildWithLease();
+    }
+
+    private void rebuildWithLease() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTime)) {
+            log.info("[algo-progress] 다른 서버에서 진척도 재계산 중이므로 건너뜁니다.");
+            return;
+        }
+
+        try {
+            rebuild();
+        } finally {
+            schedulerLease.release(LEASE_NAME);
+        }
+    }
+
+    /* 설명. 전체 회원 진척도 재계산, 처리한 회원 수 반환 (이미 실행 중이면 0) */
+    public int rebuild() {
+        if (!lock.tryLock()) {
+            log.info("[algo-progress] 진척도 재계산이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            int lastMemberId = 0;
+            int processed = 0;
+
+            List<Integer> memberIds;
+            while (!(memberIds = algoProgressMapper.selectMemberIdsAfter(lastMemberId, chunkSize)).isEmpty()) {
+                final List<Integer> chunk = memberIds;
+                transactionTemplate.executeWithoutResult(status -> {
+                    algoProgressMapper.resetProgressByMemberIds(chunk);
+                    algoProgressMapper.rebuildProgressByMemberIds(chunk);
+                });
+
+                processed += chunk.size();
+                lastMemberId = chunk.get(chunk.size() - 1);
+            }
+
+            log.info("[algo-progress] 진척도 재계산 완료, 회원 {}명", processed);
+            return processed;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -11,20 +11,20 @@ import java.util.List;
 public interface AlgoMapper {
     List<AlgoRoadmap> selectAllAlgoRoadmaps();
 
-    List<AlgoPostSummaryResponseDTO> selectAlgoPosts(@Param("memberId") final Integer memberId,
-                                                     @Param("roadmapId") final Integer roadmapId,
+    List<AlgoPostSummaryResponseDTO> selectAlgoPosts(@Param("roadmapId") final Integer roadmapId,
                                                      @Param("keyword") final String keyword,
+                                                     @Param("searchIds") final List<Integer> searchIds,
                                                      @Param("visibility") final String visibility);
 
     List<AlgoMemberSolvedQuizResponseDTO> selectSolvedQuizzesByMemberIdAndRoadmapIds(@Param("memberId") final Integer memberId,
                                                                                      @Param("roadmapId") final Integer roadmapId);
 
-    List<AlgoPostCommentDTO> selectCommentsByPostId(final int postId);
+    List<Integer> selectSolvedQuizIdsByMemberIdAndPostId(@Param("memberId") final int memberId,
+                                                         @Param("postId") final int postId);
 
-    AlgoPostDetailResponseDTO selectAlgoPostByPostId(@Param("memberId") final Integer memberId,
-                                                     @Param("postId") final Integer postId);
+    List<AlgoPostCommentDTO> selectCommentsByPostId(final int postId);
 
-    List<String> selectAlgoImagesByPostId(@Param("postId") Integer postId);
+    AlgoPostDetailResponseDTO selectAlgoPostByPostId(@Param("postId") final Integer postId);
 
     List<AlgoQuizResponseDTO> selectQuizQuestionAndOptionByPostId(@Param("postId") final Integer postId);
 
@@ -0,0 +1,32 @@
+package com.threego.algo.algorithm.query.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/* 설명. 회원별 로드맵 진척도(ALGO_MEMBER_PROGRESS) 갱신
+ *  - 맞힌 문제 수를 정답 이력에서 매번 세지 않고 정답 등록/게시물 삭제 시 증감으로 유지한다.
+ */
+@Mapper
+public interface AlgoProgressMapper {
+    int increaseProgress(@Param("memberId") final int memberId,
+                         @Param("roadmapId") final int roadmapId);
+
+    /* 설명. 삭제된 게시물의 퀴즈를 맞힌 회원들의 진척도에서 해당 게시물 정답 수만큼 차감 */
+    int decreaseProgressByPostId(@Param("postId") final int postId,
+                                 @Param("roadmapId") final int roadmapId);
+
+    /* 설명. 삭제된 퀴즈를 맞힌 회원들의 진척도에서 1씩 차감 */
+    int decreaseProgressByQuestionId(@Param("questionId") final int questionId,
+                                     @Param("roadmapId") final int roadmapId);
+
+    boolean existsUnbuiltProgress();
+
+    List<Integer> selectMemberIdsAfter(@Param("lastMemberId") final int lastMemberId,
+                                       @Param("limit") final int limit);
+
+    int resetProgressByMemberIds(@Param("memberIds") final List<Integer> memberIds);
+
+    int rebuildProgressByMemberIds(@Param("memberIds") final List<Integer> memberIds);
+}
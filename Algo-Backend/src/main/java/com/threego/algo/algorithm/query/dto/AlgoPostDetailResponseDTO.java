@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 @Setter
 @Getter
@@ -59,4 +60,30 @@ public class AlgoPostDetailResponseDTO {
 
     @Schema(description = "알고리즘 학습 게시물 이미지 url 리스트")
     private List<String> imageUrls;
-}
\ No newline at end of file
+
+    @Schema(description = "알고리즘 학습 게시물 썸네일 url 리스트 (너비 -> imageUrls 와 같은 순서, 생성 전이면 원본 url)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Integer, List<String>> thumbnailUrls;
+
+    /* 설명. 캐시된 공통 데이터에 회원별 값(추천 여부 등)을 덧씌우기 위한 복사본 */
+    public AlgoPostDetailResponseDTO copy() {
+        final AlgoPostDetailResponseDTO copied = new AlgoPostDetailResponseDTO();
+        copied.postId = postId;
+        copied.roadmapId = roadmapId;
+        copied.memberId = memberId;
+        copied.nickname = nickname;
+        copied.title = title;
+        copied.content = content;
+        copied.createdAt = createdAt;
+        copied.updatedAt = updatedAt;
+        copied.likeCount = likeCount;
+        copied.commentCount = commentCount;
+        copied.visibility = visibility;
+        copied.isLiked = isLiked;
+        copied.quizIds = quizIds;
+        copied.solvedQuizIds = solvedQuizIds;
+        copied.imageUrls = imageUrls;
+        copied.thumbnailUrls = thumbnailUrls;
+        return copied;
+    }
+}
@@ -53,4 +53,8 @@ public class AlgoPostSummaryResponseDTO {
     @Schema(description = "회원이 맞힌 알고리즘 학습 게시물 퀴즈 ID 리스트")
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private List<Integer> solvedQuizIds;
+
+    @Schema(description = "알고리즘 학습 게시물 첫 번째 이미지 썸네일 url (이미지가 없으면 null)")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String thumbnailUrl;
 }
\ No newline at end of file
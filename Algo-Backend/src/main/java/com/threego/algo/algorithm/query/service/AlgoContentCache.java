@@ -0,0 +1,103 @@
+package com.threego.algo.algorithm.query.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threego.algo.algorithm.command.domain.aggregate.AlgoRoadmap;
+import com.threego.algo.algorithm.query.dto.AlgoPostDetailResponseDTO;
+import com.threego.algo.algorithm.query.dto.AlgoQuizResponseDTO;
+import com.threego.algo.likes.command.application.event.LikesFlushedEvent;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/* 설명. 알고리즘 학습 콘텐츠 캐시 (로드맵 목록 / 게시물 상세 / 게시물별 퀴즈)
+ *  - 관리자가 작성하고 거의 바뀌지 않는 데이터라 Caffeine(크기 + TTL)으로 read-through 캐싱
+ *  - 게시물 상세는 회원과 무관한 공통 데이터만 캐싱하고, 추천 여부 등 회원별 값은 조회 시점에 덧씌운다.
+ *  - 무효화는 커밋 이후에 수행 (커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있음)
+ */
+@Component
+public class AlgoContentCache {
+
+    private static final String ROADMAPS_KEY = "ALL";
+
+    private final Cache<String, List<AlgoRoadmap>> roadmapCache;
+    private final Cache<Integer, AlgoPostDetailResponseDTO> postCache;
+    private final Cache<Integer, List<AlgoQuizResponseDTO>> quizCache;
+
+    public AlgoContentCache(MeterRegistry meterRegistry,
+                            @Value("${algo.cache.max-size:1000}") long maxSize,
+                            @Value("${algo.cache.ttl-minutes:10}") long ttlMinutes) {
+        this.roadmapCache = build(1, ttlMinutes);
+        this.postCache = build(maxSize, ttlMinutes);
+        this.quizCache = build(maxSize, ttlMinutes);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, roadmapCache, "algo.roadmaps");
+        CaffeineCacheMetrics.monitor(meterRegistry, postCache, "algo.posts");
+        CaffeineCacheMetrics.monitor(meterRegistry, quizCache, "algo.quizzes");
+    }
+
+    public List<AlgoRoadmap> getRoadmaps(Supplier<List<AlgoRoadmap>> loader) {
+        return roadmapCache.get(ROADMAPS_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    /* 설명. 존재하지 않는 게시물(null)은 캐싱하지 않는다. */
+    public AlgoPostDetailResponseDTO getPost(int postId, Function<Integer, AlgoPostDetailResponseDTO> loader) {
+        return postCache.get(postId, loader);
+    }
+
+    public List<AlgoQuizResponseDTO> getQuizzes(int postId, Function<Integer, List<AlgoQuizResponseDTO>> loader) {
+        return quizCache.get(postId, key -> List.copyOf(loader.apply(key)));
+    }
+
+    public void evictRoadmaps() {
+        afterCommit(() -> roadmapCache.invalidate(ROADMAPS_KEY));
+    }
+
+    public void evictPost(int postId) {
+        afterCommit(() -> postCache.invalidate(postId));
+    }
+
+    public void evictQuizzes(int postId) {
+        afterCommit(() -> quizCache.invalidate(postId));
+    }
+
+    // 추천 수가 DB 에 반영되면 상세 캐시의 추천 수도 갱신되도록 제거
+    @EventListener
+    public void onLikesFlushed(LikesFlushedEvent event) {
+        if (event.getType() == Type.ALGO_POST) {
+            event.getPostIds().forEach(this::evictPost);
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private static <K, V> Cache<K, V> build(long maxSize, long ttlMinutes) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+}
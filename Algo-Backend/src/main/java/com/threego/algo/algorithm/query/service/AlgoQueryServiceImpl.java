@@ -3,6 +3,14 @@ package com.threego.algo.algorithm.query.service;
 import com.threego.algo.algorithm.command.domain.aggregate.AlgoRoadmap;
 import com.threego.algo.algorithm.query.dao.AlgoMapper;
 import com.threego.algo.algorithm.query.dto.*;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dto.PostImageDTO;
+import com.threego.algo.common.service.ImageThumbnails;
+import com.threego.algo.common.service.PostImageLoader;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.query.service.LikesQueryService;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,21 +21,33 @@ import java.util.stream.Collectors;
 @Service
 public class AlgoQueryServiceImpl implements AlgoQueryService {
     private final AlgoMapper algoMapper;
+    private final PostSearchService postSearchService;
+    private final PostImageLoader postImageLoader;
+    private final ImageThumbnails imageThumbnails;
+    private final LikesQueryService likesQueryService;
+    private final AlgoContentCache algoContentCache;
 
     @Override
     public List<AlgoRoadmap> findAllAlgoRoadmaps() {
-        return algoMapper.selectAllAlgoRoadmaps();
+        return algoContentCache.getRoadmaps(algoMapper::selectAllAlgoRoadmaps);
     }
 
     @Override
     public List<AlgoPostSummaryResponseDTO> findAllAlgoPosts(final String keyword, final String visibility) {
-        return algoMapper.selectAlgoPosts(null, null, keyword, visibility);
+        return withThumbnails(algoMapper.selectAlgoPosts(null, keyword, findSearchIds(null, keyword, visibility), visibility));
     }
 
     @Override
     public List<AlgoPostSummaryResponseDTO> findAlgoPostsByRoadmapId(final int memberId, final int roadmapId,
                                                                      final String keyword) {
-        final List<AlgoPostSummaryResponseDTO> postResponse = algoMapper.selectAlgoPosts(memberId, roadmapId, keyword, "Y");
+        final List<AlgoPostSummaryResponseDTO> postResponse = withThumbnails(algoMapper.selectAlgoPosts(roadmapId, keyword,
+                findSearchIds(roadmapId, keyword, "Y"), "Y"));
+
+        // 추천 여부는 게시물마다 서브쿼리로 확인하지 않고 목록 전체를 한 번에 조회
+        final Set<Integer> likedPostIds = likesQueryService.findLikedPostIds(memberId,
+                postResponse.stream().map(AlgoPostSummaryResponseDTO::getPostId).collect(Collectors.toList()),
+                Type.ALGO_POST);
+        postResponse.forEach((post) -> post.setIsLiked(likedPostIds.contains(post.getPostId())));
 
         findSolvedQuizzesByMemberIdAndRoadmapIds(memberId, roadmapId, postResponse);
 
@@ -38,7 +58,7 @@ public class AlgoQueryServiceImpl implements AlgoQueryService {
     public List<AlgoPostSummaryResponseDTO> findAlgoPostsByRoadmapIdForAdmin(final int roadmapId,
                                                                              final String keyword,
                                                                              final String visibility) {
-        return algoMapper.selectAlgoPosts(null, roadmapId, keyword, visibility);
+        return withThumbnails(algoMapper.selectAlgoPosts(roadmapId, keyword, findSearchIds(roadmapId, keyword, visibility), visibility));
     }
 
     @Override
@@ -68,32 +88,32 @@ public class AlgoQueryServiceImpl implements AlgoQueryService {
 
     @Override
     public AlgoPostDetailResponseDTO findAlgoPostByPostId(final int memberId, final int postId) {
-        final AlgoPostDetailResponseDTO postResponse = algoMapper.selectAlgoPostByPostId(memberId, postId);
+        // 공통 데이터는 캐시에서, 회원별 값(추천 여부, 맞힌 퀴즈)은 매 요청마다 조회해 복사본에 채운다.
+        final AlgoPostDetailResponseDTO cached = algoContentCache.getPost(postId, this::selectAlgoPostDetail);
 
         // TODO 조회된 게시물의 삭제가 된 경우 예외 처리 필요
-        if (postResponse != null) {
-            final List<String> imageResponse = algoMapper.selectAlgoImagesByPostId(postId);
-            postResponse.setImageUrls(imageResponse);
+        if (cached == null) {
+            return null;
         }
 
+        final AlgoPostDetailResponseDTO postResponse = cached.copy();
+        postResponse.setLikeCount(cached.getLikeCount() + likesQueryService.countPendingLikes(postId, Type.ALGO_POST));
+        postResponse.setIsLiked(likesQueryService.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId,
+                Type.ALGO_POST));
+        postResponse.setSolvedQuizIds(algoMapper.selectSolvedQuizIdsByMemberIdAndPostId(memberId, postId));
+
         return postResponse;
     }
 
     @Override
     public List<AlgoQuizResponseDTO> findQuizQuestionAndOptionByPostId(final int postId) {
         // TODO 게시글 삭제된 상태라면 예외 처리 필요
-        return algoMapper.selectQuizQuestionAndOptionByPostId(postId);
+        return algoContentCache.getQuizzes(postId, algoMapper::selectQuizQuestionAndOptionByPostId);
     }
 
     @Override
     public AlgoPostDetailResponseDTO findAlgoPostByPostIdForAdmin(final int postId) {
-        final AlgoPostDetailResponseDTO response = algoMapper.selectAlgoPostByPostId(null, postId);
-
-        if (response != null) {
-            List<String> imageResponse = algoMapper.selectAlgoImagesByPostId(postId);
-            response.setImageUrls(imageResponse);
-        }
-        return response;
+        return selectAlgoPostDetail(postId);
     }
 
     @Override
@@ -101,6 +121,26 @@ public class AlgoQueryServiceImpl implements AlgoQueryService {
         return algoMapper.countMemberCorrectAnswersInRoadmap(memberId, roadmapId);
     }
 
+    // 목록의 게시물 이미지를 IN 쿼리 한 번으로 가져와 대표 썸네일 연결
+    private List<AlgoPostSummaryResponseDTO> withThumbnails(final List<AlgoPostSummaryResponseDTO> posts) {
+        postImageLoader.attachImages(ImageBoard.ALGO, posts, AlgoPostSummaryResponseDTO::getPostId,
+                (post, images) -> post.setThumbnailUrl(imageThumbnails.listThumbnailUrl(images)));
+        return posts;
+    }
+
+    private AlgoPostDetailResponseDTO selectAlgoPostDetail(final int postId) {
+        final AlgoPostDetailResponseDTO response = algoMapper.selectAlgoPostByPostId(postId);
+
+        if (response != null) {
+            final List<PostImageDTO> images = postImageLoader.loadImages(ImageBoard.ALGO, postId);
+            response.setImageUrls(images.stream()
+                    .map(PostImageDTO::getImageUrl)
+                    .collect(Collectors.toList()));
+            response.setThumbnailUrls(imageThumbnails.thumbnailUrls(images));
+        }
+        return response;
+    }
+
     private void findSolvedQuizzesByMemberIdAndRoadmapIds(final int memberId, final int roadmapId,
                                                           final List<AlgoPostSummaryResponseDTO> postResponse) {
         final List<AlgoMemberSolvedQuizResponseDTO> memberSolvedQuizResponse =
@@ -117,4 +157,12 @@ public class AlgoQueryServiceImpl implements AlgoQueryService {
             }
         });
     }
-}
\ No newline at end of file
+
+    // 색인에는 공개 게시물만 있으므로 공개 목록 검색에만 사용 (그 외에는 null -> LIKE 검색)
+    private List<Integer> findSearchIds(final Integer roadmapId, final String keyword, final String visibility) {
+        if (!"Y".equals(visibility)) {
+            return null;
+        }
+        return postSearchService.findPostIds(SearchBoard.ALGO, keyword, roadmapId, null).orElse(null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.threego.algo.auth.command.application.dto;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/* 설명. 로그인 시 토큰에 회원 ID 를 담기 위한 UserDetails */
+@Getter
+public class LoginUser extends User {
+    private final int memberId;
+
+    public LoginUser(int memberId, String email, String password,
+                     Collection<? extends GrantedAuthority> authorities) {
+        super(email, password, true, true, true, true, authorities);
+        this.memberId = memberId;
+    }
+}
@@ -6,4 +6,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 
 public interface AuthService extends UserDetailsService {
     void registUser(UserDTO newUser);
+
+    UserDetails login(String email, String password);
 }
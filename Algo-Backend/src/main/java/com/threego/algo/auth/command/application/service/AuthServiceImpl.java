@@ -1,5 +1,7 @@
 package com.threego.algo.auth.command.application.service;
+import com.threego.algo.auth.command.application.dto.LoginUser;
 import com.threego.algo.auth.command.application.dto.UserDTO;
+import com.threego.algo.auth.command.infrastructure.security.PasswordHasher;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.aggregate.MemberRank;
 import com.threego.algo.member.command.domain.repository.MemberRankRepository;
@@ -9,12 +11,11 @@ import com.threego.algo.member.query.dto.LoginUserResponseDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -26,7 +27,7 @@ import static com.threego.algo.member.command.domain.aggregate.Member.UserToMemb
 @Slf4j
 public class AuthServiceImpl implements AuthService {
     ModelMapper modelMapper;
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordHasher passwordHasher;
     MemberRepository memberRepository;
     MemberRankRepository memberRankRepository;
     AuthMapper authMapper;
@@ -34,11 +35,11 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     public AuthServiceImpl(MemberRepository memberRepository,
                            MemberRankRepository memberRankRepository,
-                           BCryptPasswordEncoder bCryptPasswordEncoder,
+                           PasswordHasher passwordHasher,
                            ModelMapper modelMapper,
                            AuthMapper authMapper
     ) {
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.passwordHasher = passwordHasher;
         this.memberRepository = memberRepository;
         this.modelMapper = modelMapper;
         this.authMapper = authMapper;
@@ -52,13 +53,47 @@ public class AuthServiceImpl implements AuthService {
 
         Member member = UserToMember(userDTO, defaultRank);
 
-        member.setPassword(bCryptPasswordEncoder.encode(userDTO.getPassword()));
+        member.setPassword(passwordHasher.encode(userDTO.getPassword()));
 
         memberRepository.save(member);
     }
 
+    /* 설명. 로그인 비밀번호 검증
+     *  - BCrypt 검증은 전용 풀에서 수행 (PasswordHasher)
+     *  - 저장된 해시가 현재 설정 강도보다 낮으면 로그인 성공 시 새 강도로 다시 저장 (비동기)
+     */
+    @Override
+    public UserDetails login(String email, String password) {
+        LoginUser loginUser = loadLoginUser(email);
+
+        if (!passwordHasher.matches(password, loginUser.getPassword())) {
+            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+        }
+
+        // 재해시는 응답을 기다리게 하지 않도록 해시 풀에서 저장까지 처리 (실패하면 다음 로그인 때 재시도)
+        if (passwordHasher.needsRehash(loginUser.getPassword())) {
+            final int memberId = loginUser.getMemberId();
+            final boolean queued = passwordHasher.encodeLater(password, encoded -> {
+                try {
+                    memberRepository.updatePassword(memberId, encoded);
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시 저장 실패: {}", memberId, e);
+                }
+            });
+            if (!queued) {
+                log.info("해시 풀이 가득 차 비밀번호 재해시를 다음 로그인으로 미룸: {}", memberId);
+            }
+        }
+
+        return loginUser;
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return loadLoginUser(email);
+    }
+
+    private LoginUser loadLoginUser(String email) {
         LoginUserResponseDTO loginUser = authMapper.selectMemberByEmail(email);
         if (loginUser == null) {
             throw new UsernameNotFoundException(email + "이메일 사용자는 존재하지 않습니다.");
@@ -68,6 +103,6 @@ public class AuthServiceImpl implements AuthService {
 
         grantedAuthorities.add(new SimpleGrantedAuthority("ROLE_USER"));
 
-        return new User(loginUser.getEmail(), loginUser.getPassword(), true, true, true, true, grantedAuthorities);
+        return new LoginUser(loginUser.getId(), loginUser.getEmail(), loginUser.getPassword(), grantedAuthorities);
     }
 }
@@ -1,7 +1,9 @@
 package com.threego.algo.auth.command.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.threego.algo.auth.command.application.dto.LoginUser;
 import com.threego.algo.auth.command.application.dto.RequestLoginDTO;
+import com.threego.algo.auth.command.infrastructure.security.PasswordHashRejectedException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -57,6 +60,11 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         Claims claims = Jwts.claims().setSubject(id);
         claims.put("auth", roles);
 
+        // 요청마다 회원을 조회하지 않도록 회원 ID 를 토큰에 포함
+        if (authResult.getPrincipal() instanceof LoginUser loginUser) {
+            claims.put("memberId", loginUser.getMemberId());
+        }
+
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setExpiration(new java.util.Date(System.currentTimeMillis()
@@ -66,4 +74,17 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
         response.addHeader("token", token);
     }
+
+    @Override
+    protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
+        // 해시 풀이 가득 차 거절된 로그인은 인증 실패(401)가 아닌 일시적 과부하(503)로 응답
+        if (failed instanceof PasswordHashRejectedException) {
+            SecurityContextHolder.clearContext();
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), failed.getMessage());
+            return;
+        }
+
+        super.unsuccessfulAuthentication(request, response, failed);
+    }
 }
@@ -1,5 +1,7 @@
 package com.threego.algo.auth.command.application.service;
 
+import com.threego.algo.auth.command.infrastructure.service.MailDispatcher;
+import com.threego.algo.auth.command.infrastructure.service.VerificationCodeStore;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,24 +12,22 @@ import org.springframework.stereotype.Service;
 public class MailServiceImpl implements MailService {
 
     private final JavaMailSender javaMailSender;
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailDispatcher mailDispatcher;
 
     private final String senderEmail;
 
-    private static int number;
-
     public MailServiceImpl(JavaMailSender javaMailSender,
+                           VerificationCodeStore verificationCodeStore,
+                           MailDispatcher mailDispatcher,
                            @Value("${spring.mail.username}") String senderEmail) {
         this.javaMailSender = javaMailSender;
+        this.verificationCodeStore = verificationCodeStore;
+        this.mailDispatcher = mailDispatcher;
         this.senderEmail = senderEmail;
     }
 
-    // 랜덤 인증번호 생성
-    public static void createNumber() {
-        number = (int)(Math.random() * 900000) + 100000; // 6자리 랜덤 숫자
-    }
-
-    public MimeMessage createMail(String mail) {
-        createNumber();
+    public MimeMessage createMail(String mail, String number) {
         MimeMessage message = javaMailSender.createMimeMessage();
 
         try {
@@ -39,16 +39,21 @@ public class MailServiceImpl implements MailService {
                     + "<h3>입니다. 감사합니다.</h3>";
             message.setText(body, "UTF-8", "html");
         } catch (MessagingException e) {
-            e.printStackTrace();
+            throw new IllegalArgumentException("인증 메일을 만들 수 없습니다: " + mail, e);
         }
 
         return message;
     }
 
+    /* 설명. 인증번호 발급 후 발송 큐에 넣고 바로 반환 (실제 발송은 MailDispatcher 워커가 처리) */
+    @Override
+    public void sendMail(String mail) {
+        String number = verificationCodeStore.issue(mail);
+        mailDispatcher.enqueue(createMail(mail, number));
+    }
+
     @Override
-    public int sendMail(String mail) {
-        MimeMessage message = createMail(mail);
-        javaMailSender.send(message);
-        return number;
+    public boolean verifyCode(String mail, String code) {
+        return verificationCodeStore.verify(mail, code);
     }
 }
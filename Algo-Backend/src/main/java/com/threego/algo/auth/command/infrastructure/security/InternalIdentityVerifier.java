@@ -0,0 +1,104 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/* 설명. 게이트웨이가 전달한 내부 신원 헤더(X-Algo-Identity) 검증
+ *  - token.trust-gateway-identity=true 일 때만 사용하며, JWT 대신 HMAC 한 번으로 인증한다.
+ *  - 형식은 Algo-Gateway 의 InternalIdentitySigner 와 동일
+ *    base64url(회원ID \n 이메일 \n 권한(,) \n 발급시각ms) + "." + base64url(HMAC-SHA256)
+ *  - 헤더가 유출돼도 재사용 기간이 짧도록 발급 후 max-age-seconds 가 지난 헤더는 거부한다.
+ */
+@Slf4j
+@Component
+public class InternalIdentityVerifier {
+
+    public static final String HEADER = "X-Algo-Identity";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final long maxAgeMillis;
+    private final ThreadLocal<Mac> mac;
+
+    public InternalIdentityVerifier(@Value("${token.trust-gateway-identity:false}") boolean enabled,
+                                    @Value("${token.internal-identity.secret:}") String secret,
+                                    @Value("${token.internal-identity.max-age-seconds:30}") long maxAgeSeconds) {
+        if (enabled && secret.isBlank()) {
+            throw new IllegalStateException("token.internal-identity.secret 설정이 필요합니다.");
+        }
+        this.enabled = enabled;
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+        this.mac = enabled ? ThreadLocal.withInitial(() -> newMac(secret)) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<Authentication> verify(String header) {
+        int separator = header.indexOf('.');
+        if (!enabled || separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(header.substring(0, separator));
+            byte[] signature = decoder.decode(header.substring(separator + 1));
+
+            if (!MessageDigest.isEqual(mac.get().doFinal(payload), signature)) {
+                log.info("서명이 일치하지 않는 내부 신원 헤더");
+                return Optional.empty();
+            }
+
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split("\n", -1);
+            if (fields.length != 4 || fields[0].isEmpty()) {
+                log.info("회원 정보가 없는 내부 신원 헤더");
+                return Optional.empty();
+            }
+
+            long age = System.currentTimeMillis() - Long.parseLong(fields[3]);
+            if (age > maxAgeMillis || age < -maxAgeMillis) {
+                log.info("만료된 내부 신원 헤더");
+                return Optional.empty();
+            }
+
+            List<GrantedAuthority> authorities = Arrays.stream(fields[2].split(","))
+                    .filter(role -> !role.isEmpty())
+                    .map(SimpleGrantedAuthority::new)
+                    .collect(Collectors.toList());
+
+            return Optional.of(new UsernamePasswordAuthenticationToken(
+                    new MemberPrincipal(Integer.parseInt(fields[0]), fields[1]), "", authorities));
+        } catch (IllegalArgumentException e) {
+            log.info("형식이 잘못된 내부 신원 헤더");
+            return Optional.empty();
+        }
+    }
+
+    private static Mac newMac(String secret) {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM));
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("내부 신원 헤더 검증 키 초기화 실패", e);
+        }
+    }
+}
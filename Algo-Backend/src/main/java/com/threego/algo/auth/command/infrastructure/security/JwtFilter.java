@@ -1,5 +1,6 @@
 package com.threego.algo.auth.command.infrastructure.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,27 +11,38 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final MemberStatusCache memberStatusCache;
+    private final InternalIdentityVerifier internalIdentityVerifier;
 
-    public JwtFilter(JwtUtil jwtUtil) {
+    public JwtFilter(JwtUtil jwtUtil, MemberStatusCache memberStatusCache,
+                     InternalIdentityVerifier internalIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.memberStatusCache = memberStatusCache;
+        this.internalIdentityVerifier = internalIdentityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String authorizationHeader = request.getHeader("Authorization");
-
-        if(authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            String token = authorizationHeader.substring(7);
-
-            if(jwtUtil.validateToken(token)) {
-                Authentication authentication = jwtUtil.getAuthentication(token);
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+        Optional<Authentication> authentication = resolveAuthentication(request);
+
+        if(authentication.isPresent()) {
+            MemberPrincipal principal = (MemberPrincipal) authentication.get().getPrincipal();
+
+            // 회원 상태 조회(DB/캐시)가 실패해도 500 대신 인증 없이 진행한다. (인가는 각 API 에서 판단)
+            try {
+                if (memberStatusCache.isActive(principal.getMemberId())) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication.get());
+                } else {
+                    log.info("비활성 회원의 토큰: {}", principal.getMemberId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("회원 상태 확인 실패: {}", principal.getMemberId(), e);
             }
         }
 
@@ -38,8 +50,29 @@ public class JwtFilter extends OncePerRequestFilter {
 
     }
 
-}
-
+    private Optional<Authentication> resolveAuthentication(HttpServletRequest request) {
+        // 게이트웨이 신뢰 모드: 게이트웨이가 이미 검증한 신원을 HMAC 확인만으로 사용
+        String identityHeader = request.getHeader(InternalIdentityVerifier.HEADER);
+        if(identityHeader != null && internalIdentityVerifier.isEnabled()) {
+            Optional<Authentication> authentication = internalIdentityVerifier.verify(identityHeader);
+            if(authentication.isPresent()) {
+                return authentication;
+            }
+        }
 
+        String authorizationHeader = request.getHeader("Authorization");
+        if(authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return Optional.empty();
+        }
 
+        // 서명 검증은 한 번만 하고, 인증 객체는 클레임으로 바로 만든다.
+        Optional<Claims> claims = jwtUtil.parseClaims(authorizationHeader.substring(7));
+        try {
+            return claims.map(jwtUtil::getAuthentication);
+        } catch (RuntimeException e) {
+            log.info(e.getMessage());
+            return Optional.empty();
+        }
+    }
 
+}
@@ -1,7 +1,6 @@
 package com.threego.algo.auth.command.infrastructure.security;
 
 
-import com.threego.algo.auth.command.application.service.AuthService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,34 +10,37 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Slf4j
 @Component
 public class JwtUtil {
 
-    private final Key key;
-    private final AuthService authService;
+    public static final String MEMBER_ID_CLAIM = "memberId";
+    public static final String AUTHORITIES_CLAIM = "auth";
 
-    public JwtUtil(@Value("${token.secret}") String secret,
-                   AuthService authService) {
+    // JwtParser 는 불변 객체라 스레드 간 공유 가능 (요청마다 새로 만들지 않음)
+    private final JwtParser parser;
+
+    public JwtUtil(@Value("${token.secret}") String secret) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.authService = authService;
+        Key key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    public boolean validateToken(String token) {
+    /* 설명. 서명 검증 + 클레임 추출 (요청당 한 번만 호출), 유효하지 않으면 empty */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("유효하지 않은 토큰");
         } catch (ExpiredJwtException e) {
@@ -49,32 +51,41 @@ public class JwtUtil {
             log.info("클레임이 비어있는 토큰");
         }
 
-        return false;
+        return Optional.empty();
     }
 
-    public Authentication getAuthentication(String token) {
-
-        Claims claims = parseClaims(token);
-        UserDetails userDetails = authService.loadUserByUsername(claims.getSubject());
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
 
-        Collection<GrantedAuthority> authorities = null;
-        if(claims.get("auth") == null) {
+    /* 설명. 검증된 클레임만으로 인증 객체 생성 (DB 조회 없음) */
+    public Authentication getAuthentication(Claims claims) {
+        Object auth = claims.get(AUTHORITIES_CLAIM);
+        if (auth == null) {
             throw new RuntimeException("토큰에 권한이 없습니다.");
-        } else {
-            authorities =
-                    Arrays.stream(claims.get("auth").toString()
-                                    .replace("[", "")
-                                    .replace("]", "")
-                                    .split(", "))
-                            .map(role -> new SimpleGrantedAuthority(role))
-                            .collect(Collectors.toList());
         }
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "", authorities);
+        Integer memberId = claims.get(MEMBER_ID_CLAIM, Integer.class);
+        if (memberId == null) {
+            throw new RuntimeException("토큰에 회원 정보가 없습니다.");
+        }
+
+        Collection<GrantedAuthority> authorities = toAuthorityNames(auth)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        return new UsernamePasswordAuthenticationToken(
+                new MemberPrincipal(memberId, claims.getSubject()), "", authorities);
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    private Stream<String> toAuthorityNames(Object auth) {
+        if (auth instanceof List<?> roles) {
+            return roles.stream().map(String::valueOf);
+        }
+        return Arrays.stream(auth.toString()
+                .replace("[", "")
+                .replace("]", "")
+                .split(", "));
     }
 
 }
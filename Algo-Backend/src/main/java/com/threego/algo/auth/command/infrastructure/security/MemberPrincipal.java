@@ -0,0 +1,17 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. 토큰 클레임만으로 만든 인증 주체 (요청마다 회원 조회를 하지 않음) */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal {
+    private final int memberId;
+    private final String email;
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,66 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threego.algo.member.command.domain.aggregate.enums.Status;
+import com.threego.algo.member.query.dao.AuthMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/* 설명. 토큰 인증 시 회원 상태 확인용 캐시
+ *  - 정지/탈퇴 회원의 토큰을 만료 전에 막기 위한 용도로, 짧은 TTL 동안만 DB 조회 결과를 재사용한다.
+ *  - 관리자가 상태를 바꾸면 즉시 제거되고, 다른 인스턴스에는 최대 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class MemberStatusCache {
+
+    private final AuthMapper authMapper;
+    private final Cache<Integer, Optional<Status>> cache;
+    private final boolean enabled;
+
+    public MemberStatusCache(AuthMapper authMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${token.member-status-check.enabled:true}") boolean enabled,
+                             @Value("${token.member-status-check.cache-max-size:10000}") long maxSize,
+                             @Value("${token.member-status-check.cache-ttl-seconds:30}") long ttlSeconds) {
+        this.authMapper = authMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.member-status");
+    }
+
+    public boolean isActive(int memberId) {
+        if (!enabled) {
+            return true;
+        }
+        return cache.get(memberId, id -> Optional.ofNullable(authMapper.selectMemberStatusById(id)))
+                .map(status -> status == Status.ACTIVE)
+                .orElse(false);
+    }
+
+    public void evict(int memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(memberId);
+            }
+        });
+    }
+}
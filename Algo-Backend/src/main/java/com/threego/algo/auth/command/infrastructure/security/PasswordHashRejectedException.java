@@ -0,0 +1,10 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/* 설명. 비밀번호 해시 작업 풀이 가득 차 즉시 거절된 경우 (로그인은 AuthenticationFilter, 회원가입은 AuthController 에서 503 응답) */
+public class PasswordHashRejectedException extends AuthenticationServiceException {
+    public PasswordHashRejectedException(String message) {
+        super(message);
+    }
+}
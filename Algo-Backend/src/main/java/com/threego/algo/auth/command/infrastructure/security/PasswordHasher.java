@@ -0,0 +1,119 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/* 설명. BCrypt 해시/검증 전용 실행기
+ *  - BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아닌 제한된 크기의 전용 풀(passwordHashExecutor)에서 실행한다.
+ *  - 로그인이 몰려도 다른 API 가 쓸 CPU 가 남도록 동시 해시 수를 풀 크기로 제한하고,
+ *    대기열까지 가득 차면 기다리지 않고 바로 거절한다.
+ *  - 요청 스레드가 timeout-ms 동안 붙잡혀 있다가 실패하지 않도록, 현재 대기열 길이와 평균 해시 시간으로
+ *    예상 대기 시간을 계산해 timeout 을 넘길 것 같으면 대기열에 넣지 않고 바로 거절한다.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final String REJECTED_MESSAGE = "요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(BCryptPasswordEncoder bCryptPasswordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.password-hash.timeout-ms:3000}") long timeoutMillis) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+
+        this.hashTimer = Timer.builder("auth.password-hash.duration")
+                .description("BCrypt 해시/검증 소요 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("auth.password-hash.rejected");
+        meterRegistry.gauge("auth.password-hash.queued", executor,
+                pool -> pool.getThreadPoolExecutor().getQueue().size());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    /* 설명. 결과를 기다리지 않는 해시 (로그인 시 재해시처럼 응답에 필요 없는 작업), 풀이 가득 차면 false */
+    public boolean encodeLater(String rawPassword, Consumer<String> onEncoded) {
+        try {
+            executor.execute(() -> onEncoded.accept(hashTimer.record(() -> bCryptPasswordEncoder.encode(rawPassword))));
+            return true;
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            return false;
+        }
+    }
+
+    /* 설명. 저장된 해시의 강도가 현재 설정(auth.bcrypt.strength)보다 낮으면 true */
+    public boolean needsRehash(String encodedPassword) {
+        return bCryptPasswordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        if (expectedWaitMillis() > timeoutMillis) {
+            rejectedCounter.increment();
+            throw new PasswordHashRejectedException(REJECTED_MESSAGE);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashRejectedException(REJECTED_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashRejectedException(REJECTED_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 처리 실패", e.getCause());
+        }
+    }
+
+    // 앞선 대기 작업이 풀 크기만큼씩 처리된다고 보고, 새 작업이 끝날 때까지 걸릴 예상 시간 (측정값이 없으면 0)
+    private double expectedWaitMillis() {
+        if (hashTimer.count() == 0) {
+            return 0;
+        }
+        final int poolSize = Math.max(1, executor.getMaxPoolSize());
+        final int waiting = executor.getThreadPoolExecutor().getQueue().size() + executor.getActiveCount();
+        return (waiting / poolSize + 1) * hashTimer.mean(TimeUnit.MILLISECONDS);
+    }
+}
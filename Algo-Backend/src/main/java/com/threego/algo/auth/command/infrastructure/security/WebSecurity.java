@@ -25,15 +25,21 @@ public class WebSecurity {
     private JwtAuthenticationProvider jwtAuthenticationProvider;
     private Environment env;
     private JwtUtil jwtUtil;
+    private MemberStatusCache memberStatusCache;
+    private InternalIdentityVerifier internalIdentityVerifier;
 
 
     @Autowired
     public WebSecurity(JwtAuthenticationProvider jwtAuthenticationProvider
             , Environment env
-            , JwtUtil jwtUtil) {
+            , JwtUtil jwtUtil
+            , MemberStatusCache memberStatusCache
+            , InternalIdentityVerifier internalIdentityVerifier) {
         this.jwtAuthenticationProvider = jwtAuthenticationProvider;
         this.env = env;
         this.jwtUtil = jwtUtil;
+        this.memberStatusCache = memberStatusCache;
+        this.internalIdentityVerifier = internalIdentityVerifier;
     }
 
     @Bean
@@ -63,7 +69,7 @@ public class WebSecurity {
 
         http.addFilter(getAuthenticationFilter(authenticationManager()));
 
-        http.addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtFilter(jwtUtil, memberStatusCache, internalIdentityVerifier), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
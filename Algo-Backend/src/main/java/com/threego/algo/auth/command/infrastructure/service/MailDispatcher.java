@@ -0,0 +1,160 @@
+package com.threego.algo.auth.command.infrastructure.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/* 설명. 비동기 메일 발송 큐
+ *  - 요청 스레드는 큐에 넣고 바로 반환하고, 큐가 가득 차면 기다리지 않고 거절한다.
+ *  - 워커(mailSendExecutor)는 큐에서 batch-size 건씩 꺼내 SMTP 연결 한 번으로 보낸다.
+ *  - 발송 실패 시 메일 단위로 max-attempts 번까지 재시도하고 (시도마다 대기 시간 증가), 그래도 실패하면 버린다.
+ *  - 워커 실행이 버려져 큐에 남은 메일은 주기 drain 이 처리한다.
+ *    주기 작업은 워커에 drain 을 넘기기만 한다. (SMTP 장애 시 재시도 대기가 공용 스케줄러 스레드를 붙잡지 않도록)
+ */
+@Slf4j
+@Component
+public class MailDispatcher implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "mail";
+
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor executor;
+    private final BlockingQueue<MailTask> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Timer sendTimer;
+    private final Timer deliveryLagTimer;
+    private final Counter rejectedCounter;
+    private final Counter failureCounter;
+
+    public MailDispatcher(JavaMailSender javaMailSender,
+                          @Qualifier("mailSendExecutor") ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.mail.queue-capacity:500}") int queueCapacity,
+                          @Value("${auth.mail.batch-size:20}") int batchSize,
+                          @Value("${auth.mail.max-attempts-per-mail:3}") int maxAttempts,
+                          @Value("${auth.mail.retry-backoff-ms:500}") long retryBackoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        this.sendTimer = Timer.builder(METRIC_PREFIX + ".send.latency")
+                .description("SMTP 발송 한 번(배치)에 걸린 시간")
+                .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder(METRIC_PREFIX + ".delivery.lag")
+                .description("큐에 넣은 뒤 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".queue.rejected");
+        this.failureCounter = meterRegistry.counter(METRIC_PREFIX + ".send.failures");
+        meterRegistry.gauge(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size);
+    }
+
+    /* 설명. 발송 예약, 큐가 가득 차면 IllegalStateException */
+    public void enqueue(MimeMessage message) {
+        if (!queue.offer(new MailTask(message, System.nanoTime()))) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("메일 발송 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // 워커가 모두 바쁘면 버려지고 실행 중인 워커나 주기 drain 이 이어서 처리
+        executor.execute(this::drain);
+    }
+
+    // 워커가 모두 바쁘면 버려지지만, 바쁜 워커가 큐를 비울 때까지 처리하므로 남는 메일은 없다.
+    @Scheduled(fixedDelayString = "${auth.mail.drain-interval-ms:1000}")
+    public void scheduleDrain() {
+        executor.execute(this::drain);
+    }
+
+    /* 설명. 큐가 빌 때까지 배치 발송 (워커 스레드 또는 종료 시에만 호출) */
+    public void drain() {
+        List<MailTask> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            send(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        drain();
+    }
+
+    private void send(List<MailTask> batch) {
+        try {
+            sendTimer.record(() -> javaMailSender.send(batch.stream()
+                    .map(MailTask::getMessage)
+                    .toArray(MimeMessage[]::new)));
+            batch.forEach(this::recordDelivered);
+        } catch (MailSendException e) {
+            // 실패한 메일만 개별 재시도 (실패 목록이 없으면 배치 전체)
+            Set<Object> failedMessages = e.getFailedMessages().keySet();
+            log.warn("[mail] 배치 발송 실패 {}/{}건, 개별 재시도", failedMessages.size(), batch.size(), e);
+            batch.forEach(task -> {
+                if (failedMessages.isEmpty() || failedMessages.contains(task.getMessage())) {
+                    retry(task);
+                } else {
+                    recordDelivered(task);
+                }
+            });
+        } catch (MailException e) {
+            log.warn("[mail] 배치 발송 실패 {}건, 개별 재시도", batch.size(), e);
+            batch.forEach(this::retry);
+        }
+    }
+
+    private void retry(MailTask task) {
+        for (int attempt = 2; attempt <= maxAttempts; attempt++) {
+            try {
+                Thread.sleep(retryBackoffMillis * (attempt - 1));
+                sendTimer.record(() -> javaMailSender.send(task.getMessage()));
+                recordDelivered(task);
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (MailException e) {
+                log.warn("[mail] 발송 재시도 실패 ({}/{})", attempt, maxAttempts, e);
+            }
+        }
+
+        failureCounter.increment();
+        log.error("[mail] 메일 발송 최종 실패");
+    }
+
+    private void recordDelivered(MailTask task) {
+        deliveryLagTimer.record(Duration.ofNanos(System.nanoTime() - task.getEnqueuedAt()));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class MailTask {
+        private final MimeMessage message;
+        private final long enqueuedAt;
+    }
+}
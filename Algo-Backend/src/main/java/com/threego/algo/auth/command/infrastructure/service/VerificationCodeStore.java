@@ -0,0 +1,104 @@
+package com.threego.algo.auth.command.infrastructure.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* 설명. 이메일별 인증번호 저장소
+ *  - 이메일마다 따로 저장해 동시에 가입하는 사용자끼리 번호가 덮어써지지 않는다.
+ *  - 발급 후 code-ttl-seconds 가 지나면 만료되고, 인증에 성공하면 바로 삭제해 같은 번호를 다시 쓸 수 없다.
+ *  - 확인 시도 횟수는 번호가 아니라 이메일 단위로 센다. 첫 시도부터 lock-seconds 동안 max-attempts 번을 넘기면
+ *    재발급을 받아도 확인/발급이 모두 막힌다. (번호를 계속 새로 받아 시도 횟수를 초기화하는 것 방지)
+ *  - 발급도 이메일마다 issue-window-seconds 동안 max-issues 번까지만 허용한다.
+ */
+@Component
+public class VerificationCodeStore {
+
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, VerificationCode> codes;
+    // 아래 두 캐시는 get(key, 생성) 으로만 만들어 처음 만든 시각부터 만료된다. (갱신해도 기간이 늘지 않음)
+    private final Cache<String, AtomicInteger> attempts;
+    private final Cache<String, AtomicInteger> issues;
+    private final int maxAttempts;
+    private final int maxIssues;
+
+    public VerificationCodeStore(@Value("${auth.mail.code-ttl-seconds:300}") long ttlSeconds,
+                                 @Value("${auth.mail.max-attempts:5}") int maxAttempts,
+                                 @Value("${auth.mail.max-pending-codes:10000}") long maxSize,
+                                 @Value("${auth.mail.lock-seconds:1800}") long lockSeconds,
+                                 @Value("${auth.mail.max-issues:5}") int maxIssues,
+                                 @Value("${auth.mail.issue-window-seconds:3600}") long issueWindowSeconds) {
+        this.maxAttempts = maxAttempts;
+        this.maxIssues = maxIssues;
+        this.codes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(lockSeconds))
+                .build();
+        this.issues = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(issueWindowSeconds))
+                .build();
+    }
+
+    /* 설명. 6자리 인증번호 발급 (같은 이메일로 다시 요청하면 이전 번호는 무효, 제한을 넘기면 IllegalStateException) */
+    public String issue(String email) {
+        if (isLocked(email)) {
+            throw new IllegalStateException("인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (issues.get(email, key -> new AtomicInteger()).incrementAndGet() > maxIssues) {
+            throw new IllegalStateException("인증번호 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        String code = String.valueOf(100000 + random.nextInt(900000));
+        codes.put(email, new VerificationCode(code));
+        return code;
+    }
+
+    public boolean verify(String email, String code) {
+        VerificationCode saved = codes.getIfPresent(email);
+        if (saved == null || code == null) {
+            return false;
+        }
+
+        if (attempts.get(email, key -> new AtomicInteger()).incrementAndGet() > maxAttempts) {
+            codes.asMap().remove(email, saved);
+            return false;
+        }
+
+        boolean matched = MessageDigest.isEqual(
+                saved.getCode().getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8));
+
+        // 동시에 같은 번호로 확인해도 한 요청만 성공하도록 삭제에 성공한 경우만 인정
+        if (matched && codes.asMap().remove(email, saved)) {
+            attempts.invalidate(email);
+            issues.invalidate(email);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isLocked(String email) {
+        AtomicInteger count = attempts.getIfPresent(email);
+        return count != null && count.get() >= maxAttempts;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class VerificationCode {
+        private final String code;
+    }
+}
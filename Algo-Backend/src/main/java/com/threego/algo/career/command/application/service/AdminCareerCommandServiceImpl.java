@@ -7,7 +7,10 @@ import com.threego.algo.career.command.domain.repository.CareerCommentRepository
 import com.threego.algo.career.command.domain.repository.CareerPostRepository;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +19,14 @@ public class AdminCareerCommandServiceImpl implements AdminCareerCommandService{
     private final CareerPostRepository careerPostRepository;
     private final CareerCommentRepository careerCommentRepository;
     private final MemberCommandRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AdminCareerCommandServiceImpl(CareerPostRepository careerPostRepository, CareerCommentRepository careerCommentRepository, MemberCommandRepository memberRepository) {
+    public AdminCareerCommandServiceImpl(CareerPostRepository careerPostRepository, CareerCommentRepository careerCommentRepository, MemberCommandRepository memberRepository, ApplicationEventPublisher eventPublisher) {
         this.careerPostRepository = careerPostRepository;
         this.careerCommentRepository = careerCommentRepository;
         this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -47,6 +52,7 @@ public class AdminCareerCommandServiceImpl implements AdminCareerCommandService{
         CareerInfoPost post = careerPostRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시물이 존재하지 않습니다."));
         post.delete();
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CAREER, postId));
     }
 
     @Transactional
@@ -60,6 +66,6 @@ public class AdminCareerCommandServiceImpl implements AdminCareerCommandService{
         }
 
         comment.deleteComment();
-        comment.getPost().decreaseCommentCount();
+        careerPostRepository.decreaseCommentCount(comment.getPost().getId());
     }
 }
@@ -8,11 +8,13 @@ import com.threego.algo.career.command.domain.repository.CareerCommentRepository
 import com.threego.algo.career.command.domain.repository.CareerPostRepository;
 import com.threego.algo.likes.command.application.service.LikesCommandService;
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
-import com.threego.algo.likes.query.service.LikesQueryService;
 import com.threego.algo.common.service.S3Service;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +26,7 @@ public class CareerCommandServiceImpl implements CareerCommandService {
     private final S3Service s3Service;
 
     private final LikesCommandService likesCommandService;
-    private final LikesQueryService likesQueryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CareerCommandServiceImpl(CareerPostRepository careerPostRepository
@@ -32,13 +34,13 @@ public class CareerCommandServiceImpl implements CareerCommandService {
             , MemberCommandRepository memberRepository
             , S3Service s3Service                        
             , LikesCommandService likesCommandService
-            , LikesQueryService likesQueryService) {
+            , ApplicationEventPublisher eventPublisher) {
         this.careerPostRepository = careerPostRepository;
         this.careerCommentRepository = careerCommentRepository;
         this.memberRepository = memberRepository;
         this.s3Service = s3Service;
         this.likesCommandService = likesCommandService;
-        this.likesQueryService = likesQueryService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -63,7 +65,9 @@ public class CareerCommandServiceImpl implements CareerCommandService {
                 imageUrl
         );
 
-        return careerPostRepository.save(post).getId();
+        Integer postId = careerPostRepository.save(post).getId();
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CAREER, postId));
+        return postId;
     }
 
     @Transactional
@@ -79,6 +83,7 @@ public class CareerCommandServiceImpl implements CareerCommandService {
         }
 
         post.delete();
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CAREER, postId));
     }
 
     @Transactional
@@ -107,7 +112,7 @@ public class CareerCommandServiceImpl implements CareerCommandService {
                 request.getContent()
         );
         careerCommentRepository.save(comment);
-        post.increaseCommentCount();
+        careerPostRepository.increaseCommentCount(post.getId());
 
         return comment.getId();
     }
@@ -135,7 +140,7 @@ public class CareerCommandServiceImpl implements CareerCommandService {
         }
 
         comment.deleteComment();
-        comment.getPost().decreaseCommentCount();
+        careerPostRepository.decreaseCommentCount(comment.getPost().getId());
     }
 
     @Transactional
@@ -152,14 +157,6 @@ public class CareerCommandServiceImpl implements CareerCommandService {
             throw new RuntimeException("자신이 작성한 글은 추천할 수 없습니다.");
         }
 
-        if (likesQueryService.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId, Type.CAREER_INFO_POST)) {
-            throw new RuntimeException("이미 추천한 게시물입니다.");
-        }
-
         likesCommandService.createLikes(member, post, Type.CAREER_INFO_POST);
-
-        post.getMember().increasePoint(1);
-
-        post.increaseLikeCount();
     }
 }
\ No newline at end of file
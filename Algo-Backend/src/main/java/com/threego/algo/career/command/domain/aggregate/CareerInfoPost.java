@@ -7,11 +7,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Table(name = "Career_Info_Post")
+@DynamicUpdate
 @Entity
 public class CareerInfoPost {
     @Id
@@ -70,16 +72,4 @@ public class CareerInfoPost {
     public void delete() {
         this.visibility = "N";
     }
-
-    public void increaseCommentCount() {
-        this.commentCount += 1;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount -= 1;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount += 1;
-    }
 }
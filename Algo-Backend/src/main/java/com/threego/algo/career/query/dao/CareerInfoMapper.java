@@ -14,7 +14,8 @@ public interface CareerInfoMapper {
     List<PostSummaryResponseDto> selectPostList(
             @Param("visibility") String visibility,
             @Param("status") Status status,
-            @Param("keyword") String keyword
+            @Param("keyword") String keyword,
+            @Param("searchIds") List<Integer> searchIds
     );
 
     PostDetailResponseDto selectPost(
@@ -22,6 +22,7 @@ public class PostDetailResponseDto {
     private String createdAt;
     private String status;
     private String rejectReason;
+    @Setter
     private int likeCount;
     private int commentCount;
 }
@@ -5,6 +5,10 @@ import com.threego.algo.career.query.dao.CareerInfoMapper;
 import com.threego.algo.career.query.dto.CommentResponseDto;
 import com.threego.algo.career.query.dto.PostDetailResponseDto;
 import com.threego.algo.career.query.dto.PostSummaryResponseDto;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.query.service.LikesQueryService;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.service.PostSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,21 +20,31 @@ import java.util.Map;
 @Service
 public class CareerQueryServiceImpl implements CareerQueryService {
     private final CareerInfoMapper careerInfoMapper;
+    private final PostSearchService postSearchService;
+    private final LikesQueryService likesQueryService;
 
     @Autowired
-    public CareerQueryServiceImpl(CareerInfoMapper careerInfoMapper) {
+    public CareerQueryServiceImpl(CareerInfoMapper careerInfoMapper, PostSearchService postSearchService,
+                                  LikesQueryService likesQueryService) {
         this.careerInfoMapper = careerInfoMapper;
+        this.postSearchService = postSearchService;
+        this.likesQueryService = likesQueryService;
     }
 
     @Override
     public List<PostSummaryResponseDto> findPostList(String visibility, Status status, String keyword) {
-        return careerInfoMapper.selectPostList(visibility, status, keyword);
+        // 색인에는 공개 게시물만 있으므로 공개 목록 검색에만 사용 (그 외에는 LIKE 검색)
+        List<Integer> searchIds = "Y".equals(visibility)
+                ? postSearchService.findPostIds(SearchBoard.CAREER, keyword, null, null).orElse(null)
+                : null;
+        return careerInfoMapper.selectPostList(visibility, status, keyword, searchIds);
     }
 
     @Override
     public PostDetailResponseDto findPostForMember(int postId) {
         PostDetailResponseDto dto = careerInfoMapper.selectPost(postId, "Y");
         dto.setImageUrl(null);  // 회원에게는 이미지 숨김
+        dto.setLikeCount(dto.getLikeCount() + likesQueryService.countPendingLikes(postId, Type.CAREER_INFO_POST));
         return dto;
     }
 
@@ -0,0 +1,15 @@
+package com.threego.algo.coding.command.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 설명. FastAPI(algo-coding-ai) 피드백 요청 본문 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodingAiFeedbackRequestDTO {
+    private String title;
+    private String content;
+    private String problem;
+}
@@ -0,0 +1,16 @@
+package com.threego.algo.coding.command.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 설명. FastAPI(algo-coding-ai) 피드백 응답 본문 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodingAiFeedbackResponseDTO {
+    private String aiBigO;
+    private String aiGood;
+    private String aiBad;
+    private String aiPlan;
+}
@@ -0,0 +1,11 @@
+package com.threego.algo.coding.command.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. AI 피드백 작업이 outbox에 적재되었음을 알리는 이벤트 (커밋 이후 워커에 전달) */
+@Getter
+@AllArgsConstructor
+public class CodingAiFeedbackRequestedEvent {
+    private final int jobId;
+}
@@ -11,7 +11,10 @@ import com.threego.algo.coding.command.domain.repository.CodingPostRepository;
 import com.threego.algo.coding.command.domain.repository.CodingProblemRepository;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +25,7 @@ public class AdminCodingPostCommandServiceImpl implements AdminCodingPostCommand
     private final CodingCommentRepository commentRepository;
     private final CodingProblemRepository problemRepository;
     private final MemberCommandRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -29,6 +33,7 @@ public class AdminCodingPostCommandServiceImpl implements AdminCodingPostCommand
         CodingPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
         post.update(dto.getTitle(), dto.getContent());
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CODING, postId));
         return post;
     }
 
@@ -38,6 +43,7 @@ public class AdminCodingPostCommandServiceImpl implements AdminCodingPostCommand
         CodingPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시물 없음"));
         post.delete();
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CODING, postId));
     }
 
     @Override
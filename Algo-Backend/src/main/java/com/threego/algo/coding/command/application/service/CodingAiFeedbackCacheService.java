@@ -0,0 +1,17 @@
+package com.threego.algo.coding.command.application.service;
+
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+
+import java.util.Optional;
+
+public interface CodingAiFeedbackCacheService {
+
+    // 같은 문제에 대해 동일한(정규화 기준) 풀이의 피드백 조회
+    Optional<CodingAiFeedbackResponseDTO> find(int problemId, String content);
+
+    // AI 피드백 결과 저장
+    void put(int problemId, String content, CodingAiFeedbackResponseDTO feedback);
+
+    // TTL 만료 캐시 정리
+    void evictExpired();
+}
@@ -0,0 +1,137 @@
+package com.threego.algo.coding.command.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+import com.threego.algo.coding.command.domain.aggregate.CodingAiFeedbackCache;
+import com.threego.algo.coding.command.domain.repository.CodingAiFeedbackCacheRepository;
+import com.threego.algo.common.util.DateTimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/* 설명. AI 피드백 캐시
+ *  - 1차: 프로세스 내 Caffeine (LRU + TTL)
+ *  - 2차: Coding_Ai_Feedback_Cache 테이블 (재시작 후에도 유지, TTL 만료분은 주기적으로 삭제)
+ */
+@Slf4j
+@Service
+public class CodingAiFeedbackCacheServiceImpl implements CodingAiFeedbackCacheService {
+
+    private static final String METRIC_CACHE = "coding.ai.feedback.cache";
+
+    private final CodingAiFeedbackCacheRepository cacheRepository;
+    private final Cache<String, CodingAiFeedbackResponseDTO> localCache;
+    private final long ttlSeconds;
+    private final Counter localHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter missCounter;
+
+    public CodingAiFeedbackCacheServiceImpl(CodingAiFeedbackCacheRepository cacheRepository,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${coding.ai-feedback.cache.max-size:10000}") long maxSize,
+                                            @Value("${coding.ai-feedback.cache.ttl-days:30}") long ttlDays) {
+        this.cacheRepository = cacheRepository;
+        this.ttlSeconds = Duration.ofDays(ttlDays).toSeconds();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofDays(ttlDays))
+                .build();
+
+        this.localHitCounter = meterRegistry.counter(METRIC_CACHE, "result", "hit", "source", "memory");
+        this.dbHitCounter = meterRegistry.counter(METRIC_CACHE, "result", "hit", "source", "db");
+        this.missCounter = meterRegistry.counter(METRIC_CACHE, "result", "miss", "source", "none");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CodingAiFeedbackResponseDTO> find(int problemId, String content) {
+        String codeHash = hash(content);
+        String key = cacheKey(problemId, codeHash);
+
+        CodingAiFeedbackResponseDTO cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<CodingAiFeedbackResponseDTO> stored = cacheRepository.findByProblemIdAndCodeHash(problemId, codeHash)
+                .filter(entry -> entry.getCreatedAt().compareTo(expiredBefore()) >= 0)
+                .map(entry -> new CodingAiFeedbackResponseDTO(
+                        entry.getAiBigO(), entry.getAiGood(), entry.getAiBad(), entry.getAiPlan()));
+
+        if (stored.isPresent()) {
+            dbHitCounter.increment();
+            localCache.put(key, stored.get());
+        } else {
+            missCounter.increment();
+        }
+
+        return stored;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void put(int problemId, String content, CodingAiFeedbackResponseDTO feedback) {
+        String codeHash = hash(content);
+
+        cacheRepository.findByProblemIdAndCodeHash(problemId, codeHash)
+                .ifPresentOrElse(
+                        entry -> entry.update(feedback.getAiBigO(), feedback.getAiGood(),
+                                feedback.getAiBad(), feedback.getAiPlan()),
+                        () -> cacheRepository.save(new CodingAiFeedbackCache(problemId, codeHash,
+                                feedback.getAiBigO(), feedback.getAiGood(),
+                                feedback.getAiBad(), feedback.getAiPlan())));
+
+        localCache.put(cacheKey(problemId, codeHash), feedback);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${coding.ai-feedback.cache.evict-cron:0 0 4 * * *}")
+    public void evictExpired() {
+        int deleted = cacheRepository.deleteExpired(expiredBefore());
+        if (deleted > 0) {
+            log.info("만료된 AI 피드백 캐시 {}건을 삭제했습니다.", deleted);
+        }
+    }
+
+    private String expiredBefore() {
+        return DateTimeUtils.dateTimeAfterSeconds(-ttlSeconds);
+    }
+
+    private static String cacheKey(int problemId, String codeHash) {
+        return problemId + ":" + codeHash;
+    }
+
+    // 줄바꿈 통일, 줄 끝 공백 및 빈 줄 제거 후 SHA-256
+    static String hash(String content) {
+        String normalized = content == null ? "" : content
+                .replace("\r\n", "\n")
+                .replace('\r', '\n')
+                .lines()
+                .map(String::stripTrailing)
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.joining("\n"));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
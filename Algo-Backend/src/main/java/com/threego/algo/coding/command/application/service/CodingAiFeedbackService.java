@@ -0,0 +1,29 @@
+package com.threego.algo.coding.command.application.service;
+
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackRequestDTO;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+import com.threego.algo.coding.command.domain.aggregate.CodingPost;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CodingAiFeedbackService {
+
+    // 게시물 저장 트랜잭션 안에서 피드백 작업 적재
+    void enqueue(CodingPost post);
+
+    // 처리 시각이 도래한 작업 ID 조회
+    List<Integer> findDueJobIds(int limit);
+
+    // 작업 선점 후 FastAPI 요청 본문 생성 (선점 실패 시 empty)
+    Optional<CodingAiFeedbackRequestDTO> claim(int jobId);
+
+    // 피드백 반영 및 작업 완료
+    void complete(int jobId, CodingAiFeedbackResponseDTO feedback);
+
+    // AI 서버 호출이 제한된 경우 시도 횟수를 소모하지 않고 재시도 예약
+    void postpone(int jobId, String reason);
+
+    // 백오프 후 재시도 예약, 최대 시도 횟수 초과 시 실패 처리
+    void retryOrFail(int jobId, String reason);
+}
@@ -0,0 +1,150 @@
+package com.threego.algo.coding.command.application.service;
+
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackRequestDTO;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+import com.threego.algo.coding.command.application.event.CodingAiFeedbackRequestedEvent;
+import com.threego.algo.coding.command.domain.aggregate.CodingAiFeedbackJob;
+import com.threego.algo.coding.command.domain.aggregate.CodingPost;
+import com.threego.algo.coding.command.domain.aggregate.enums.FeedbackJobStatus;
+import com.threego.algo.coding.command.domain.repository.CodingAiFeedbackJobRepository;
+import com.threego.algo.coding.command.domain.repository.CodingPostRepository;
+import com.threego.algo.common.util.DateTimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class CodingAiFeedbackServiceImpl implements CodingAiFeedbackService {
+
+    private static final List<FeedbackJobStatus> CLAIMABLE_STATUSES =
+            List.of(FeedbackJobStatus.PENDING, FeedbackJobStatus.PROCESSING);
+
+    private final CodingAiFeedbackJobRepository jobRepository;
+    private final CodingPostRepository postRepository;
+    private final CodingAiFeedbackCacheService cacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long leaseSeconds;
+
+    public CodingAiFeedbackServiceImpl(CodingAiFeedbackJobRepository jobRepository,
+                                       CodingPostRepository postRepository,
+                                       CodingAiFeedbackCacheService cacheService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${coding.ai-feedback.max-attempts:5}") int maxAttempts,
+                                       @Value("${coding.ai-feedback.base-backoff-seconds:10}") long baseBackoffSeconds,
+                                       @Value("${coding.ai-feedback.max-backoff-seconds:1800}") long maxBackoffSeconds,
+                                       @Value("${coding.ai-feedback.lease-seconds:120}") long leaseSeconds) {
+        this.jobRepository = jobRepository;
+        this.postRepository = postRepository;
+        this.cacheService = cacheService;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(CodingPost post) {
+        CodingAiFeedbackJob job = jobRepository.save(new CodingAiFeedbackJob(post.getId()));
+
+        // 커밋 이후에 워커로 전달되며, 전달에 실패해도 outbox 폴링으로 처리된다.
+        eventPublisher.publishEvent(new CodingAiFeedbackRequestedEvent(job.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Integer> findDueJobIds(int limit) {
+        return jobRepository.findDueJobIds(CLAIMABLE_STATUSES, DateTimeUtils.nowDateTime(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public Optional<CodingAiFeedbackRequestDTO> claim(int jobId) {
+        int claimed = jobRepository.claim(jobId,
+                FeedbackJobStatus.PROCESSING,
+                CLAIMABLE_STATUSES,
+                DateTimeUtils.nowDateTime(),
+                DateTimeUtils.dateTimeAfterSeconds(leaseSeconds));
+
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+
+        CodingAiFeedbackJob job = findJob(jobId);
+        CodingPost post = postRepository.findById(job.getPostId()).orElse(null);
+
+        if (post == null || "N".equals(post.getVisibility())) {
+            job.fail("게시물이 없거나 삭제되었습니다.");
+            return Optional.empty();
+        }
+
+        return Optional.of(new CodingAiFeedbackRequestDTO(
+                post.getTitle(),
+                post.getContent(),
+                post.getProblem().getTitle()
+        ));
+    }
+
+    @Override
+    @Transactional
+    public void complete(int jobId, CodingAiFeedbackResponseDTO feedback) {
+        CodingAiFeedbackJob job = findJob(jobId);
+
+        postRepository.findById(job.getPostId()).ifPresent(post -> {
+            post.setAiFeedback(
+                    feedback.getAiBigO(),
+                    feedback.getAiGood(),
+                    feedback.getAiBad(),
+                    feedback.getAiPlan()
+            );
+
+            try {
+                cacheService.put(post.getProblem().getId(), post.getContent(), feedback);
+            } catch (Exception e) {
+                // 캐시 저장 실패는 피드백 반영에 영향을 주지 않는다.
+                log.warn("{}번 게시물 AI 피드백 캐시 저장 실패: {}", post.getId(), e.getMessage());
+            }
+        });
+
+        job.complete();
+    }
+
+    @Override
+    @Transactional
+    public void postpone(int jobId, String reason) {
+        findJob(jobId).postpone(DateTimeUtils.dateTimeAfterSeconds(baseBackoffSeconds), reason);
+    }
+
+    @Override
+    @Transactional
+    public void retryOrFail(int jobId, String reason) {
+        CodingAiFeedbackJob job = findJob(jobId);
+
+        if (job.getAttemptCount() >= maxAttempts) {
+            job.fail(reason);
+            postRepository.findById(job.getPostId()).ifPresent(CodingPost::failAiFeedback);
+            return;
+        }
+
+        // 지수 백오프: base * 2^(시도 횟수 - 1), 최대 maxBackoffSeconds
+        int exponent = Math.min(Math.max(job.getAttemptCount() - 1, 0), 20);
+        long backoff = Math.min(baseBackoffSeconds << exponent, maxBackoffSeconds);
+        job.retryAt(DateTimeUtils.dateTimeAfterSeconds(backoff), reason);
+    }
+
+    private CodingAiFeedbackJob findJob(int jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("AI 피드백 작업 없음: " + jobId));
+    }
+}
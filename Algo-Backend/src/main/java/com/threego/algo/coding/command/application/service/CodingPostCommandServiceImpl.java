@@ -2,6 +2,7 @@ package com.threego.algo.coding.command.application.service;
 
 import com.threego.algo.coding.command.application.dto.CodingCommentRequestDTO;
 import com.threego.algo.coding.command.application.dto.CodingPostImageRequestDTO;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
 import com.threego.algo.coding.command.application.dto.CodingPostRequestDTO;
 import com.threego.algo.coding.command.domain.aggregate.CodingComment;
 import com.threego.algo.coding.command.domain.aggregate.CodingPost;
@@ -13,22 +14,22 @@ import com.threego.algo.coding.command.domain.repository.CodingPostRepository;
 import com.threego.algo.coding.command.domain.repository.CodingProblemRepository;
 import com.threego.algo.likes.command.application.service.LikesCommandService;
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
-import com.threego.algo.likes.query.service.LikesQueryService;
-import com.threego.algo.common.service.S3Service;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import com.threego.algo.common.service.S3ImageUploader;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
-import java.util.Map;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -39,16 +40,23 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
     private final CodingCommentRepository commentRepository;
     private final CodingProblemRepository problemRepository;
     private final MemberCommandRepository memberRepository;
-    private final S3Service s3Service;
+    private final S3ImageUploader s3ImageUploader;
+    private final TransactionTemplate transactionTemplate;
     private final LikesCommandService likesCommandService;
-    private final LikesQueryService likesQueryService;
-
-    @Value("${coding.fastapi.url}")
-    private String fastApiUrl;
+    private final CodingAiFeedbackService codingAiFeedbackService;
+    private final CodingAiFeedbackCacheService codingAiFeedbackCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /* 설명. 이미지는 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 이미지를 지운다. */
     @Override
-    @Transactional
     public int createPost(CodingPostRequestDTO dto) {
+        List<String> imageUrls = s3ImageUploader.uploadAll(dto.getImages(), "coding-posts");
+
+        return s3ImageUploader.compensateOnFailure(imageUrls, () -> transactionTemplate.execute(status ->
+                savePost(dto, imageUrls)));
+    }
+
+    private int savePost(CodingPostRequestDTO dto, List<String> imageUrls) {
         Member member = memberRepository.findById(dto.getMemberId())
                 .orElseThrow(() -> new IllegalArgumentException("작성자(Member) 없음: " + dto.getMemberId()));
 
@@ -58,63 +66,29 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
         CodingPost post = CodingPost.create(member, problem, dto.getTitle(), dto.getContent());
         CodingPost saved = postRepository.save(post);
 
-        // === FastAPI 호출 ===
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, String> request = Map.of(
-                "title", dto.getTitle(),
-                "content", dto.getContent(),
-                "problem", problem.getTitle()
-        );
-
-        HttpEntity<Map<String, String>> entity = new HttpEntity<>(request, headers);
-
-        try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                    fastApiUrl,
-                    entity,
-                    Map.class
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, String> body = response.getBody();
-                post.setAiFeedback(
-                        body.get("aiBigO"),
-                        body.get("aiGood"),
-                        body.get("aiBad"),
-                        body.get("aiPlan")
-                );
-            }
-        } catch (Exception e) {
-            // FastAPI 서버 호출 실패 시 예외 처리
-            if (e instanceof RestClientException) {
-                throw new RuntimeException("FastAPI 서버에 연결할 수 없습니다.", e);
-            } else {
-                throw new RuntimeException("AI 피드백 요청 실패", e);
-            }
+        // 같은 문제의 동일한 풀이는 캐시된 피드백을 재사용하고,
+        // 캐시에 없으면 커밋 이후 워커가 비동기로 채운다 (aiStatus = PENDING)
+        Optional<CodingAiFeedbackResponseDTO> cachedFeedback =
+                codingAiFeedbackCacheService.find(problem.getId(), dto.getContent());
+        if (cachedFeedback.isPresent()) {
+            CodingAiFeedbackResponseDTO feedback = cachedFeedback.get();
+            saved.setAiFeedback(feedback.getAiBigO(), feedback.getAiGood(), feedback.getAiBad(), feedback.getAiPlan());
+        } else {
+            codingAiFeedbackService.enqueue(saved);
         }
 
-        // 이미지 업로드 및 저장
-        if (dto.getImages() != null && !dto.getImages().isEmpty()) {
-            for (MultipartFile image : dto.getImages()) {
-                if (!image.isEmpty()) {
-                    // 이미지 파일 유효성 검사
-                    s3Service.validateImageFile(image);
+        // 업로드한 이미지 저장
+        if (!imageUrls.isEmpty()) {
+            codingPostImageRepository.saveAll(imageUrls.stream()
+                    .map(imageUrl -> new CodingPostImage(saved, imageUrl))
+                    .collect(Collectors.toList()));
+            eventPublisher.publishEvent(new PostImagesSavedEvent(ImageBoard.CODING, saved.getId()));
+        }
 
-                    // S3에 업로드
-                    String imageUrl = s3Service.uploadFile(image, "coding-posts");
+        // 문제의 게시물 수 원자적 증가 (게시물 컬렉션을 읽지 않음)
+        problemRepository.increasePostCount(problem.getId());
 
-                    // DB에 저장
-                    CodingPostImage postImage = new CodingPostImage(saved, imageUrl);
-                    codingPostImageRepository.save(postImage);
-                }
-            }
-        }
-        
-        // 즉시 동기화: 해당 문제의 postCount 재계산
-        problem.syncPostCount();
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CODING, saved.getId()));
 
         return saved.getId();
     }
@@ -127,6 +101,7 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
 
         CodingPostImage image = new CodingPostImage(post, dto.getImageUrl());
         CodingPostImage saved = codingPostImageRepository.save(image);
+        eventPublisher.publishEvent(new PostImagesSavedEvent(ImageBoard.CODING, postId));
         return saved.getId();
     }
 
@@ -141,6 +116,7 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
         }
 
         post.update(dto.getTitle(), dto.getContent());
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CODING, postId));
         return post;
     }
 
@@ -156,11 +132,13 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
 
         post.delete(); // visibility = 'N'
 
-        // 즉시 동기화: 해당 문제의 postCount 재계산
+        // 문제의 게시물 수 원자적 감소
         CodingProblem problem = post.getProblem();
         if (problem != null) {
-            problem.syncPostCount();
+            problemRepository.decreasePostCount(problem.getId());
         }
+
+        eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.CODING, postId));
     }
 
     @Override
@@ -192,7 +170,7 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
         CodingComment saved = commentRepository.save(comment);
 
         // 게시물의 댓글 수 증가 (대댓글도 게시물 전체 commentCount에 포함)
-        post.increaseCommentCount();
+        postRepository.increaseCommentCount(postId);
 
         return saved.getId();
     }
@@ -225,7 +203,7 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
         // 게시물의 댓글 수 감소 (대댓글 삭제도 게시물 전체 count에 반영)
         CodingPost post = comment.getPost();
         if (post != null) {
-            post.decreaseCommentCount();
+            postRepository.decreaseCommentCount(post.getId());
         }
     }
 
@@ -242,14 +220,6 @@ public class CodingPostCommandServiceImpl implements CodingPostCommandService {
             throw new RuntimeException("자신이 작성한 글은 추천할 수 없습니다.");
         }
 
-        if (likesQueryService.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId, Type.CODING_POST)) {
-            throw new RuntimeException("이미 추천한 게시물입니다.");
-        }
-
         likesCommandService.createLikes(member, post, Type.CODING_POST);
-
-        post.getMemberId().increasePoint(1);
-
-        post.increaseLikeCount();
     }
 }
\ No newline at end of file
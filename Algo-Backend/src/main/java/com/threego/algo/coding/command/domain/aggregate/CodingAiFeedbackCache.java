@@ -0,0 +1,56 @@
+package com.threego.algo.coding.command.domain.aggregate;
+
+import com.threego.algo.common.util.DateTimeUtils;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 설명. (문제 ID, 정규화된 풀이 해시) 단위 AI 피드백 캐시 */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "Coding_Ai_Feedback_Cache",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"problem_id", "code_hash"}))
+public class CodingAiFeedbackCache {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "problem_id", nullable = false)
+    private int problemId;
+
+    @Column(name = "code_hash", nullable = false, length = 64)
+    private String codeHash;
+
+    @Column(name = "ai_big_o", length = 100)
+    private String aiBigO;
+
+    @Column(name = "ai_good", length = 255)
+    private String aiGood;
+
+    @Column(name = "ai_bad", length = 255)
+    private String aiBad;
+
+    @Column(name = "ai_plan", length = 255)
+    private String aiPlan;
+
+    @Column(name = "created_at", nullable = false, length = 20)
+    private String createdAt;
+
+    public CodingAiFeedbackCache(int problemId, String codeHash,
+                                 String aiBigO, String aiGood, String aiBad, String aiPlan) {
+        this.problemId = problemId;
+        this.codeHash = codeHash;
+        this.createdAt = DateTimeUtils.nowDateTime();
+        update(aiBigO, aiGood, aiBad, aiPlan);
+    }
+
+    public void update(String aiBigO, String aiGood, String aiBad, String aiPlan) {
+        this.aiBigO = aiBigO;
+        this.aiGood = aiGood;
+        this.aiBad = aiBad;
+        this.aiPlan = aiPlan;
+        this.createdAt = DateTimeUtils.nowDateTime();
+    }
+}
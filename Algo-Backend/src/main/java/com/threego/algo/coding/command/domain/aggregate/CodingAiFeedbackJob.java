@@ -0,0 +1,81 @@
+package com.threego.algo.coding.command.domain.aggregate;
+
+import com.threego.algo.coding.command.domain.aggregate.enums.FeedbackJobStatus;
+import com.threego.algo.common.util.DateTimeUtils;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 설명. 풀이 게시물 AI 피드백 요청 outbox (게시물 저장과 같은 트랜잭션에서 적재) */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "Coding_Ai_Feedback_Job")
+public class CodingAiFeedbackJob {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    @Column(name = "post_id", nullable = false)
+    private int postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FeedbackJobStatus status = FeedbackJobStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false, length = 20)
+    private String nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, length = 20)
+    private String createdAt;
+
+    @Column(name = "updated_at", length = 20)
+    private String updatedAt;
+
+    public CodingAiFeedbackJob(int postId) {
+        this.postId = postId;
+        this.createdAt = DateTimeUtils.nowDateTime();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public void complete() {
+        this.status = FeedbackJobStatus.DONE;
+        this.lastError = null;
+        this.updatedAt = DateTimeUtils.nowDateTime();
+    }
+
+    public void retryAt(String nextAttemptAt, String error) {
+        this.status = FeedbackJobStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+        this.updatedAt = DateTimeUtils.nowDateTime();
+    }
+
+    // 호출 자체가 이루어지지 않은 경우: 선점 시 증가시킨 시도 횟수를 되돌린다.
+    public void postpone(String nextAttemptAt, String reason) {
+        if (this.attemptCount > 0) this.attemptCount -= 1;
+        retryAt(nextAttemptAt, reason);
+    }
+
+    public void fail(String error) {
+        this.status = FeedbackJobStatus.FAILED;
+        this.lastError = truncate(error);
+        this.updatedAt = DateTimeUtils.nowDateTime();
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,15 +1,18 @@
 package com.threego.algo.coding.command.domain.aggregate;
 
+import com.threego.algo.coding.command.domain.aggregate.enums.AiFeedbackStatus;
 import com.threego.algo.common.util.DateTimeUtils;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
+@DynamicUpdate
 @Entity
 @NoArgsConstructor
 @Table(name = "Coding_Post")
@@ -48,6 +51,10 @@ public class CodingPost {
     @Column(name = "ai_plan", length = 255)
     private String aiPlan;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ai_status", nullable = false, length = 10)
+    private AiFeedbackStatus aiStatus = AiFeedbackStatus.PENDING;
+
     @Column(name = "comment_count", nullable = false)
     private int commentCount = 0;
 
@@ -85,20 +92,15 @@ public class CodingPost {
         this.visibility = "N";
     }
 
-    public void increaseCommentCount() {
-        this.commentCount += 1;
-    }
-
-    public void decreaseCommentCount() {
-        if (this.commentCount > 0) this.commentCount -= 1;
-    }
-
     public void setAiFeedback(String bigO, String good, String bad, String plan) {
         this.aiBigO = bigO;
         this.aiGood = good;
         this.aiBad = bad;
         this.aiPlan = plan;
+        this.aiStatus = AiFeedbackStatus.DONE;
     }
 
-    public void increaseLikeCount() {this.likeCount += 1;}
+    public void failAiFeedback() {
+        this.aiStatus = AiFeedbackStatus.FAILED;
+    }
 }
@@ -7,11 +7,13 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
+@DynamicUpdate
 @Entity
 @NoArgsConstructor
 @Table(name = "Coding_Problem")
@@ -100,16 +102,10 @@ public class CodingProblem {
 
 
     // 양방향 매핑
+    // postCount 는 컬렉션을 읽지 않고 CodingProblemRepository 의 원자적 증감으로 관리
     @OneToMany(mappedBy = "problem", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CodingPost> posts = new ArrayList<>();
 
-    // postCount 동기화 메서드
-    public void syncPostCount() {
-        this.postCount = (int) posts.stream()
-                .filter(post -> "Y".equals(post.getVisibility()))  // 공개글만 카운트
-                .count();
-    }
-
     public void setDifficulty(String difficulty) {
     }
 
@@ -0,0 +1,9 @@
+package com.threego.algo.coding.command.domain.aggregate.enums;
+
+import lombok.Getter;
+
+/* 설명. 풀이 게시물의 AI 피드백 생성 상태 */
+@Getter
+public enum AiFeedbackStatus {
+    PENDING, DONE, FAILED
+}
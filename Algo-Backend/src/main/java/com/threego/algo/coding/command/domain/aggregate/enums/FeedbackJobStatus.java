@@ -0,0 +1,9 @@
+package com.threego.algo.coding.command.domain.aggregate.enums;
+
+import lombok.Getter;
+
+/* 설명. AI 피드백 작업(outbox)의 처리 상태 */
+@Getter
+public enum FeedbackJobStatus {
+    PENDING, PROCESSING, DONE, FAILED
+}
@@ -0,0 +1,19 @@
+package com.threego.algo.coding.command.domain.repository;
+
+import com.threego.algo.coding.command.domain.aggregate.CodingAiFeedbackCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CodingAiFeedbackCacheRepository extends JpaRepository<CodingAiFeedbackCache, Integer> {
+
+    Optional<CodingAiFeedbackCache> findByProblemIdAndCodeHash(int problemId, String codeHash);
+
+    // TTL 만료 캐시 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CodingAiFeedbackCache c WHERE c.createdAt < :expiredBefore")
+    int deleteExpired(@Param("expiredBefore") String expiredBefore);
+}
@@ -0,0 +1,33 @@
+package com.threego.algo.coding.command.domain.repository;
+
+import com.threego.algo.coding.command.domain.aggregate.CodingAiFeedbackJob;
+import com.threego.algo.coding.command.domain.aggregate.enums.FeedbackJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CodingAiFeedbackJobRepository extends JpaRepository<CodingAiFeedbackJob, Integer> {
+
+    // 처리 시각이 도래한 작업 ID 조회 (PROCESSING 상태는 lease 만료 시 재처리 대상)
+    @Query("SELECT j.id FROM CodingAiFeedbackJob j " +
+            "WHERE j.status IN :statuses AND j.nextAttemptAt <= :now ORDER BY j.id")
+    List<Integer> findDueJobIds(@Param("statuses") List<FeedbackJobStatus> statuses,
+                                @Param("now") String now,
+                                Pageable pageable);
+
+    // 작업 선점: 조건부 UPDATE로 한 워커만 성공하도록 보장
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CodingAiFeedbackJob j " +
+            "SET j.status = :processing, j.attemptCount = j.attemptCount + 1, " +
+            "j.nextAttemptAt = :leaseUntil, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :statuses AND j.nextAttemptAt <= :now")
+    int claim(@Param("id") int id,
+              @Param("processing") FeedbackJobStatus processing,
+              @Param("statuses") List<FeedbackJobStatus> statuses,
+              @Param("now") String now,
+              @Param("leaseUntil") String leaseUntil);
+}
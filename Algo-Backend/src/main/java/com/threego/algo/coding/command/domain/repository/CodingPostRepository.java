@@ -2,5 +2,16 @@ package com.threego.algo.coding.command.domain.repository;
 
 import com.threego.algo.coding.command.domain.aggregate.CodingPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CodingPostRepository extends JpaRepository<CodingPost, Integer> {}
+public interface CodingPostRepository extends JpaRepository<CodingPost, Integer> {
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CodingPost p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int increaseCommentCount(@Param("id") int id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CodingPost p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("id") int id);
+}
@@ -2,5 +2,16 @@ package com.threego.algo.coding.command.domain.repository;
 
 import com.threego.algo.coding.command.domain.aggregate.CodingProblem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CodingProblemRepository extends JpaRepository<CodingProblem, Integer> {}
+public interface CodingProblemRepository extends JpaRepository<CodingProblem, Integer> {
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CodingProblem p SET p.postCount = p.postCount + 1 WHERE p.id = :id")
+    int increasePostCount(@Param("id") int id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CodingProblem p SET p.postCount = p.postCount - 1 WHERE p.id = :id AND p.postCount > 0")
+    int decreasePostCount(@Param("id") int id);
+}
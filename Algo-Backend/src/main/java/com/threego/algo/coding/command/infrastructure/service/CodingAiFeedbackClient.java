@@ -0,0 +1,108 @@
+package com.threego.algo.coding.command.infrastructure.service;
+
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackRequestDTO;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/* 설명. FastAPI(algo-coding-ai) 피드백 생성 API 호출
+ *  - 동시 호출 수 제한(bulkhead), 연속 실패 시 차단(circuit breaker)
+ *  - 차단/포화 상태에서는 호출하지 않고 empty를 반환하여 피드백을 대기(PENDING) 상태로 둔다.
+ */
+@Component
+public class CodingAiFeedbackClient {
+
+    private static final String METRIC_LATENCY = "coding.ai.feedback.latency";
+
+    private final RestTemplate restTemplate;
+    private final String fastApiUrl;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public CodingAiFeedbackClient(@Qualifier("codingAiRestTemplate") RestTemplate restTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${coding.fastapi.url}") String fastApiUrl,
+                                  @Value("${coding.ai-client.max-concurrent-calls:8}") int maxConcurrentCalls,
+                                  @Value("${coding.ai-client.failure-rate-threshold:50}") float failureRateThreshold,
+                                  @Value("${coding.ai-client.open-state-seconds:30}") long openStateSeconds) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.fastApiUrl = fastApiUrl;
+
+        this.circuitBreaker = CircuitBreaker.of("codingAi", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(Duration.ofSeconds(openStateSeconds))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
+
+        this.bulkhead = Bulkhead.of("codingAi", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN ...
+        Gauge.builder("coding.ai.feedback.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                .register(meterRegistry);
+        Gauge.builder("coding.ai.feedback.inflight", bulkhead,
+                        bh -> maxConcurrentCalls - bh.getMetrics().getAvailableConcurrentCalls())
+                .register(meterRegistry);
+    }
+
+    public Optional<CodingAiFeedbackResponseDTO> requestFeedback(CodingAiFeedbackRequestDTO request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            CodingAiFeedbackResponseDTO feedback = Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> call(request))).get();
+            outcome = "success";
+            return Optional.of(feedback);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // fallback: 피드백 대기 상태 유지
+            outcome = "rejected";
+            return Optional.empty();
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_LATENCY, "outcome", outcome));
+        }
+    }
+
+    private CodingAiFeedbackResponseDTO call(CodingAiFeedbackRequestDTO request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<CodingAiFeedbackResponseDTO> response = restTemplate.postForEntity(
+                fastApiUrl,
+                new HttpEntity<>(request, headers),
+                CodingAiFeedbackResponseDTO.class
+        );
+
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new IllegalStateException("AI 피드백 응답이 올바르지 않습니다: " + response.getStatusCode());
+        }
+
+        return response.getBody();
+    }
+}
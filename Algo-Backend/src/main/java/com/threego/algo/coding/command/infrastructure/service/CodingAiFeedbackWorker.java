@@ -0,0 +1,95 @@
+package com.threego.algo.coding.command.infrastructure.service;
+
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackRequestDTO;
+import com.threego.algo.coding.command.application.dto.CodingAiFeedbackResponseDTO;
+import com.threego.algo.coding.command.application.event.CodingAiFeedbackRequestedEvent;
+import com.threego.algo.coding.command.application.service.CodingAiFeedbackService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 설명. AI 피드백 outbox 작업을 제한된 워커 풀에서 처리 (커밋 직후 즉시 전달 + 주기적 폴링으로 재시도/복구) */
+@Slf4j
+@Component
+public class CodingAiFeedbackWorker {
+
+    private final CodingAiFeedbackService codingAiFeedbackService;
+    private final CodingAiFeedbackClient codingAiFeedbackClient;
+    private final TaskExecutor executor;
+    private final int pollBatchSize;
+
+    // 이미 워커 큐에 들어간 작업을 폴링이 중복으로 넣지 않도록 추적
+    private final Set<Integer> inFlight = ConcurrentHashMap.newKeySet();
+
+    public CodingAiFeedbackWorker(CodingAiFeedbackService codingAiFeedbackService,
+                                  CodingAiFeedbackClient codingAiFeedbackClient,
+                                  @Qualifier("codingAiFeedbackExecutor") TaskExecutor executor,
+                                  @Value("${coding.ai-feedback.poll-batch-size:50}") int pollBatchSize) {
+        this.codingAiFeedbackService = codingAiFeedbackService;
+        this.codingAiFeedbackClient = codingAiFeedbackClient;
+        this.executor = executor;
+        this.pollBatchSize = pollBatchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFeedbackRequested(CodingAiFeedbackRequestedEvent event) {
+        dispatch(event.getJobId());
+    }
+
+    @Scheduled(fixedDelayString = "${coding.ai-feedback.poll-interval-ms:5000}")
+    public void pollDueJobs() {
+        for (Integer jobId : codingAiFeedbackService.findDueJobIds(pollBatchSize)) {
+            dispatch(jobId);
+        }
+    }
+
+    private void dispatch(int jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    process(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 큐가 가득 찬 경우 outbox에 남겨두고 다음 폴링에서 처리
+            inFlight.remove(jobId);
+            log.warn("AI 피드백 워커 큐가 가득 차 {}번 작업을 다음 폴링으로 미룹니다.", jobId);
+        }
+    }
+
+    private void process(int jobId) {
+        Optional<CodingAiFeedbackRequestDTO> request = codingAiFeedbackService.claim(jobId);
+        if (request.isEmpty()) {
+            return;
+        }
+
+        try {
+            Optional<CodingAiFeedbackResponseDTO> feedback = codingAiFeedbackClient.requestFeedback(request.get());
+            if (feedback.isPresent()) {
+                codingAiFeedbackService.complete(jobId, feedback.get());
+            } else {
+                // 서킷 차단 또는 동시 호출 한도 초과: 시도 횟수를 소모하지 않고 대기
+                codingAiFeedbackService.postpone(jobId, "AI 서버 호출이 일시적으로 제한되었습니다.");
+            }
+        } catch (Exception e) {
+            log.warn("{}번 AI 피드백 작업 실패: {}", jobId, e.getMessage());
+            codingAiFeedbackService.retryOrFail(jobId, e.getMessage());
+        }
+    }
+}
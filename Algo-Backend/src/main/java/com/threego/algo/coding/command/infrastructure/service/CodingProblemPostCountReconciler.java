@@ -0,0 +1,66 @@
+package com.threego.algo.coding.command.infrastructure.service;
+
+import com.threego.algo.coding.query.dao.CodingProblemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* 설명. 코딩 문제 게시물 수(POST_COUNT) 보정 작업
+ *  - 평소에는 게시물 등록/삭제 시 원자적 증감으로 유지하고, 이 작업은 어긋난 값을 공개 게시물 수로 되돌리는 안전망
+ *  - 문제 ID 순으로 chunk-size 개씩 끊어 각 묶음을 별도 트랜잭션으로 재계산한다. (긴 잠금 방지)
+ */
+@Slf4j
+@Component
+public class CodingProblemPostCountReconciler {
+
+    private final CodingProblemMapper codingProblemMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public CodingProblemPostCountReconciler(CodingProblemMapper codingProblemMapper,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${coding.problem.post-count-reconcile-chunk-size:500}") int chunkSize) {
+        this.codingProblemMapper = codingProblemMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${coding.problem.post-count-reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /* 설명. 전체 문제 게시물 수 재계산, 처리한 문제 수 반환 (이미 실행 중이면 0) */
+    public int reconcile() {
+        if (!lock.tryLock()) {
+            log.info("[coding-problem] 게시물 수 보정이 이미 실행 중입니다.");
+            return 0;
+        }
+
+        try {
+            int lastProblemId = 0;
+            int processed = 0;
+
+            List<Integer> problemIds;
+            while (!(problemIds = codingProblemMapper.selectProblemIdsAfter(lastProblemId, chunkSize)).isEmpty()) {
+                final List<Integer> chunk = problemIds;
+                transactionTemplate.executeWithoutResult(status -> codingProblemMapper.syncPostCount(chunk));
+
+                processed += chunk.size();
+                lastProblemId = chunk.get(chunk.size() - 1);
+            }
+
+            log.info("[coding-problem] 게시물 수 보정 완료, 문제 {}개", processed);
+            return processed;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
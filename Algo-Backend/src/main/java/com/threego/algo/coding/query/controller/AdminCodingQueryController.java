@@ -4,6 +4,7 @@ import com.threego.algo.coding.query.dto.CodingPostCommentDTO;
 import com.threego.algo.coding.query.dto.CodingPostDetailDTO;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
 import com.threego.algo.coding.query.service.CodingPostQueryService;
+import com.threego.algo.common.dto.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -27,10 +28,12 @@ public class AdminCodingQueryController {
             description = "관리자가 자신의 관리자용 코딩풀이 게시물 목록 조회합니다."
     )
     @GetMapping("/posts")
-    public List<CodingPostSummaryDTO> findPostListForAdmin(
+    public CursorPageDTO<CodingPostSummaryDTO> findPostListForAdmin(
             @RequestParam(value = "visibility", required = false) String visibility, // Y/N/ALL
-            @RequestParam(value = "keyword", required = false) String keyword ) {
-        return codingPostQueryService.findPostListForAdmin(visibility, keyword);
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "lastSeenId", required = false) Integer lastSeenId,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return codingPostQueryService.findPostListForAdmin(visibility, keyword, lastSeenId, size);
     }
 
     /**
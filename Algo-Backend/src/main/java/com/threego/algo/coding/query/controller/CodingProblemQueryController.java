@@ -5,6 +5,7 @@ import com.threego.algo.coding.query.dto.CodingProblemDetailDTO;
 import com.threego.algo.coding.query.dto.CodingProblemSummaryDTO;
 import com.threego.algo.coding.query.service.CodingProblemQueryService;
 import com.threego.algo.coding.query.service.CodingPostQueryService;
+import com.threego.algo.common.dto.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
@@ -49,10 +50,12 @@ public class CodingProblemQueryController {
             description = "회원이 특정 코딩문제에 관련된 게시물 목록 조회합니다."
     )
     @GetMapping("/{problemId}/posts")
-    public List<CodingPostSummaryDTO> findPostsByProblemId(
+    public CursorPageDTO<CodingPostSummaryDTO> findPostsByProblemId(
             @PathVariable int problemId,
-            @RequestParam(value = "keyword", required = false) String keyword) {
-        return codingProblemQueryService.findPostListByProblemId(problemId, keyword);
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "lastSeenId", required = false) Integer lastSeenId,
+            @RequestParam(value = "size", required = false) Integer size) {
+        return codingProblemQueryService.findPostListByProblemId(problemId, keyword, lastSeenId, size);
     }
 
     // 회원용 알고리즘 게시물 상세 조회
@@ -1,9 +1,11 @@
 package com.threego.algo.coding.query.controller;
 
+import com.threego.algo.coding.query.dto.CodingAiFeedbackDTO;
 import com.threego.algo.coding.query.dto.CodingPostCommentDTO;
 import com.threego.algo.coding.query.dto.CodingPostDetailDTO;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
 import com.threego.algo.coding.query.service.CodingPostQueryService;
+import com.threego.algo.common.dto.CursorPageDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
@@ -21,16 +23,19 @@ public class CodingQueryController {
 
     /**
      * 회원용 코딩풀이 게시물 목록 조회 (최신순)
+     * 첫 페이지는 lastSeenId 없이 요청하고, 이후에는 응답의 nextCursor를 lastSeenId로 전달
      */
     @Operation(
             summary = "회원용 코딩풀이 게시물 목록 조회 (최신순)",
-            description = "회원이 코딩풀이 게시물 목록 조회 (최신순)합니다."
+            description = "회원이 코딩풀이 게시물 목록 조회 (최신순)합니다. 응답의 nextCursor를 lastSeenId로 전달하면 다음 페이지를 조회합니다."
     )
     @GetMapping("/posts")
-    public List<CodingPostSummaryDTO> findPostList(
-            @RequestParam(value = "keyword", required = false) String keyword)
+    public CursorPageDTO<CodingPostSummaryDTO> findPostList(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "lastSeenId", required = false) Integer lastSeenId,
+            @RequestParam(value = "size", required = false) Integer size)
     {
-        return codingPostQueryService.findPostList(keyword);
+        return codingPostQueryService.findPostList(keyword, lastSeenId, size);
     }
 
     /**
@@ -46,6 +51,19 @@ public class CodingQueryController {
         return codingPostQueryService.findPostDetail(postId);
     }
 
+    /**
+     * 회원용 코딩풀이 AI 피드백 상태 조회
+     * GET /coding/posts/{postId}/ai-feedback
+     */
+    @Operation(
+            summary = "회원용 코딩풀이 AI 피드백 상태 조회",
+            description = "게시물의 AI 피드백 생성 상태(PENDING/DONE/FAILED)와 결과를 조회합니다."
+    )
+    @GetMapping("/posts/{postId}/ai-feedback")
+    public CodingAiFeedbackDTO findAiFeedback(@PathVariable int postId) {
+        return codingPostQueryService.findAiFeedback(postId);
+    }
+
     /**
      * 회원용 코딩풀이 댓글 목록 조회
      * GET /coding/posts/{postId}/comments
@@ -1,5 +1,6 @@
 package com.threego.algo.coding.query.dao;
 
+import com.threego.algo.coding.query.dto.CodingAiFeedbackDTO;
 import com.threego.algo.coding.query.dto.CodingPostDetailDTO;
 import com.threego.algo.coding.query.dto.CodingPostSearchConditionDTO;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
@@ -21,6 +22,9 @@ public interface CodingPostMapper {
     // 풀이 게시물 상세 조회
     CodingPostDetailDTO selectPostDetail(@Param("postId") int postId);
 
+    // 풀이 게시물 AI 피드백 상태 조회
+    CodingAiFeedbackDTO selectAiFeedback(@Param("postId") int postId);
+
     // 특정 게시물 댓글 목록 조회
     List<CodingPostCommentDTO> selectCommentsByPostId(@Param("postId") int postId);
 
@@ -29,6 +29,9 @@ public interface CodingProblemMapper {
     // 관리자용 문제 상세 조회
     CodingProblemDetailDTO selectAdminProblemDetail(@Param("problemId") int problemId);
 
-    // post_count 동기화
-    void syncPostCount();
+    // post_count 보정 대상 문제 ID (ID 순 chunk 조회)
+    List<Integer> selectProblemIdsAfter(@Param("lastProblemId") int lastProblemId, @Param("limit") int limit);
+
+    // post_count 동기화 (공개 게시물 수로 재계산)
+    int syncPostCount(@Param("problemIds") List<Integer> problemIds);
 }
@@ -0,0 +1,16 @@
+package com.threego.algo.coding.query.dto;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+/* 설명. 풀이 게시물 AI 피드백 상태 (PENDING / DONE / FAILED) */
+public class CodingAiFeedbackDTO {
+    private int postId;
+    private String aiStatus;
+    private String aiBigO;
+    private String aiGood;
+    private String aiBad;
+    private String aiPlan;
+}
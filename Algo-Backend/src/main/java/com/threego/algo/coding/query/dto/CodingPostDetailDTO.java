@@ -3,6 +3,7 @@ package com.threego.algo.coding.query.dto;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -20,7 +21,9 @@ public class CodingPostDetailDTO {
     private String aiGood;
     private String aiBad;
     private String aiPlan;
+    private String aiStatus;
     private int commentCount;
+    @Setter
     private int likeCount;
     private int memberId;
     private String nickname;
@@ -28,5 +31,9 @@ public class CodingPostDetailDTO {
     private String createdAt;
     private String updatedAt;
     private String visibility;
+    @Setter
     private List<String> imageUrls;
+    // 너비 -> 썸네일 URL 목록 (imageUrls 와 같은 순서, 생성 전이면 원본 URL)
+    @Setter
+    private Map<Integer, List<String>> thumbnailUrls;
 }
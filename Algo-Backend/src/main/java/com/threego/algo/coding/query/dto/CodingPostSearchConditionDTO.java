@@ -3,10 +3,32 @@ package com.threego.algo.coding.query.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class CodingPostSearchConditionDTO {
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
     private String keyword;      // 제목/내용/닉네임 검색
     private String visibility;   // Y / N
     private Integer problemId;
-}
\ No newline at end of file
+    private List<Integer> searchIds;  // 검색 색인 결과 게시물 ID (null이면 LIKE 검색)
+
+    // 커서 페이징 정보
+    private Integer lastSeenId;  // 이전 페이지의 마지막 게시물 ID (첫 페이지는 null)
+    private Integer size;        // 페이지 크기
+
+    public int getSize() {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public int getFetchSize() {
+        return getSize() + 1;
+    }
+}
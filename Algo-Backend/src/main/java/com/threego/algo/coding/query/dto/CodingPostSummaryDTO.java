@@ -19,5 +19,8 @@ public class CodingPostSummaryDTO {
     private String createdAt;
     private String updatedAt;
     private String visibility;
+    // 첫 번째 이미지의 썸네일 URL (이미지가 없으면 null)
+    @Setter
+    private String thumbnailUrl;
 
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.threego.algo.coding.query.service;
 
 import com.threego.algo.coding.query.dao.CodingPostMapper;
+import com.threego.algo.coding.query.dto.CodingAiFeedbackDTO;
 import com.threego.algo.coding.query.dto.CodingPostCommentDTO;
 import com.threego.algo.coding.query.dto.CodingPostDetailDTO;
 import com.threego.algo.coding.query.dto.CodingPostSearchConditionDTO;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dto.CursorPageDTO;
+import com.threego.algo.common.dto.PostImageDTO;
+import com.threego.algo.common.service.ImageThumbnails;
+import com.threego.algo.common.service.PostImageLoader;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.query.service.LikesQueryService;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,22 +28,43 @@ import java.util.stream.Collectors;
 public class CodingPostQueryServiceImpl implements CodingPostQueryService {
 
     private final CodingPostMapper codingPostMapper;
+    private final PostSearchService postSearchService;
+    private final PostImageLoader postImageLoader;
+    private final ImageThumbnails imageThumbnails;
+    private final LikesQueryService likesQueryService;
 
     // ---------------- 회원용 ---------------- //
 
     @Override
-    public List<CodingPostSummaryDTO> findPostList(String keyword) {
+    public CursorPageDTO<CodingPostSummaryDTO> findPostList(String keyword, Integer lastSeenId, Integer size) {
         CodingPostSearchConditionDTO condition = new CodingPostSearchConditionDTO();
         condition.setKeyword(keyword);
-        return codingPostMapper.selectPostList(condition);
+        condition.setSearchIds(postSearchService.findPostIds(SearchBoard.CODING, keyword, null, lastSeenId).orElse(null));
+        condition.setLastSeenId(lastSeenId);
+        condition.setSize(size);
+        return withThumbnails(CursorPageDTO.of(codingPostMapper.selectPostList(condition),
+                condition.getSize(), CodingPostSummaryDTO::getPostId));
     }
 
 
     @Override
     public CodingPostDetailDTO findPostDetail(int postId) {
-        return codingPostMapper.selectPostDetail(postId);
+        CodingPostDetailDTO detail = withImages(codingPostMapper.selectPostDetail(postId));
+        if (detail != null) {
+            // 아직 DB 에 반영되지 않은 추천 수 합산
+            detail.setLikeCount(detail.getLikeCount() + likesQueryService.countPendingLikes(postId, Type.CODING_POST));
+        }
+        return detail;
     }
 
+    @Override
+    public CodingAiFeedbackDTO findAiFeedback(int postId) {
+        CodingAiFeedbackDTO feedback = codingPostMapper.selectAiFeedback(postId);
+        if (feedback == null) {
+            throw new IllegalArgumentException("게시물 없음: " + postId);
+        }
+        return feedback;
+    }
 
     @Override
     public List<CodingPostCommentDTO> findCommentsByPostId(int postId) {
@@ -66,20 +97,42 @@ public class CodingPostQueryServiceImpl implements CodingPostQueryService {
     // ---------------- 관리자용 ---------------- //
 
     @Override
-    public List<CodingPostSummaryDTO> findPostListForAdmin(String visibility, String keyword) {
+    public CursorPageDTO<CodingPostSummaryDTO> findPostListForAdmin(String visibility, String keyword,
+                                                                    Integer lastSeenId, Integer size) {
         CodingPostSearchConditionDTO condition = new CodingPostSearchConditionDTO();
         condition.setVisibility(visibility);
         condition.setKeyword(keyword);
-        return codingPostMapper.selectAdminPostList(condition);
+        condition.setLastSeenId(lastSeenId);
+        condition.setSize(size);
+        return withThumbnails(CursorPageDTO.of(codingPostMapper.selectAdminPostList(condition),
+                condition.getSize(), CodingPostSummaryDTO::getPostId));
     }
 
     @Override
     public CodingPostDetailDTO findPostDetailForAdmin(int postId) {
-        return codingPostMapper.selectAdminPostDetail(postId);
+        return withImages(codingPostMapper.selectAdminPostDetail(postId));
     }
 
     @Override
     public List<CodingPostCommentDTO> findCommentsForAdmin() {
         return codingPostMapper.selectAdminComments();
     }
+
+    // 페이지의 게시물 이미지를 IN 쿼리 한 번으로 가져와 대표 썸네일 연결
+    private CursorPageDTO<CodingPostSummaryDTO> withThumbnails(CursorPageDTO<CodingPostSummaryDTO> page) {
+        postImageLoader.attachImages(ImageBoard.CODING, page.getContent(), CodingPostSummaryDTO::getPostId,
+                (post, images) -> post.setThumbnailUrl(imageThumbnails.listThumbnailUrl(images)));
+        return page;
+    }
+
+    private CodingPostDetailDTO withImages(CodingPostDetailDTO detail) {
+        if (detail != null) {
+            List<PostImageDTO> images = postImageLoader.loadImages(ImageBoard.CODING, detail.getPostId());
+            detail.setImageUrls(images.stream()
+                    .map(PostImageDTO::getImageUrl)
+                    .collect(Collectors.toList()));
+            detail.setThumbnailUrls(imageThumbnails.thumbnailUrls(images));
+        }
+        return detail;
+    }
 }
@@ -6,6 +6,12 @@ import com.threego.algo.coding.query.dto.CodingPostSearchConditionDTO;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
 import com.threego.algo.coding.query.dto.CodingProblemDetailDTO;
 import com.threego.algo.coding.query.dto.CodingProblemSummaryDTO;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dto.CursorPageDTO;
+import com.threego.algo.common.service.ImageThumbnails;
+import com.threego.algo.common.service.PostImageLoader;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +22,9 @@ import java.util.List;
 public class CodingProblemQueryImpl implements CodingProblemQueryService {
     private final CodingProblemMapper codingProblemMapper;
     private final CodingPostMapper codingPostMapper;
+    private final PostSearchService postSearchService;
+    private final PostImageLoader postImageLoader;
+    private final ImageThumbnails imageThumbnails;
 
     @Override
     public List<CodingProblemSummaryDTO> findProblemsList(String keyword) {
@@ -30,11 +39,20 @@ public class CodingProblemQueryImpl implements CodingProblemQueryService {
     }
 
     @Override
-    public List<CodingPostSummaryDTO> findPostListByProblemId(int problemId, String keyword) {
+    public CursorPageDTO<CodingPostSummaryDTO> findPostListByProblemId(int problemId, String keyword,
+                                                                       Integer lastSeenId, Integer size) {
         CodingPostSearchConditionDTO condition = new CodingPostSearchConditionDTO();
         condition.setProblemId(problemId);
         condition.setKeyword(keyword);
-        return codingPostMapper.selectPostListByProblemId(condition);
+        condition.setSearchIds(postSearchService.findPostIds(SearchBoard.CODING, keyword, problemId, lastSeenId)
+                .orElse(null));
+        condition.setLastSeenId(lastSeenId);
+        condition.setSize(size);
+        CursorPageDTO<CodingPostSummaryDTO> page = CursorPageDTO.of(codingPostMapper.selectPostListByProblemId(condition),
+                condition.getSize(), CodingPostSummaryDTO::getPostId);
+        postImageLoader.attachImages(ImageBoard.CODING, page.getContent(), CodingPostSummaryDTO::getPostId,
+                (post, images) -> post.setThumbnailUrl(imageThumbnails.listThumbnailUrl(images)));
+        return page;
     }
     
     @Override
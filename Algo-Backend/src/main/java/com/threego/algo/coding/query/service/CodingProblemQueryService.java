@@ -3,6 +3,7 @@ package com.threego.algo.coding.query.service;
 import com.threego.algo.coding.query.dto.CodingPostSummaryDTO;
 import com.threego.algo.coding.query.dto.CodingProblemDetailDTO;
 import com.threego.algo.coding.query.dto.CodingProblemSummaryDTO;
+import com.threego.algo.common.dto.CursorPageDTO;
 
 import java.util.List;
 
@@ -14,7 +15,8 @@ public interface CodingProblemQueryService {
     List<CodingProblemSummaryDTO> findProblemsByDifficulty();
 
     // 특정 문제별 게시물 목록 조회
-    List<CodingPostSummaryDTO> findPostListByProblemId(int problemId, String keyword);
+    CursorPageDTO<CodingPostSummaryDTO> findPostListByProblemId(int problemId, String keyword,
+                                                                Integer lastSeenId, Integer size);
 
     // 문제 상세 조회
     CodingProblemDetailDTO findProblemDetail(int problemId);
@@ -0,0 +1,18 @@
+package com.threego.algo.common.constants;
+
+/* 설명. 게시물 이미지 테이블 구분 (Algo_Post_Image / Coding_Post_Image / Study_Post_Image) */
+public enum ImageBoard {
+    ALGO("algo-posts"),
+    CODING("coding-posts"),
+    STUDY("study-posts");
+
+    private final String folder;    // S3 업로드 폴더
+
+    ImageBoard(String folder) {
+        this.folder = folder;
+    }
+
+    public String getFolder() {
+        return folder;
+    }
+}
@@ -0,0 +1,64 @@
+package com.threego.algo.common.controller;
+
+import com.threego.algo.auth.command.infrastructure.security.MemberPrincipal;
+import com.threego.algo.common.dto.ImageUploadConfirmRequestDTO;
+import com.threego.algo.common.dto.PresignedImageUploadRequestDTO;
+import com.threego.algo.common.dto.PresignedImageUploadResponseDTO;
+import com.threego.algo.common.service.ImageDirectUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Image Upload", description = "게시물 이미지 직접 업로드 API (presigned URL)")
+@RequestMapping("/images")
+@RequiredArgsConstructor
+@RestController
+public class ImageUploadController {
+    private final ImageDirectUploadService imageDirectUploadService;
+
+    @Operation(summary = "이미지 업로드 URL 발급",
+            description = "S3 에 이미지를 직접 PUT 할 수 있는 짧은 유효기간의 presigned URL 을 발급하는 API입니다. "
+                    + "응답의 headers 를 PUT 요청에 그대로 담아야 합니다.")
+    @PostMapping("/presigned-urls")
+    public ResponseEntity<List<PresignedImageUploadResponseDTO>> createUploadUrls(
+            @AuthenticationPrincipal final MemberPrincipal principal,
+            @RequestBody final PresignedImageUploadRequestDTO request) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(imageDirectUploadService.createUploadUrls(request));
+    }
+
+    @Operation(summary = "이미지 업로드 확인",
+            description = "S3 에 올라간 이미지를 확인하고 게시물 이미지로 등록하는 API입니다. 본인이 작성한 공개 게시물에만 등록할 수 있습니다.")
+    @PostMapping("/confirm")
+    public ResponseEntity<List<String>> confirmUploads(
+            @AuthenticationPrincipal final MemberPrincipal principal,
+            @RequestBody final ImageUploadConfirmRequestDTO request) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(imageDirectUploadService.confirmUploads(principal.getMemberId(), request));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(final IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<String> handleAccessDenied(final AccessDeniedException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+    }
+}
@@ -0,0 +1,37 @@
+package com.threego.algo.common.dao;
+
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dto.PostImageDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface PostImageMapper {
+
+    /* 설명. 여러 게시물의 이미지를 한 번에 조회 (게시물 ID, 이미지 ID 순) */
+    List<PostImageDTO> selectImagesByPostIds(@Param("board") ImageBoard board,
+                                             @Param("postIds") Collection<Integer> postIds);
+
+    /* 설명. 한 게시물의 이미지를 INSERT 한 번으로 저장 (이미 연결된 URL 은 UNIQUE KEY 로 건너뜀, 새로 저장된 행 수 반환) */
+    int insertImages(@Param("board") ImageBoard board,
+                     @Param("postId") int postId,
+                     @Param("imageUrls") Collection<String> imageUrls,
+                     @Param("createdAt") String createdAt);
+
+    /* 설명. 공개된 게시물의 작성자 ID (없거나 숨겨진 게시물이면 null) */
+    Integer selectVisiblePostWriterId(@Param("board") ImageBoard board,
+                                      @Param("postId") int postId);
+
+    /* 설명. 썸네일 생성 대기 이미지 (이미지 ID 순 keyset, createdBefore 이전에 등록된 것만) */
+    List<PostImageDTO> selectPendingThumbnailImages(@Param("board") ImageBoard board,
+                                                    @Param("lastImageId") int lastImageId,
+                                                    @Param("createdBefore") String createdBefore,
+                                                    @Param("limit") int limit);
+
+    int updateThumbnailStatus(@Param("board") ImageBoard board,
+                              @Param("imageId") int imageId,
+                              @Param("status") String status);
+}
@@ -0,0 +1,22 @@
+package com.threego.algo.common.dao;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SchedulerLeaseMapper {
+
+    /* 설명. lease 선점 시도 (없으면 생성, 만료됐거나 본인 소유면 갱신) */
+    void upsertLease(@Param("name") String name,
+                     @Param("owner") String owner,
+                     @Param("now") String now,
+                     @Param("leaseUntil") String leaseUntil);
+
+    /* 설명. 현재 lease 보유 서버 조회 */
+    String selectOwner(@Param("name") String name);
+
+    /* 설명. 본인 소유 lease 반납 (즉시 만료 처리) */
+    int releaseLease(@Param("name") String name,
+                     @Param("owner") String owner,
+                     @Param("now") String now);
+}
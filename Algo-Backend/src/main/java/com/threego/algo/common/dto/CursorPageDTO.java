@@ -0,0 +1,28 @@
+package com.threego.algo.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/* 설명. 커서(keyset) 기반 페이지 응답
+ *  - nextCursor: 다음 요청의 lastSeenId로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private Integer nextCursor;
+    private boolean hasNext;
+
+    // size + 1건을 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+    public static <T> CursorPageDTO<T> of(List<T> rows, int size, ToIntFunction<T> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        Integer nextCursor = hasNext ? cursorExtractor.applyAsInt(content.get(content.size() - 1)) : null;
+        return new CursorPageDTO<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,25 @@
+package com.threego.algo.common.dto;
+
+import com.threego.algo.common.constants.ImageBoard;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadConfirmRequestDTO {
+    @Schema(description = "게시판 구분", example = "CODING")
+    private ImageBoard board;
+
+    @Schema(description = "이미지를 연결할 게시물 ID", example = "1")
+    private int postId;
+
+    @Schema(description = "presigned URL 발급 시 받은 이미지 URL 목록")
+    private List<String> imageUrls;
+}
@@ -0,0 +1,22 @@
+package com.threego.algo.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadFileDTO {
+    @Schema(description = "원본 파일명", example = "solution.png")
+    private String fileName;
+
+    @Schema(description = "Content-Type (업로드 시 같은 값으로 보내야 함)", example = "image/png")
+    private String contentType;
+
+    @Schema(description = "파일 크기 (byte, 업로드 시 같은 Content-Length 로 보내야 함)", example = "204800")
+    private long size;
+}
@@ -0,0 +1,26 @@
+package com.threego.algo.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImageDTO {
+    private int postId;
+    private int imageId;
+    private String imageUrl;
+    private String createdAt;
+    private String thumbnailStatus;     // PENDING / DONE / FAILED
+
+    public PostImageDTO(int postId, int imageId, String imageUrl, String createdAt) {
+        this(postId, imageId, imageUrl, createdAt, null);
+    }
+
+    public boolean hasThumbnails() {
+        return "DONE".equals(thumbnailStatus);
+    }
+}
@@ -0,0 +1,22 @@
+package com.threego.algo.common.dto;
+
+import com.threego.algo.common.constants.ImageBoard;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedImageUploadRequestDTO {
+    @Schema(description = "게시판 구분", example = "CODING")
+    private ImageBoard board;
+
+    @Schema(description = "업로드할 이미지 목록")
+    private List<ImageUploadFileDTO> files;
+}
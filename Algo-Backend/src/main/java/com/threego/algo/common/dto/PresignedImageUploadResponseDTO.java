@@ -0,0 +1,30 @@
+package com.threego.algo.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedImageUploadResponseDTO {
+    @Schema(description = "원본 파일명")
+    private String fileName;
+
+    @Schema(description = "PUT 으로 이미지를 올릴 presigned URL")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 후 업로드 확인 API 에 보낼 이미지 URL")
+    private String imageUrl;
+
+    @Schema(description = "PUT 요청에 그대로 담아야 하는 헤더 (서명에 포함됨)")
+    private Map<String, String> headers;
+
+    @Schema(description = "URL 만료 시각", example = "2025-10-01 12:05:00")
+    private String expiresAt;
+}
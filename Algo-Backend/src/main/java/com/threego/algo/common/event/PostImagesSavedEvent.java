@@ -0,0 +1,13 @@
+package com.threego.algo.common.event;
+
+import com.threego.algo.common.constants.ImageBoard;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. 게시물 이미지 저장 알림 (썸네일 생성 용도) */
+@Getter
+@AllArgsConstructor
+public class PostImagesSavedEvent {
+    private final ImageBoard board;
+    private final int postId;
+}
@@ -0,0 +1,218 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dao.PostImageMapper;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import com.threego.algo.common.dto.ImageUploadConfirmRequestDTO;
+import com.threego.algo.common.dto.ImageUploadFileDTO;
+import com.threego.algo.common.dto.PresignedImageUploadRequestDTO;
+import com.threego.algo.common.dto.PresignedImageUploadResponseDTO;
+import com.threego.algo.common.util.DateTimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/* 설명. 클라이언트 직접 업로드 (이미지 바이트가 서버를 거치지 않음)
+ *  1. presigned PUT URL 발급 - validateImageFile 과 같은 규칙으로 검증하고, Content-Type / Content-Length 를 서명에 포함시킨다.
+ *  2. 클라이언트가 URL 로 S3 에 직접 PUT
+ *  3. 업로드 확인 - 요청한 회원이 공개된 게시물의 작성자인지 확인하고, headObject 로 실제 올라간 객체의 타입/크기를
+ *     다시 검증한 뒤 이미지 행을 한 번에 저장 (이미 연결된 URL 은 UNIQUE KEY 로 건너뜀)
+ *  - 확인되지 않은 객체는 버킷 수명 주기 규칙으로 정리한다. (검증에 실패한 객체는 바로 삭제)
+ */
+@Slf4j
+@Service
+public class ImageDirectUploadService {
+
+    private final S3Presigner s3Presigner;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Service s3Service;
+    private final PostImageMapper postImageMapper;
+    private final AlgoContentCache algoContentCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long expireSeconds;
+    private final int maxFiles;
+    private final long timeoutSeconds;
+
+    public ImageDirectUploadService(S3Presigner s3Presigner,
+                                    S3AsyncClient s3AsyncClient,
+                                    S3Service s3Service,
+                                    PostImageMapper postImageMapper,
+                                    AlgoContentCache algoContentCache,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${s3.presign.expire-seconds:300}") long expireSeconds,
+                                    @Value("${s3.presign.max-files:10}") int maxFiles,
+                                    @Value("${s3.upload.timeout-seconds:30}") long timeoutSeconds) {
+        this.s3Presigner = s3Presigner;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Service = s3Service;
+        this.postImageMapper = postImageMapper;
+        this.algoContentCache = algoContentCache;
+        this.eventPublisher = eventPublisher;
+        this.expireSeconds = expireSeconds;
+        this.maxFiles = maxFiles;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public List<PresignedImageUploadResponseDTO> createUploadUrls(PresignedImageUploadRequestDTO request) {
+        final ImageBoard board = requireBoard(request.getBoard());
+        final List<ImageUploadFileDTO> files = request.getFiles();
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 이미지가 없습니다.");
+        }
+        if (files.size() > maxFiles) {
+            throw new IllegalArgumentException("이미지는 한 번에 " + maxFiles + "개까지 올릴 수 있습니다.");
+        }
+
+        // 하나라도 규칙에 맞지 않으면 URL 을 발급하지 않는다.
+        files.forEach(file -> s3Service.validateImage(file.getFileName(), file.getContentType(), file.getSize()));
+
+        final String expiresAt = DateTimeUtils.dateTimeAfterSeconds(expireSeconds);
+        return files.stream()
+                .map(file -> presign(board, file, expiresAt))
+                .collect(Collectors.toList());
+    }
+
+    /* 설명. 업로드 확인 후 이미지 행 저장, 게시물에 연결된 이미지 URL 반환 (이미 연결된 이미지는 건너뜀) */
+    public List<String> confirmUploads(int memberId, ImageUploadConfirmRequestDTO request) {
+        final ImageBoard board = requireBoard(request.getBoard());
+        if (request.getImageUrls() == null || request.getImageUrls().isEmpty()) {
+            throw new IllegalArgumentException("확인할 이미지가 없습니다.");
+        }
+        if (request.getImageUrls().size() > maxFiles) {
+            throw new IllegalArgumentException("이미지는 한 번에 " + maxFiles + "개까지 올릴 수 있습니다.");
+        }
+
+        final Integer writerId = postImageMapper.selectVisiblePostWriterId(board, request.getPostId());
+        if (writerId == null) {
+            throw new IllegalArgumentException("존재하지 않는 게시물입니다.");
+        }
+        if (writerId != memberId) {
+            throw new AccessDeniedException("본인이 작성한 게시물에만 이미지를 등록할 수 있습니다.");
+        }
+
+        // URL -> 객체 키 (이 버킷의 해당 게시판 폴더에 있는 객체만 허용, 같은 URL 은 한 번만)
+        final Map<String, String> keysByUrl = new LinkedHashMap<>();
+        for (String imageUrl : request.getImageUrls()) {
+            final String key = s3Service.extractFileNameFromUrl(imageUrl);
+            if (!key.startsWith(board.getFolder() + "/") || !s3Service.getFileUrl(key).equals(imageUrl)) {
+                throw new IllegalArgumentException("허용되지 않은 이미지 경로입니다: " + imageUrl);
+            }
+            keysByUrl.put(imageUrl, key);
+        }
+
+        verifyUploaded(keysByUrl);
+
+        // DB 트랜잭션 없이 INSERT IGNORE 한 번 (S3 확인 동안 커넥션을 잡지 않음, 동시에 확인해도 UNIQUE KEY 가 중복을 막음)
+        final List<String> confirmedUrls = new ArrayList<>(keysByUrl.keySet());
+        final int inserted;
+        try {
+            inserted = postImageMapper.insertImages(board, request.getPostId(), confirmedUrls, DateTimeUtils.nowDateTime());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("존재하지 않는 게시물입니다.");
+        }
+
+        if (inserted > 0) {
+            if (board == ImageBoard.ALGO) {
+                algoContentCache.evictPost(request.getPostId());
+            }
+            eventPublisher.publishEvent(new PostImagesSavedEvent(board, request.getPostId()));
+        }
+
+        return confirmedUrls;
+    }
+
+    private PresignedImageUploadResponseDTO presign(ImageBoard board, ImageUploadFileDTO file, String expiresAt) {
+        final String key = s3Service.createFileName(file.getFileName(), board.getFolder());
+
+        final PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Service.getBucketName())
+                .key(key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .build();
+
+        final PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(expireSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        // host 는 URL 에 포함되므로 제외
+        final Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name.toLowerCase(Locale.ROOT), String.join(",", values));
+            }
+        });
+
+        return new PresignedImageUploadResponseDTO(file.getFileName(), presigned.url().toString(),
+                s3Service.getFileUrl(key), headers, expiresAt);
+    }
+
+    // 객체를 병렬로 headObject 해서 존재 여부와 타입/크기를 확인
+    private void verifyUploaded(Map<String, String> keysByUrl) {
+        final Map<String, CompletableFuture<HeadObjectResponse>> heads = new LinkedHashMap<>();
+        keysByUrl.forEach((imageUrl, key) -> heads.put(imageUrl, s3AsyncClient.headObject(HeadObjectRequest.builder()
+                .bucket(s3Service.getBucketName())
+                .key(key)
+                .build())));
+
+        for (Map.Entry<String, CompletableFuture<HeadObjectResponse>> head : heads.entrySet()) {
+            final String imageUrl = head.getKey();
+            final String key = keysByUrl.get(imageUrl);
+
+            final HeadObjectResponse response;
+            try {
+                response = head.getValue().get(timeoutSeconds, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이미지 업로드 확인이 중단되었습니다.");
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalArgumentException("업로드되지 않은 이미지입니다: " + imageUrl);
+            }
+
+            try {
+                s3Service.validateImage(key, response.contentType(),
+                        response.contentLength() == null ? 0L : response.contentLength());
+            } catch (IllegalArgumentException e) {
+                // 규칙에 맞지 않는 객체는 남겨두지 않는다.
+                s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(s3Service.getBucketName())
+                        .key(key)
+                        .build());
+                log.warn("[s3] 규칙에 맞지 않는 업로드 삭제: {} ({})", key, e.getMessage());
+                throw e;
+            }
+        }
+    }
+
+    private static ImageBoard requireBoard(ImageBoard board) {
+        if (board == null) {
+            throw new IllegalArgumentException("게시판 구분은 필수입니다.");
+        }
+        return board;
+    }
+}
@@ -0,0 +1,130 @@
+package com.threego.algo.common.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/* 설명. 원본 이미지 -> 너비별 JPEG 썸네일
+ *  - 원본을 통째로 byte[] 로 읽지 않고 스트림에서 바로 디코딩한다.
+ *  - 디코딩할 때 가장 큰 썸네일 너비 이상이 되는 만큼만 픽셀을 건너뛰며 읽어(subsampling) 메모리와 시간을 줄인다.
+ *  - 큰 너비부터 만들고, 작은 너비는 직전 결과에서 줄인다. (원본보다 크게 늘리지 않음)
+ *  - 투명 배경은 흰색으로 채운다. (JPEG 은 알파 채널이 없음)
+ */
+@Component
+public class ImageThumbnailRenderer {
+
+    private final float jpegQuality;
+    private final long maxPixels;
+    private final boolean subsampling;
+
+    public ImageThumbnailRenderer(@Value("${image.thumbnail.jpeg-quality:0.8}") float jpegQuality,
+                                  @Value("${image.thumbnail.max-pixels:40000000}") long maxPixels,
+                                  @Value("${image.thumbnail.subsampling:true}") boolean subsampling) {
+        this.jpegQuality = jpegQuality;
+        this.maxPixels = maxPixels;
+        this.subsampling = subsampling;
+    }
+
+    /* 설명. 너비 -> JPEG 바이트 (이미지가 아니거나 너무 크면 IllegalArgumentException) */
+    public Map<Integer, byte[]> render(InputStream source, int[] widths) throws IOException {
+        final int[] sortedWidths = Arrays.stream(widths).distinct().sorted().toArray();
+        if (sortedWidths.length == 0) {
+            return Map.of();
+        }
+
+        final BufferedImage decoded = decode(source, sortedWidths[sortedWidths.length - 1]);
+
+        final Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+        BufferedImage previous = decoded;
+        for (int i = sortedWidths.length - 1; i >= 0; i--) {
+            final BufferedImage resized = resize(previous, sortedWidths[i]);
+            thumbnails.put(sortedWidths[i], writeJpeg(resized));
+            previous = resized;
+        }
+        return thumbnails;
+    }
+
+    private BufferedImage decode(InputStream source, int maxWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            final Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("이미지로 읽을 수 없는 파일입니다.");
+            }
+
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("썸네일을 만들 수 없는 크기의 이미지입니다: " + width + "x" + height);
+                }
+
+                final ImageReadParam param = reader.getDefaultReadParam();
+                final int step = subsampling ? Math.max(1, width / maxWidth) : 1;
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } catch (IIOException e) {
+                throw new IllegalArgumentException("이미지로 읽을 수 없는 파일입니다.");
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width) {
+        final int targetWidth = Math.min(width, source.getWidth());
+        final int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        final BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
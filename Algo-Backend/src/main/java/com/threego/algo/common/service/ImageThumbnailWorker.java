@@ -0,0 +1,233 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dao.PostImageMapper;
+import com.threego.algo.common.dto.PostImageDTO;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import com.threego.algo.common.util.DateTimeUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* 설명. 게시물 이미지 썸네일 생성
+ *  - 이미지 저장 트랜잭션이 커밋되면 PENDING 이미지를 imageThumbnailExecutor 에 넘긴다. (요청 스레드는 기다리지 않음)
+ *  - 워커는 원본을 S3 에서 스트림으로 읽어 너비별 JPEG 을 만들고, 원본 옆 키(ImageThumbnails.thumbnailKey)에 올린 뒤 DONE 으로 바꾼다.
+ *  - 원본이 없거나 이미지로 읽을 수 없으면 FAILED 로 바꾸고 원본을 그대로 쓴다.
+ *  - 큐가 가득 차 거절되었거나 처리 중 서버가 내려가 PENDING 으로 남은 이미지는
+ *    Scheduler_Lease 를 선점한 서버의 주기 점검(sweep)이 다시 넘긴다.
+ */
+@Slf4j
+@Component
+public class ImageThumbnailWorker {
+
+    private static final String LEASE_NAME = "image-thumbnail-sweep";
+    private static final String METRIC_PREFIX = "image.thumbnail";
+
+    static final String STATUS_DONE = "DONE";
+    static final String STATUS_FAILED = "FAILED";
+
+    private final PostImageMapper postImageMapper;
+    private final PostImageLoader postImageLoader;
+    private final S3Client s3Client;
+    private final S3Service s3Service;
+    private final ImageThumbnails imageThumbnails;
+    private final ImageThumbnailRenderer imageThumbnailRenderer;
+    private final AlgoContentCache algoContentCache;
+    private final SchedulerLease schedulerLease;
+    private final ThreadPoolTaskExecutor imageThumbnailExecutor;
+    private final int sweepChunkSize;
+    private final long sweepMinAgeSeconds;
+    private final Duration leaseTime;
+
+    // 큐에 들어갔거나 처리 중인 이미지 (같은 이미지를 두 번 넘기지 않도록)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer renderTimer;
+    private final Counter processedCounter;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+    private final Counter leaseSkippedCounter;
+
+    public ImageThumbnailWorker(PostImageMapper postImageMapper,
+                                PostImageLoader postImageLoader,
+                                S3Client s3Client,
+                                S3Service s3Service,
+                                ImageThumbnails imageThumbnails,
+                                ImageThumbnailRenderer imageThumbnailRenderer,
+                                AlgoContentCache algoContentCache,
+                                SchedulerLease schedulerLease,
+                                @Qualifier("imageThumbnailExecutor") ThreadPoolTaskExecutor imageThumbnailExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${image.thumbnail.sweep-chunk-size:200}") int sweepChunkSize,
+                                @Value("${image.thumbnail.sweep-min-age-seconds:60}") long sweepMinAgeSeconds,
+                                @Value("${image.thumbnail.lease-seconds:300}") long leaseSeconds) {
+        this.postImageMapper = postImageMapper;
+        this.postImageLoader = postImageLoader;
+        this.s3Client = s3Client;
+        this.s3Service = s3Service;
+        this.imageThumbnails = imageThumbnails;
+        this.imageThumbnailRenderer = imageThumbnailRenderer;
+        this.algoContentCache = algoContentCache;
+        this.schedulerLease = schedulerLease;
+        this.imageThumbnailExecutor = imageThumbnailExecutor;
+        this.sweepChunkSize = sweepChunkSize;
+        this.sweepMinAgeSeconds = sweepMinAgeSeconds;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+
+        this.renderTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("이미지 한 장의 썸네일을 모두 만들어 올리는 데 걸린 시간")
+                .register(meterRegistry);
+        this.processedCounter = meterRegistry.counter(METRIC_PREFIX + ".processed");
+        this.failureCounter = meterRegistry.counter(METRIC_PREFIX + ".failures");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+        this.leaseSkippedCounter = meterRegistry.counter(METRIC_PREFIX + ".lease.skipped");
+        meterRegistry.gauge(METRIC_PREFIX + ".queue.depth", imageThumbnailExecutor,
+                executor -> executor.getThreadPoolExecutor().getQueue().size());
+    }
+
+    // 롤백된 이미지 행은 처리할 필요가 없으므로 커밋 이후에만 받는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostImagesSaved(PostImagesSavedEvent event) {
+        for (PostImageDTO image : postImageLoader.loadImages(event.getBoard(), event.getPostId())) {
+            if (isPending(image) && !submit(event.getBoard(), image)) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${image.thumbnail.sweep-interval-ms:60000}",
+            initialDelayString = "${image.thumbnail.sweep-initial-delay-ms:30000}")
+    public void sweep() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTime)) {
+            leaseSkippedCounter.increment();
+            return;
+        }
+
+        try {
+            final String createdBefore = DateTimeUtils.dateTimeBeforeSeconds(sweepMinAgeSeconds);
+            for (ImageBoard board : ImageBoard.values()) {
+                if (!sweep(board, createdBefore)) {
+                    return;
+                }
+            }
+        } finally {
+            schedulerLease.release(LEASE_NAME);
+        }
+    }
+
+    // 워커 큐가 가득 차면 false (남은 이미지는 다음 점검 때 넘김)
+    private boolean sweep(ImageBoard board, String createdBefore) {
+        int lastImageId = 0;
+        List<PostImageDTO> images;
+        while (!(images = postImageMapper.selectPendingThumbnailImages(board, lastImageId, createdBefore,
+                sweepChunkSize)).isEmpty()) {
+            for (PostImageDTO image : images) {
+                if (!submit(board, image)) {
+                    return false;
+                }
+            }
+            lastImageId = images.get(images.size() - 1).getImageId();
+        }
+        return true;
+    }
+
+    private boolean submit(ImageBoard board, PostImageDTO image) {
+        final String inFlightKey = board.name() + ":" + image.getImageId();
+        if (!inFlight.add(inFlightKey)) {
+            return true;
+        }
+
+        try {
+            imageThumbnailExecutor.execute(() -> {
+                try {
+                    process(board, image);
+                } finally {
+                    inFlight.remove(inFlightKey);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(inFlightKey);
+            rejectedCounter.increment();
+            log.warn("[thumbnail] 작업 큐가 가득 차 {} 이미지 {} 를 다음 점검으로 미룸", board, image.getImageId());
+            return false;
+        }
+    }
+
+    void process(ImageBoard board, PostImageDTO image) {
+        final String key = s3Service.extractFileNameFromUrl(image.getImageUrl());
+        if (!s3Service.getFileUrl(key).equals(image.getImageUrl())) {
+            // 외부 URL 은 썸네일을 만들지 않고 원본을 그대로 쓴다.
+            finish(board, image, STATUS_FAILED);
+            return;
+        }
+
+        final Timer.Sample sample = Timer.start();
+        try {
+            final Map<Integer, byte[]> thumbnails;
+            try (ResponseInputStream<GetObjectResponse> original = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(s3Service.getBucketName())
+                    .key(key)
+                    .build())) {
+                thumbnails = imageThumbnailRenderer.render(original, imageThumbnails.getWidths());
+            }
+
+            thumbnails.forEach((width, bytes) -> s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(s3Service.getBucketName())
+                            .key(ImageThumbnails.thumbnailKey(key, width))
+                            .contentType(ImageThumbnails.THUMBNAIL_CONTENT_TYPE)
+                            .contentLength((long) bytes.length)
+                            .build(),
+                    RequestBody.fromBytes(bytes)));
+
+            finish(board, image, STATUS_DONE);
+            processedCounter.increment();
+        } catch (NoSuchKeyException | IllegalArgumentException e) {
+            // 다시 시도해도 결과가 같으므로 FAILED 로 남긴다.
+            failureCounter.increment();
+            log.warn("[thumbnail] {} 이미지 {} 썸네일 생성 불가, 원본 사용: {}", board, image.getImageId(), e.getMessage());
+            finish(board, image, STATUS_FAILED);
+        } catch (IOException | RuntimeException e) {
+            // 일시적인 오류는 PENDING 으로 두고 다음 점검 때 다시 시도한다.
+            failureCounter.increment();
+            log.warn("[thumbnail] {} 이미지 {} 썸네일 생성 실패, 다음 점검 때 재시도", board, image.getImageId(), e);
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    private void finish(ImageBoard board, PostImageDTO image, String status) {
+        postImageMapper.updateThumbnailStatus(board, image.getImageId(), status);
+        if (board == ImageBoard.ALGO) {
+            algoContentCache.evictPost(image.getPostId());
+        }
+    }
+
+    private static boolean isPending(PostImageDTO image) {
+        return image.getThumbnailStatus() == null || "PENDING".equals(image.getThumbnailStatus());
+    }
+}
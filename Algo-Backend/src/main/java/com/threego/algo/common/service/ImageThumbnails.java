@@ -0,0 +1,72 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.common.dto.PostImageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 설명. 썸네일 키/URL 규칙
+ *  - 썸네일은 원본과 같은 폴더에 "<원본 이름(확장자 제외)>_w<너비>.jpg" 로 저장한다.
+ *    예) algo-posts/uuid_cat.png -> algo-posts/uuid_cat_w320.jpg
+ *  - 아직 생성되지 않았거나(PENDING) 생성에 실패한(FAILED) 이미지는 원본 URL 을 그대로 돌려준다.
+ */
+@Component
+public class ImageThumbnails {
+
+    public static final String THUMBNAIL_EXTENSION = ".jpg";
+    public static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final int[] widths;
+
+    public ImageThumbnails(@Value("${image.thumbnail.widths:320,640}") int[] widths) {
+        this.widths = Arrays.stream(widths).distinct().sorted().toArray();
+    }
+
+    public int[] getWidths() {
+        return widths.clone();
+    }
+
+    /* 설명. 원본 키(또는 URL) -> 썸네일 키(또는 URL) */
+    public static String thumbnailKey(String original, int width) {
+        final int nameStart = original.lastIndexOf('/') + 1;
+        final int extensionStart = original.lastIndexOf('.');
+        final String base = extensionStart > nameStart ? original.substring(0, extensionStart) : original;
+        return base + "_w" + width + THUMBNAIL_EXTENSION;
+    }
+
+    /* 설명. 너비 -> 썸네일 URL (생성 전이면 원본 URL) */
+    public Map<Integer, String> thumbnailUrls(PostImageDTO image) {
+        final Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int width : widths) {
+            urls.put(width, image.hasThumbnails() ? thumbnailKey(image.getImageUrl(), width) : image.getImageUrl());
+        }
+        return urls;
+    }
+
+    /* 설명. 목록 카드용 대표 썸네일 (첫 번째 이미지의 가장 작은 너비, 이미지가 없으면 null) */
+    public String listThumbnailUrl(List<PostImageDTO> images) {
+        if (images == null || images.isEmpty()) {
+            return null;
+        }
+        final PostImageDTO first = images.get(0);
+        return first.hasThumbnails() ? thumbnailKey(first.getImageUrl(), widths[0]) : first.getImageUrl();
+    }
+
+    /* 설명. 너비 -> 썸네일 URL 목록 (이미지 순서는 imageUrls 와 같음) */
+    public Map<Integer, List<String>> thumbnailUrls(List<PostImageDTO> images) {
+        final Map<Integer, List<String>> urls = new LinkedHashMap<>();
+        for (int width : widths) {
+            final List<String> widthUrls = new ArrayList<>(images.size());
+            for (PostImageDTO image : images) {
+                widthUrls.add(image.hasThumbnails() ? thumbnailKey(image.getImageUrl(), width) : image.getImageUrl());
+            }
+            urls.put(width, widthUrls);
+        }
+        return urls;
+    }
+}
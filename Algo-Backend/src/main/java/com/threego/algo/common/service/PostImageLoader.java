@@ -0,0 +1,65 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dao.PostImageMapper;
+import com.threego.algo.common.dto.PostImageDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/* 설명. 게시물 이미지 일괄 조회
+ *  - 게시물 수와 관계없이 IN 쿼리 한 번으로 이미지를 가져와 게시물별로 묶는다. (N+1 방지)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostImageLoader {
+
+    private final PostImageMapper postImageMapper;
+
+    /* 설명. 게시물 ID -> 이미지 목록 (이미지가 없는 게시물은 key 없음) */
+    public Map<Integer, List<PostImageDTO>> loadImages(ImageBoard board, Collection<Integer> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Set<Integer> distinctIds = new LinkedHashSet<>(postIds);
+        return postImageMapper.selectImagesByPostIds(board, distinctIds).stream()
+                .collect(Collectors.groupingBy(PostImageDTO::getPostId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    public List<PostImageDTO> loadImages(ImageBoard board, int postId) {
+        return loadImages(board, List.of(postId)).getOrDefault(postId, Collections.emptyList());
+    }
+
+    public List<String> loadImageUrls(ImageBoard board, int postId) {
+        return loadImages(board, postId).stream()
+                .map(PostImageDTO::getImageUrl)
+                .collect(Collectors.toList());
+    }
+
+    /* 설명. 목록 응답의 각 게시물에 이미지 연결 */
+    public <T> void attachImages(ImageBoard board, List<T> posts,
+                                 ToIntFunction<T> postIdExtractor,
+                                 BiConsumer<T, List<PostImageDTO>> imageSetter) {
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, List<PostImageDTO>> images = loadImages(board, posts.stream()
+                .map(postIdExtractor::applyAsInt)
+                .collect(Collectors.toList()));
+
+        posts.forEach(post -> imageSetter.accept(post,
+                images.getOrDefault(postIdExtractor.applyAsInt(post), Collections.emptyList())));
+    }
+}
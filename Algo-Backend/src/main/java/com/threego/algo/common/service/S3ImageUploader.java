@@ -0,0 +1,202 @@
+package com.threego.algo.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/* 설명. 게시물 이미지 병렬 업로드
+ *  - DB 트랜잭션을 열기 전에 호출해 S3 PUT 동안 커넥션을 잡지 않도록 한다.
+ *  - S3AsyncClient 로 동시에 올리되, 서버 전체의 동시 업로드 수는 max-concurrency 로 제한한다.
+ *  - 하나라도 실패하면 이미 올라간 이미지를 지우고 예외를 던진다. (전부 성공하거나 아무것도 남기지 않음)
+ *  - 이후 DB 저장이 실패하면 compensateOnFailure 가 업로드한 이미지를 지운다.
+ */
+@Slf4j
+@Service
+public class S3ImageUploader {
+
+    private static final String METRIC_PREFIX = "s3.image-upload";
+
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Service s3Service;
+    private final Semaphore uploadPermits;
+    private final long timeoutSeconds;
+
+    private final Timer uploadTimer;
+    private final Counter failureCounter;
+    private final Counter compensatedCounter;
+
+    public S3ImageUploader(S3AsyncClient s3AsyncClient,
+                           S3Service s3Service,
+                           MeterRegistry meterRegistry,
+                           @Value("${s3.upload.max-concurrency:8}") int maxConcurrency,
+                           @Value("${s3.upload.timeout-seconds:30}") long timeoutSeconds) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Service = s3Service;
+        this.uploadPermits = new Semaphore(maxConcurrency);
+        this.timeoutSeconds = timeoutSeconds;
+
+        this.uploadTimer = Timer.builder(METRIC_PREFIX + ".duration")
+                .description("게시물 하나의 이미지를 모두 올리는 데 걸린 시간")
+                .register(meterRegistry);
+        this.failureCounter = meterRegistry.counter(METRIC_PREFIX + ".failures");
+        this.compensatedCounter = meterRegistry.counter(METRIC_PREFIX + ".compensated");
+    }
+
+    /* 설명. 비어 있지 않은 이미지를 모두 검증한 뒤 병렬로 업로드하고, 입력 순서대로 URL 을 반환 */
+    public List<String> uploadAll(List<MultipartFile> files, String folder) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        final List<MultipartFile> images = files.stream()
+                .filter(file -> !file.isEmpty())
+                .collect(Collectors.toList());
+
+        // 검증 실패 시 아무것도 올리지 않는다.
+        images.forEach(s3Service::validateImageFile);
+
+        if (images.isEmpty()) {
+            return List.of();
+        }
+
+        final List<String> keys = images.stream()
+                .map(image -> s3Service.createFileName(image.getOriginalFilename(), folder))
+                .collect(Collectors.toList());
+
+        final Timer.Sample sample = Timer.start();
+        final List<CompletableFuture<?>> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < images.size(); i++) {
+                uploads.add(upload(keys.get(i), images.get(i)));
+            }
+
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0]))
+                    .get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw uploadFailed(keys, uploads, e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            throw uploadFailed(keys, uploads, e);
+        } finally {
+            sample.stop(uploadTimer);
+        }
+
+        return keys.stream()
+                .map(s3Service::getFileUrl)
+                .collect(Collectors.toList());
+    }
+
+    /* 설명. work(DB 저장) 가 실패하면 이미 업로드한 이미지를 지우고 예외를 그대로 던진다. */
+    public <T> T compensateOnFailure(List<String> fileUrls, Supplier<T> work) {
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            if (!fileUrls.isEmpty()) {
+                compensatedCounter.increment(fileUrls.size());
+                awaitQuietly(deleteAll(fileUrls));
+            }
+            throw e;
+        }
+    }
+
+    /* 설명. 이미지 일괄 삭제 (실패는 로그만 남김) */
+    public CompletableFuture<Void> deleteAll(List<String> fileUrls) {
+        return CompletableFuture.allOf(fileUrls.stream()
+                .map(s3Service::extractFileNameFromUrl)
+                .map(this::delete)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<?> upload(String key, MultipartFile image) {
+        final byte[] bytes;
+        try {
+            bytes = image.getBytes();
+            if (!uploadPermits.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+                return CompletableFuture.failedFuture(new TimeoutException("업로드 대기 시간 초과: " + key));
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(s3Service.getBucketName())
+                .key(key)
+                .contentType(image.getContentType())
+                .contentLength((long) bytes.length)
+                .build();
+
+        try {
+            return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(bytes))
+                    .whenComplete((response, e) -> uploadPermits.release());
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Void> delete(String key) {
+        final DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(s3Service.getBucketName())
+                .key(key)
+                .build();
+
+        return s3AsyncClient.deleteObject(deleteObjectRequest)
+                .<Void>handle((response, e) -> {
+                    if (e != null) {
+                        log.warn("[s3] 이미지 삭제 실패, 수동 정리 필요: {}", key, e);
+                    }
+                    return null;
+                });
+    }
+
+    // 진행 중이던 업로드는 끝나는 대로 지운다. (늦게 끝난 업로드가 남지 않도록)
+    private IllegalArgumentException uploadFailed(List<String> keys, List<CompletableFuture<?>> uploads, Exception cause) {
+        failureCounter.increment();
+        log.warn("[s3] 이미지 {}건 업로드 실패, 업로드된 이미지 삭제", keys.size(), cause);
+
+        final List<CompletableFuture<Void>> deletes = new ArrayList<>();
+        for (int i = 0; i < uploads.size(); i++) {
+            final String key = keys.get(i);
+            deletes.add(uploads.get(i)
+                    .handle((response, e) -> e == null)
+                    .thenCompose(uploaded -> uploaded ? delete(key) : CompletableFuture.<Void>completedFuture(null)));
+        }
+
+        awaitQuietly(CompletableFuture.allOf(deletes.toArray(new CompletableFuture[0])));
+
+        return new IllegalArgumentException("파일 업로드에 실패했습니다.");
+    }
+
+    // 삭제는 제한 시간까지만 기다린다. (남은 삭제는 백그라운드에서 계속 진행)
+    private void awaitQuietly(CompletableFuture<?> future) {
+        try {
+            future.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[s3] 이미지 삭제가 제한 시간 안에 끝나지 않음", e);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Service {
 
+    public static final long MAX_IMAGE_SIZE = 5 * 1024 * 1024;
+
     private final S3Client s3Client;
 //    private final AmazonS3 amazonS3;
 
@@ -31,6 +33,10 @@ public class S3Service {
     @Value("${cloud.aws.region.static}")
     private String region; // region을 직접 주입받기
 
+    String getBucketName() {
+        return bucketName;
+    }
+
     public String uploadFile(MultipartFile file, String folder) {
         try {
             String fileName = createFileName(file.getOriginalFilename(), folder);
@@ -87,7 +93,7 @@ public class S3Service {
     }
 
     // 수정된 getFileUrl 메서드
-    private String getFileUrl(String fileName) {
+    String getFileUrl(String fileName) {
         return String.format("https://%s.s3.%s.amazonaws.com/%s",
                 bucketName,
                 region,  // 직접 주입받은 region 사용
@@ -99,7 +105,10 @@ public class S3Service {
     }
 
     public boolean isValidImageFile(MultipartFile file) {
-        String fileName = file.getOriginalFilename();
+        return isValidImageFileName(file.getOriginalFilename());
+    }
+
+    public boolean isValidImageFileName(String fileName) {
         if (fileName == null || fileName.trim().isEmpty()) {
             return false;
         }
@@ -113,7 +122,11 @@ public class S3Service {
     }
 
     public boolean isValidFileSize(MultipartFile file) {
-        return file.getSize() <= 5 * 1024 * 1024;
+        return isValidFileSize(file.getSize());
+    }
+
+    public boolean isValidFileSize(long size) {
+        return size <= MAX_IMAGE_SIZE;
     }
 
     public boolean isValidFileSize(MultipartFile file, long maxSizeInMB) {
@@ -121,7 +134,10 @@ public class S3Service {
     }
 
     public boolean isValidImageMimeType(MultipartFile file) {
-        String contentType = file.getContentType();
+        return isValidImageMimeType(file.getContentType());
+    }
+
+    public boolean isValidImageMimeType(String contentType) {
         if (contentType == null) {
             return false;
         }
@@ -133,24 +149,33 @@ public class S3Service {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
 
-        if (!isValidImageFile(file)) {
+        validateImage(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /* 설명. 파일 없이 이름/타입/크기만으로 검증 (presigned URL 발급, 업로드 확인 시 사용) */
+    public void validateImage(String fileName, String contentType, long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        if (!isValidImageFileName(fileName)) {
             throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (JPG, JPEG, PNG, GIF, WEBP, BMP만 가능)");
         }
 
-        if (!isValidImageMimeType(file)) {
+        if (!isValidImageMimeType(contentType)) {
             throw new IllegalArgumentException("올바른 이미지 파일이 아닙니다.");
         }
 
-        if (!isValidFileSize(file)) {
+        if (!isValidFileSize(size)) {
             throw new IllegalArgumentException("이미지 파일 크기는 5MB 이하여야 합니다.");
         }
     }
 
-    private String createFileName(String originalFileName, String folder) {
+    String createFileName(String originalFileName, String folder) {
         return folder + "/" + UUID.randomUUID().toString() + "_" + originalFileName;
     }
 
-    private String extractFileNameFromUrl(String fileUrl) {
+    String extractFileNameFromUrl(String fileUrl) {
         try {
             String[] parts = fileUrl.split(".com/");
             if (parts.length > 1) {
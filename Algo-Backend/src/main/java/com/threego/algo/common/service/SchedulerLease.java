@@ -0,0 +1,58 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.common.dao.SchedulerLeaseMapper;
+import com.threego.algo.common.util.DateTimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+
+/* 설명. DB 기반 스케줄 작업 lease
+ *  - 여러 서버가 같은 @Scheduled 작업을 돌릴 때 Scheduler_Lease 행을 선점한 서버만 실행한다.
+ *  - lease 는 leaseTime 뒤 만료되므로 실행 중 서버가 죽어도 다음 주기에 다른 서버가 이어받는다.
+ *  - 트랜잭션 밖에서 호출해 선점 결과가 바로 커밋되도록 한다.
+ */
+@Slf4j
+@Service
+public class SchedulerLease {
+
+    private final SchedulerLeaseMapper schedulerLeaseMapper;
+    private final String owner;
+
+    public SchedulerLease(SchedulerLeaseMapper schedulerLeaseMapper) {
+        this.schedulerLeaseMapper = schedulerLeaseMapper;
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /* 설명. lease 선점 시도, 이 서버가 보유하게 되면 true */
+    public boolean tryAcquire(String name, Duration leaseTime) {
+        try {
+            schedulerLeaseMapper.upsertLease(name, owner, DateTimeUtils.nowDateTime(),
+                    DateTimeUtils.dateTimeAfterSeconds(leaseTime.toSeconds()));
+            return owner.equals(schedulerLeaseMapper.selectOwner(name));
+        } catch (RuntimeException e) {
+            log.warn("[scheduler-lease] {} lease 선점 실패", name, e);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        try {
+            schedulerLeaseMapper.releaseLease(name, owner, DateTimeUtils.nowDateTime());
+        } catch (RuntimeException e) {
+            // 반납에 실패해도 만료 시각이 지나면 다른 서버가 가져간다.
+            log.warn("[scheduler-lease] {} lease 반납 실패", name, e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            final String hostName = InetAddress.getLocalHost().getHostName();
+            return hostName.length() > 80 ? hostName.substring(0, 80) : hostName;
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
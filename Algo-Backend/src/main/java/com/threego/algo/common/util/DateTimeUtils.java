@@ -21,4 +21,14 @@ public class DateTimeUtils {
     public static String nowDateTime() {
         return LocalDateTime.now().format(DATE_TIME_FORMATTER);
     }
+
+    // 현재 시각으로부터 seconds 초 뒤의 날짜 및 시간 반환
+    public static String dateTimeAfterSeconds(long seconds) {
+        return LocalDateTime.now().plusSeconds(seconds).format(DATE_TIME_FORMATTER);
+    }
+
+    // 현재 시각으로부터 seconds 초 전의 날짜 및 시간 반환
+    public static String dateTimeBeforeSeconds(long seconds) {
+        return LocalDateTime.now().minusSeconds(seconds).format(DATE_TIME_FORMATTER);
+    }
 }
@@ -0,0 +1,14 @@
+package com.threego.algo.common.util;
+
+/* 설명. MyBatis 동적 테이블 이름 선택용
+ *  - <choose> 에 등록하지 않은 값이 들어오면 엉뚱한 테이블에 쿼리하지 않도록 <otherwise> 에서 호출해 실패시킨다.
+ */
+public class SqlTableNames {
+
+    private SqlTableNames() {
+    }
+
+    public static String unknown(Object value) {
+        throw new IllegalArgumentException("SQL 에 등록되지 않은 테이블 구분입니다: " + value);
+    }
+}
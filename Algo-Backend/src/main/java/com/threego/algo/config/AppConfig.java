@@ -1,5 +1,6 @@
 package com.threego.algo.config;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,8 +8,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @Configuration
 public class AppConfig {
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        // 강도를 올리면 기존 해시는 다음 로그인 때 새 강도로 다시 저장된다. (AuthServiceImpl.login)
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
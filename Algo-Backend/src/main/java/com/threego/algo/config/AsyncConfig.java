@@ -0,0 +1,89 @@
+package com.threego.algo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableScheduling
+@Configuration
+public class AsyncConfig {
+
+    /* 설명. AI 피드백 워커 풀 (큐가 가득 차면 거절하고 outbox 폴링으로 재처리) */
+    @Bean(name = "codingAiFeedbackExecutor")
+    public ThreadPoolTaskExecutor codingAiFeedbackExecutor(
+            @Value("${coding.ai-feedback.worker-threads:4}") int workerThreads,
+            @Value("${coding.ai-feedback.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("coding-ai-feedback-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /* 설명. BCrypt 해시/검증 전용 풀 (요청 스레드의 CPU 독점 방지, 대기열이 가득 차면 즉시 거절) */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:64}") int queueCapacity) {
+        // 기본값은 코어 수의 절반 (나머지 CPU 는 다른 API 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /* 설명. 메일 발송 워커 풀 (각 워커가 발송 큐를 비울 때까지 처리하므로 대기는 워커 수만큼, 나머지는 버림) */
+    @Bean(name = "mailSendExecutor")
+    public ThreadPoolTaskExecutor mailSendExecutor(@Value("${auth.mail.worker-threads:2}") int workerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(workerThreads);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /* 설명. 추천 write-behind 즉시 flush 용 (flush 는 한 번에 하나만 의미가 있으므로 대기 1건, 나머지는 버림) */
+    @Bean(name = "likesFlushExecutor")
+    public ThreadPoolTaskExecutor likesFlushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("likes-flush-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /* 설명. 게시물 이미지 썸네일 생성 풀 (디코딩 메모리가 커서 워커 수를 작게 유지, 큐가 가득 차면 거절하고 주기 점검에서 재처리) */
+    @Bean(name = "imageThumbnailExecutor")
+    public ThreadPoolTaskExecutor imageThumbnailExecutor(
+            @Value("${image.thumbnail.worker-threads:2}") int workerThreads,
+            @Value("${image.thumbnail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.threego.algo.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/* 설명. FastAPI(algo-coding-ai) 전용 HTTP 클라이언트 (커넥션 풀 + keep-alive 재사용 + 타임아웃) */
+@Configuration
+public class CodingAiClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient codingAiHttpClient(
+            @Value("${coding.ai-client.max-connections:20}") int maxConnections,
+            @Value("${coding.ai-client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${coding.ai-client.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${coding.ai-client.pool-timeout-ms:1000}") long poolTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean(name = "codingAiRestTemplate")
+    public RestTemplate codingAiRestTemplate(CloseableHttpClient codingAiHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(codingAiHttpClient));
+    }
+}
@@ -0,0 +1,15 @@
+package com.threego.algo.likes.command.application.event;
+
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/* 설명. 추천 저장 및 추천 수 반영 완료 알림 (게시물 캐시 무효화 용도) */
+@Getter
+@AllArgsConstructor
+public class LikesFlushedEvent {
+    private final Type type;
+    private final Set<Integer> postIds;
+}
@@ -3,42 +3,68 @@ package com.threego.algo.likes.command.application.service;
 import com.threego.algo.algorithm.command.domain.aggregate.AlgoPost;
 import com.threego.algo.career.command.domain.aggregate.CareerInfoPost;
 import com.threego.algo.coding.command.domain.aggregate.CodingPost;
-import com.threego.algo.likes.command.domain.aggregate.Likes;
+import com.threego.algo.likes.command.application.event.LikesFlushedEvent;
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
-import com.threego.algo.likes.command.domain.repository.LikesCommandRepository;
+import com.threego.algo.likes.command.infrastructure.service.LikeWriteBuffer;
+import com.threego.algo.likes.query.dao.LikesMapper;
 import com.threego.algo.member.command.domain.aggregate.Member;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-@RequiredArgsConstructor
+import java.util.List;
+import java.util.Set;
+
 @Service
 public class LikesCommandServiceImpl implements LikesCommandService {
-    private final LikesCommandRepository likesCommandRepository;
+    private final LikesMapper likesMapper;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean writeBehindEnabled;
+
+    public LikesCommandServiceImpl(final LikesMapper likesMapper,
+                                   final LikeWriteBuffer likeWriteBuffer,
+                                   final ApplicationEventPublisher eventPublisher,
+                                   @Value("${likes.write-behind.enabled:true}") final boolean writeBehindEnabled) {
+        this.likesMapper = likesMapper;
+        this.likeWriteBuffer = likeWriteBuffer;
+        this.eventPublisher = eventPublisher;
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
 
+    /* 설명. 추천 저장 + 게시물 추천 수/작성자 포인트 증가
+     *  - 추천 행은 항상 현재 트랜잭션에서 저장하고, 이미 추천한 게시물이면 유니크 키로 걸러진다. (INSERT IGNORE)
+     *  - write-behind 사용 시 추천 수/포인트는 LikeWriteBuffer 가 저장된 건수만큼 일괄 반영
+     *  - 미사용 시 현재 트랜잭션에서 바로 반영
+     */
     @Transactional
     @Override
     public void createLikes(final Member member, final Object post, final Type type) {
-        Likes likes = null;
-
-        switch (type) {
-            case ALGO_POST -> {
-                final AlgoPost algoPost = (AlgoPost) post;
+        final int postId = switch (type) {
+            case ALGO_POST -> ((AlgoPost) post).getId();
+            case CODING_POST -> ((CodingPost) post).getId();
+            case CAREER_INFO_POST -> ((CareerInfoPost) post).getId();
+        };
 
-                likes = new Likes(member, algoPost, null, null);
+        if (writeBehindEnabled) {
+            if (!likeWriteBuffer.offer(member.getId(), postId, type)
+                    || likesMapper.insertLikes(type.name(), postId, List.of(member.getId()), "N") == 0) {
+                throw new RuntimeException("이미 추천한 게시물입니다.");
             }
-            case CODING_POST -> {
-                final CodingPost codingPst = (CodingPost) post;
+            return;
+        }
 
-                likes = new Likes(member, null, codingPst, null);
-            }
-            case CAREER_INFO_POST -> {
-                final CareerInfoPost careerInfoPost = (CareerInfoPost) post;
+        final int inserted = likesMapper.insertLikes(type.name(), postId, List.of(member.getId()), "Y");
+        if (inserted == 0) {
+            throw new RuntimeException("이미 추천한 게시물입니다.");
+        }
 
-                likes = new Likes(member, null, null, careerInfoPost);
-            }
+        likesMapper.increaseLikeCount(type.name(), postId, inserted);
+        if (type.getWriterPoint() > 0) {
+            likesMapper.increaseWriterPoint(type.name(), postId, type.getWriterPoint() * inserted);
         }
 
-        likesCommandRepository.save(likes);
+        eventPublisher.publishEvent(new LikesFlushedEvent(type, Set.of(postId)));
     }
-}
\ No newline at end of file
+}
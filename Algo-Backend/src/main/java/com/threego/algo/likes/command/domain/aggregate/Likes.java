@@ -33,11 +33,16 @@ public class Likes {
     @JoinColumn(name = "career_info_post_id")
     private CareerInfoPost careerInfoPost;
 
+    // 게시물 추천 수/작성자 포인트 반영 여부 (Y/N)
+    @Column(name = "counted", nullable = false, length = 1)
+    private String counted;
+
     public Likes(final Member member, final AlgoPost algoPost, final CodingPost codingPost,
                  final CareerInfoPost careerInfoPost) {
         this.member = member;
         this.algoPost = algoPost;
         this.codingPost = codingPost;
         this.careerInfoPost = careerInfoPost;
+        this.counted = "N";
     }
 }
\ No newline at end of file
@@ -4,5 +4,12 @@ import lombok.Getter;
 
 @Getter
 public enum Type {
-    ALGO_POST, CODING_POST, CAREER_INFO_POST;
-}
\ No newline at end of file
+    ALGO_POST(0), CODING_POST(1), CAREER_INFO_POST(1);
+
+    // 추천 한 건당 게시물 작성자에게 지급하는 포인트
+    private final int writerPoint;
+
+    Type(final int writerPoint) {
+        this.writerPoint = writerPoint;
+    }
+}
@@ -0,0 +1,298 @@
+package com.threego.algo.likes.command.infrastructure.service;
+
+import com.threego.algo.likes.command.application.event.LikesFlushedEvent;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.query.dao.LikesMapper;
+import com.threego.algo.likes.query.dto.UncountedLikeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/* 설명. 추천 수/작성자 포인트 write-behind 버퍼
+ *  - 추천 행은 요청 트랜잭션에서 counted = 'N' 으로 INSERT IGNORE 한다. (응답 전에 DB 에 저장, 중복은 유니크 키로 걸러짐)
+ *  - 이 인스턴스에서 받은 추천은 대기 목록에 두고 (회원, 게시물) 중복을 DB 전에 걸러내며,
+ *    게시물별 대기 추천 수를 조회 시 DB 값에 더해 보여준다. 대기 목록이 max-pending 건이면 새 추천을 거절한다.
+ *  - flush-interval-ms 마다 또는 flush-size 건이 쌓이면 counted = 'N' 인 추천을 잠그고 조회해
+ *    게시물 단위로 LIKE_COUNT 와 작성자 포인트를 올리고 counted = 'Y' 로 바꾼다. (한 트랜잭션)
+ *  - 반영 대상은 DB 의 추천 행이므로 flush 실패나 프로세스 비정상 종료 후에도 다음 flush(다른 인스턴스 포함)가 이어서 반영한다.
+ */
+@Slf4j
+@Component
+public class LikeWriteBuffer implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "likes.write-behind";
+
+    private final LikesMapper likesMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor flushExecutor;
+    private final int flushSize;
+    private final int maxPending;
+    private final long pendingTtlNanos;
+
+    // 커밋된 추천만 대기 추천 수에 포함한다.
+    private final Map<PendingLike, PendingState> pendingLikes = new ConcurrentHashMap<>();
+    private final Map<LikeTarget, Integer> pendingCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger committedCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final DistributionSummary flushSizeSummary;
+    private final Timer flushLagTimer;
+    private final Counter flushFailureCounter;
+    private final Counter rejectedCounter;
+
+    public LikeWriteBuffer(LikesMapper likesMapper,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Qualifier("likesFlushExecutor") ThreadPoolTaskExecutor flushExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${likes.write-behind.flush-size:500}") int flushSize,
+                           @Value("${likes.write-behind.max-pending:10000}") int maxPending,
+                           @Value("${likes.write-behind.pending-ttl-ms:60000}") long pendingTtlMs) {
+        this.likesMapper = likesMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.flushExecutor = flushExecutor;
+        this.flushSize = flushSize;
+        this.maxPending = maxPending;
+        this.pendingTtlNanos = TimeUnit.MILLISECONDS.toNanos(pendingTtlMs);
+
+        this.flushSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".flush.size")
+                .description("flush 한 번에 반영한 추천 수")
+                .register(meterRegistry);
+        this.flushLagTimer = Timer.builder(METRIC_PREFIX + ".flush.lag")
+                .description("가장 오래 대기한 추천이 추천 수에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.flushFailureCounter = meterRegistry.counter(METRIC_PREFIX + ".flush.failures");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".rejected");
+        meterRegistry.gauge(METRIC_PREFIX + ".pending", committedCount);
+    }
+
+    /* 설명. 추천 행 INSERT 전 대기 목록에 자리 확보, 이미 대기 중인 (회원, 게시물) 추천이면 false
+     *  - 대기 목록이 가득 차면(반영이 밀리는 중) IllegalStateException
+     *  - 트랜잭션 안에서 호출되면 커밋 이후에 대기 추천 수에 더하고, 롤백 시 자리를 해제한다.
+     */
+    public boolean offer(int memberId, int postId, Type type) {
+        final PendingLike like = new PendingLike(type, postId, memberId);
+        if (pendingLikes.size() >= maxPending) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("추천 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        final PendingState reserved = new PendingState(System.nanoTime(), false);
+        if (pendingLikes.putIfAbsent(like, reserved) != null) {
+            return false;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markCommitted(like, reserved);
+            return true;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markCommitted(like, reserved);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    pendingLikes.remove(like);
+                }
+            }
+        });
+        return true;
+    }
+
+    private void markCommitted(PendingLike like, PendingState reserved) {
+        // 먼저 세고, flush 가 이미 반영해 대기 목록에서 빠진 추천이면 되돌린다.
+        pendingCounts.merge(like.target(), 1, Integer::sum);
+        committedCount.incrementAndGet();
+        if (!pendingLikes.replace(like, reserved, new PendingState(reserved.getEnqueuedAt(), true))) {
+            decreasePending(like);
+            return;
+        }
+
+        if (committedCount.get() >= flushSize) {
+            // 실행 중이거나 이미 예약된 flush 가 있으면 버려진다. (주기 flush 가 마저 처리)
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    public boolean isPending(int memberId, int postId, Type type) {
+        return pendingLikes.containsKey(new PendingLike(type, postId, memberId));
+    }
+
+    public int countPending(int postId, Type type) {
+        return pendingCounts.getOrDefault(new LikeTarget(type, postId), 0);
+    }
+
+    @Scheduled(fixedDelayString = "${likes.write-behind.flush-interval-ms:500}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            int flushed;
+            do {
+                flushed = flushUncounted();
+            } while (flushed == flushSize);
+            releaseExpired();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushLock.lock();
+        try {
+            int flushed;
+            do {
+                flushed = flushUncounted();
+            } while (flushed == flushSize);
+            if (flushed < 0) {
+                // 추천 행은 저장되어 있으므로 다음 기동(또는 다른 인스턴스)의 flush 가 반영한다.
+                log.warn("[likes] 종료 전 추천 수 반영 실패, 다음 flush 에서 반영");
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /* 설명. 미반영 추천을 최대 flush-size 건 반영, 반영한 건수 (실패하면 -1) */
+    private int flushUncounted() {
+        final List<UncountedLikeDTO> flushed;
+        try {
+            flushed = transactionTemplate.execute(status -> {
+                final List<UncountedLikeDTO> likes = likesMapper.selectUncountedLikes(flushSize);
+                if (likes.isEmpty()) {
+                    return likes;
+                }
+
+                countByTarget(likes).forEach((target, count) -> {
+                    likesMapper.increaseLikeCount(target.getType().name(), target.getPostId(), count);
+                    if (target.getType().getWriterPoint() > 0) {
+                        likesMapper.increaseWriterPoint(target.getType().name(), target.getPostId(),
+                                target.getType().getWriterPoint() * count);
+                    }
+                });
+                likesMapper.markLikesCounted(likes.stream()
+                        .map(UncountedLikeDTO::getLikeId)
+                        .collect(Collectors.toList()));
+                return likes;
+            });
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("[likes] 추천 수 반영 실패, 다음 주기에 재시도", e);
+            return -1;
+        }
+
+        if (flushed == null || flushed.isEmpty()) {
+            return 0;
+        }
+
+        long oldestEnqueuedAt = System.nanoTime();
+        for (UncountedLikeDTO flushedLike : flushed) {
+            final PendingState released = release(new PendingLike(flushedLike.getType(), flushedLike.getPostId(),
+                    flushedLike.getMemberId()));
+            if (released != null) {
+                oldestEnqueuedAt = Math.min(oldestEnqueuedAt, released.getEnqueuedAt());
+            }
+        }
+        flushLagTimer.record(Duration.ofNanos(System.nanoTime() - oldestEnqueuedAt));
+        flushSizeSummary.record(flushed.size());
+
+        countByTarget(flushed).keySet().stream()
+                .collect(Collectors.groupingBy(LikeTarget::getType,
+                        Collectors.mapping(LikeTarget::getPostId, Collectors.toSet())))
+                .forEach((type, postIds) -> eventPublisher.publishEvent(new LikesFlushedEvent(type, postIds)));
+        return flushed.size();
+    }
+
+    // 다른 인스턴스의 flush 가 반영한 추천은 여기서 알 수 없으므로 pending-ttl 이 지나면 대기 목록에서 뺀다.
+    private void releaseExpired() {
+        final long now = System.nanoTime();
+        pendingLikes.entrySet().stream()
+                .filter(entry -> now - entry.getValue().getEnqueuedAt() > pendingTtlNanos)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(this::release);
+    }
+
+    // 대기 목록에서 빼고 커밋된 추천이었으면 대기 추천 수도 줄인다.
+    private PendingState release(PendingLike like) {
+        final PendingState released = pendingLikes.remove(like);
+        if (released != null && released.isCommitted()) {
+            decreasePending(like);
+        }
+        return released;
+    }
+
+    private void decreasePending(PendingLike like) {
+        committedCount.decrementAndGet();
+        pendingCounts.computeIfPresent(like.target(), (target, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static Map<LikeTarget, Integer> countByTarget(List<UncountedLikeDTO> likes) {
+        return likes.stream()
+                .collect(Collectors.groupingBy(like -> new LikeTarget(like.getType(), like.getPostId()),
+                        LinkedHashMap::new, Collectors.summingInt(like -> 1)));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class LikeTarget {
+        private final Type type;
+        private final int postId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class PendingLike {
+        private final Type type;
+        private final int postId;
+        private final int memberId;
+
+        private LikeTarget target() {
+            return new LikeTarget(type, postId);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static class PendingState {
+        private final long enqueuedAt;
+        private final boolean committed;
+    }
+}
@@ -1,11 +1,42 @@
 package com.threego.algo.likes.query.dao;
 
+import com.threego.algo.likes.query.dto.UncountedLikeDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
+
 @Mapper
 public interface LikesMapper {
     boolean existsLikesByMemberIdAndPostIdAndPostType(@Param("memberId") final int memberId,
                                                       @Param("postId") final int postId,
                                                       @Param("type") String type);
-}
\ No newline at end of file
+
+    /* 설명. 주어진 게시물 중 회원이 추천한 게시물 ID (목록 한 페이지를 한 번에 확인) */
+    List<Integer> selectLikedPostIds(@Param("memberId") final int memberId,
+                                     @Param("type") final String type,
+                                     @Param("postIds") final Collection<Integer> postIds);
+
+    /* 설명. 한 게시물에 대한 추천을 한 번에 저장 (이미 추천한 회원은 무시), 실제 저장된 건수 반환
+     *  - counted = 'N' 이면 추천 수/포인트는 LikeWriteBuffer 가 나중에 반영한다.
+     */
+    int insertLikes(@Param("type") final String type,
+                    @Param("postId") final int postId,
+                    @Param("memberIds") final Collection<Integer> memberIds,
+                    @Param("counted") final String counted);
+
+    /* 설명. 추천 수/포인트 미반영 추천을 ID 순으로 잠그고 조회 (같은 트랜잭션에서 반영 후 markLikesCounted) */
+    List<UncountedLikeDTO> selectUncountedLikes(@Param("size") final int size);
+
+    int markLikesCounted(@Param("likeIds") final Collection<Integer> likeIds);
+
+    int increaseLikeCount(@Param("type") final String type,
+                          @Param("postId") final int postId,
+                          @Param("delta") final int delta);
+
+    /* 설명. 게시물 작성자 포인트 증가 */
+    int increaseWriterPoint(@Param("type") final String type,
+                            @Param("postId") final int postId,
+                            @Param("point") final int point);
+}
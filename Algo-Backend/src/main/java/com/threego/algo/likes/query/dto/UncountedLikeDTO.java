@@ -0,0 +1,19 @@
+package com.threego.algo.likes.query.dto;
+
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 설명. 저장은 됐지만 게시물 추천 수/작성자 포인트에 아직 반영되지 않은 추천 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UncountedLikeDTO {
+    private int likeId;
+    private int memberId;
+    private Type type;
+    private int postId;
+}
@@ -2,6 +2,13 @@ package com.threego.algo.likes.query.service;
 
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface LikesQueryService {
     boolean existsLikesByMemberIdAndPostIdAndPostType(final int memberId, final int postId, final Type type);
-}
\ No newline at end of file
+
+    Set<Integer> findLikedPostIds(final int memberId, final Collection<Integer> postIds, final Type type);
+
+    int countPendingLikes(final int postId, final Type type);
+}
@@ -1,17 +1,49 @@
 package com.threego.algo.likes.query.service;
 
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.command.infrastructure.service.LikeWriteBuffer;
 import com.threego.algo.likes.query.dao.LikesMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Service
 public class LikesQueryServiceImpl implements LikesQueryService {
     private final LikesMapper likesMapper;
+    private final LikeWriteBuffer likeWriteBuffer;
 
+    // 아직 DB 에 반영되지 않은 추천도 추천한 것으로 본다.
     @Override
     public boolean existsLikesByMemberIdAndPostIdAndPostType(final int memberId, final int postId, final Type type) {
-        return likesMapper.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId, type.name());
+        return likeWriteBuffer.isPending(memberId, postId, type)
+                || likesMapper.existsLikesByMemberIdAndPostIdAndPostType(memberId, postId, type.name());
+    }
+
+    /* 설명. 게시물 목록의 추천 여부를 쿼리 한 번으로 확인 (대기 중인 추천 포함) */
+    @Override
+    public Set<Integer> findLikedPostIds(final int memberId, final Collection<Integer> postIds, final Type type) {
+        final Set<Integer> likedPostIds = new HashSet<>();
+        if (postIds.isEmpty()) {
+            return likedPostIds;
+        }
+
+        postIds.stream()
+                .filter((postId) -> likeWriteBuffer.isPending(memberId, postId, type))
+                .forEach(likedPostIds::add);
+
+        if (likedPostIds.size() < postIds.size()) {
+            likedPostIds.addAll(likesMapper.selectLikedPostIds(memberId, type.name(), postIds));
+        }
+        return likedPostIds;
+    }
+
+    /* 설명. 게시물 추천 수 = DB 추천 수 + 이 값 (write-behind 대기분) */
+    @Override
+    public int countPendingLikes(final int postId, final Type type) {
+        return likeWriteBuffer.countPending(postId, type);
     }
-}
\ No newline at end of file
+}
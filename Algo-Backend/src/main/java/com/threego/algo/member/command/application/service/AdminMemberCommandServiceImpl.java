@@ -1,5 +1,6 @@
 package com.threego.algo.member.command.application.service;
 
+import com.threego.algo.auth.command.infrastructure.security.MemberStatusCache;
 import com.threego.algo.member.command.domain.aggregate.MemberRole;
 import com.threego.algo.member.command.domain.aggregate.Role;
 import com.threego.algo.member.command.domain.aggregate.enums.RoleName;
@@ -16,12 +17,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminMemberCommandServiceImpl implements AdminMemberCommandService {
     private final MemberCommandRepository memberCommandRepository;
     private final RoleCommandRepository roleCommandRepository;
+    private final MemberStatusCache memberStatusCache;
 
     @Autowired
     public AdminMemberCommandServiceImpl(MemberCommandRepository memberCommandRepository,
-                                         RoleCommandRepository roleCommandRepository) {
+                                         RoleCommandRepository roleCommandRepository,
+                                         MemberStatusCache memberStatusCache) {
         this.memberCommandRepository = memberCommandRepository;
         this.roleCommandRepository = roleCommandRepository;
+        this.memberStatusCache = memberStatusCache;
     }
 
     @Transactional
@@ -32,6 +36,9 @@ public class AdminMemberCommandServiceImpl implements AdminMemberCommandService
 
         member.setStatus(status);
         memberCommandRepository.save(member);
+
+        // 정지/해제가 토큰 인증에 바로 반영되도록 상태 캐시 제거
+        memberStatusCache.evict(memberId);
     }
 
     @Transactional
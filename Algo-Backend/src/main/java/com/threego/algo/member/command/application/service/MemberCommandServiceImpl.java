@@ -5,6 +5,8 @@ import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.aggregate.MemberAttendanceHistory;
 import com.threego.algo.member.command.domain.repository.MemberAttendanceHistoryCommandRepository;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.search.command.application.event.SearchMemberIndexEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,11 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberCommandServiceImpl implements MemberCommandService {
     private final MemberCommandRepository memberRepository;
     private final MemberAttendanceHistoryCommandRepository attendanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MemberCommandServiceImpl(MemberCommandRepository memberCommandRepository,
-                                    MemberAttendanceHistoryCommandRepository attendanceRepository) {
+                                    MemberAttendanceHistoryCommandRepository attendanceRepository,
+                                    ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberCommandRepository;
         this.attendanceRepository = attendanceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -28,6 +33,9 @@ public class MemberCommandServiceImpl implements MemberCommandService {
 
         member.setNickname(newNickname);
         memberRepository.save(member);
+
+        // 작성 게시물의 닉네임 검색이 새 닉네임으로 되도록 커밋 후 재색인
+        eventPublisher.publishEvent(new SearchMemberIndexEvent(memberId));
     }
 
     @Transactional
@@ -2,9 +2,22 @@ package com.threego.algo.member.command.domain.repository;
 
 import com.threego.algo.member.command.domain.aggregate.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Integer> {
 
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :memberId")
+    int updatePassword(@Param("memberId") int memberId, @Param("password") String password);
+
+    // 피신고자 엔티티를 읽지 않고 신고 횟수만 원자적으로 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.reportedCount = m.reportedCount + 1 WHERE m.id = :memberId")
+    int increaseReportedCount(@Param("memberId") int memberId);
+}
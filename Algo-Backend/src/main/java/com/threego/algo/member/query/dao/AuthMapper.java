@@ -1,5 +1,6 @@
 package com.threego.algo.member.query.dao;
 
+import com.threego.algo.member.command.domain.aggregate.enums.Status;
 import com.threego.algo.member.query.dto.LoginUserResponseDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -9,4 +10,6 @@ public interface AuthMapper {
     LoginUserResponseDTO selectMemberByEmail(
             @Param("email")String email
     );
+
+    Status selectMemberStatusById(@Param("id") int id);
 }
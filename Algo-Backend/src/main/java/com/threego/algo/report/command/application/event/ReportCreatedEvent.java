@@ -0,0 +1,13 @@
+package com.threego.algo.report.command.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. 신고 등록 알림 (신고 누적에 따른 자동 숨김/정지 판단 용도) */
+@Getter
+@AllArgsConstructor
+public class ReportCreatedEvent {
+    private final int categoryId;
+    private final int targetId;
+    private final int reportedMemberId;
+}
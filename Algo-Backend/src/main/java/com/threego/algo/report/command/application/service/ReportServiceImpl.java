@@ -1,21 +1,18 @@
 package com.threego.algo.report.command.application.service;
 
 import com.threego.algo.common.util.DateTimeUtils;
-import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.repository.MemberRepository;
 import com.threego.algo.report.command.application.dto.ReportRequest;
+import com.threego.algo.report.command.application.event.ReportCreatedEvent;
 import com.threego.algo.report.command.domain.aggregate.Report;
-import com.threego.algo.report.command.domain.aggregate.ReportCategory;
-import com.threego.algo.report.command.domain.aggregate.ReportType;
 import com.threego.algo.report.command.domain.repository.ReportCategoryRepository;
 import com.threego.algo.report.command.domain.repository.ReportRepository;
 import com.threego.algo.report.command.domain.repository.ReportTypeRepository;
-import com.threego.algo.report.query.dao.ReportMapper;
-import com.threego.algo.report.query.dto.ReportedMemberResponseDTO;
 import com.threego.algo.report.query.service.AdminReportQueryService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
@@ -26,19 +23,16 @@ public class ReportServiceImpl implements ReportService {
     private final ReportTypeRepository typeRepository;
     private final MemberRepository memberRepository;
     private final AdminReportQueryService reportService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /* 설명. 신고 등록
+     *  - 신고 행 저장과 피신고자 신고 횟수 증가만 요청 트랜잭션에서 처리한다.
+     *  - 누적 신고에 따른 대상 숨김/회원 정지는 커밋 이후 ReportModerationWorker 가 일괄 처리
+     */
     @Transactional
     @Override
     public void createReport(ReportRequest request) {
-        ReportCategory category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
-
-        ReportType type = typeRepository.findById(request.getTypeId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신고 타입입니다."));
-
-        Member reporter = memberRepository.findById(request.getMemberId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신고자입니다."));
-
+        // 카테고리가 없거나 대상이 없으면 null
         Integer reportedMemberId = reportService.findReportedMemberId(
                 request.getCategoryId(),
                 request.getTargetId()
@@ -47,33 +41,40 @@ public class ReportServiceImpl implements ReportService {
             throw new IllegalArgumentException("대상 사용자가 존재하지 않습니다.");
         }
 
-        Member reportedMember = memberRepository.findById(reportedMemberId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 피신고자입니다."));
-
         // 중복 신고 방지
-        boolean exists = reportRepository.existsByMemberAndTargetIdAndTypeAndReportedMember(
-                reporter,
+        boolean exists = reportRepository.existsByMemberIdAndCategoryIdAndTargetIdAndTypeId(
+                request.getMemberId(),
+                request.getCategoryId(),
                 request.getTargetId(),
-                type,
-                reportedMember
+                request.getTypeId()
         );
         if (exists) {
             throw new IllegalArgumentException("이미 신고한 게시물/댓글입니다.");
         }
 
+        // 연관 엔티티는 조회하지 않고 참조만 사용 (존재하지 않는 신고자/신고 타입은 FK 로 거부)
         Report report = Report.create(
-                reporter,
-                category,
-                type,
+                memberRepository.getReferenceById(request.getMemberId()),
+                categoryRepository.getReferenceById(request.getCategoryId()),
+                typeRepository.getReferenceById(request.getTypeId()),
                 request.getTargetId(),
-                reportedMember,
+                memberRepository.getReferenceById(reportedMemberId),
                 request.getContent(),
                 DateTimeUtils.nowDateTime()
         );
 
-        reportedMember.increaseReportCount();
+        try {
+            reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("존재하지 않는 신고자 또는 신고 타입입니다.");
+        }
+
+        memberRepository.increaseReportedCount(reportedMemberId);
 
-        reportRepository.save(report);
+        eventPublisher.publishEvent(new ReportCreatedEvent(
+                request.getCategoryId(),
+                request.getTargetId(),
+                reportedMemberId
+        ));
     }
 }
-
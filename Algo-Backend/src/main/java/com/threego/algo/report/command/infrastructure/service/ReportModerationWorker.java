@@ -0,0 +1,232 @@
+package com.threego.algo.report.command.infrastructure.service;
+
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
+import com.threego.algo.auth.command.infrastructure.security.MemberStatusCache;
+import com.threego.algo.report.command.application.event.ReportCreatedEvent;
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dao.ReportModerationMapper;
+import com.threego.algo.report.query.dto.ReportTargetCountDTO;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/* 설명. 신고 누적에 따른 자동 숨김/회원 정지
+ *  - 신고 등록 트랜잭션이 커밋되면 이벤트를 제한된 크기의 큐에 넣고, interval-ms 마다 batch-size 건씩 꺼내 처리한다.
+ *  - 배치 안의 대상/회원은 메모리에서 중복을 없앤 뒤 카테고리별 GROUP BY 한 번으로 신고자 수를 확인한다.
+ *    회원 정지도 누적 신고 횟수(REPORTED_COUNT)가 아닌 서로 다른 신고자 수로 판단한다.
+ *  - 기준은 항상 DB 누적값으로 판단하므로 큐가 가득 차 버려지거나 재시작으로 유실된 이벤트는
+ *    같은 대상의 다음 신고 때 다시 판단된다. (숨김/정지는 조건부 UPDATE 라 여러 서버에서 겹쳐도 한 번만 반영)
+ *  - 기준값이 0 이하이면 해당 조치를 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ReportModerationWorker {
+
+    private static final String METRIC_PREFIX = "report.moderation";
+
+    private final ReportModerationMapper reportModerationMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemberStatusCache memberStatusCache;
+    private final AlgoContentCache algoContentCache;
+    private final int batchSize;
+    private final int hideThreshold;
+    private final int suspendThreshold;
+
+    private final BlockingQueue<PendingReport> queue;
+    private final ReentrantLock processLock = new ReentrantLock();
+
+    private final Timer lagTimer;
+    private final Counter hiddenCounter;
+    private final Counter suspendedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failureCounter;
+
+    public ReportModerationWorker(ReportModerationMapper reportModerationMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MemberStatusCache memberStatusCache,
+                                  AlgoContentCache algoContentCache,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${report.moderation.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${report.moderation.batch-size:500}") int batchSize,
+                                  @Value("${report.moderation.hide-threshold:5}") int hideThreshold,
+                                  @Value("${report.moderation.suspend-threshold:10}") int suspendThreshold) {
+        this.reportModerationMapper = reportModerationMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.memberStatusCache = memberStatusCache;
+        this.algoContentCache = algoContentCache;
+        this.batchSize = batchSize;
+        this.hideThreshold = hideThreshold;
+        this.suspendThreshold = suspendThreshold;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".queue.lag")
+                .description("신고 등록부터 자동 조치 판단까지 걸린 시간 (배치에서 가장 오래 대기한 신고 기준)")
+                .register(meterRegistry);
+        this.hiddenCounter = Counter.builder(METRIC_PREFIX + ".actions")
+                .tag("action", "hide")
+                .register(meterRegistry);
+        this.suspendedCounter = Counter.builder(METRIC_PREFIX + ".actions")
+                .tag("action", "suspend")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".queue.rejected");
+        this.failureCounter = meterRegistry.counter(METRIC_PREFIX + ".failures");
+        meterRegistry.gauge(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size);
+    }
+
+    // 롤백된 신고는 판단 대상이 아니므로 커밋 이후에만 받는다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReportCreated(ReportCreatedEvent event) {
+        if (!queue.offer(new PendingReport(event, System.nanoTime()))) {
+            rejectedCounter.increment();
+            log.warn("[report] 자동 조치 대기열이 가득 차 신고(category={}, target={})를 건너뜀",
+                    event.getCategoryId(), event.getTargetId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${report.moderation.interval-ms:1000}")
+    public void process() {
+        if (!processLock.tryLock()) {
+            return;
+        }
+        try {
+            List<PendingReport> batch;
+            while (!(batch = drain()).isEmpty()) {
+                moderate(batch);
+            }
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    private void moderate(List<PendingReport> batch) {
+        // 카테고리별 대상 ID (정렬해 두면 여러 서버가 같은 행을 같은 순서로 잠근다)
+        final Map<Integer, Set<Integer>> targetIdsByCategory = batch.stream()
+                .map(PendingReport::getEvent)
+                .collect(Collectors.groupingBy(ReportCreatedEvent::getCategoryId, TreeMap::new,
+                        Collectors.mapping(ReportCreatedEvent::getTargetId, Collectors.toCollection(LinkedHashSet::new))));
+        final Set<Integer> memberIds = batch.stream()
+                .map(PendingReport::getEvent)
+                .map(ReportCreatedEvent::getReportedMemberId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                targetIdsByCategory.forEach(this::hideTargets);
+                suspendMembers(memberIds);
+            });
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("[report] 신고 {}건 자동 조치 실패, 같은 대상의 다음 신고 때 다시 판단", batch.size(), e);
+        }
+
+        final long oldestEnqueuedAt = batch.stream().mapToLong(PendingReport::getEnqueuedAt).min().orElse(System.nanoTime());
+        lagTimer.record(Duration.ofNanos(System.nanoTime() - oldestEnqueuedAt));
+    }
+
+    private void hideTargets(int categoryId, Set<Integer> targetIds) {
+        if (hideThreshold <= 0) {
+            return;
+        }
+
+        final Optional<ReportTargetTable> found = ReportTargetTable.fromCategoryId(categoryId);
+        if (found.isEmpty()) {
+            return;
+        }
+        final ReportTargetTable table = found.get();
+
+        final List<Integer> reachedIds = reportModerationMapper.countReportersByTargetIds(categoryId, targetIds).stream()
+                .filter(count -> count.getReporterCount() >= hideThreshold)
+                .map(ReportTargetCountDTO::getTargetId)
+                .sorted()
+                .collect(Collectors.toList());
+        if (reachedIds.isEmpty()) {
+            return;
+        }
+
+        // 이미 숨겨진(삭제 포함) 대상은 제외하고 잠근 뒤 처리 (댓글 수가 두 번 줄지 않도록)
+        final List<Integer> hiddenIds = reportModerationMapper.selectVisibleTargetIdsForUpdate(table, reachedIds);
+        if (hiddenIds.isEmpty()) {
+            return;
+        }
+
+        // 게시물 삭제와 같은 트랜잭션에서 파생 카운트도 함께 줄인다. (숨기기 전 공개 상태 기준)
+        if (table.isComment()) {
+            reportModerationMapper.decreaseParentCommentCounts(table, hiddenIds);
+        } else if (table == ReportTargetTable.CODING_POST) {
+            reportModerationMapper.decreaseProblemPostCounts(hiddenIds);
+        } else if (table == ReportTargetTable.ALGO_POST) {
+            reportModerationMapper.decreaseRoadmapQuestionCounts(hiddenIds);
+            reportModerationMapper.decreaseMemberProgresses(hiddenIds);
+        }
+        reportModerationMapper.hideTargets(table, hiddenIds);
+        hiddenCounter.increment(hiddenIds.size());
+
+        table.getSearchBoard().ifPresent(board ->
+                hiddenIds.forEach(postId -> eventPublisher.publishEvent(new SearchIndexEvent(board, postId))));
+        if (table == ReportTargetTable.ALGO_POST) {
+            hiddenIds.forEach(algoContentCache::evictPost);
+            algoContentCache.evictRoadmaps();
+        }
+
+        log.info("[report] 신고 누적으로 {} {}건 숨김: {}", table, hiddenIds.size(), hiddenIds);
+    }
+
+    private void suspendMembers(Set<Integer> memberIds) {
+        if (suspendThreshold <= 0 || memberIds.isEmpty()) {
+            return;
+        }
+
+        final List<Integer> suspendedIds =
+                reportModerationMapper.selectActiveMemberIdsReachingReporters(memberIds, suspendThreshold);
+        if (suspendedIds.isEmpty()) {
+            return;
+        }
+
+        reportModerationMapper.blockMembers(suspendedIds);
+        suspendedIds.forEach(memberStatusCache::evict);
+        suspendedCounter.increment(suspendedIds.size());
+
+        log.info("[report] 신고 누적으로 회원 {}명 정지: {}", suspendedIds.size(), suspendedIds);
+    }
+
+    private List<PendingReport> drain() {
+        final List<PendingReport> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        queue.drainTo(batch, batchSize);
+        return batch;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class PendingReport {
+        private final ReportCreatedEvent event;
+        private final long enqueuedAt;
+    }
+}
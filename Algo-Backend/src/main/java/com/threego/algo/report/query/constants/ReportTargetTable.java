@@ -0,0 +1,49 @@
+package com.threego.algo.report.query.constants;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/* 설명. 신고 대상 테이블 (Report_Category 의 ID 와 1:1 대응) */
+public enum ReportTargetTable {
+    STUDY_RECRUIT_POST(1, false, SearchBoard.STUDY_RECRUIT),
+    STUDY_RECRUIT_COMMENT(2, true, null),
+    STUDY_POST(3, false, null),
+    STUDY_COMMENT(4, true, null),
+    ALGO_POST(5, false, SearchBoard.ALGO),
+    ALGO_COMMENT(6, true, null),
+    CODING_POST(7, false, SearchBoard.CODING),
+    CODING_COMMENT(8, true, null),
+    CAREER_INFO_POST(9, false, SearchBoard.CAREER),
+    CAREER_INFO_COMMENT(10, true, null);
+
+    private final int categoryId;
+    private final boolean comment;
+    private final SearchBoard searchBoard;    // 검색 색인 대상 게시판 (없으면 null)
+
+    ReportTargetTable(int categoryId, boolean comment, SearchBoard searchBoard) {
+        this.categoryId = categoryId;
+        this.comment = comment;
+        this.searchBoard = searchBoard;
+    }
+
+    public int getCategoryId() {
+        return categoryId;
+    }
+
+    /* 설명. 댓글 테이블이면 true (숨김 시 게시물의 댓글 수도 함께 줄여야 함) */
+    public boolean isComment() {
+        return comment;
+    }
+
+    public Optional<SearchBoard> getSearchBoard() {
+        return Optional.ofNullable(searchBoard);
+    }
+
+    public static Optional<ReportTargetTable> fromCategoryId(int categoryId) {
+        return Arrays.stream(values())
+                .filter(table -> table.categoryId == categoryId)
+                .findFirst();
+    }
+}
@@ -1,6 +1,5 @@
 package com.threego.algo.report.query.dao;
 
-import com.threego.algo.report.query.dto.ReportContentResponseDTO;
 import com.threego.algo.report.query.dto.ReportDetailResponseDTO;
 import com.threego.algo.report.query.dto.ReportedMemberResponseDTO;
 import org.apache.ibatis.annotations.Mapper;
@@ -15,7 +14,5 @@ public interface ReportMapper {
 
     List<ReportDetailResponseDTO> selectReportedDetailsById(int memberId);
 
-    List<ReportContentResponseDTO> selectReportContentDetailsByReportId(int reportId);
-
-    Integer selectReportedMember(int categoryId, int targetId);
+    ReportDetailResponseDTO selectReportTargetByReportId(int reportId);
 }
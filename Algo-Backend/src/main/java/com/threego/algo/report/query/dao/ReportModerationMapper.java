@@ -0,0 +1,45 @@
+package com.threego.algo.report.query.dao;
+
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dto.ReportTargetCountDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface ReportModerationMapper {
+
+    /* 설명. 대상별 신고자 수 (같은 회원이 유형만 바꿔 여러 번 신고한 것은 한 번으로 센다) */
+    List<ReportTargetCountDTO> countReportersByTargetIds(@Param("categoryId") int categoryId,
+                                                         @Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 아직 공개 중인 대상 ID (숨김 처리 전 행 잠금) */
+    List<Integer> selectVisibleTargetIdsForUpdate(@Param("table") ReportTargetTable table,
+                                                  @Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 숨김 처리할 댓글 수만큼 게시물의 댓글 수 감소 (댓글 테이블만) */
+    int decreaseParentCommentCounts(@Param("table") ReportTargetTable table,
+                                    @Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 숨김 처리할 코딩 게시물 수만큼 문제의 게시물 수 감소 */
+    int decreaseProblemPostCounts(@Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 숨김 처리할 알고리즘 게시물의 문제 수만큼 로드맵 문제 수 감소 */
+    int decreaseRoadmapQuestionCounts(@Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 숨김 처리할 알고리즘 게시물에서 맞힌 문제 수만큼 회원별 진척도 감소 */
+    int decreaseMemberProgresses(@Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 대상 일괄 숨김 (VISIBILITY = 'N') */
+    int hideTargets(@Param("table") ReportTargetTable table,
+                    @Param("targetIds") Collection<Integer> targetIds);
+
+    /* 설명. 서로 다른 신고자 수가 기준 이상인 활동 중 회원 ID */
+    List<Integer> selectActiveMemberIdsReachingReporters(@Param("memberIds") Collection<Integer> memberIds,
+                                                         @Param("threshold") int threshold);
+
+    /* 설명. 회원 일괄 정지 (STATUS = 'BLOCKED') */
+    int blockMembers(@Param("memberIds") Collection<Integer> memberIds);
+}
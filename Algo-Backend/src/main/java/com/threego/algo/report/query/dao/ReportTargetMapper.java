@@ -0,0 +1,17 @@
+package com.threego.algo.report.query.dao;
+
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dto.ReportTargetDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface ReportTargetMapper {
+
+    /* 설명. 한 테이블의 신고 대상 여러 건을 한 번에 조회 */
+    List<ReportTargetDTO> selectTargetsByIds(@Param("table") ReportTargetTable table,
+                                             @Param("targetIds") Collection<Integer> targetIds);
+}
@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
+@Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,4 +24,5 @@ public class ReportDetailResponseDTO {
     int targetId;
     int reportedMemberId;
     String reported;
+    String targetContent;
 }
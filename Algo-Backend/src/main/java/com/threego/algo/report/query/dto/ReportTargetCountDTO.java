@@ -0,0 +1,16 @@
+package com.threego.algo.report.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 설명. 신고 대상별 신고자 수 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportTargetCountDTO {
+    private int targetId;
+    private int reporterCount;
+}
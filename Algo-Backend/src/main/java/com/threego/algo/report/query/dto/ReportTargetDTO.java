@@ -0,0 +1,17 @@
+package com.threego.algo.report.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 설명. 신고 대상 게시물/댓글의 작성자와 내용 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportTargetDTO {
+    private int targetId;
+    private int memberId;
+    private String content;
+}
@@ -3,45 +3,65 @@ package com.threego.algo.report.query.service;
 import com.threego.algo.report.query.dao.ReportMapper;
 import com.threego.algo.report.query.dto.ReportContentResponseDTO;
 import com.threego.algo.report.query.dto.ReportDetailResponseDTO;
+import com.threego.algo.report.query.dto.ReportTargetDTO;
 import com.threego.algo.report.query.dto.ReportedMemberResponseDTO;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
 import java.util.List;
 
 @Service
 public class AdminReportQueryServiceImpl implements AdminReportQueryService {
     private final ReportMapper reportMapper;
+    private final ReportTargetResolver reportTargetResolver;
 
-    public AdminReportQueryServiceImpl(ReportMapper reportMapper) {
+    public AdminReportQueryServiceImpl(ReportMapper reportMapper, ReportTargetResolver reportTargetResolver) {
         this.reportMapper = reportMapper;
+        this.reportTargetResolver = reportTargetResolver;
     }
 
     @Override
     public List<ReportDetailResponseDTO> findReportList() {
-        return reportMapper.selectAllReportDetails();
+        return attachTargetContents(reportMapper.selectAllReportDetails());
     }
 
     @Override
     public List<ReportDetailResponseDTO> findReportListByMemberId(int memberId) {
         List<ReportDetailResponseDTO> dto = reportMapper.selectReportDetailsById(memberId);
-        return dto;
+        return attachTargetContents(dto);
     }
 
     @Override
     public List<ReportDetailResponseDTO> findReportedListByMemberId(int memberId) {
         List<ReportDetailResponseDTO> dto = reportMapper.selectReportedDetailsById(memberId);
-        return dto;
+        return attachTargetContents(dto);
     }
 
     @Override
     public List<ReportContentResponseDTO> findDetailByReportId(int reportId) {
-        List<ReportContentResponseDTO> dto = reportMapper.selectReportContentDetailsByReportId(reportId);
-        return dto;
+        ReportDetailResponseDTO report = reportMapper.selectReportTargetByReportId(reportId);
+        if (report == null) {
+            return Collections.emptyList();
+        }
+
+        return reportTargetResolver.resolve(report.getCategoryId(), report.getTargetId())
+                .map(target -> List.of(new ReportContentResponseDTO(target.getMemberId(), target.getContent())))
+                .orElse(Collections.emptyList());
     }
 
     @Override
     public Integer findReportedMemberId(int categoryId, int targetId) {
-        Integer dto = reportMapper.selectReportedMember(categoryId, targetId);
-        return dto;
+        return reportTargetResolver.resolve(categoryId, targetId)
+                .map(ReportTargetDTO::getMemberId)
+                .orElse(null);
+    }
+
+    // 신고 목록의 대상 내용을 카테고리별 IN 쿼리로 한 번에 채움
+    private List<ReportDetailResponseDTO> attachTargetContents(List<ReportDetailResponseDTO> reports) {
+        reportTargetResolver.attachTargets(reports,
+                ReportDetailResponseDTO::getCategoryId,
+                ReportDetailResponseDTO::getTargetId,
+                (report, target) -> report.setTargetContent(target == null ? null : target.getContent()));
+        return reports;
     }
 }
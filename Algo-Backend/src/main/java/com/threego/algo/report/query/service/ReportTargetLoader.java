@@ -0,0 +1,20 @@
+package com.threego.algo.report.query.service;
+
+import com.threego.algo.report.query.dto.ReportTargetDTO;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/* 설명. 신고 대상 조회기
+ *  - 담당하는 신고 카테고리의 대상 여러 건을 한 번에 조회한다.
+ *  - 빈으로 등록하면 ReportTargetResolver 가 카테고리별로 모아 사용하므로, 신고 대상 게시판이 늘면 구현체만 추가한다.
+ */
+public interface ReportTargetLoader {
+
+    /* 설명. 담당하는 Report_Category ID 목록 */
+    Set<Integer> getCategoryIds();
+
+    /* 설명. 대상 ID -> 작성자/내용 (존재하지 않는 대상은 key 없음) */
+    Map<Integer, ReportTargetDTO> loadTargets(int categoryId, Collection<Integer> targetIds);
+}
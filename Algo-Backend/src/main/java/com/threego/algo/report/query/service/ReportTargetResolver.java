@@ -0,0 +1,76 @@
+package com.threego.algo.report.query.service;
+
+import com.threego.algo.report.query.dto.ReportTargetDTO;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/* 설명. 신고 대상(게시물/댓글) 일괄 조회
+ *  - 신고 목록을 카테고리별로 묶어 카테고리마다 IN 쿼리 한 번으로 작성자와 내용을 가져온다.
+ *    (신고 행마다 CASE 상관 서브쿼리를 돌리던 방식 대체, 쿼리 수는 목록 크기가 아닌 카테고리 수에 비례)
+ *  - 카테고리별 조회는 등록된 ReportTargetLoader 빈에 위임한다.
+ */
+@Service
+public class ReportTargetResolver {
+
+    private final Map<Integer, ReportTargetLoader> loaders = new HashMap<>();
+
+    public ReportTargetResolver(List<ReportTargetLoader> reportTargetLoaders) {
+        for (ReportTargetLoader loader : reportTargetLoaders) {
+            for (Integer categoryId : loader.getCategoryIds()) {
+                ReportTargetLoader previous = loaders.putIfAbsent(categoryId, loader);
+                if (previous != null) {
+                    throw new IllegalStateException("신고 카테고리 " + categoryId + " 의 조회기가 중복 등록되었습니다.");
+                }
+            }
+        }
+    }
+
+    /* 설명. 카테고리 ID -> (대상 ID -> 작성자/내용), 지원하지 않는 카테고리나 없는 대상은 결과에서 빠진다. */
+    public Map<Integer, Map<Integer, ReportTargetDTO>> resolve(Map<Integer, ? extends Collection<Integer>> targetIdsByCategory) {
+        Map<Integer, Map<Integer, ReportTargetDTO>> result = new HashMap<>();
+        targetIdsByCategory.forEach((categoryId, targetIds) -> {
+            ReportTargetLoader loader = loaders.get(categoryId);
+            if (loader == null || targetIds.isEmpty()) {
+                return;
+            }
+            result.put(categoryId, loader.loadTargets(categoryId, new LinkedHashSet<>(targetIds)));
+        });
+        return result;
+    }
+
+    public Optional<ReportTargetDTO> resolve(int categoryId, int targetId) {
+        return Optional.ofNullable(resolve(Map.of(categoryId, List.of(targetId)))
+                .getOrDefault(categoryId, Collections.emptyMap())
+                .get(targetId));
+    }
+
+    /* 설명. 목록 응답의 각 신고에 대상 연결 (대상이 없으면 null) */
+    public <T> void attachTargets(List<T> reports,
+                                  ToIntFunction<T> categoryIdExtractor,
+                                  ToIntFunction<T> targetIdExtractor,
+                                  BiConsumer<T, ReportTargetDTO> targetSetter) {
+        if (reports == null || reports.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Set<Integer>> targetIdsByCategory = reports.stream()
+                .collect(Collectors.groupingBy(categoryIdExtractor::applyAsInt,
+                        Collectors.mapping(targetIdExtractor::applyAsInt, Collectors.toSet())));
+        Map<Integer, Map<Integer, ReportTargetDTO>> targets = resolve(targetIdsByCategory);
+
+        reports.forEach(report -> targetSetter.accept(report, targets
+                .getOrDefault(categoryIdExtractor.applyAsInt(report), Collections.emptyMap())
+                .get(targetIdExtractor.applyAsInt(report))));
+    }
+}
@@ -0,0 +1,38 @@
+package com.threego.algo.report.query.service;
+
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dao.ReportTargetMapper;
+import com.threego.algo.report.query.dto.ReportTargetDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/* 설명. 기본 신고 대상 조회기 - ReportTargetTable 의 게시물/댓글 테이블을 IN 쿼리 한 번으로 조회 */
+@Component
+@RequiredArgsConstructor
+public class TableReportTargetLoader implements ReportTargetLoader {
+
+    private final ReportTargetMapper reportTargetMapper;
+
+    @Override
+    public Set<Integer> getCategoryIds() {
+        return Arrays.stream(ReportTargetTable.values())
+                .map(ReportTargetTable::getCategoryId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<Integer, ReportTargetDTO> loadTargets(int categoryId, Collection<Integer> targetIds) {
+        ReportTargetTable table = ReportTargetTable.fromCategoryId(categoryId)
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 신고 카테고리입니다: " + categoryId));
+
+        return reportTargetMapper.selectTargetsByIds(table, targetIds).stream()
+                .collect(Collectors.toMap(ReportTargetDTO::getTargetId, Function.identity()));
+    }
+}
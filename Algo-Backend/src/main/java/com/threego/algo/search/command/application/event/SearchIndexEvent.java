@@ -0,0 +1,13 @@
+package com.threego.algo.search.command.application.event;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. 게시물 생성/수정/삭제 후 검색 색인 갱신 요청 (커밋 이후 DB의 최신 상태로 다시 색인) */
+@Getter
+@AllArgsConstructor
+public class SearchIndexEvent {
+    private final SearchBoard board;
+    private final int postId;
+}
@@ -0,0 +1,11 @@
+package com.threego.algo.search.command.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설명. 회원 닉네임 변경 후 해당 회원이 작성한 게시물 재색인 요청 (닉네임도 검색 필드이므로) */
+@Getter
+@AllArgsConstructor
+public class SearchMemberIndexEvent {
+    private final int memberId;
+}
@@ -0,0 +1,24 @@
+package com.threego.algo.search.command.domain.aggregate.enums;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/* 설명. 검색 대상 게시판과 게시판별 검색 필드 (기존 LIKE 검색 범위와 동일하게 유지) */
+@Getter
+public enum SearchBoard {
+    ALGO("title", "content"),
+    CODING("title", "content", "nickname"),
+    CAREER("title"),
+    STUDY_RECRUIT("title", "content");
+
+    private final String[] fields;
+
+    SearchBoard(String... fields) {
+        this.fields = fields;
+    }
+
+    public boolean searchesNickname() {
+        return Arrays.asList(fields).contains("nickname");
+    }
+}
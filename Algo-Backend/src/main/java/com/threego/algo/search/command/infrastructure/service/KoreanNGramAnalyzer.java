@@ -0,0 +1,24 @@
+package com.threego.algo.search.command.infrastructure.service;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/* 설명. 한글 형태소 분석 없이 부분 일치 검색을 지원하기 위한 bigram 분석기
+ *  - "알고리즘" -> 알고, 고리, 리즘 (+ 원문 토큰 보존)
+ *  - 기존 LIKE '%키워드%' 검색처럼 단어 중간 일치도 찾을 수 있다.
+ */
+public class KoreanNGramAnalyzer extends Analyzer {
+
+    public static final int GRAM_SIZE = 2;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        StandardTokenizer source = new StandardTokenizer();
+        TokenStream result = new LowerCaseFilter(source);
+        result = new NGramTokenFilter(result, GRAM_SIZE, GRAM_SIZE, true);
+        return new TokenStreamComponents(source, result);
+    }
+}
@@ -0,0 +1,286 @@
+package com.threego.algo.search.command.infrastructure.service;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dto.SearchDocumentDTO;
+import com.threego.algo.search.query.dto.SearchHitDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/* 설명. 게시판 통합 역색인 (Lucene)
+ *  - 문서 키: "{게시판}:{게시물 ID}" / 공개 게시물만 색인한다.
+ *  - search.index.path 가 없으면 메모리에 두고, 기동 시 DB에서 재구축한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex implements DisposableBean {
+
+    private static final String KEY = "key";
+    private static final String BOARD = "board";
+    private static final String POST_ID = "postId";
+    private static final String SCOPE_ID = "scopeId";
+
+    // 필드별 가중치 (제목 일치를 우선 노출)
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            "title", 3.0f,
+            "nickname", 2.0f,
+            "content", 1.0f
+    );
+
+    // 너무 긴 검색어로 BooleanQuery 절 수가 폭증하지 않도록 제한
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final Analyzer analyzer = new KoreanNGramAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 재구축이 끝나기 전에는 검색 결과가 불완전하므로 호출부가 기존 LIKE 검색을 쓰도록 한다.
+    private volatile boolean ready = false;
+
+    public PostSearchIndex(@Value("${search.index.path:}") String indexPath) {
+        try {
+            this.directory = indexPath.isBlank()
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(indexPath));
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 색인을 열 수 없습니다: " + indexPath, e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /* 설명. 재구축 전 기존 색인 전체 삭제 (재구축이 끝날 때까지 ready = false) */
+    public void clear() {
+        ready = false;
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void upsert(SearchBoard board, SearchDocumentDTO source) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(board, source.getPostId()), Field.Store.NO));
+        document.add(new StringField(BOARD, board.name(), Field.Store.NO));
+        document.add(new StoredField(POST_ID, source.getPostId()));
+        document.add(new IntPoint(POST_ID, source.getPostId()));
+        if (source.getScopeId() != null) {
+            document.add(new StringField(SCOPE_ID, String.valueOf(source.getScopeId()), Field.Store.NO));
+        }
+        addText(document, "title", source.getTitle());
+        addText(document, "content", source.getContent());
+        addText(document, "nickname", source.getNickname());
+
+        try {
+            writer.updateDocument(new Term(KEY, key(board, source.getPostId())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(SearchBoard board, int postId) {
+        try {
+            writer.deleteDocuments(new Term(KEY, key(board, postId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* 설명. 변경 사항을 검색에 반영 (NRT reader 갱신) */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /* 설명. 색인으로 처리할 수 있는 검색어인지 (bigram 이 하나 이상 나와야 한다 - 한 글자 검색어 등은 불가) */
+    public boolean isSearchable(String keyword) {
+        return !queryTerms(keyword).isEmpty();
+    }
+
+    /* 설명. 점수(BM25) 순으로 게시물 ID 조회
+     *  - 색인이 준비되지 않았거나 색인으로 처리할 수 없는 검색어(한 글자 등)면 empty
+     */
+    public Optional<List<SearchHitDTO>> search(SearchBoard board, String keyword, int limit) {
+        return find(board, keyword, null, null, limit, (storedFields, scoreDoc) ->
+                new SearchHitDTO(board, postId(storedFields, scoreDoc), scoreDoc.score));
+    }
+
+    /* 설명. 게시판 목록 검색용 게시물 ID 조회
+     *  - 문제/로드맵(scopeId)과 커서(lastSeenId 미만) 조건도 색인에서 적용한다.
+     *  - 일치하는 게시물이 limit 건을 넘으면 empty: IN 목록이 잘리면 결과가 누락되므로 호출부가 LIKE 검색을 쓴다.
+     */
+    public Optional<List<Integer>> findPostIds(SearchBoard board, String keyword, Integer scopeId,
+                                               Integer lastSeenId, int limit) {
+        return find(board, keyword, scopeId, lastSeenId, limit + 1, PostSearchIndex::postId)
+                .filter(postIds -> postIds.size() <= limit);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private <T> Optional<List<T>> find(SearchBoard board, String keyword, Integer scopeId, Integer lastSeenId,
+                                       int limit, HitMapper<T> hitMapper) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        Set<String> terms = queryTerms(keyword);
+        if (terms.isEmpty()) {
+            return Optional.empty();
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(buildQuery(board, terms, scopeId, lastSeenId), limit);
+            StoredFields storedFields = searcher.storedFields();
+
+            List<T> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(hitMapper.map(storedFields, scoreDoc));
+            }
+            return Optional.of(hits);
+        } catch (IOException e) {
+            log.warn("검색 색인 조회 실패 - board: {}, keyword: {}", board, keyword, e);
+            return Optional.empty();
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("검색 색인 searcher 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    // 게시판(+ 문제/로드맵, 커서) 필터 + (필드별로 모든 bigram 일치) 중 하나 이상 일치
+    private Query buildQuery(SearchBoard board, Set<String> terms, Integer scopeId, Integer lastSeenId) {
+        BooleanQuery.Builder fieldQueries = new BooleanQuery.Builder();
+        for (String field : board.getFields()) {
+            BooleanQuery.Builder allTerms = new BooleanQuery.Builder();
+            for (String term : terms) {
+                allTerms.add(new TermQuery(new Term(field, term)), BooleanClause.Occur.MUST);
+            }
+            fieldQueries.add(new BoostQuery(allTerms.build(), FIELD_BOOSTS.getOrDefault(field, 1.0f)),
+                    BooleanClause.Occur.SHOULD);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(BOARD, board.name())), BooleanClause.Occur.FILTER)
+                .add(fieldQueries.build(), BooleanClause.Occur.MUST);
+        if (scopeId != null) {
+            query.add(new TermQuery(new Term(SCOPE_ID, String.valueOf(scopeId))), BooleanClause.Occur.FILTER);
+        }
+        if (lastSeenId != null) {
+            query.add(IntPoint.newRangeQuery(POST_ID, Integer.MIN_VALUE, lastSeenId - 1), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    // 색인 시 보존된 원문 토큰은 부분 일치가 되지 않으므로 bigram만 검색어로 사용
+    private Set<String> queryTerms(String keyword) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (keyword == null || keyword.isBlank()) {
+            return terms;
+        }
+
+        String text = keyword.length() > MAX_KEYWORD_LENGTH ? keyword.substring(0, MAX_KEYWORD_LENGTH) : keyword;
+        try (TokenStream tokenStream = analyzer.tokenStream("title", text)) {
+            CharTermAttribute term = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                if (term.length() == KoreanNGramAnalyzer.GRAM_SIZE) {
+                    terms.add(term.toString());
+                }
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static int postId(StoredFields storedFields, ScoreDoc scoreDoc) throws IOException {
+        return storedFields.document(scoreDoc.doc).getField(POST_ID).numericValue().intValue();
+    }
+
+    private static String key(SearchBoard board, int postId) {
+        return board.name() + ":" + postId;
+    }
+
+    @FunctionalInterface
+    private interface HitMapper<T> {
+        T map(StoredFields storedFields, ScoreDoc scoreDoc) throws IOException;
+    }
+}
@@ -0,0 +1,105 @@
+package com.threego.algo.search.command.infrastructure.service;
+
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.application.event.SearchMemberIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dao.SearchDocumentMapper;
+import com.threego.algo.search.query.dto.SearchDocumentDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/* 설명. 검색 색인 동기화
+ *  - 기동 시 공개 게시물 전체를 청크 단위로 재구축
+ *  - 게시물 생성/수정/삭제 커밋 이후 해당 게시물만 다시 색인
+ *  - 닉네임 변경 커밋 이후 해당 회원의 게시물을 다시 색인
+ */
+@Slf4j
+@Component
+public class SearchIndexer {
+
+    private final SearchDocumentMapper searchDocumentMapper;
+    private final PostSearchIndex postSearchIndex;
+    private final int rebuildChunkSize;
+
+    public SearchIndexer(SearchDocumentMapper searchDocumentMapper,
+                         PostSearchIndex postSearchIndex,
+                         @Value("${search.index.rebuild-chunk-size:500}") int rebuildChunkSize) {
+        this.searchDocumentMapper = searchDocumentMapper;
+        this.postSearchIndex = postSearchIndex;
+        this.rebuildChunkSize = rebuildChunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        postSearchIndex.clear();
+
+        int total = 0;
+        for (SearchBoard board : SearchBoard.values()) {
+            int lastSeenId = 0;
+            List<SearchDocumentDTO> chunk;
+            do {
+                chunk = searchDocumentMapper.selectDocuments(board, lastSeenId, rebuildChunkSize);
+                for (SearchDocumentDTO document : chunk) {
+                    postSearchIndex.upsert(board, document);
+                }
+                if (!chunk.isEmpty()) {
+                    lastSeenId = chunk.get(chunk.size() - 1).getPostId();
+                }
+                total += chunk.size();
+            } while (chunk.size() == rebuildChunkSize);
+        }
+
+        postSearchIndex.commit();
+        postSearchIndex.refresh();
+        postSearchIndex.markReady();
+        log.info("검색 색인 재구축 완료 - {}건, {}ms", total, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(SearchIndexEvent event) {
+        // 색인 실패가 이미 커밋된 요청을 실패시키지 않도록 로그만 남긴다 (다음 재구축 시 복구)
+        try {
+            SearchDocumentDTO document = searchDocumentMapper.selectDocument(event.getBoard(), event.getPostId());
+            if (document == null) {
+                postSearchIndex.delete(event.getBoard(), event.getPostId());
+            } else {
+                postSearchIndex.upsert(event.getBoard(), document);
+            }
+            postSearchIndex.refresh();
+        } catch (Exception e) {
+            log.warn("검색 색인 갱신 실패 - board: {}, postId: {}", event.getBoard(), event.getPostId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(SearchMemberIndexEvent event) {
+        // 닉네임을 검색하는 게시판만 해당 회원의 게시물을 다시 색인
+        try {
+            for (SearchBoard board : SearchBoard.values()) {
+                if (!board.searchesNickname()) {
+                    continue;
+                }
+                for (SearchDocumentDTO document : searchDocumentMapper.selectDocumentsByMemberId(board, event.getMemberId())) {
+                    postSearchIndex.upsert(board, document);
+                }
+            }
+            postSearchIndex.refresh();
+        } catch (Exception e) {
+            log.warn("검색 색인 갱신 실패 - memberId: {}", event.getMemberId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:60000}")
+    public void commit() {
+        postSearchIndex.commit();
+    }
+}
@@ -0,0 +1,50 @@
+package com.threego.algo.search.query.controller;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dto.SearchHitDTO;
+import com.threego.algo.search.query.service.PostSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Search API", description = "게시판 통합 검색 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/search")
+public class SearchQueryController {
+
+    private final PostSearchService postSearchService;
+
+    @Operation(
+            summary = "게시물 키워드 검색",
+            description = "게시판(ALGO, CODING, CAREER, STUDY_RECRUIT)별로 키워드와 일치하는 게시물 ID를 관련도 순으로 조회합니다."
+    )
+    @GetMapping("/posts")
+    public ResponseEntity<List<SearchHitDTO>> searchPosts(
+            @RequestParam SearchBoard board,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(postSearchService.search(board, keyword, size));
+    }
+
+    // 한 글자 검색어 등 색인으로 처리할 수 없는 검색어
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidKeyword(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    // 기동 직후 색인 재구축 중
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleIndexNotReady(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+}
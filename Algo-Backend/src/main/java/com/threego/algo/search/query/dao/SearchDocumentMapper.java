@@ -0,0 +1,25 @@
+package com.threego.algo.search.query.dao;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dto.SearchDocumentDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface SearchDocumentMapper {
+
+    /* 설명. 색인 재구축용 - 공개 게시물을 ID 순으로 청크 조회 */
+    List<SearchDocumentDTO> selectDocuments(@Param("board") SearchBoard board,
+                                            @Param("lastSeenId") int lastSeenId,
+                                            @Param("size") int size);
+
+    /* 설명. 단건 색인 갱신용 - 비공개/삭제된 게시물이면 null */
+    SearchDocumentDTO selectDocument(@Param("board") SearchBoard board,
+                                     @Param("postId") int postId);
+
+    /* 설명. 닉네임 변경 시 재색인용 - 해당 회원의 공개 게시물 */
+    List<SearchDocumentDTO> selectDocumentsByMemberId(@Param("board") SearchBoard board,
+                                                      @Param("memberId") int memberId);
+}
@@ -0,0 +1,20 @@
+package com.threego.algo.search.query.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/* 설명. 색인 대상 게시물 (공개 상태인 게시물만 조회된다) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocumentDTO {
+    private int postId;
+    private String title;
+    private String content;
+    private String nickname;
+    // 게시판 목록 필터 (코딩: 문제 ID, 알고리즘: 로드맵 ID, 그 외 null)
+    private Integer scopeId;
+}
@@ -0,0 +1,15 @@
+package com.threego.algo.search.query.dto;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private SearchBoard board;
+    private int postId;
+    private float score;
+}
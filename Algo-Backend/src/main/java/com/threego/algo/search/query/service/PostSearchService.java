@@ -0,0 +1,18 @@
+package com.threego.algo.search.query.service;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dto.SearchHitDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PostSearchService {
+
+    List<SearchHitDTO> search(SearchBoard board, String keyword, Integer size);
+
+    /* 설명. 게시판 목록 검색용 게시물 ID 목록
+     *  - scopeId(코딩: 문제 ID, 알고리즘: 로드맵 ID)와 커서(lastSeenId)는 색인에서 먼저 거른다.
+     *  - empty면 색인을 사용할 수 없거나 일치 건수가 상한(search.max-hits)을 넘은 경우이므로 기존 LIKE 검색으로 처리한다.
+     */
+    Optional<List<Integer>> findPostIds(SearchBoard board, String keyword, Integer scopeId, Integer lastSeenId);
+}
@@ -0,0 +1,44 @@
+package com.threego.algo.search.query.service;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.command.infrastructure.service.PostSearchIndex;
+import com.threego.algo.search.query.dto.SearchHitDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class PostSearchServiceImpl implements PostSearchService {
+    private static final int DEFAULT_SIZE = 20;
+
+    private final PostSearchIndex postSearchIndex;
+    private final int maxHits;
+
+    public PostSearchServiceImpl(PostSearchIndex postSearchIndex,
+                                 @Value("${search.max-hits:1000}") int maxHits) {
+        this.postSearchIndex = postSearchIndex;
+        this.maxHits = maxHits;
+    }
+
+    @Override
+    public List<SearchHitDTO> search(SearchBoard board, String keyword, Integer size) {
+        if (!postSearchIndex.isSearchable(keyword)) {
+            throw new IllegalArgumentException("검색어는 두 글자 이상 입력해주세요.");
+        }
+
+        int limit = (size == null || size <= 0) ? DEFAULT_SIZE : Math.min(size, maxHits);
+        return postSearchIndex.search(board, keyword, limit)
+                .orElseThrow(() -> new IllegalStateException("검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Override
+    public Optional<List<Integer>> findPostIds(SearchBoard board, String keyword, Integer scopeId, Integer lastSeenId) {
+        if (keyword == null || keyword.isBlank()) {
+            return Optional.empty();
+        }
+
+        return postSearchIndex.findPostIds(board, keyword, scopeId, lastSeenId, maxHits);
+    }
+}
@@ -49,7 +49,7 @@ public class StudyCommentServiceImpl implements StudyCommentService {
             studyCommentRepository.save(comment);
 
             // 4. 게시물 댓글 수 증가
-            post.increaseCommentCount();
+            studyPostRepository.increaseCommentCount(postId);
 
             return ResponseEntity.status(HttpStatus.CREATED).body("댓글이 성공적으로 등록되었습니다.");
 
@@ -104,9 +104,7 @@ public class StudyCommentServiceImpl implements StudyCommentService {
             comment.softDelete();
 
             // 4. 게시물 댓글 수 감소
-            StudyPost post = studyPostRepository.findById(comment.getPostId())
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시물입니다."));
-            post.decreaseCommentCount();
+            studyPostRepository.decreaseCommentCount(comment.getPostId());
 
             return ResponseEntity.ok("댓글이 성공적으로 삭제되었습니다.");
 
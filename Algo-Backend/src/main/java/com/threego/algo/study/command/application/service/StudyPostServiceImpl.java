@@ -1,5 +1,8 @@
 package com.threego.algo.study.command.application.service;
 
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import com.threego.algo.common.service.S3ImageUploader;
 import com.threego.algo.common.service.S3Service;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.aggregate.MemberRole;
@@ -19,17 +22,19 @@ import com.threego.algo.study.command.domain.repository.StudyMemberRepository;
 import com.threego.algo.study.command.domain.repository.StudyPostImageRepository;
 import com.threego.algo.study.command.domain.repository.StudyPostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,9 +46,23 @@ public class StudyPostServiceImpl implements StudyPostService {
     private final StudyMemberRepository studyMemberRepository;
     private final MemberRoleRepository memberRoleRepository;
     private final S3Service s3Service;
+    private final S3ImageUploader s3ImageUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /* 설명. 이미지는 트랜잭션 밖에서 먼저 병렬 업로드하고, DB 저장이 실패하면 업로드한 이미지를 지운다. */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudyPostCreateResponseDTO createPost(StudyPostRequestDTO requestDto) {
-        // 1. 게시물 저장
+        // 1. 이미지 업로드 (study-posts 폴더에 저장)
+        List<String> imageUrls = s3ImageUploader.uploadAll(requestDto.getImages(), "study-posts");
+
+        return s3ImageUploader.compensateOnFailure(imageUrls, () -> transactionTemplate.execute(status ->
+                savePost(requestDto, imageUrls)));
+    }
+
+    private StudyPostCreateResponseDTO savePost(StudyPostRequestDTO requestDto, List<String> imageUrls) {
+        // 2. 게시물 저장
         StudyPost post = StudyPost.builder()
                 .studyId(requestDto.getStudyId())
                 .memberId(requestDto.getMemberId())
@@ -56,30 +75,18 @@ public class StudyPostServiceImpl implements StudyPostService {
 
         StudyPost savedPost = studyPostRepository.save(post);
 
-        // 2. 이미지 업로드 및 저장
-        List<String> imageUrls = new ArrayList<>();
-        if (requestDto.getImages() != null && !requestDto.getImages().isEmpty()) {
-            for (MultipartFile image : requestDto.getImages()) {
-                if (!image.isEmpty()) {
-                    // 이미지 파일 유효성 검사
-                    s3Service.validateImageFile(image);
-
-                    // S3에 업로드 (study-posts 폴더에 저장)
-                    String imageUrl = s3Service.uploadStudyPostImage(image);
-
-                    // DB에 저장
-                    StudyPostImage postImage = StudyPostImage.builder()
+        // 3. 이미지 저장
+        if (!imageUrls.isEmpty()) {
+            studyPostImageRepository.saveAll(imageUrls.stream()
+                    .map(imageUrl -> StudyPostImage.builder()
                             .postId(savedPost.getId())
                             .imageUrl(imageUrl)
-                            .build();
-                    studyPostImageRepository.save(postImage);
-
-                    imageUrls.add(imageUrl);
-                }
-            }
+                            .build())
+                    .collect(Collectors.toList()));
+            eventPublisher.publishEvent(new PostImagesSavedEvent(ImageBoard.STUDY, savedPost.getId()));
         }
 
-        // 3. 응답 생성
+        // 4. 응답 생성
         return StudyPostCreateResponseDTO.builder()
                 .id(savedPost.getId())
                 .studyId(savedPost.getStudyId())
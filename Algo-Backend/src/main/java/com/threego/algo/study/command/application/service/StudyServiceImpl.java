@@ -9,20 +9,18 @@ import com.threego.algo.study.command.domain.aggregate.StudyMember;
 import com.threego.algo.study.command.domain.aggregate.enums.StudyRole;
 import com.threego.algo.study.command.domain.repository.StudyMemberRepository;
 import com.threego.algo.study.command.domain.repository.StudyRepository;
-import com.threego.algo.studyrecruit.command.application.service.StudyRecruitPostService;
+import com.threego.algo.study.query.dao.StudyMemberMapper;
 import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitPost;
 import com.threego.algo.studyrecruit.command.domain.aggregate.enums.RecruitStatus;
 import com.threego.algo.studyrecruit.command.domain.repository.StudyRecruitPostRepository;
-import com.threego.algo.studyrecruit.query.dto.StudyRecruitMemberDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,7 +31,7 @@ public class StudyServiceImpl implements StudyService {
     private final StudyRepository studyRepository;
     private final StudyMemberRepository studyMemberRepository;
     private final StudyRecruitPostRepository studyRecruitPostRepository;
-    private final StudyRecruitPostService studyRecruitPostService;
+    private final StudyMemberMapper studyMemberMapper;
 
     /* 설명. 스터디 생성 */
     @Override
@@ -54,13 +52,7 @@ public class StudyServiceImpl implements StudyService {
                 return ResponseEntity.badRequest().body("이미 스터디가 생성된 모집글입니다.");
             }
 
-            // 4. MyBatis로 참가 신청자 목록 조회 후 승인된 멤버 필터링
-            List<StudyRecruitMemberDTO> allApplicants = studyRecruitPostService.findStudyRecruitMembers(postId);  // request.getRecruitPostId() → postId
-            List<StudyRecruitMemberDTO> approvedApplicants = allApplicants.stream()
-                    .filter(applicant -> "APPROVED".equals(applicant.getStatus()))
-                    .collect(Collectors.toList());
-
-            // 5. 스터디 그룹 생성
+            // 4. 스터디 그룹 생성
             Study study = new Study(
                     postId,  // request.getRecruitPostId() → postId
                     request.getName(),
@@ -70,26 +62,21 @@ public class StudyServiceImpl implements StudyService {
             );
             Study savedStudy = studyRepository.save(study);
 
-            // 6. 스터디 멤버 추가 (작성자를 리더로)
+            // 5. 스터디 멤버 추가 (작성자를 리더로)
             StudyMember leader = new StudyMember(savedStudy, recruitPost.getMember(), StudyRole.LEADER);
             studyMemberRepository.save(leader);
 
-            // 7. 승인된 신청자들을 멤버로 추가
-            for (StudyRecruitMemberDTO approvedApplicant : approvedApplicants) {
-                // Member 엔티티 조회 (간단한 조회이므로 JPA 사용)
-                Member member = memberRepository.findById(Math.toIntExact(approvedApplicant.getMemberId()))
-                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + approvedApplicant.getMemberId()));
-
-                StudyMember studyMember = new StudyMember(savedStudy, member, StudyRole.MEMBER);
-                studyMemberRepository.save(studyMember);
-            }
+            // 6. 승인된 신청자들을 멤버로 일괄 추가 (승인 필터링 + INSERT 를 SQL 한 번으로 처리)
+            int approvedCount = studyMemberMapper.insertApprovedApplicantsAsMembers(savedStudy.getId(), postId);
 
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body("스터디 그룹이 성공적으로 생성되었습니다. (멤버 " + (approvedApplicants.size() + 1) + "명)");
+                    .body("스터디 그룹이 성공적으로 생성되었습니다. (멤버 " + (approvedCount + 1) + "명)");
 
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
+            // 예외를 응답으로 바꿔 반환하므로 스터디/리더만 커밋되지 않도록 명시적으로 롤백
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("스터디 생성 중 오류가 발생했습니다.");
         }
@@ -3,11 +3,13 @@ package com.threego.algo.study.command.domain.aggregate;
 import com.threego.algo.common.util.DateTimeUtils;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+@DynamicUpdate
 @Entity
 @Table(name = "Study_Post")
 @Getter
@@ -66,16 +68,6 @@ public class StudyPost {
         this.updatedAt = DateTimeUtils.nowDateTime();
     }
 
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
-
     public void softDelete() {
         this.visibility = "N";
         this.updatedAt = DateTimeUtils.nowDateTime();
@@ -2,7 +2,18 @@ package com.threego.algo.study.command.domain.repository;
 
 import com.threego.algo.study.command.domain.aggregate.StudyPost;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StudyPostRepository extends JpaRepository<StudyPost, Integer> {
 
-}
\ No newline at end of file
+    // 댓글 수는 DB 에서 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyPost p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int increaseCommentCount(@Param("id") int id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyPost p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("id") int id);
+}
@@ -28,11 +28,13 @@ public class AdminStudyPostQueryController {
     @GetMapping("/posts/hidden")
     public ResponseEntity<List<StudyPostDTO>> findHiddenPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId) {
 
         StudyPostSearchDTO searchDto = StudyPostSearchDTO.builder()
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .build();
 
         List<StudyPostDTO> posts = studyPostQueryServiceImpl.findAllHiddenStudyPosts(searchDto);
@@ -56,14 +58,22 @@ public class AdminStudyPostQueryController {
     @GetMapping("/comments/hidden")
     public ResponseEntity<List<StudyCommentDTO>> findHiddenComments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId) {
 
         StudyPostSearchDTO searchDto = StudyPostSearchDTO.builder()
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .build();
 
         List<StudyCommentDTO> comments = studyPostQueryServiceImpl.findAllHiddenStudyComments(searchDto);
         return ResponseEntity.ok(comments);
     }
+
+    // OFFSET 조회는 MAX_OFFSET_PAGE 까지만 허용, 그 이후 페이지는 lastSeenId 로 조회하라고 400 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidPaging(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
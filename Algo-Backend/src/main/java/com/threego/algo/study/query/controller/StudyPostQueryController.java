@@ -22,18 +22,20 @@ public class StudyPostQueryController {
 
     @Operation(
             summary = "스터디 게시물 목록 조회",
-            description = "스터디 그룹의 게시물 목록을 페이징으로 조회합니다."
+            description = "스터디 그룹의 게시물 목록을 페이징으로 조회합니다. lastSeenId를 전달하면 해당 게시물 이후부터 조회합니다."
     )
     @GetMapping("/{studyId}/posts")
     public ResponseEntity<List<StudyPostDTO>> findPosts(
             @PathVariable int studyId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId) {
 
         StudyPostSearchDTO searchDto = StudyPostSearchDTO.builder()
                 .studyId(studyId)
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .build();
 
         List<StudyPostDTO> posts = studyPostQueryService.findAllStudyPosts(searchDto);
@@ -50,6 +52,9 @@ public class StudyPostQueryController {
         return ResponseEntity.ok(postDetail);
     }
 
-
-
+    // OFFSET 조회는 MAX_OFFSET_PAGE 까지만 허용, 그 이후 페이지는 lastSeenId 로 조회하라고 400 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidPaging(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
 }
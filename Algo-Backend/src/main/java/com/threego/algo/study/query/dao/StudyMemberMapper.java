@@ -2,6 +2,7 @@ package com.threego.algo.study.query.dao;
 
 import com.threego.algo.study.query.dto.StudyMemberDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -10,4 +11,7 @@ public interface StudyMemberMapper {
     /* 설명. 스터디 멤버 목록 조회 */
     List<StudyMemberDTO> selectAllStudyMember(int studyId);
 
+    /* 설명. 모집글의 승인된 신청자를 스터디 멤버(MEMBER)로 일괄 등록, 등록된 인원 수 반환 */
+    int insertApprovedApplicantsAsMembers(@Param("studyId") int studyId, @Param("postId") int postId);
+
 }
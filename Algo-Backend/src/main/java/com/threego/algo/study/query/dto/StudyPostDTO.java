@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Getter
 @Builder
@@ -20,4 +21,7 @@ public class StudyPostDTO {
     private String createdAt;
     private String updatedAt;
     private String visibility;
+    // 첫 번째 이미지의 썸네일 URL (이미지가 없으면 null)
+    @Setter
+    private String thumbnailUrl;
 }
\ No newline at end of file
@@ -5,8 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -23,6 +25,7 @@ public class StudyPostDetailDTO {
     private String createdAt;
     private String updatedAt;
     private String visibility;
+    @Setter
     private List<PostImageInfo> images;
 
     @Getter
@@ -33,5 +36,7 @@ public class StudyPostDetailDTO {
         private int imageId;
         private String imageUrl;
         private String createdAt;
+        // 너비 -> 썸네일 URL (생성 전이면 원본 URL)
+        private Map<Integer, String> thumbnailUrls;
     }
 }
\ No newline at end of file
@@ -10,8 +10,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class StudyPostSearchDTO {
+    // OFFSET 방식은 앞쪽 몇 페이지까지만 허용하고, 그 이후는 lastSeenId(커서)로 조회한다.
+    public static final int MAX_OFFSET_PAGE = 50;
+
     private int studyId;
     private int page;
     private int size;
     private int offset;  // MyBatis에서 자동 계산될 값
+    private Integer lastSeenId;  // 이전 페이지 마지막 항목의 ID (있으면 seek 방식으로 조회)
+
+    public boolean isSeekMode() {
+        return lastSeenId != null;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.threego.algo.study.query.service;
 
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.service.ImageThumbnails;
+import com.threego.algo.common.service.PostImageLoader;
 import com.threego.algo.study.query.dao.StudyPostMapper;
 import com.threego.algo.study.query.dto.StudyCommentDTO;
 import com.threego.algo.study.query.dto.StudyPostDTO;
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,15 +21,18 @@ import java.util.List;
 public class StudyPostQueryServiceImpl implements StudyPostQueryService {
 
     private final StudyPostMapper studyPostMapper;
+    private final PostImageLoader postImageLoader;
+    private final ImageThumbnails imageThumbnails;
 
     @Override
     public List<StudyPostDTO> findAllStudyPosts(StudyPostSearchDTO searchDto) {
-        return studyPostMapper.selectAllStudyPosts(searchDto);
+        validatePaging(searchDto);
+        return withThumbnails(studyPostMapper.selectAllStudyPosts(searchDto));
     }
 
     @Override
     public StudyPostDetailDTO findStudyPostDetail(int postId) {
-        return studyPostMapper.selectStudyPostDetail(postId);
+        return withImages(studyPostMapper.selectStudyPostDetail(postId));
     }
 
     @Override
@@ -35,18 +42,44 @@ public class StudyPostQueryServiceImpl implements StudyPostQueryService {
 
     @Override
     public List<StudyPostDTO> findAllHiddenStudyPosts(StudyPostSearchDTO searchDto) {
-        return studyPostMapper.selectAllHiddenStudyPosts(searchDto);
+        validatePaging(searchDto);
+        return withThumbnails(studyPostMapper.selectAllHiddenStudyPosts(searchDto));
     }
 
     @Override
     public StudyPostDetailDTO findHiddenStudyPostDetail(int postId) {
-        return studyPostMapper.selectHiddenStudyPostDetail(postId);
+        return withImages(studyPostMapper.selectHiddenStudyPostDetail(postId));
     }
 
     @Override
     public List<StudyCommentDTO> findAllHiddenStudyComments(StudyPostSearchDTO searchDto) {
+        validatePaging(searchDto);
         return studyPostMapper.selectAllHiddenStudyComments(searchDto);
     }
 
+    // 목록의 게시물 이미지를 IN 쿼리 한 번으로 가져와 대표 썸네일 연결
+    private List<StudyPostDTO> withThumbnails(List<StudyPostDTO> posts) {
+        postImageLoader.attachImages(ImageBoard.STUDY, posts, StudyPostDTO::getId,
+                (post, images) -> post.setThumbnailUrl(imageThumbnails.listThumbnailUrl(images)));
+        return posts;
+    }
+
+    private StudyPostDetailDTO withImages(StudyPostDetailDTO detail) {
+        if (detail != null) {
+            detail.setImages(postImageLoader.loadImages(ImageBoard.STUDY, detail.getId()).stream()
+                    .map(image -> new StudyPostDetailDTO.PostImageInfo(
+                            image.getImageId(), image.getImageUrl(), image.getCreatedAt(),
+                            imageThumbnails.thumbnailUrls(image)))
+                    .collect(Collectors.toList()));
+        }
+        return detail;
+    }
 
+    /* 설명. OFFSET 방식은 MAX_OFFSET_PAGE까지만 허용 (깊은 페이지는 lastSeenId로 seek 조회) */
+    private void validatePaging(StudyPostSearchDTO searchDto) {
+        if (!searchDto.isSeekMode() && searchDto.getPage() > StudyPostSearchDTO.MAX_OFFSET_PAGE) {
+            throw new IllegalArgumentException(
+                    "페이지 번호는 " + StudyPostSearchDTO.MAX_OFFSET_PAGE + " 이하만 가능합니다. 이후 페이지는 lastSeenId로 조회해주세요.");
+        }
+    }
 }
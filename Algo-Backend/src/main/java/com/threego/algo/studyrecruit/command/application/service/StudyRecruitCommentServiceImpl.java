@@ -73,8 +73,7 @@ public class StudyRecruitCommentServiceImpl implements StudyRecruitCommentServic
             studyRecruitCommentRepository.save(comment);
 
             // 6. 스터디 모집 게시물 댓글 수 증가
-            studyRecruitPost.incrementCommentCount();
-            studyRecruitPostRepository.save(studyRecruitPost);
+            studyRecruitPostRepository.incrementCommentCount(studyRecruitPost.getId());
 
             return ResponseEntity.status(HttpStatus.CREATED).body("댓글이 성공적으로 등록되었습니다.");
 
@@ -125,9 +124,7 @@ public class StudyRecruitCommentServiceImpl implements StudyRecruitCommentServic
             studyRecruitCommentRepository.save(comment);
 
             // 4. 스터디 모집 게시물 댓글 수 감소
-            StudyRecruitPost post = comment.getStudyRecruitPost();
-            post.decrementCommentCount();
-            studyRecruitPostRepository.save(post);
+            studyRecruitPostRepository.decrementCommentCount(comment.getStudyRecruitPost().getId());
 
 
             return ResponseEntity.ok("댓글이 성공적으로 삭제되었습니다.");
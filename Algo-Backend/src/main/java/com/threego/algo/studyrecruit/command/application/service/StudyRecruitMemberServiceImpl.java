@@ -1,17 +1,18 @@
 package com.threego.algo.studyrecruit.command.application.service;
 
-import com.threego.algo.member.command.domain.aggregate.Member;
-import com.threego.algo.member.command.domain.repository.MemberRepository;
 import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitMember;
 import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitPost;
+import com.threego.algo.studyrecruit.command.domain.aggregate.enums.ApplicationStatus;
 import com.threego.algo.studyrecruit.command.domain.aggregate.enums.RecruitStatus;
 import com.threego.algo.studyrecruit.command.domain.repository.StudyRecruitMemberRepository;
 import com.threego.algo.studyrecruit.command.domain.repository.StudyRecruitPostRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -22,41 +23,26 @@ public class StudyRecruitMemberServiceImpl implements StudyRecruitMemberService
 
     private final StudyRecruitMemberRepository studyRecruitMemberRepository;
     private final StudyRecruitPostRepository studyRecruitPostRepository;
-    private final MemberRepository memberRepository;
 
+    /* 설명. 스터디 참가 신청
+     *  - 모집 상태 / 남은 정원 / 중복 신청 확인과 저장을 조건부 INSERT 한 번으로 처리 (확인과 저장 사이 경쟁 없음)
+     *  - 같은 회원이 동시에 신청하면 유니크 제약(UK_Study_Recruit_Member_Post_Member)으로 한 건만 저장
+     *  - 신청이 거부된 경우에만 사유 안내를 위해 모집글을 조회
+     */
     @Override
     public ResponseEntity<String> applyToStudy(int postId, int memberId) {
         try {
             log.info("스터디 참가신청 시작 - postId: {}, memberId: {}", postId, memberId);
-            // 1. 회원 존재 여부 확인
-            Member member = memberRepository.findById(memberId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
-
-
-            // 2. 모집글 존재 여부 및 모집 상태 확인
-            StudyRecruitPost studyRecruitPost = studyRecruitPostRepository
-                    .findById(postId)
-                    .filter(post -> post.getVisibility().equals("Y"))
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않거나 공개되지 않은 모집글입니다."));
-
-            // 3. 모집 상태 확인
-            if (studyRecruitPost.getStatus() != RecruitStatus.OPEN) {
-                return ResponseEntity.badRequest().body("모집이 마감된 스터디입니다.");
-            }
-
-            // 4. 중복 신청 확인
-            if (studyRecruitMemberRepository.existsByStudyRecruitPostIdAndMemberId(postId, memberId)) {
-                return ResponseEntity.badRequest().body("이미 신청한 스터디입니다.");
+            if (studyRecruitMemberRepository.insertIfAdmissible(postId, memberId) == 1) {
+                return ResponseEntity.status(HttpStatus.CREATED).body("스터디 참가 신청이 완료되었습니다.");
             }
 
-            // 5. Entity 생성 및 저장
-            StudyRecruitMember application = new StudyRecruitMember(studyRecruitPost, member);
-
-            studyRecruitMemberRepository.save(application);
-
-            return ResponseEntity.status(HttpStatus.CREATED).body("스터디 참가 신청이 완료되었습니다.");
+            return ResponseEntity.badRequest().body(findApplyRejectReason(postId));
 
+        } catch (DataIntegrityViolationException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseEntity.badRequest().body("이미 신청한 스터디입니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -72,7 +58,12 @@ public class StudyRecruitMemberServiceImpl implements StudyRecruitMemberService
                     .findByIdAndMemberId(joinId, memberId)
                     .orElseThrow(() -> new IllegalArgumentException("취소할 수 있는 신청이 없습니다."));
 
-            // 2. Hard Delete 처리
+            // 2. 승인된 신청이면 정원 자리 반납
+            if (application.isApproved()) {
+                studyRecruitPostRepository.releaseSeat(application.getStudyRecruitPost().getId());
+            }
+
+            // 3. Hard Delete 처리
             studyRecruitMemberRepository.delete(application);
 
             return ResponseEntity.ok("스터디 참가 신청이 취소되었습니다.");
@@ -97,9 +88,17 @@ public class StudyRecruitMemberServiceImpl implements StudyRecruitMemberService
                 return ResponseEntity.badRequest().body("이미 처리된 신청입니다.");
             }
 
-            // 3. 신청 승인 처리
-            application.approve();
-            studyRecruitMemberRepository.save(application);
+            // 3. 정원 자리 선점 (스터디장 포함 정원을 넘으면 실패)
+            if (studyRecruitPostRepository.reserveSeat(application.getStudyRecruitPost().getId()) == 0) {
+                return ResponseEntity.badRequest().body("모집 정원이 모두 찼습니다.");
+            }
+
+            // 4. 대기 중인 신청만 승인 (동시에 먼저 처리된 신청이면 선점한 자리까지 롤백)
+            if (studyRecruitMemberRepository.updateStatusIfPending(
+                    joinId, ApplicationStatus.APPROVED, ApplicationStatus.PENDING) == 0) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return ResponseEntity.badRequest().body("이미 처리된 신청입니다.");
+            }
 
             return ResponseEntity.ok("스터디 참가 신청이 승인되었습니다.");
 
@@ -123,9 +122,11 @@ public class StudyRecruitMemberServiceImpl implements StudyRecruitMemberService
                 return ResponseEntity.badRequest().body("이미 처리된 신청입니다.");
             }
 
-            // 3. 신청 거절 처리
-            application.reject();
-            studyRecruitMemberRepository.save(application);
+            // 3. 신청 거절 처리 (동시에 승인된 신청을 덮어쓰지 않도록 대기 중일 때만 변경)
+            if (studyRecruitMemberRepository.updateStatusIfPending(
+                    joinId, ApplicationStatus.REJECTED, ApplicationStatus.PENDING) == 0) {
+                return ResponseEntity.badRequest().body("이미 처리된 신청입니다.");
+            }
 
             return ResponseEntity.ok("스터디 참가 신청이 거절되었습니다.");
 
@@ -135,4 +136,17 @@ public class StudyRecruitMemberServiceImpl implements StudyRecruitMemberService
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("신청 거절 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    private String findApplyRejectReason(int postId) {
+        StudyRecruitPost studyRecruitPost = studyRecruitPostRepository
+                .findById(postId)
+                .filter(post -> "Y".equals(post.getVisibility()))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않거나 공개되지 않은 모집글입니다."));
+
+        if (studyRecruitPost.getStatus() != RecruitStatus.OPEN
+                || studyRecruitPost.getApprovedCount() + 1 >= studyRecruitPost.getCapacity()) {
+            return "모집이 마감된 스터디입니다.";
+        }
+        return "이미 신청한 스터디입니다.";
+    }
+}
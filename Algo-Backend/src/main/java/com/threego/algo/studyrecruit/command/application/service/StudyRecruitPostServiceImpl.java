@@ -5,6 +5,8 @@ import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.aggregate.MemberRole;
 import com.threego.algo.member.command.domain.repository.MemberRepository;
 import com.threego.algo.member.command.domain.repository.MemberRoleRepository;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
 import com.threego.algo.studyrecruit.command.application.dto.create.StudyRecruitPostCreateDTO;
 import com.threego.algo.studyrecruit.command.application.dto.update.StudyRecruitPostUpdateDTO;
 import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitPost;
@@ -12,6 +14,7 @@ import com.threego.algo.studyrecruit.command.domain.aggregate.enums.RecruitStatu
 import com.threego.algo.studyrecruit.command.domain.repository.StudyRecruitPostRepository;
 import com.threego.algo.studyrecruit.query.dao.StudyRecruitPostMapper;
 import com.threego.algo.studyrecruit.query.dto.StudyRecruitMemberDTO;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -29,6 +32,7 @@ public class StudyRecruitPostServiceImpl implements StudyRecruitPostService {
     private final MemberRepository memberRepository;
     private final StudyRecruitPostMapper studyRecruitPostMapper;
     private final MemberRoleRepository memberRoleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ResponseEntity<String> createPost(int memberId, StudyRecruitPostCreateDTO request) {
@@ -54,6 +58,7 @@ public class StudyRecruitPostServiceImpl implements StudyRecruitPostService {
 
             // 4. 저장
             studyRecruitPostRepository.save(studyRecruitPost);
+            eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.STUDY_RECRUIT, studyRecruitPost.getId()));
 
             return ResponseEntity.status(HttpStatus.CREATED).body("모집글이 성공적으로 등록되었습니다.");
 
@@ -84,6 +89,7 @@ public class StudyRecruitPostServiceImpl implements StudyRecruitPostService {
 
             // 3. 저장 (더티 체킹으로 자동 업데이트)
             studyRecruitPostRepository.save(studyRecruitPost);
+            eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.STUDY_RECRUIT, postId));
 
             return ResponseEntity.ok("모집글이 성공적으로 수정되었습니다.");
 
@@ -108,6 +114,7 @@ public class StudyRecruitPostServiceImpl implements StudyRecruitPostService {
 
             // 3. 저장 (더티 체킹으로 자동 업데이트)
             studyRecruitPostRepository.save(studyRecruitPost);
+            eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.STUDY_RECRUIT, postId));
 
             return ResponseEntity.ok("모집글이 성공적으로 삭제되었습니다.");
 
@@ -172,6 +179,7 @@ public class StudyRecruitPostServiceImpl implements StudyRecruitPostService {
             // 4. 소프트 딜리트 (VISIBILITY: Y → N)
             post.softDelete();
             studyRecruitPostRepository.save(post);
+            eventPublisher.publishEvent(new SearchIndexEvent(SearchBoard.STUDY_RECRUIT, postId));
 
             return ResponseEntity.ok("모집 게시물이 삭제되었습니다.");
 
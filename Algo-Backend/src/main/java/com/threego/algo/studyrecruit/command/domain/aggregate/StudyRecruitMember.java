@@ -7,7 +7,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "Study_Recruit_Member")
+@Table(name = "Study_Recruit_Member",
+        uniqueConstraints = @UniqueConstraint(name = "UK_Study_Recruit_Member_Post_Member",
+                columnNames = {"post_id", "member_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,10 +5,12 @@ import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.studyrecruit.command.domain.aggregate.enums.RecruitStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
+@DynamicUpdate
 @Entity
 @Table(name = "Study_Recruit_Post")
 @Getter
@@ -46,6 +48,10 @@ public class StudyRecruitPost {
     @Column(nullable = false)
     private int capacity;
 
+    // 승인된 신청자 수 (스터디장 제외), StudyRecruitPostRepository 의 조건부 증감으로만 변경
+    @Column(name = "approved_count", nullable = false)
+    private int approvedCount;
+
     @Column(name = "comment_count", columnDefinition = "int default 0")
     private int commentCount;
 
@@ -97,17 +103,6 @@ public class StudyRecruitPost {
         this.updatedAt = DateTimeUtils.nowDateTime();
     }
 
-    /* 설명. 스터디 모집 게시물 댓글 수 카운트 + 1 */
-    public void incrementCommentCount() {
-        this.commentCount = this.commentCount + 1;
-    }
-
-    /* 설명. 스터디 모집 게시물 댓글 수 카운트 - 1 */
-    public void decrementCommentCount() {
-        this.commentCount = Math.max(0, this.commentCount - 1);
-    }
-
-
     /* 설명. 모집글 수정 시 업데이트 시간 갱신 */
     public void updatePost(String title, String content, String startDate, String endDate,
                            String expiresAt, int capacity, String visibility) {
@@ -120,6 +115,4 @@ public class StudyRecruitPost {
         this.visibility = visibility;
         this.updatedAt = DateTimeUtils.nowDateTime();
     }
-
-
 }
\ No newline at end of file
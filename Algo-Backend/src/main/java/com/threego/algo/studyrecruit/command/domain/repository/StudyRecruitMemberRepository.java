@@ -1,8 +1,10 @@
 package com.threego.algo.studyrecruit.command.domain.repository;
 
 import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitMember;
+import com.threego.algo.studyrecruit.command.domain.aggregate.enums.ApplicationStatus;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -20,4 +22,21 @@ public interface StudyRecruitMemberRepository extends JpaRepository<StudyRecruit
     // 11, 12. 신청 승인/거절용 - 모집글 작성자 권한 확인
     @Query("SELECT a FROM StudyRecruitMember a WHERE a.id = :applicationId AND a.studyRecruitPost.member.id = :authorId")
     Optional<StudyRecruitMember> findByIdAndAuthor(@Param("applicationId") int applicationId, @Param("authorId") int authorId);
+
+    // 참가 신청 - 모집 중이고 자리가 남아 있으며 아직 신청하지 않은 경우에만 INSERT (UK_Study_Recruit_Member_Post_Member 가 최종 중복 방지)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO Study_Recruit_Member (member_id, post_id, status) " +
+            "SELECT :memberId, p.id, 'PENDING' FROM Study_Recruit_Post p " +
+            "WHERE p.id = :postId AND p.status = 'OPEN' AND p.visibility = 'Y' " +
+            "AND p.approved_count + 1 < p.capacity " +
+            "AND NOT EXISTS (SELECT 1 FROM Study_Recruit_Member m WHERE m.post_id = :postId AND m.member_id = :memberId)",
+            nativeQuery = true)
+    int insertIfAdmissible(@Param("postId") int postId, @Param("memberId") int memberId);
+
+    // 신청 상태 변경 - 대기(PENDING) 중인 신청만 변경해 중복 승인/거절 방지
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyRecruitMember a SET a.status = :status WHERE a.id = :id AND a.status = :pending")
+    int updateStatusIfPending(@Param("id") int id,
+                              @Param("status") ApplicationStatus status,
+                              @Param("pending") ApplicationStatus pending);
 }
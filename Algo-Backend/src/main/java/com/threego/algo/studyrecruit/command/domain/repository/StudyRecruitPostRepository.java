@@ -26,4 +26,24 @@ public interface StudyRecruitPostRepository extends JpaRepository<StudyRecruitPo
     @Modifying
     @Query("UPDATE StudyRecruitPost s SET s.status = :status, s.updatedAt = :updatedAt WHERE s.id = :id")
     void updateStatusToClosed(@Param("id") int id, @Param("status") RecruitStatus status, @Param("updatedAt") String updatedAt);
+
+    // 댓글 수 증감 - DB 에서 원자적으로 처리
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyRecruitPost s SET s.commentCount = s.commentCount + 1 WHERE s.id = :id")
+    int incrementCommentCount(@Param("id") int id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyRecruitPost s SET s.commentCount = s.commentCount - 1 WHERE s.id = :id AND s.commentCount > 0")
+    int decrementCommentCount(@Param("id") int id);
+
+    // 승인 자리 선점 - 정원(스터디장 포함)이 남아 있을 때만 1 증가
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyRecruitPost s SET s.approvedCount = s.approvedCount + 1 " +
+            "WHERE s.id = :id AND s.approvedCount + 1 < s.capacity")
+    int reserveSeat(@Param("id") int id);
+
+    // 승인 자리 반납 - 승인된 신청이 취소된 경우
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE StudyRecruitPost s SET s.approvedCount = s.approvedCount - 1 WHERE s.id = :id AND s.approvedCount > 0")
+    int releaseSeat(@Param("id") int id);
 }
@@ -0,0 +1,114 @@
+package com.threego.algo.studyrecruit.command.infrastructure.service;
+
+import com.threego.algo.common.service.SchedulerLease;
+import com.threego.algo.common.util.DateTimeUtils;
+import com.threego.algo.studyrecruit.query.dao.StudyRecruitPostMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/* 설명. 스터디 모집글 자동 마감 작업
+ *  - 모집 마감 시각(EXPIRES_AT)이 지났거나 승인 인원이 정원에 도달한 OPEN 모집글을 CLOSED 로 바꾼다.
+ *  - 모집 중인 게시물을 ID 순으로 chunk-size 개씩 끊어, 묶음마다 조건부 UPDATE 두 번을 별도 트랜잭션으로 실행한다.
+ *  - 여러 서버 중 Scheduler_Lease 를 선점한 한 곳에서만 실행된다.
+ */
+@Slf4j
+@Component
+public class StudyRecruitAutoCloseJob {
+
+    private static final String LEASE_NAME = "study-recruit-auto-close";
+    private static final String METRIC_PREFIX = "study.recruit.auto-close";
+
+    private final StudyRecruitPostMapper studyRecruitPostMapper;
+    private final SchedulerLease schedulerLease;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration leaseTime;
+
+    private final Counter expiredClosedCounter;
+    private final Counter fullClosedCounter;
+    private final Counter leaseSkippedCounter;
+    private final DistributionSummary closedPerRunSummary;
+    private final Timer runTimer;
+
+    public StudyRecruitAutoCloseJob(StudyRecruitPostMapper studyRecruitPostMapper,
+                                    SchedulerLease schedulerLease,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${study.recruit.auto-close.chunk-size:500}") int chunkSize,
+                                    @Value("${study.recruit.auto-close.lease-seconds:300}") long leaseSeconds) {
+        this.studyRecruitPostMapper = studyRecruitPostMapper;
+        this.schedulerLease = schedulerLease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.leaseTime = Duration.ofSeconds(leaseSeconds);
+
+        this.expiredClosedCounter = meterRegistry.counter(METRIC_PREFIX + ".closed", "reason", "expired");
+        this.fullClosedCounter = meterRegistry.counter(METRIC_PREFIX + ".closed", "reason", "full");
+        this.leaseSkippedCounter = meterRegistry.counter(METRIC_PREFIX + ".lease.skipped");
+        this.closedPerRunSummary = DistributionSummary.builder(METRIC_PREFIX + ".run.closed")
+                .description("실행 한 번에 마감 처리한 모집글 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder(METRIC_PREFIX + ".run.duration")
+                .description("자동 마감 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${study.recruit.auto-close.interval-ms:60000}",
+            initialDelayString = "${study.recruit.auto-close.initial-delay-ms:30000}")
+    public void scheduledClose() {
+        if (!schedulerLease.tryAcquire(LEASE_NAME, leaseTime)) {
+            leaseSkippedCounter.increment();
+            return;
+        }
+
+        try {
+            final Timer.Sample sample = Timer.start();
+            closeAll();
+            sample.stop(runTimer);
+        } finally {
+            schedulerLease.release(LEASE_NAME);
+        }
+    }
+
+    /* 설명. 마감 대상 모집글을 모두 마감 처리, 마감한 게시물 수 반환 */
+    public int closeAll() {
+        int lastPostId = 0;
+        int expiredClosed = 0;
+        int fullClosed = 0;
+
+        List<Integer> postIds;
+        while (!(postIds = studyRecruitPostMapper.selectOpenPostIdsAfter(lastPostId, chunkSize)).isEmpty()) {
+            final List<Integer> chunk = postIds;
+            final int[] closed = transactionTemplate.execute(status -> {
+                final String now = DateTimeUtils.nowDateTime();
+                final int expired = studyRecruitPostMapper.closeExpiredPosts(chunk, now);
+                final int full = studyRecruitPostMapper.closeFullPosts(chunk, now);
+                return new int[]{expired, full};
+            });
+
+            expiredClosed += closed[0];
+            fullClosed += closed[1];
+            lastPostId = chunk.get(chunk.size() - 1);
+        }
+
+        expiredClosedCounter.increment(expiredClosed);
+        fullClosedCounter.increment(fullClosed);
+        closedPerRunSummary.record(expiredClosed + fullClosed);
+
+        if (expiredClosed + fullClosed > 0) {
+            log.info("[study-recruit] 모집글 자동 마감 완료, 기간 만료 {}건 / 정원 도달 {}건", expiredClosed, fullClosed);
+        }
+        return expiredClosed + fullClosed;
+    }
+}
@@ -29,12 +29,14 @@ public class AdminStudyRecruitPostQueryController {
     public ResponseEntity<List<StudyRecruitPostDTO>> findHiddenPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword
     ) {
         StudyRecruitSearchDTO searchDto = StudyRecruitSearchDTO.builder()
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .status(status)
                 .keyword(keyword)
                 .build();
@@ -58,11 +60,13 @@ public class AdminStudyRecruitPostQueryController {
     @GetMapping("/comments/hidden")
     public ResponseEntity<List<StudyRecruitCommentDTO>> findAllHiddenComments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId
     ) {
         StudyRecruitSearchDTO searchDto = StudyRecruitSearchDTO.builder()
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .build();
 
         return ResponseEntity.ok(studyRecruitPostServiceImpl.findAllStudyRecruitCommentsIncludeHidden(searchDto));
@@ -76,4 +80,10 @@ public class AdminStudyRecruitPostQueryController {
     public ResponseEntity<List<StudyRecruitCommentDTO>> findHiddenPostComments(@PathVariable int postId) {
         return ResponseEntity.ok(studyRecruitPostServiceImpl.findStudyRecruitCommentsIncludeHidden(postId));
     }
-}
\ No newline at end of file
+
+    // OFFSET 조회는 MAX_OFFSET_PAGE 까지만 허용, 그 이후 페이지는 lastSeenId 로 조회하라고 400 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidPaging(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
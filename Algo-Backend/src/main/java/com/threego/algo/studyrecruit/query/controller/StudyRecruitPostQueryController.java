@@ -19,18 +19,20 @@ public class StudyRecruitPostQueryController {
 
     @Operation(
             summary = "스터디 모집글 목록 조회",
-            description = "전체 스터디 모집글 리스트를 조회합니다.(페이징, 검색)"
+            description = "전체 스터디 모집글 리스트를 조회합니다.(페이징, 검색) lastSeenId를 전달하면 해당 모집글 이후부터 조회합니다."
     )
     @GetMapping("/posts")
     public ResponseEntity<List<StudyRecruitPostDTO>> findPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Integer lastSeenId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword
     ) {
         StudyRecruitSearchDTO searchDto = StudyRecruitSearchDTO.builder()
                 .page(page)
                 .size(size)
+                .lastSeenId(lastSeenId)
                 .status(status)
                 .keyword(keyword)
                 .build();
@@ -58,5 +60,9 @@ public class StudyRecruitPostQueryController {
         return ResponseEntity.ok(studyRecruitPostServiceImpl.findStudyRecruitMembers(postId));
     }
 
-
-}
\ No newline at end of file
+    // OFFSET 조회는 MAX_OFFSET_PAGE 까지만 허용, 그 이후 페이지는 lastSeenId 로 조회하라고 400 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidPaging(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
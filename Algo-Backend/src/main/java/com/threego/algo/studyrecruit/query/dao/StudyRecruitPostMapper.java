@@ -27,4 +27,13 @@ public interface StudyRecruitPostMapper {
     /* 설명. 관리자: 숨김 처리된 게시물 상세 조회 */
     StudyRecruitDetailDTO selectStudyRecruitDetailIncludeHidden(int postId);
 
+    /* 설명. 자동 마감: 모집 중인 게시물 ID (ID 순 chunk 조회) */
+    List<Integer> selectOpenPostIdsAfter(@Param("lastPostId") int lastPostId, @Param("limit") int limit);
+
+    /* 설명. 자동 마감: 모집 마감 시각이 지난 게시물 마감 처리 */
+    int closeExpiredPosts(@Param("postIds") List<Integer> postIds, @Param("now") String now);
+
+    /* 설명. 자동 마감: 승인 인원(스터디장 포함)이 정원에 도달한 게시물 마감 처리 */
+    int closeFullPosts(@Param("postIds") List<Integer> postIds, @Param("now") String now);
+
 }
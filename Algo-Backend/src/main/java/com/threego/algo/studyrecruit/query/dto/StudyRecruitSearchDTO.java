@@ -1,6 +1,8 @@
 package com.threego.algo.studyrecruit.query.dto;
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @Setter
 @Builder
@@ -8,7 +10,11 @@ import lombok.*;
 @AllArgsConstructor
 public class StudyRecruitSearchDTO {
 
+    // OFFSET 방식은 앞쪽 몇 페이지까지만 허용하고, 그 이후는 lastSeenId(커서)로 조회한다.
+    public static final int MAX_OFFSET_PAGE = 50;
+
     private String keyword;             // 검색 키워드 (제목, 내용)
+    private List<Integer> searchIds;    // 검색 색인 결과 게시물 ID (null이면 LIKE 검색)
     private String status;              // 모집 상태 필터 (OPEN, CLOSED, CANCELLED)
     private String memberNickname;      // 작성자 닉네임
     private String startDateFrom;       // 시작일 범위 검색 (시작)
@@ -23,6 +29,7 @@ public class StudyRecruitSearchDTO {
     private Integer size;               // 페이지 크기
     private String sortBy;              // 정렬 기준 (createdAt, startDate, expiresAt)
     private String sortDirection;       // 정렬 방향 (ASC, DESC)
+    private Integer lastSeenId;         // 이전 페이지 마지막 항목의 ID (있으면 seek 방식으로 조회)
 
     // 기본값 설정
     public int getPage() {
@@ -41,6 +48,10 @@ public class StudyRecruitSearchDTO {
         return sortDirection != null ? sortDirection : "DESC";
     }
 
+    public boolean isSeekMode() {
+        return lastSeenId != null;
+    }
+
     // OFFSET 계산
     public int getOffset() {
         return getPage() * getSize();
@@ -3,6 +3,8 @@ package com.threego.algo.studyrecruit.query.service;
 import com.threego.algo.studyrecruit.query.dao.StudyRecruitCommentMapper;
 import com.threego.algo.studyrecruit.query.dao.StudyRecruitPostMapper;
 import com.threego.algo.studyrecruit.query.dto.*;
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,10 +17,14 @@ import java.util.List;
 public class StudyRecruitPostQueryServiceImpl implements StudyRecruitPostQueryService {
     private final StudyRecruitPostMapper studyRecruitPostMapper;
     private final StudyRecruitCommentMapper studyRecruitCommentMapper;
+    private final PostSearchService postSearchService;
 
     /* 설명. 스터디 모집글 전체 목록 조회 */
     @Override
     public List<StudyRecruitPostDTO> findStudyRecruitList(StudyRecruitSearchDTO searchDto) {
+        validatePaging(searchDto);
+        searchDto.setSearchIds(postSearchService.findPostIds(SearchBoard.STUDY_RECRUIT,
+                searchDto.getKeyword(), null, searchDto.getLastSeenId()).orElse(null));
         return studyRecruitPostMapper.selectStudyRecruitList(searchDto);
     }
 
@@ -43,6 +49,7 @@ public class StudyRecruitPostQueryServiceImpl implements StudyRecruitPostQuerySe
     /* 설명. 관리자: 숨김 처리된 게시물 목록 조회 */
     @Override
     public List<StudyRecruitPostDTO> findStudyRecruitListIncludeHidden(StudyRecruitSearchDTO searchDto) {
+        validatePaging(searchDto);
         return studyRecruitPostMapper.selectStudyRecruitListIncludeHidden(searchDto);
     }
 
@@ -56,6 +63,7 @@ public class StudyRecruitPostQueryServiceImpl implements StudyRecruitPostQuerySe
     /* 설명. 관리자: 숨김 처리된 댓글 리스트 조회 */
     @Override
     public List<StudyRecruitCommentDTO> findAllStudyRecruitCommentsIncludeHidden(StudyRecruitSearchDTO searchDto) {
+        validatePaging(searchDto);
         return studyRecruitCommentMapper.selectAllStudyRecruitCommentsIncludeHidden(searchDto);
     }
 
@@ -65,4 +73,11 @@ public class StudyRecruitPostQueryServiceImpl implements StudyRecruitPostQuerySe
         return studyRecruitCommentMapper.selectStudyRecruitCommentsIncludeHidden(postId);
     }
 
+    /* 설명. OFFSET 방식은 MAX_OFFSET_PAGE까지만 허용 (깊은 페이지는 lastSeenId로 seek 조회) */
+    private void validatePaging(StudyRecruitSearchDTO searchDto) {
+        if (!searchDto.isSeekMode() && searchDto.getPage() > StudyRecruitSearchDTO.MAX_OFFSET_PAGE) {
+            throw new IllegalArgumentException(
+                    "페이지 번호는 " + StudyRecruitSearchDTO.MAX_OFFSET_PAGE + " 이하만 가능합니다. 이후 페이지는 lastSeenId로 조회해주세요.");
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.threego.algo.algorithm.command.domain.repository;
+
+import com.threego.algo.algorithm.command.domain.aggregate.AlgoPost;
+import com.threego.algo.algorithm.command.domain.aggregate.AlgoRoadmap;
+import com.threego.algo.member.command.domain.aggregate.Member;
+import com.threego.algo.member.command.domain.aggregate.MemberRank;
+import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.member.command.domain.repository.MemberFixtures;
+import com.threego.algo.member.command.domain.repository.MemberRankRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+/* 설명. 댓글 수 원자적 증감 동시성 테스트 (H2, MariaDB 호환 모드)
+ *  - 각 요청을 별도 트랜잭션으로 동시에 실행해 최종 카운트가 요청 수와 정확히 일치하는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:algo-counter;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AlgoPostCounterConcurrencyTest {
+    private static final int REQUEST_COUNT = 300;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private AlgoPostCommandRepository algoPostCommandRepository;
+
+    @Autowired
+    private AlgoRoadmapCommandRepository algoRoadmapCommandRepository;
+
+    @Autowired
+    private MemberCommandRepository memberCommandRepository;
+
+    @Autowired
+    private MemberRankRepository memberRankRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private int postId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        final MemberRank memberRank = MemberFixtures.saveRank(memberRankRepository);
+        final Member member = MemberFixtures.saveMember(memberCommandRepository, memberRank, "algo");
+
+        final AlgoRoadmap algoRoadmap = algoRoadmapCommandRepository.save(
+                new AlgoRoadmap("정렬" + System.nanoTime(), "버블 정렬부터 퀵 정렬까지 배워봅시다.", 1));
+
+        postId = algoPostCommandRepository.save(
+                new AlgoPost("버블 정렬", "버블 정렬을 배워봅시다.", algoRoadmap, member)).getId();
+    }
+
+    @DisplayName("동시에 등록된 댓글 수만큼 정확히 댓글 수가 증가")
+    @Test
+    void concurrentCommentCountTest() throws Exception {
+        // when
+        runConcurrently(algoPostCommandRepository::increaseCommentCount);
+
+        // then
+        Assertions.assertEquals(REQUEST_COUNT, findPost().getCommentCount());
+    }
+
+    @DisplayName("동시에 삭제된 댓글 수만큼 감소하고 0 미만으로 내려가지 않음")
+    @Test
+    void concurrentCommentDecreaseTest() throws Exception {
+        // given
+        runConcurrently(algoPostCommandRepository::increaseCommentCount);
+
+        // when
+        runConcurrently(algoPostCommandRepository::decreaseCommentCount);
+        runConcurrently(algoPostCommandRepository::decreaseCommentCount);
+
+        // then
+        Assertions.assertEquals(0, findPost().getCommentCount());
+    }
+
+    private void runConcurrently(final IntConsumer counterUpdate) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> counterUpdate.accept(postId));
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AlgoPost findPost() {
+        return algoPostCommandRepository.findById(postId).orElseThrow();
+    }
+}
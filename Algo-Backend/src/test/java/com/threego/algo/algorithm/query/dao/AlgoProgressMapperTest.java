@@ -0,0 +1,148 @@
+package com.threego.algo.algorithm.query.dao;
+
+import com.threego.algo.algorithm.command.infrastructure.service.AlgoProgressRebuildJob;
+import com.threego.algo.common.service.SchedulerLease;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/* 설명. 회원별 로드맵 진척도 증감/재계산 테스트 (H2, MariaDB 호환 모드)
+ *  - 로드맵 1: 게시물 10(문제 100, 101), 게시물 11(문제 110) / 로드맵 2: 게시물 20(문제 200)
+ */
+@MybatisTest(properties = "spring.datasource.url=jdbc:h2:mem:algo-progress;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AlgoProgressMapperTest {
+    private static final int ROADMAP_ID = 1;
+    private static final int OTHER_ROADMAP_ID = 2;
+
+    @Autowired
+    private AlgoProgressMapper algoProgressMapper;
+
+    @Autowired
+    private AlgoMapper algoMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS MEMBER (ID INT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_POST ("
+                + " ID INT PRIMARY KEY, ROADMAP_ID INT NOT NULL, VISIBILITY CHAR(1) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_QUIZ_QUESTION ("
+                + " ID INT PRIMARY KEY, ALGO_POST_ID INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS MEMBER_ALGO_CORRECT_QUIZ_HISTORY ("
+                + " MEMBER_ID INT NOT NULL, ALGO_QUIZ_QUESTION_ID INT NOT NULL,"
+                + " PRIMARY KEY (MEMBER_ID, ALGO_QUIZ_QUESTION_ID))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_MEMBER_PROGRESS ("
+                + " ID INT AUTO_INCREMENT PRIMARY KEY, MEMBER_ID INT NOT NULL, ROADMAP_ID INT NOT NULL,"
+                + " `COUNT` INT NOT NULL, UNIQUE (MEMBER_ID, ROADMAP_ID))");
+
+        jdbcTemplate.batchUpdate("INSERT INTO MEMBER (ID) VALUES (?)",
+                List.of(new Object[]{1}, new Object[]{2}, new Object[]{3}));
+        jdbcTemplate.update("INSERT INTO ALGO_POST (ID, ROADMAP_ID, VISIBILITY) VALUES"
+                + " (10, 1, 'Y'), (11, 1, 'Y'), (12, 1, 'N'), (20, 2, 'Y')");
+        jdbcTemplate.update("INSERT INTO ALGO_QUIZ_QUESTION (ID, ALGO_POST_ID) VALUES"
+                + " (100, 10), (101, 10), (110, 11), (120, 12), (200, 20)");
+    }
+
+    @DisplayName("정답 등록 시 첫 정답이면 행을 만들고 이후에는 1씩 증가")
+    @Test
+    void increaseProgressTest() {
+        // when
+        algoProgressMapper.increaseProgress(1, ROADMAP_ID);
+        algoProgressMapper.increaseProgress(1, ROADMAP_ID);
+        algoProgressMapper.increaseProgress(1, OTHER_ROADMAP_ID);
+
+        // then
+        Assertions.assertEquals(2, algoMapper.countMemberCorrectAnswersInRoadmap(1, ROADMAP_ID));
+        Assertions.assertEquals(1, algoMapper.countMemberCorrectAnswersInRoadmap(1, OTHER_ROADMAP_ID));
+        Assertions.assertEquals(0, algoMapper.countMemberCorrectAnswersInRoadmap(2, ROADMAP_ID));
+    }
+
+    @DisplayName("게시물 삭제 시 그 게시물에서 맞힌 수만큼, 퀴즈 삭제 시 1씩 차감하고 0 미만으로 내려가지 않음")
+    @Test
+    void decreaseProgressTest() {
+        // given
+        solve(1, 100, 101, 110);
+        solve(2, 100);
+        progress(1, ROADMAP_ID, 3);
+        progress(2, ROADMAP_ID, 0);
+        progress(3, ROADMAP_ID, 4);
+
+        // when
+        algoProgressMapper.decreaseProgressByPostId(10, ROADMAP_ID);
+
+        // then
+        Assertions.assertEquals(1, algoMapper.countMemberCorrectAnswersInRoadmap(1, ROADMAP_ID));
+        Assertions.assertEquals(0, algoMapper.countMemberCorrectAnswersInRoadmap(2, ROADMAP_ID));
+        Assertions.assertEquals(4, algoMapper.countMemberCorrectAnswersInRoadmap(3, ROADMAP_ID));
+
+        // when
+        algoProgressMapper.decreaseProgressByQuestionId(110, ROADMAP_ID);
+
+        // then
+        Assertions.assertEquals(0, algoMapper.countMemberCorrectAnswersInRoadmap(1, ROADMAP_ID));
+        Assertions.assertEquals(4, algoMapper.countMemberCorrectAnswersInRoadmap(3, ROADMAP_ID));
+    }
+
+    @DisplayName("진척도 테이블이 비어 있으면 시작 시 정답 이력으로 공개 게시물 문제만 다시 채움")
+    @Test
+    void rebuildOnStartupWhenEmptyTest() {
+        // given
+        solve(1, 100, 101, 120, 200);
+        solve(2, 110);
+        final SchedulerLease schedulerLease = mock(SchedulerLease.class);
+        when(schedulerLease.tryAcquire(anyString(), any())).thenReturn(true);
+        final AlgoProgressRebuildJob job = new AlgoProgressRebuildJob(algoProgressMapper, schedulerLease,
+                transactionManager, 2, false, 60);
+        Assertions.assertTrue(algoProgressMapper.existsUnbuiltProgress());
+
+        // when
+        job.rebuildOnStartup();
+
+        // then
+        Assertions.assertFalse(algoProgressMapper.existsUnbuiltProgress());
+        Assertions.assertEquals(2, algoMapper.countMemberCorrectAnswersInRoadmap(1, ROADMAP_ID));
+        Assertions.assertEquals(1, algoMapper.countMemberCorrectAnswersInRoadmap(1, OTHER_ROADMAP_ID));
+        Assertions.assertEquals(1, algoMapper.countMemberCorrectAnswersInRoadmap(2, ROADMAP_ID));
+
+        // 어긋난 값도 재계산으로 보정
+        jdbcTemplate.update("UPDATE ALGO_MEMBER_PROGRESS SET `COUNT` = 9");
+        Assertions.assertEquals(3, job.rebuild());
+        Assertions.assertEquals(2, algoMapper.countMemberCorrectAnswersInRoadmap(1, ROADMAP_ID));
+        Assertions.assertEquals(1, algoMapper.countMemberCorrectAnswersInRoadmap(2, ROADMAP_ID));
+    }
+
+    private void solve(int memberId, int... questionIds) {
+        for (int questionId : questionIds) {
+            jdbcTemplate.update("INSERT INTO MEMBER_ALGO_CORRECT_QUIZ_HISTORY (MEMBER_ID, ALGO_QUIZ_QUESTION_ID)"
+                    + " VALUES (?, ?)", memberId, questionId);
+        }
+    }
+
+    private void progress(int memberId, int roadmapId, int count) {
+        jdbcTemplate.update("INSERT INTO ALGO_MEMBER_PROGRESS (MEMBER_ID, ROADMAP_ID, `COUNT`) VALUES (?, ?, ?)",
+                memberId, roadmapId, count);
+    }
+}
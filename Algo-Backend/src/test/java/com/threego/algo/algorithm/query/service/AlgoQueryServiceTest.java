@@ -7,12 +7,10 @@ import com.threego.algo.algorithm.command.domain.repository.*;
 import com.threego.algo.common.util.DateTimeUtils;
 import com.threego.algo.likes.command.application.service.LikesCommandService;
 import com.threego.algo.likes.command.domain.aggregate.enums.Type;
-import com.threego.algo.likes.query.service.LikesQueryService;
 import com.threego.algo.member.command.domain.aggregate.Member;
 import com.threego.algo.member.command.domain.aggregate.MemberRank;
 import com.threego.algo.member.command.domain.aggregate.enums.RankName;
 import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +23,7 @@ import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,10 +35,10 @@ class AlgoQueryServiceTest {
     private MemberCommandRepository memberCommandRepository;
 
     @Mock
-    private LikesQueryService likesQueryService;
+    private LikesCommandService likesCommandService;
 
     @Mock
-    private LikesCommandService likesCommandService;
+    private AlgoContentCache algoContentCache;
 
     @InjectMocks
     private AlgoCommandServiceImpl algoCommandServiceImpl;
@@ -93,17 +92,12 @@ class AlgoQueryServiceTest {
 
         when(algoPostCommandRepository.findById(any())).thenReturn(Optional.of(algoPost));
 
-        when(likesQueryService.existsLikesByMemberIdAndPostIdAndPostType(member.getId(), algoPost.getId(), Type.ALGO_POST))
-                .thenReturn(false);
-
         doNothing().when(likesCommandService).createLikes(member, algoPost, Type.ALGO_POST);
 
         // when
-        int likeCount = algoPost.getLikeCount();
-
         algoCommandServiceImpl.createAlgoPostLikes(member.getId(), algoPost.getId());
 
         // then
-        Assertions.assertEquals(likeCount + 1, algoPost.getLikeCount());
+        verify(likesCommandService).createLikes(member, algoPost, Type.ALGO_POST);
     }
 }
\ No newline at end of file
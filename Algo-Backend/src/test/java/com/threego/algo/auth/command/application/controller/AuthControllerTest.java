@@ -0,0 +1,44 @@
+package com.threego.algo.auth.command.application.controller;
+
+import com.threego.algo.auth.command.application.dto.UserDTO;
+import com.threego.algo.auth.command.application.service.AuthService;
+import com.threego.algo.auth.command.infrastructure.security.PasswordHashRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    @Mock
+    private AuthService authService;
+
+    @DisplayName("해시 풀이 가득 차 거절된 회원가입은 500 이 아닌 503 으로 응답")
+    @Test
+    void rejectedSignupIsServiceUnavailableTest() throws Exception {
+        // given
+        final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService, new ModelMapper()))
+                .build();
+        doThrow(new PasswordHashRejectedException("요청이 많습니다. 잠시 후 다시 시도해 주세요."))
+                .when(authService).registUser(any(UserDTO.class));
+
+        // when & then
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"algo@algo.co.kr\",\"password\":\"pass01\",\"nickname\":\"코알고\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/* 설명. 게이트웨이 내부 신원 헤더 검증 - 형식은 Algo-Gateway 의 InternalIdentitySigner 와 동일하게 만든다. */
+class InternalIdentityVerifierTest {
+    static final String SECRET = Base64.getEncoder()
+            .encodeToString("algo-internal-identity-secret-key!!".getBytes(StandardCharsets.UTF_8));
+    static final String OTHER_SECRET = Base64.getEncoder()
+            .encodeToString("another-internal-identity-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private final InternalIdentityVerifier verifier = new InternalIdentityVerifier(true, SECRET, 30);
+
+    @DisplayName("게이트웨이가 서명한 헤더로 회원 ID, 이메일, 권한을 복원")
+    @Test
+    void validHeaderIsAuthenticatedTest() {
+        // when
+        final Optional<Authentication> authentication = verifier.verify(
+                sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER,ROLE_ADMIN", System.currentTimeMillis()));
+
+        // then
+        Assertions.assertTrue(authentication.isPresent());
+        final MemberPrincipal principal = (MemberPrincipal) authentication.get().getPrincipal();
+        Assertions.assertEquals(7, principal.getMemberId());
+        Assertions.assertEquals("algo@algo.co.kr", principal.getEmail());
+        Assertions.assertEquals("ROLE_ADMIN,ROLE_USER", authentication.get().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(",")));
+    }
+
+    @DisplayName("내용이나 서명이 바뀐 헤더, 다른 키로 서명한 헤더는 거부")
+    @Test
+    void tamperedHeaderIsRejectedTest() {
+        // given
+        final String header = sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER", System.currentTimeMillis());
+        final int separator = header.indexOf('.');
+        final String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("1\nadmin@algo.co.kr\nROLE_ADMIN\n" + System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+        final char first = header.charAt(separator + 1);
+        final String forgedSignature = header.substring(0, separator + 1) + (first == 'A' ? 'B' : 'A')
+                + header.substring(separator + 2);
+
+        // when & then
+        Assertions.assertTrue(verifier.verify(forgedPayload + header.substring(separator)).isEmpty());
+        Assertions.assertTrue(verifier.verify(forgedSignature).isEmpty());
+        Assertions.assertTrue(verifier.verify(
+                sign(OTHER_SECRET, "7", "algo@algo.co.kr", "ROLE_USER", System.currentTimeMillis())).isEmpty());
+        Assertions.assertTrue(verifier.verify("not-a-signed-header").isEmpty());
+        Assertions.assertTrue(verifier.verify("%%%.%%%").isEmpty());
+    }
+
+    @DisplayName("max-age-seconds 가 지났거나 발급 시각이 너무 먼 미래인 헤더는 거부")
+    @Test
+    void expiredHeaderIsRejectedTest() {
+        // given
+        final long now = System.currentTimeMillis();
+
+        // when & then
+        Assertions.assertTrue(verifier.verify(sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER", now - 31_000)).isEmpty());
+        Assertions.assertTrue(verifier.verify(sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER", now + 31_000)).isEmpty());
+        Assertions.assertTrue(verifier.verify(sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER", now - 29_000)).isPresent());
+    }
+
+    @DisplayName("회원 ID 가 없는 헤더나 신뢰 모드가 꺼진 경우는 인증하지 않음")
+    @Test
+    void headerWithoutMemberOrDisabledIsIgnoredTest() {
+        // given
+        final InternalIdentityVerifier disabled = new InternalIdentityVerifier(false, "", 30);
+
+        // when & then
+        Assertions.assertTrue(verifier.verify(
+                sign(SECRET, "", "algo@algo.co.kr", "ROLE_USER", System.currentTimeMillis())).isEmpty());
+        Assertions.assertTrue(disabled.verify(
+                sign(SECRET, "7", "algo@algo.co.kr", "ROLE_USER", System.currentTimeMillis())).isEmpty());
+        Assertions.assertThrows(IllegalStateException.class, () -> new InternalIdentityVerifier(true, "", 30));
+    }
+
+    static String sign(String secret, String memberId, String email, String roles, long issuedAt) {
+        final byte[] payload = String.join("\n", memberId, email, roles, String.valueOf(issuedAt))
+                .getBytes(StandardCharsets.UTF_8);
+        try {
+            final Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), "HmacSHA256"));
+            final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            return encoder.encodeToString(payload) + "." + encoder.encodeToString(mac.doFinal(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
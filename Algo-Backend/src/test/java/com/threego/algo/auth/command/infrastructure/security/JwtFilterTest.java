@@ -0,0 +1,78 @@
+package com.threego.algo.auth.command.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.mockito.Mockito.when;
+
+/* 설명. 회원 상태 확인 실패 시에도 요청은 인증 없이 계속 진행되는지 확인 */
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private MemberStatusCache memberStatusCache;
+
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtFilter = new JwtFilter(jwtUtil, memberStatusCache,
+                new InternalIdentityVerifier(true, InternalIdentityVerifierTest.SECRET, 30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("활성 회원의 내부 신원 헤더는 JWT 파싱 없이 인증")
+    @Test
+    void activeMemberIsAuthenticatedTest() throws Exception {
+        // given
+        when(memberStatusCache.isActive(7)).thenReturn(true);
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(identityRequest(), new MockHttpServletResponse(), filterChain);
+
+        // then
+        Assertions.assertNotNull(filterChain.getRequest());
+        Assertions.assertEquals(7, ((MemberPrincipal) SecurityContextHolder.getContext().getAuthentication()
+                .getPrincipal()).getMemberId());
+    }
+
+    @DisplayName("회원 상태 조회가 실패하면 500 대신 인증 없이 다음 필터로 진행")
+    @Test
+    void memberStatusFailureFallsBackToAnonymousTest() throws Exception {
+        // given
+        when(memberStatusCache.isActive(7)).thenThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+        final MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtFilter.doFilter(identityRequest(), new MockHttpServletResponse(), filterChain);
+
+        // then
+        Assertions.assertNotNull(filterChain.getRequest());
+        Assertions.assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest identityRequest() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/algo/posts");
+        request.addHeader(InternalIdentityVerifier.HEADER, InternalIdentityVerifierTest.sign(
+                InternalIdentityVerifierTest.SECRET, "7", "algo@algo.co.kr", "ROLE_USER", System.currentTimeMillis()));
+        return request;
+    }
+}
@@ -0,0 +1,164 @@
+package com.threego.algo.auth.command.infrastructure.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/* 설명. 로컬 SMTP(GreenMail)로 메일 발송 큐 동작 확인 */
+class MailDispatcherTest {
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl javaMailSender;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("큐에 넣은 메일이 모두 비동기로 발송되고 발송 지표가 기록됨")
+    @Test
+    void enqueuedMailsAreDeliveredTest() throws Exception {
+        // given
+        MailDispatcher mailDispatcher = new MailDispatcher(javaMailSender, executor, meterRegistry, 100, 5, 3, 10);
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            mailDispatcher.enqueue(createMail("algo" + i + "@algo.co.kr"));
+        }
+        mailDispatcher.drain();
+
+        // then
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(5000, 12));
+        Assertions.assertEquals(12, greenMail.getReceivedMessages().length);
+
+        // 지표는 SMTP 응답 이후에 기록되므로 잠시 기다린다.
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("mail.delivery.lag").timer().count() < 12 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertEquals(12, meterRegistry.get("mail.delivery.lag").timer().count());
+        Assertions.assertEquals(0.0, meterRegistry.get("mail.queue.depth").gauge().value());
+    }
+
+    @DisplayName("큐가 가득 차면 기다리지 않고 거절")
+    @Test
+    void fullQueueIsRejectedTest() throws Exception {
+        // given
+        ThreadPoolTaskExecutor idleExecutor = new ThreadPoolTaskExecutor();
+        idleExecutor.setCorePoolSize(1);
+        idleExecutor.setMaxPoolSize(1);
+        idleExecutor.setQueueCapacity(1);
+        idleExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        idleExecutor.initialize();
+        idleExecutor.execute(() -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        MailDispatcher mailDispatcher = new MailDispatcher(javaMailSender, idleExecutor, meterRegistry, 1, 5, 3, 10);
+        mailDispatcher.enqueue(createMail("algo1@algo.co.kr"));
+
+        // when & then
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> mailDispatcher.enqueue(createMail("algo2@algo.co.kr")));
+        Assertions.assertEquals(1.0, meterRegistry.get("mail.queue.rejected").counter().count());
+
+        idleExecutor.getThreadPoolExecutor().shutdownNow();
+    }
+
+    @DisplayName("SMTP 서버가 일시적으로 없으면 재시도 후 발송")
+    @Test
+    void failedMailIsRetriedTest() throws Exception {
+        // given
+        greenMail.stop();
+        MailDispatcher mailDispatcher = new MailDispatcher(javaMailSender, executor, meterRegistry, 100, 5, 5, 300);
+
+        // when
+        mailDispatcher.enqueue(createMail("algo@algo.co.kr"));
+        Thread.sleep(100);
+        greenMail.start();
+
+        // then
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        Assertions.assertEquals(0.0, meterRegistry.get("mail.send.failures").counter().count());
+    }
+
+    @DisplayName("SMTP 장애 중에도 주기 drain 은 스케줄러 스레드를 붙잡지 않고 워커에서 재시도")
+    @Test
+    void scheduledDrainDoesNotBlockSchedulerTest() throws Exception {
+        // given
+        greenMail.stop();
+        Set<String> sendThreads = ConcurrentHashMap.newKeySet();
+        JavaMailSenderImpl recordingSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                sendThreads.add(Thread.currentThread().getName());
+                super.send(mimeMessages);
+            }
+        };
+        recordingSender.setHost("localhost");
+        recordingSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        MailDispatcher mailDispatcher = new MailDispatcher(recordingSender, executor, meterRegistry, 100, 5, 3, 300);
+        mailDispatcher.enqueue(createMail("algo@algo.co.kr"));
+
+        // when
+        final long startedAt = System.nanoTime();
+        mailDispatcher.scheduleDrain();
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        Assertions.assertTrue(elapsedMillis < 100, "스케줄러 스레드가 재시도 대기에 묶이면 안 됨: " + elapsedMillis);
+        greenMail.start();
+        Assertions.assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        Assertions.assertFalse(sendThreads.contains(Thread.currentThread().getName()));
+        Assertions.assertTrue(sendThreads.stream().allMatch(name -> name.startsWith("mail-send-")), sendThreads.toString());
+    }
+
+    private MimeMessage createMail(String to) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        message.setFrom("noreply@algo.co.kr");
+        message.setRecipients(MimeMessage.RecipientType.TO, to);
+        message.setSubject("Algo 이메일 인증");
+        message.setText("123456", "UTF-8");
+        return message;
+    }
+}
@@ -2,6 +2,7 @@ package com.threego.algo.coding.command.application.service;
 
 import com.threego.algo.coding.command.domain.aggregate.CodingPost;
 import com.threego.algo.coding.command.domain.aggregate.CodingProblem;
+import com.threego.algo.coding.command.domain.aggregate.enums.AiFeedbackStatus;
 import com.threego.algo.common.util.DateTimeUtils;
 import com.threego.algo.member.command.domain.aggregate.enums.RankName;
 import org.junit.jupiter.api.DisplayName;
@@ -61,4 +62,14 @@ class CodingPostCommandServiceImplTest {
         codingPost.delete();
         assertEquals("N", codingPost.getVisibility());
     }
+
+    @DisplayName("코딩 게시물 AI 피드백 상태 전이 성공")
+    @Test
+    public void testAiFeedbackStatus() {
+        assertEquals(AiFeedbackStatus.PENDING, codingPost.getAiStatus());
+
+        codingPost.setAiFeedback("O(N)", "좋은 점", "아쉬운 점", "개선 방향");
+        assertEquals(AiFeedbackStatus.DONE, codingPost.getAiStatus());
+        assertEquals("O(N)", codingPost.getAiBigO());
+    }
 }
\ No newline at end of file
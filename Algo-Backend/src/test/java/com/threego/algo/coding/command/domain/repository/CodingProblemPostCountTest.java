@@ -0,0 +1,151 @@
+package com.threego.algo.coding.command.domain.repository;
+
+import com.threego.algo.coding.command.domain.aggregate.CodingPost;
+import com.threego.algo.coding.command.domain.aggregate.CodingProblem;
+import com.threego.algo.coding.command.domain.aggregate.enums.Platform;
+import com.threego.algo.member.command.domain.aggregate.Member;
+import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.member.command.domain.repository.MemberFixtures;
+import com.threego.algo.member.command.domain.repository.MemberRankRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* 설명. 코딩 문제 게시물 수 원자적 증감 테스트 (H2, MariaDB 호환 모드)
+ *  - 게시물 수가 많아도 문제의 게시물 컬렉션을 읽지 않고 카운트만 갱신하는지 Hibernate 통계로 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coding-problem-count;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CodingProblemPostCountTest {
+    private static final int SMALL_POST_COUNT = 10;
+    private static final int LARGE_POST_COUNT = 3000;
+
+    @Autowired
+    private CodingProblemRepository codingProblemRepository;
+
+    @Autowired
+    private CodingPostRepository codingPostRepository;
+
+    @Autowired
+    private MemberCommandRepository memberCommandRepository;
+
+    @Autowired
+    private MemberRankRepository memberRankRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = MemberFixtures.saveMember(memberCommandRepository,
+                MemberFixtures.saveRank(memberRankRepository), "coding");
+    }
+
+    @DisplayName("게시물 수와 관계없이 게시물 등록 시 컬렉션 로딩 없이 게시물 수가 1 증가")
+    @Test
+    void increasePostCountDoesNotLoadPostsTest() {
+        // given
+        final CodingProblem smallProblem = createProblemWithPosts(SMALL_POST_COUNT);
+        final CodingProblem largeProblem = createProblemWithPosts(LARGE_POST_COUNT);
+
+        // when
+        final long smallLoads = countLoadsWhile(() -> addPost(smallProblem.getId()));
+        final long largeLoads = countLoadsWhile(() -> addPost(largeProblem.getId()));
+
+        // then
+        Assertions.assertEquals(smallLoads, largeLoads);
+        Assertions.assertEquals(0, statistics.getCollectionLoadCount());
+        Assertions.assertEquals(SMALL_POST_COUNT + 1, findProblem(smallProblem.getId()).getPostCount());
+        Assertions.assertEquals(LARGE_POST_COUNT + 1, findProblem(largeProblem.getId()).getPostCount());
+    }
+
+    @DisplayName("게시물 삭제 시 게시물 수가 감소하고 0 미만으로 내려가지 않음")
+    @Test
+    void decreasePostCountTest() {
+        // given
+        final CodingProblem problem = createProblemWithPosts(1);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            codingProblemRepository.decreasePostCount(problem.getId());
+            codingProblemRepository.decreasePostCount(problem.getId());
+        });
+
+        // then
+        Assertions.assertEquals(0, findProblem(problem.getId()).getPostCount());
+    }
+
+    private CodingProblem createProblemWithPosts(final int postCount) {
+        final CodingProblem problem = codingProblemRepository.save(CodingProblem.builder()
+                .member(member)
+                .platform(Platform.BOJ)
+                .title("두 수의 합 " + System.nanoTime())
+                .problemUrl("https://www.acmicpc.net/problem/1000")
+                .difficulty("브론즈5")
+                .content("두 정수 A와 B를 입력받은 다음, A+B를 출력하는 프로그램을 작성하시오.")
+                .build());
+
+        final List<CodingPost> posts = new ArrayList<>();
+        for (int i = 0; i < postCount; i++) {
+            posts.add(new CodingPost(member, problem, "풀이 " + i, "print(sum(map(int, input().split())))"));
+        }
+        codingPostRepository.saveAll(posts);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < postCount; i++) {
+                codingProblemRepository.increasePostCount(problem.getId());
+            }
+        });
+        return problem;
+    }
+
+    // 게시물 등록 흐름: 문제 조회 → 게시물 저장 → 게시물 수 증가
+    private void addPost(final int problemId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final CodingProblem problem = codingProblemRepository.findById(problemId).orElseThrow();
+            codingPostRepository.save(new CodingPost(member, problem, "새 풀이", "print(1)"));
+            codingProblemRepository.increasePostCount(problem.getId());
+        });
+    }
+
+    private long countLoadsWhile(final Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getEntityLoadCount() + statistics.getCollectionLoadCount();
+    }
+
+    private CodingProblem findProblem(final int problemId) {
+        return codingProblemRepository.findById(problemId).orElseThrow();
+    }
+}
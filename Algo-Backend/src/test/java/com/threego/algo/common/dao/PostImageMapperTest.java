@@ -0,0 +1,55 @@
+package com.threego.algo.common.dao;
+
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+
+import java.util.Map;
+
+/* 설명. 게시판 구분별 이미지/게시물 테이블 선택 SQL 테스트 */
+@MybatisTest(properties = "spring.datasource.url=jdbc:h2:mem:post-image;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostImageMapperTest {
+
+    private static final String NAMESPACE = "com.threego.algo.common.dao.PostImageMapper.";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @DisplayName("모든 게시판 구분이 자기 테이블로 이어지고, 등록하지 않은 값은 다른 테이블로 넘기지 않고 실패")
+    @Test
+    void everyBoardIsMappedTest() {
+        // given
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+
+        // when & then
+        for (ImageBoard board : ImageBoard.values()) {
+            Map<String, Object> params = Map.of("board", board, "imageId", 1, "status", "DONE", "postId", 1);
+            Assertions.assertTrue(boundSql(configuration, "updateThumbnailStatus", params)
+                    .contains("UPDATE " + board.name() + "_POST_IMAGE SET"), board.name());
+            Assertions.assertTrue(boundSql(configuration, "selectVisiblePostWriterId", params)
+                    .contains("FROM " + board.name() + "_POST A"), board.name());
+        }
+
+        Map<String, Object> unknown = Map.of("board", ReportTargetTable.ALGO_POST, "imageId", 1, "status", "DONE",
+                "postId", 1);
+        RuntimeException imageException = Assertions.assertThrows(RuntimeException.class,
+                () -> boundSql(configuration, "updateThumbnailStatus", unknown));
+        RuntimeException postException = Assertions.assertThrows(RuntimeException.class,
+                () -> boundSql(configuration, "selectVisiblePostWriterId", unknown));
+        Assertions.assertTrue(imageException.getMessage().contains("등록되지 않은 테이블"));
+        Assertions.assertTrue(postException.getMessage().contains("등록되지 않은 테이블"));
+    }
+
+    private String boundSql(Configuration configuration, String statement, Map<String, Object> params) {
+        return configuration.getMappedStatement(NAMESPACE + statement).getBoundSql(params).getSql()
+                .replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,232 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dao.PostImageMapper;
+import com.threego.algo.common.dto.ImageUploadConfirmRequestDTO;
+import com.threego.algo.common.dto.ImageUploadFileDTO;
+import com.threego.algo.common.dto.PresignedImageUploadRequestDTO;
+import com.threego.algo.common.dto.PresignedImageUploadResponseDTO;
+import com.threego.algo.common.event.PostImagesSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.context.ApplicationEventPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/* 설명. presigned URL 발급 -> 클라이언트 직접 PUT -> 업로드 확인 흐름을 로컬 S3 대역(LocalS3StandIn)으로 확인 */
+@ExtendWith(MockitoExtension.class)
+class ImageDirectUploadServiceTest {
+    private static final int POST_ID = 7;
+    private static final int MEMBER_ID = 3;
+
+    @Mock
+    private PostImageMapper postImageMapper;
+
+    @Mock
+    private AlgoContentCache algoContentCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private LocalS3StandIn s3;
+    private S3AsyncClient s3AsyncClient;
+    private S3Presigner s3Presigner;
+    private ImageDirectUploadService imageDirectUploadService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new LocalS3StandIn();
+        s3AsyncClient = s3.asyncClient();
+        s3Presigner = s3.presigner();
+        imageDirectUploadService = new ImageDirectUploadService(s3Presigner, s3AsyncClient,
+                LocalS3StandIn.s3Service(), postImageMapper, algoContentCache, eventPublisher, 300, 10, 10);
+        lenient().when(postImageMapper.selectVisiblePostWriterId(any(), eq(POST_ID))).thenReturn(MEMBER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+        s3AsyncClient.close();
+        s3.close();
+    }
+
+    @DisplayName("발급받은 URL 로 직접 올린 이미지를 확인한 뒤 INSERT 한 번으로 저장")
+    @Test
+    void presignUploadAndConfirmTest() throws Exception {
+        // given
+        final List<PresignedImageUploadResponseDTO> uploads = imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.CODING, List.of(
+                        file("first.png", "image/png", 1024),
+                        file("second.jpg", "image/jpeg", 2048))));
+
+        for (PresignedImageUploadResponseDTO upload : uploads) {
+            Assertions.assertEquals("image/" + (upload.getFileName().endsWith(".png") ? "png" : "jpeg"),
+                    upload.getHeaders().get("content-type"));
+            putDirectly(upload, upload.getFileName().endsWith(".png") ? 1024 : 2048);
+        }
+
+        final List<String> imageUrls = uploads.stream()
+                .map(PresignedImageUploadResponseDTO::getImageUrl)
+                .collect(Collectors.toList());
+        when(postImageMapper.insertImages(eq(ImageBoard.CODING), eq(POST_ID), eq(imageUrls), anyString())).thenReturn(2);
+
+        // when
+        final List<String> confirmed = imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.CODING, POST_ID, imageUrls));
+
+        // then
+        Assertions.assertEquals(imageUrls, confirmed);
+        Assertions.assertEquals(2, s3.objects().size());
+        Assertions.assertTrue(s3.objects().keySet().stream().allMatch(key -> key.startsWith("coding-posts/")));
+        verify(postImageMapper).insertImages(eq(ImageBoard.CODING), eq(POST_ID), eq(imageUrls), anyString());
+        verify(algoContentCache, never()).evictPost(anyInt());
+        verify(eventPublisher).publishEvent(any(PostImagesSavedEvent.class));
+    }
+
+    @DisplayName("validateImageFile 규칙에 맞지 않는 파일은 URL 을 발급하지 않음")
+    @Test
+    void invalidFileIsNotPresignedTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.STUDY, List.of(
+                        file("large.png", "image/png", S3Service.MAX_IMAGE_SIZE + 1)))));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.STUDY, List.of(
+                        file("first.png", "image/png", 1024),
+                        file("script.js", "text/javascript", 1024)))));
+    }
+
+    @DisplayName("업로드되지 않은 이미지는 확인에 실패하고 저장하지 않음")
+    @Test
+    void missingObjectIsRejectedTest() {
+        // given
+        final PresignedImageUploadResponseDTO upload = imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.ALGO, List.of(file("first.png", "image/png", 1024))))
+                .get(0);
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.ALGO, POST_ID, List.of(upload.getImageUrl()))));
+        verify(postImageMapper, never()).insertImages(any(), anyInt(), any(), anyString());
+    }
+
+    @DisplayName("다른 게시판 폴더의 이미지는 확인하지 않음")
+    @Test
+    void otherBoardImageIsRejectedTest() throws Exception {
+        // given
+        final PresignedImageUploadResponseDTO upload = imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.STUDY, List.of(file("first.png", "image/png", 1024))))
+                .get(0);
+        putDirectly(upload, 1024);
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.CODING, POST_ID, List.of(upload.getImageUrl()))));
+        verify(postImageMapper, never()).insertImages(any(), anyInt(), any(), anyString());
+    }
+
+    @DisplayName("올라간 객체가 이미지가 아니면 삭제하고 저장하지 않음")
+    @Test
+    void nonImageObjectIsDeletedTest() {
+        // given
+        final String key = "algo-posts/uploaded_first.png";
+        s3.put(key, "text/html", "<script></script>".getBytes(StandardCharsets.UTF_8));
+        final String imageUrl = "https://" + LocalS3StandIn.BUCKET + ".s3." + LocalS3StandIn.REGION
+                + ".amazonaws.com/" + key;
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.ALGO, POST_ID, List.of(imageUrl))));
+        verify(postImageMapper, never()).insertImages(any(), anyInt(), any(), anyString());
+
+        // 삭제는 비동기라 잠시 기다린다.
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (s3.objects().containsKey(key) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        Assertions.assertFalse(s3.objects().containsKey(key));
+    }
+
+    @DisplayName("다른 회원의 게시물이나 숨겨진 게시물에는 이미지를 등록하지 않음")
+    @Test
+    void notOwnedOrHiddenPostIsRejectedTest() throws Exception {
+        // given
+        final PresignedImageUploadResponseDTO upload = imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.CODING, List.of(file("first.png", "image/png", 1024))))
+                .get(0);
+        putDirectly(upload, 1024);
+        when(postImageMapper.selectVisiblePostWriterId(ImageBoard.CODING, POST_ID + 1)).thenReturn(null);
+
+        // when & then
+        Assertions.assertThrows(AccessDeniedException.class, () -> imageDirectUploadService.confirmUploads(MEMBER_ID + 1,
+                new ImageUploadConfirmRequestDTO(ImageBoard.CODING, POST_ID, List.of(upload.getImageUrl()))));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.CODING, POST_ID + 1, List.of(upload.getImageUrl()))));
+        verify(postImageMapper, never()).insertImages(any(), anyInt(), any(), anyString());
+    }
+
+    @DisplayName("이미 연결된 이미지만 다시 확인하면 썸네일 생성/캐시 무효화를 하지 않음")
+    @Test
+    void alreadyAttachedImageIsSkippedTest() throws Exception {
+        // given
+        final PresignedImageUploadResponseDTO upload = imageDirectUploadService.createUploadUrls(
+                new PresignedImageUploadRequestDTO(ImageBoard.ALGO, List.of(file("first.png", "image/png", 1024))))
+                .get(0);
+        putDirectly(upload, 1024);
+        when(postImageMapper.insertImages(eq(ImageBoard.ALGO), eq(POST_ID), any(), anyString())).thenReturn(0);
+
+        // when
+        final List<String> confirmed = imageDirectUploadService.confirmUploads(MEMBER_ID,
+                new ImageUploadConfirmRequestDTO(ImageBoard.ALGO, POST_ID, List.of(upload.getImageUrl(), upload.getImageUrl())));
+
+        // then
+        Assertions.assertEquals(List.of(upload.getImageUrl()), confirmed);
+        verify(algoContentCache, never()).evictPost(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(PostImagesSavedEvent.class));
+    }
+
+    private static ImageUploadFileDTO file(String fileName, String contentType, long size) {
+        return new ImageUploadFileDTO(fileName, contentType, size);
+    }
+
+    // 클라이언트가 서버를 거치지 않고 S3 에 직접 PUT (Content-Length 는 HttpClient 가 채움)
+    private static void putDirectly(PresignedImageUploadResponseDTO upload, int size) throws Exception {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(upload.getUploadUrl()))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(new byte[size]));
+        upload.getHeaders().forEach((name, value) -> {
+            if (!"content-length".equalsIgnoreCase(name)) {
+                request.header(name, value);
+            }
+        });
+
+        final HttpResponse<Void> response = HttpClient.newHttpClient()
+                .send(request.build(), HttpResponse.BodyHandlers.discarding());
+        Assertions.assertEquals(200, response.statusCode());
+    }
+}
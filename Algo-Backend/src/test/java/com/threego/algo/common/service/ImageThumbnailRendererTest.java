@@ -0,0 +1,89 @@
+package com.threego.algo.common.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+class ImageThumbnailRendererTest {
+
+    private final ImageThumbnailRenderer renderer = new ImageThumbnailRenderer(0.8f, 40_000_000L, true);
+
+    @DisplayName("너비별로 비율을 유지한 JPEG 썸네일 생성")
+    @Test
+    void renderWidthsTest() throws IOException {
+        // given
+        final byte[] source = image(2000, 1000, "png");
+
+        // when
+        final Map<Integer, byte[]> thumbnails = renderer.render(new ByteArrayInputStream(source), new int[]{640, 320});
+
+        // then
+        Assertions.assertEquals(2, thumbnails.size());
+        final BufferedImage small = ImageIO.read(new ByteArrayInputStream(thumbnails.get(320)));
+        final BufferedImage large = ImageIO.read(new ByteArrayInputStream(thumbnails.get(640)));
+        Assertions.assertEquals(320, small.getWidth());
+        Assertions.assertEquals(160, small.getHeight());
+        Assertions.assertEquals(640, large.getWidth());
+        Assertions.assertEquals(320, large.getHeight());
+    }
+
+    @DisplayName("원본보다 큰 너비는 원본 크기로 만들고 늘리지 않음")
+    @Test
+    void noUpscaleTest() throws IOException {
+        // given
+        final byte[] source = image(200, 100, "png");
+
+        // when
+        final Map<Integer, byte[]> thumbnails = renderer.render(new ByteArrayInputStream(source), new int[]{320, 640});
+
+        // then
+        final BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(thumbnails.get(640)));
+        Assertions.assertEquals(200, thumbnail.getWidth());
+        Assertions.assertEquals(100, thumbnail.getHeight());
+    }
+
+    @DisplayName("이미지가 아니거나 픽셀 수 제한을 넘으면 IllegalArgumentException")
+    @Test
+    void invalidSourceTest() throws IOException {
+        // given
+        final byte[] text = "not an image".getBytes(StandardCharsets.UTF_8);
+        final ImageThumbnailRenderer limited = new ImageThumbnailRenderer(0.8f, 10_000L, true);
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> renderer.render(new ByteArrayInputStream(text), new int[]{320}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> limited.render(new ByteArrayInputStream(image(200, 100, "png")), new int[]{320}));
+    }
+
+    @DisplayName("썸네일 키는 원본과 같은 폴더에 너비를 붙인 jpg")
+    @Test
+    void thumbnailKeyTest() {
+        Assertions.assertEquals("algo-posts/uuid_cat_w320.jpg",
+                ImageThumbnails.thumbnailKey("algo-posts/uuid_cat.png", 320));
+        Assertions.assertEquals("https://bucket.s3.ap-northeast-2.amazonaws.com/study-posts/uuid_a.b_w640.jpg",
+                ImageThumbnails.thumbnailKey("https://bucket.s3.ap-northeast-2.amazonaws.com/study-posts/uuid_a.b.webp", 640));
+        Assertions.assertEquals("coding-posts/uuid_noext_w320.jpg",
+                ImageThumbnails.thumbnailKey("coding-posts/uuid_noext", 320));
+    }
+
+    private static byte[] image(int width, int height, String format) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, ((x + y) % 2 == 0) ? 0xFF3366CC : 0x00000000);
+            }
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,177 @@
+package com.threego.algo.common.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/* 설명. 테스트용 로컬 S3 대역 (JDK HttpServer, 경로 스타일 /{bucket}/{key})
+ *  - PUT / HEAD / DELETE 만 지원하고 서명은 검사하지 않는다.
+ *  - PUT 은 MD5 ETag 를 돌려주며, 키에 "broken" 이 들어가면 AccessDenied 로 실패시킨다.
+ *  - PUT 마다 잠시 지연시켜 동시에 처리 중인 PUT 수의 최댓값을 기록한다.
+ */
+class LocalS3StandIn implements AutoCloseable {
+    static final String BUCKET = "algo-test-bucket";
+    static final String REGION = "ap-northeast-2";
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    LocalS3StandIn() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    S3AsyncClient asyncClient() {
+        return S3AsyncClient.builder()
+                .endpointOverride(endpoint())
+                .forcePathStyle(true)
+                .region(Region.of(REGION))
+                .credentialsProvider(credentials())
+                .build();
+    }
+
+    S3Presigner presigner() {
+        return S3Presigner.builder()
+                .endpointOverride(endpoint())
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .region(Region.of(REGION))
+                .credentialsProvider(credentials())
+                .build();
+    }
+
+    // 업로드에 쓰는 S3Client 는 필요 없으므로 null
+    static S3Service s3Service() {
+        final S3Service s3Service = new S3Service(null);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "region", REGION);
+        return s3Service;
+    }
+
+    Map<String, StoredObject> objects() {
+        return objects;
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    void put(String key, String contentType, byte[] bytes) {
+        objects.put(key, new StoredObject(contentType, bytes));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static StaticCredentialsProvider credentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final String key = exchange.getRequestURI().getPath().substring(BUCKET.length() + 2);
+
+        try (InputStream body = exchange.getRequestBody()) {
+            final byte[] bytes = body.readAllBytes();
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> handlePut(exchange, key, bytes);
+                case "HEAD" -> handleHead(exchange, key);
+                case "DELETE" -> {
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handlePut(HttpExchange exchange, String key, byte[] bytes) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        if (key.contains("broken")) {
+            final byte[] error = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                    + "<Error><Code>AccessDenied</Code><Message>Access Denied</Message></Error>")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/xml");
+            exchange.sendResponseHeaders(403, error.length);
+            exchange.getResponseBody().write(error);
+            return;
+        }
+
+        put(key, exchange.getRequestHeaders().getFirst("Content-Type"), bytes);
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(bytes) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void handleHead(HttpExchange exchange, String key) throws IOException {
+        final StoredObject object = objects.get(key);
+        if (object == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", object.contentType);
+        exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.bytes.length));
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(object.bytes) + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private static String md5Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class StoredObject {
+        final String contentType;
+        final byte[] bytes;
+
+        StoredObject(String contentType, byte[] bytes) {
+            this.contentType = contentType;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.threego.algo.common.service;
+
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.common.dto.PostImageDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/* 설명. 게시물 이미지 일괄 조회 테스트 (H2)
+ *  - 실제 PostImageMapper 로 조회하고, DataSource 를 감싸 JDBC 로 실행된 SQL 문 수를 센다.
+ */
+@MybatisTest
+@Import({PostImageLoader.class, PostImageLoaderTest.StatementCounterConfig.class})
+class PostImageLoaderTest {
+
+    @Autowired
+    private PostImageLoader postImageLoader;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    static class Post {
+        final int id;
+        List<PostImageDTO> images;
+
+        Post(int id) {
+            this.id = id;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String table : List.of("ALGO_POST_IMAGE", "CODING_POST_IMAGE", "STUDY_POST_IMAGE")) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                    + " ID INT AUTO_INCREMENT PRIMARY KEY,"
+                    + " POST_ID INT NOT NULL,"
+                    + " IMAGE_URL VARCHAR(255) NOT NULL,"
+                    + " CREATED_AT VARCHAR(19),"
+                    + " THUMBNAIL_STATUS VARCHAR(10) NOT NULL DEFAULT 'PENDING')");
+        }
+    }
+
+    @DisplayName("게시물 수와 관계없이 이미지 조회 SQL 은 한 번만 실행된다")
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void attachImagesIssuesSingleQueryTest(int postCount) {
+        // given
+        final List<Post> posts = IntStream.rangeClosed(1, postCount)
+                .mapToObj(Post::new)
+                .collect(Collectors.toList());
+        final List<Object[]> rows = new ArrayList<>();
+        posts.forEach(post -> {
+            rows.add(new Object[]{post.id, "https://img/" + post.id + "/1.png"});
+            rows.add(new Object[]{post.id, "https://img/" + post.id + "/2.png"});
+        });
+        jdbcTemplate.batchUpdate("INSERT INTO CODING_POST_IMAGE (POST_ID, IMAGE_URL, CREATED_AT)"
+                + " VALUES (?, ?, '2025-01-01 00:00:00')", rows);
+        StatementCounterConfig.STATEMENTS.set(0);
+
+        // when
+        postImageLoader.attachImages(ImageBoard.CODING, posts, post -> post.id, (post, list) -> post.images = list);
+
+        // then
+        Assertions.assertEquals(1, StatementCounterConfig.STATEMENTS.get());
+        posts.forEach(post -> {
+            Assertions.assertEquals(2, post.images.size());
+            Assertions.assertEquals("https://img/" + post.id + "/1.png", post.images.get(0).getImageUrl());
+        });
+    }
+
+    @DisplayName("이미지가 없는 게시물은 빈 목록이 연결된다")
+    @Test
+    void attachImagesWithoutImagesTest() {
+        // given
+        final List<Post> posts = List.of(new Post(1), new Post(2));
+        jdbcTemplate.update("INSERT INTO ALGO_POST_IMAGE (POST_ID, IMAGE_URL) VALUES (1, 'https://img/1.png')");
+
+        // when
+        postImageLoader.attachImages(ImageBoard.ALGO, posts, post -> post.id, (post, list) -> post.images = list);
+
+        // then
+        Assertions.assertEquals(1, posts.get(0).images.size());
+        Assertions.assertEquals("PENDING", posts.get(0).images.get(0).getThumbnailStatus());
+        Assertions.assertTrue(posts.get(1).images.isEmpty());
+    }
+
+    @DisplayName("조회할 게시물이 없으면 SQL 을 실행하지 않는다")
+    @Test
+    void loadImagesWithEmptyPostIdsTest() {
+        // given
+        StatementCounterConfig.STATEMENTS.set(0);
+
+        // when
+        final Map<Integer, List<PostImageDTO>> result = postImageLoader.loadImages(ImageBoard.STUDY, List.of());
+
+        // then
+        Assertions.assertTrue(result.isEmpty());
+        Assertions.assertEquals(0, StatementCounterConfig.STATEMENTS.get());
+    }
+
+    /* 설명. DataSource 가 내주는 커넥션을 감싸 prepareStatement / createStatement 호출 수를 센다. */
+    @TestConfiguration
+    static class StatementCounterConfig {
+        static final AtomicInteger STATEMENTS = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource)) {
+                        return bean;
+                    }
+                    final DataSource target = (DataSource) bean;
+                    return Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                            (proxy, method, args) -> {
+                                final Object result = invoke(target, method, args);
+                                return result instanceof Connection ? countingConnection((Connection) result) : result;
+                            });
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")
+                                || method.getName().equals("prepareCall")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        return invoke(connection, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.threego.algo.common.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/* 설명. 로컬 S3 대역(LocalS3StandIn)으로 병렬 업로드/보상 삭제 확인 */
+class S3ImageUploaderTest {
+    private static final int MAX_CONCURRENCY = 3;
+
+    private LocalS3StandIn s3;
+    private S3AsyncClient s3AsyncClient;
+    private S3ImageUploader s3ImageUploader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new LocalS3StandIn();
+        s3AsyncClient = s3.asyncClient();
+        s3ImageUploader = new S3ImageUploader(s3AsyncClient, LocalS3StandIn.s3Service(), new SimpleMeterRegistry(),
+                MAX_CONCURRENCY, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3AsyncClient.close();
+        s3.close();
+    }
+
+    @DisplayName("여러 이미지를 동시 업로드 수 제한 안에서 병렬로 올리고 입력 순서대로 URL 반환")
+    @Test
+    void uploadAllInParallelTest() {
+        // given
+        final List<MultipartFile> images = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            images.add(image("image" + i + ".png"));
+        }
+        images.add(new MockMultipartFile("images", "empty.png", "image/png", new byte[0]));
+
+        // when
+        final List<String> imageUrls = s3ImageUploader.uploadAll(images, "algo-posts");
+
+        // then
+        Assertions.assertEquals(8, imageUrls.size());
+        Assertions.assertEquals(8, s3.objects().size());
+        final String urlPrefix = "https://" + LocalS3StandIn.BUCKET + ".s3." + LocalS3StandIn.REGION
+                + ".amazonaws.com/algo-posts/";
+        for (int i = 0; i < 8; i++) {
+            Assertions.assertTrue(imageUrls.get(i).startsWith(urlPrefix));
+            Assertions.assertTrue(imageUrls.get(i).endsWith("_image" + i + ".png"));
+        }
+        Assertions.assertTrue(s3.maxInFlight() > 1);
+        Assertions.assertTrue(s3.maxInFlight() <= MAX_CONCURRENCY);
+    }
+
+    @DisplayName("하나라도 업로드에 실패하면 이미 올라간 이미지를 모두 삭제")
+    @Test
+    void failedUploadIsCompensatedTest() {
+        // given
+        final List<MultipartFile> images = List.of(image("first.png"), image("broken.png"), image("third.png"));
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> s3ImageUploader.uploadAll(images, "coding-posts"));
+        Assertions.assertTrue(s3.objects().isEmpty());
+    }
+
+    @DisplayName("검증에 실패한 이미지가 있으면 아무것도 업로드하지 않음")
+    @Test
+    void invalidImageIsRejectedBeforeUploadTest() {
+        // given
+        final List<MultipartFile> images = List.of(image("first.png"),
+                new MockMultipartFile("images", "note.txt", "text/plain", "text".getBytes(StandardCharsets.UTF_8)));
+
+        // when & then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> s3ImageUploader.uploadAll(images, "study-posts"));
+        Assertions.assertTrue(s3.objects().isEmpty());
+        Assertions.assertEquals(0, s3.maxInFlight());
+    }
+
+    @DisplayName("DB 저장이 실패하면 업로드한 이미지를 삭제하고 예외를 그대로 전달")
+    @Test
+    void failedSaveIsCompensatedTest() {
+        // given
+        final List<String> imageUrls = s3ImageUploader.uploadAll(
+                List.of(image("first.png"), image("second.png")), "study-posts");
+        Assertions.assertEquals(2, s3.objects().size());
+
+        // when
+        final IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> s3ImageUploader.compensateOnFailure(imageUrls, () -> {
+                    throw new IllegalStateException("커밋 실패");
+                }));
+
+        // then
+        Assertions.assertEquals("커밋 실패", exception.getMessage());
+        Assertions.assertTrue(s3.objects().isEmpty());
+    }
+
+    private static MockMultipartFile image(String fileName) {
+        return new MockMultipartFile("images", fileName, "image/png", fileName.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,164 @@
+package com.threego.algo.likes.command.infrastructure.service;
+
+import com.threego.algo.likes.command.application.event.LikesFlushedEvent;
+import com.threego.algo.likes.command.domain.aggregate.enums.Type;
+import com.threego.algo.likes.query.dao.LikesMapper;
+import com.threego.algo.likes.query.dto.UncountedLikeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBufferTest {
+    @Mock
+    private LikesMapper likesMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ThreadPoolTaskExecutor flushExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        likeWriteBuffer = new LikeWriteBuffer(likesMapper, transactionManager, eventPublisher, flushExecutor,
+                meterRegistry, 1000, 3, 60000);
+    }
+
+    @DisplayName("같은 회원의 같은 게시물 추천은 대기 중에 한 번만 받음")
+    @Test
+    void duplicateLikeIsRejectedWhilePendingTest() {
+        // when
+        boolean first = likeWriteBuffer.offer(1, 10, Type.ALGO_POST);
+        boolean second = likeWriteBuffer.offer(1, 10, Type.ALGO_POST);
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertTrue(likeWriteBuffer.isPending(1, 10, Type.ALGO_POST));
+        Assertions.assertEquals(1, likeWriteBuffer.countPending(10, Type.ALGO_POST));
+    }
+
+    @DisplayName("대기 목록이 가득 차면 새 추천을 거절")
+    @Test
+    void fullBufferRejectsLikeTest() {
+        // given
+        for (int memberId = 1; memberId <= 3; memberId++) {
+            likeWriteBuffer.offer(memberId, 10, Type.CODING_POST);
+        }
+
+        // when & then
+        Assertions.assertThrows(IllegalStateException.class, () -> likeWriteBuffer.offer(4, 10, Type.CODING_POST));
+        Assertions.assertEquals(1.0, meterRegistry.get("likes.write-behind.rejected").counter().count());
+        Assertions.assertEquals(3, likeWriteBuffer.countPending(10, Type.CODING_POST));
+    }
+
+    @DisplayName("flush 시 미반영 추천을 게시물별로 모아 추천 수와 작성자 포인트를 저장된 건수만큼 증가")
+    @Test
+    void flushAggregatesPerPostTest() {
+        // given
+        likeWriteBuffer.offer(1, 10, Type.ALGO_POST);
+        likeWriteBuffer.offer(1, 20, Type.CODING_POST);
+
+        final List<UncountedLikeDTO> uncounted = new ArrayList<>();
+        for (int memberId = 1; memberId <= 100; memberId++) {
+            uncounted.add(new UncountedLikeDTO(memberId, memberId, Type.ALGO_POST, 10));
+        }
+        uncounted.add(new UncountedLikeDTO(101, 1, Type.CODING_POST, 20));
+        uncounted.add(new UncountedLikeDTO(102, 2, Type.CODING_POST, 20));
+        when(likesMapper.selectUncountedLikes(1000)).thenReturn(uncounted);
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(likesMapper).increaseLikeCount("ALGO_POST", 10, 100);
+        verify(likesMapper).increaseLikeCount("CODING_POST", 20, 2);
+        verify(likesMapper, never()).increaseWriterPoint(eq("ALGO_POST"), anyInt(), anyInt());
+        verify(likesMapper).increaseWriterPoint("CODING_POST", 20, 2);
+        verify(likesMapper).markLikesCounted(argThat(likeIds -> likeIds.size() == 102));
+        verify(eventPublisher, times(2)).publishEvent(any(LikesFlushedEvent.class));
+
+        Assertions.assertEquals(0, likeWriteBuffer.countPending(10, Type.ALGO_POST));
+        Assertions.assertEquals(0, likeWriteBuffer.countPending(20, Type.CODING_POST));
+        Assertions.assertFalse(likeWriteBuffer.isPending(1, 10, Type.ALGO_POST));
+        Assertions.assertEquals(102.0, meterRegistry.get("likes.write-behind.flush.size").summary().totalAmount());
+    }
+
+    @DisplayName("flush 실패 시 대기 상태를 유지하고 다음 flush 에서 재시도")
+    @Test
+    void failedFlushIsRetriedTest() {
+        // given
+        likeWriteBuffer.offer(1, 10, Type.CAREER_INFO_POST);
+
+        when(likesMapper.selectUncountedLikes(1000))
+                .thenThrow(new RuntimeException("DB 연결 실패"))
+                .thenReturn(List.of(new UncountedLikeDTO(1, 1, Type.CAREER_INFO_POST, 10)));
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        Assertions.assertTrue(likeWriteBuffer.isPending(1, 10, Type.CAREER_INFO_POST));
+        Assertions.assertEquals(1, likeWriteBuffer.countPending(10, Type.CAREER_INFO_POST));
+        verify(likesMapper, never()).increaseLikeCount(anyString(), anyInt(), anyInt());
+        Assertions.assertEquals(1.0, meterRegistry.get("likes.write-behind.flush.failures").counter().count());
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(likesMapper).increaseLikeCount("CAREER_INFO_POST", 10, 1);
+        verify(likesMapper).increaseWriterPoint("CAREER_INFO_POST", 10, 1);
+        verify(likesMapper).markLikesCounted(List.of(1));
+        Assertions.assertFalse(likeWriteBuffer.isPending(1, 10, Type.CAREER_INFO_POST));
+    }
+
+    @DisplayName("다른 인스턴스가 반영한 추천은 pending-ttl 이 지나면 대기 목록에서 빠짐")
+    @Test
+    void expiredPendingLikeIsReleasedTest() {
+        // given
+        LikeWriteBuffer shortTtlBuffer = new LikeWriteBuffer(likesMapper, transactionManager, eventPublisher,
+                flushExecutor, meterRegistry, 1000, 3, 0);
+        shortTtlBuffer.offer(1, 10, Type.ALGO_POST);
+        when(likesMapper.selectUncountedLikes(1000)).thenReturn(List.of());
+
+        // when
+        shortTtlBuffer.flush();
+
+        // then
+        Assertions.assertFalse(shortTtlBuffer.isPending(1, 10, Type.ALGO_POST));
+        Assertions.assertEquals(0, shortTtlBuffer.countPending(10, Type.ALGO_POST));
+        verify(likesMapper, never()).markLikesCounted(anyCollection());
+    }
+}
@@ -0,0 +1,30 @@
+package com.threego.algo.member.command.domain.repository;
+
+import com.threego.algo.common.util.DateTimeUtils;
+import com.threego.algo.member.command.domain.aggregate.Member;
+import com.threego.algo.member.command.domain.aggregate.MemberRank;
+import com.threego.algo.member.command.domain.aggregate.enums.RankName;
+
+/* 설명. 저장소 테스트(H2)에서 함께 쓰는 회원 등급 / 회원 데이터
+ *  - 이메일, 닉네임은 유니크이므로 System.nanoTime 으로 매번 다른 값을 만든다.
+ */
+public final class MemberFixtures {
+
+    private MemberFixtures() {
+    }
+
+    public static MemberRank saveRank(final MemberRankRepository memberRankRepository) {
+        final MemberRank memberRank = new MemberRank();
+        memberRank.setName(RankName.valueOf("코뉴비"));
+        memberRank.setMinPoint(0);
+        memberRank.setImageUrl("https://fastly.picsum.photos/id/1001/200/300.jpg");
+        return memberRankRepository.save(memberRank);
+    }
+
+    public static Member saveMember(final MemberCommandRepository memberCommandRepository,
+                                    final MemberRank memberRank, final String prefix) {
+        final long suffix = System.nanoTime();
+        return memberCommandRepository.save(new Member(prefix + suffix + "@algo.co.kr",
+                "pass01", prefix + suffix, memberRank, DateTimeUtils.nowDateTime()));
+    }
+}
@@ -0,0 +1,185 @@
+package com.threego.algo.report.command.infrastructure.service;
+
+import com.threego.algo.algorithm.query.service.AlgoContentCache;
+import com.threego.algo.auth.command.infrastructure.security.MemberStatusCache;
+import com.threego.algo.report.command.application.event.ReportCreatedEvent;
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dao.ReportModerationMapper;
+import com.threego.algo.report.query.dto.ReportTargetCountDTO;
+import com.threego.algo.search.command.application.event.SearchIndexEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportModerationWorkerTest {
+    private static final int ALGO_POST = ReportTargetTable.ALGO_POST.getCategoryId();
+    private static final int CODING_POST = ReportTargetTable.CODING_POST.getCategoryId();
+    private static final int CODING_COMMENT = ReportTargetTable.CODING_COMMENT.getCategoryId();
+
+    @Mock
+    private ReportModerationMapper reportModerationMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MemberStatusCache memberStatusCache;
+
+    @Mock
+    private AlgoContentCache algoContentCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ReportModerationWorker reportModerationWorker;
+
+    @BeforeEach
+    void setUp() {
+        reportModerationWorker = createWorker(10000);
+    }
+
+    @DisplayName("같은 대상의 신고가 여러 건이어도 카테고리마다 신고자 수 조회는 한 번")
+    @Test
+    void batchIsAggregatedPerCategoryTest() {
+        // given
+        for (int i = 0; i < 50; i++) {
+            reportModerationWorker.onReportCreated(new ReportCreatedEvent(ALGO_POST, 10, 1));
+            reportModerationWorker.onReportCreated(new ReportCreatedEvent(CODING_COMMENT, 20, 2));
+        }
+
+        when(reportModerationMapper.countReportersByTargetIds(anyInt(), anyCollection())).thenReturn(List.of());
+        when(reportModerationMapper.selectActiveMemberIdsReachingReporters(anyCollection(), eq(10))).thenReturn(List.of());
+
+        // when
+        reportModerationWorker.process();
+
+        // then
+        verify(reportModerationMapper).countReportersByTargetIds(ALGO_POST, Set.of(10));
+        verify(reportModerationMapper).countReportersByTargetIds(CODING_COMMENT, Set.of(20));
+        verify(reportModerationMapper).selectActiveMemberIdsReachingReporters(Set.of(1, 2), 10);
+        verify(reportModerationMapper, never()).hideTargets(any(), anyCollection());
+        verify(reportModerationMapper, never()).blockMembers(anyCollection());
+        Assertions.assertEquals(0.0, meterRegistry.get("report.moderation.queue.depth").gauge().value());
+    }
+
+    @DisplayName("기준 이상 신고된 댓글은 게시물 댓글 수를 줄인 뒤 숨김")
+    @Test
+    void reachedCommentIsHiddenWithCommentCountTest() {
+        // given
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(CODING_COMMENT, 20, 2));
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(CODING_COMMENT, 21, 3));
+
+        when(reportModerationMapper.countReportersByTargetIds(eq(CODING_COMMENT), anyCollection()))
+                .thenReturn(List.of(new ReportTargetCountDTO(20, 5), new ReportTargetCountDTO(21, 4)));
+        when(reportModerationMapper.selectVisibleTargetIdsForUpdate(ReportTargetTable.CODING_COMMENT, List.of(20)))
+                .thenReturn(List.of(20));
+        when(reportModerationMapper.selectActiveMemberIdsReachingReporters(anyCollection(), anyInt())).thenReturn(List.of());
+
+        // when
+        reportModerationWorker.process();
+
+        // then
+        verify(reportModerationMapper).decreaseParentCommentCounts(ReportTargetTable.CODING_COMMENT, List.of(20));
+        verify(reportModerationMapper).hideTargets(ReportTargetTable.CODING_COMMENT, List.of(20));
+        verify(eventPublisher, never()).publishEvent(any(SearchIndexEvent.class));
+        Assertions.assertEquals(1.0, meterRegistry.get("report.moderation.actions").tag("action", "hide").counter().count());
+    }
+
+    @DisplayName("기준 이상 신고된 게시물은 숨기고 검색 색인/캐시 갱신, 회원은 정지 후 상태 캐시 제거")
+    @Test
+    void reachedPostAndMemberAreModeratedTest() {
+        // given
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(ALGO_POST, 10, 1));
+
+        when(reportModerationMapper.countReportersByTargetIds(eq(ALGO_POST), anyCollection()))
+                .thenReturn(List.of(new ReportTargetCountDTO(10, 7)));
+        when(reportModerationMapper.selectVisibleTargetIdsForUpdate(ReportTargetTable.ALGO_POST, List.of(10)))
+                .thenReturn(List.of(10));
+        when(reportModerationMapper.selectActiveMemberIdsReachingReporters(Set.of(1), 10)).thenReturn(List.of(1));
+
+        // when
+        reportModerationWorker.process();
+
+        // then
+        final InOrder inOrder = inOrder(reportModerationMapper);
+        inOrder.verify(reportModerationMapper).decreaseRoadmapQuestionCounts(List.of(10));
+        inOrder.verify(reportModerationMapper).decreaseMemberProgresses(List.of(10));
+        inOrder.verify(reportModerationMapper).hideTargets(ReportTargetTable.ALGO_POST, List.of(10));
+        verify(reportModerationMapper, never()).decreaseParentCommentCounts(any(), anyCollection());
+        verify(reportModerationMapper, never()).decreaseProblemPostCounts(anyCollection());
+        verify(eventPublisher).publishEvent(any(SearchIndexEvent.class));
+        verify(algoContentCache).evictPost(10);
+        verify(algoContentCache).evictRoadmaps();
+        verify(reportModerationMapper).blockMembers(List.of(1));
+        verify(memberStatusCache).evict(1);
+    }
+
+    @DisplayName("기준 이상 신고된 코딩 게시물은 숨기기 전에 문제별 게시물 수를 줄임")
+    @Test
+    void reachedCodingPostDecreasesProblemPostCountTest() {
+        // given
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(CODING_POST, 30, 4));
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(CODING_POST, 31, 5));
+
+        when(reportModerationMapper.countReportersByTargetIds(eq(CODING_POST), anyCollection()))
+                .thenReturn(List.of(new ReportTargetCountDTO(30, 5), new ReportTargetCountDTO(31, 6)));
+        when(reportModerationMapper.selectVisibleTargetIdsForUpdate(ReportTargetTable.CODING_POST, List.of(30, 31)))
+                .thenReturn(List.of(30, 31));
+        when(reportModerationMapper.selectActiveMemberIdsReachingReporters(anyCollection(), anyInt())).thenReturn(List.of());
+
+        // when
+        reportModerationWorker.process();
+
+        // then
+        final InOrder inOrder = inOrder(reportModerationMapper);
+        inOrder.verify(reportModerationMapper).decreaseProblemPostCounts(List.of(30, 31));
+        inOrder.verify(reportModerationMapper).hideTargets(ReportTargetTable.CODING_POST, List.of(30, 31));
+        verify(reportModerationMapper, never()).decreaseRoadmapQuestionCounts(anyCollection());
+        verify(algoContentCache, never()).evictRoadmaps();
+    }
+
+    @DisplayName("대기열이 가득 차면 신고 이벤트를 버리고 rejected 메트릭 증가")
+    @Test
+    void fullQueueRejectsEventTest() {
+        // given
+        reportModerationWorker = createWorker(1);
+
+        // when
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(ALGO_POST, 10, 1));
+        reportModerationWorker.onReportCreated(new ReportCreatedEvent(ALGO_POST, 11, 1));
+
+        // then
+        Assertions.assertEquals(1.0, meterRegistry.get("report.moderation.queue.rejected").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("report.moderation.queue.depth").gauge().value());
+        verify(reportModerationMapper, never()).countReportersByTargetIds(anyInt(), anyCollection());
+    }
+
+    private ReportModerationWorker createWorker(int queueCapacity) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new ReportModerationWorker(reportModerationMapper, transactionManager, eventPublisher,
+                memberStatusCache, algoContentCache, meterRegistry, queueCapacity, 500, 5, 10);
+    }
+}
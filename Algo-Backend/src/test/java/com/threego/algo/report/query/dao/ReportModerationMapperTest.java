@@ -0,0 +1,148 @@
+package com.threego.algo.report.query.dao;
+
+import com.threego.algo.common.constants.ImageBoard;
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/* 설명. 신고 자동 조치 SQL 테스트 (H2, MariaDB 호환 모드)
+ *  - 회원 정지는 서로 다른 신고자 수로, 게시물 숨김 시 파생 카운트는 공개 게시물 기준으로 줄이는지 확인
+ */
+@MybatisTest(properties = "spring.datasource.url=jdbc:h2:mem:report-moderation;MODE=MariaDB;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ReportModerationMapperTest {
+
+    @Autowired
+    private ReportModerationMapper reportModerationMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS MEMBER (ID INT PRIMARY KEY, STATUS VARCHAR(10) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS REPORT ("
+                + " ID INT AUTO_INCREMENT PRIMARY KEY, MEMBER_ID INT NOT NULL, REPORTED_MEMBER_ID INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS CODING_PROBLEM (ID INT PRIMARY KEY, POST_COUNT INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS CODING_POST ("
+                + " ID INT PRIMARY KEY, PROBLEM_ID INT NOT NULL, VISIBILITY CHAR(1) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_ROADMAP (ID INT PRIMARY KEY, QUESTION_COUNT INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_POST ("
+                + " ID INT PRIMARY KEY, ROADMAP_ID INT NOT NULL, VISIBILITY CHAR(1) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_QUIZ_QUESTION (ID INT PRIMARY KEY, ALGO_POST_ID INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS MEMBER_ALGO_CORRECT_QUIZ_HISTORY ("
+                + " MEMBER_ID INT NOT NULL, ALGO_QUIZ_QUESTION_ID INT NOT NULL,"
+                + " PRIMARY KEY (MEMBER_ID, ALGO_QUIZ_QUESTION_ID))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS ALGO_MEMBER_PROGRESS ("
+                + " ID INT AUTO_INCREMENT PRIMARY KEY, MEMBER_ID INT NOT NULL, ROADMAP_ID INT NOT NULL,"
+                + " `COUNT` INT NOT NULL, UNIQUE (MEMBER_ID, ROADMAP_ID))");
+    }
+
+    @DisplayName("같은 신고자의 반복 신고는 한 명으로 세고, 활동 중인 회원만 정지 대상")
+    @Test
+    void distinctReportersReachThresholdTest() {
+        // given
+        jdbcTemplate.update("INSERT INTO MEMBER (ID, STATUS) VALUES"
+                + " (1, 'ACTIVE'), (2, 'ACTIVE'), (3, 'BLOCKED'), (11, 'ACTIVE'), (12, 'ACTIVE'), (13, 'ACTIVE')");
+        // 회원 1: 서로 다른 신고자 3명 / 회원 2: 한 명이 5번 신고 / 회원 3: 이미 정지
+        jdbcTemplate.update("INSERT INTO REPORT (MEMBER_ID, REPORTED_MEMBER_ID) VALUES"
+                + " (11, 1), (12, 1), (13, 1),"
+                + " (11, 2), (11, 2), (11, 2), (11, 2), (11, 2),"
+                + " (11, 3), (12, 3), (13, 3)");
+
+        // when
+        final List<Integer> reached = reportModerationMapper.selectActiveMemberIdsReachingReporters(Set.of(1, 2, 3), 3);
+
+        // then
+        Assertions.assertEquals(List.of(1), reached);
+    }
+
+    @DisplayName("코딩 게시물 숨김 전 문제별로 공개 게시물 수만큼 게시물 수 감소")
+    @Test
+    void decreaseProblemPostCountsTest() {
+        // given
+        jdbcTemplate.update("INSERT INTO CODING_PROBLEM (ID, POST_COUNT) VALUES (1, 5), (2, 1), (3, 4)");
+        jdbcTemplate.update("INSERT INTO CODING_POST (ID, PROBLEM_ID, VISIBILITY) VALUES"
+                + " (10, 1, 'Y'), (11, 1, 'Y'), (12, 1, 'N'), (20, 2, 'Y'), (30, 3, 'Y')");
+
+        // when
+        reportModerationMapper.decreaseProblemPostCounts(List.of(10, 11, 12, 20));
+
+        // then
+        Assertions.assertEquals(List.of(3, 0, 4),
+                jdbcTemplate.queryForList("SELECT POST_COUNT FROM CODING_PROBLEM ORDER BY ID", Integer.class));
+    }
+
+    @DisplayName("알고리즘 게시물 숨김 전 로드맵 문제 수와 맞힌 회원의 진척도 감소")
+    @Test
+    void decreaseRoadmapQuestionCountsAndProgressesTest() {
+        // given
+        jdbcTemplate.update("INSERT INTO ALGO_ROADMAP (ID, QUESTION_COUNT) VALUES (1, 3), (2, 1)");
+        jdbcTemplate.update("INSERT INTO ALGO_POST (ID, ROADMAP_ID, VISIBILITY) VALUES (10, 1, 'Y'), (11, 1, 'Y'), (20, 2, 'Y')");
+        jdbcTemplate.update("INSERT INTO ALGO_QUIZ_QUESTION (ID, ALGO_POST_ID) VALUES (100, 10), (101, 10), (110, 11), (200, 20)");
+        jdbcTemplate.update("INSERT INTO MEMBER_ALGO_CORRECT_QUIZ_HISTORY (MEMBER_ID, ALGO_QUIZ_QUESTION_ID) VALUES"
+                + " (1, 100), (1, 101), (1, 110), (1, 200), (2, 110)");
+        jdbcTemplate.update("INSERT INTO ALGO_MEMBER_PROGRESS (MEMBER_ID, ROADMAP_ID, `COUNT`) VALUES"
+                + " (1, 1, 3), (1, 2, 1), (2, 1, 1)");
+
+        // when
+        reportModerationMapper.decreaseRoadmapQuestionCounts(List.of(10));
+        reportModerationMapper.decreaseMemberProgresses(List.of(10));
+
+        // then
+        Assertions.assertEquals(List.of(1, 1),
+                jdbcTemplate.queryForList("SELECT QUESTION_COUNT FROM ALGO_ROADMAP ORDER BY ID", Integer.class));
+        Assertions.assertEquals(List.of(1, 1, 1),
+                jdbcTemplate.queryForList("SELECT `COUNT` FROM ALGO_MEMBER_PROGRESS ORDER BY MEMBER_ID, ROADMAP_ID",
+                        Integer.class));
+    }
+
+    @DisplayName("모든 신고 대상 구분이 자기 테이블로 이어지고, 등록하지 않은 값은 다른 테이블로 넘기지 않고 실패")
+    @Test
+    void everyTargetTableIsMappedTest() {
+        // given
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        String targetsStatement = "com.threego.algo.report.query.dao.ReportTargetMapper.selectTargetsByIds";
+        String visibleStatement = "com.threego.algo.report.query.dao.ReportModerationMapper.selectVisibleTargetIdsForUpdate";
+
+        // when & then
+        for (ReportTargetTable table : ReportTargetTable.values()) {
+            Map<String, Object> params = Map.of("table", table, "targetIds", List.of(1));
+            Assertions.assertTrue(boundSql(configuration, targetsStatement, params)
+                    .contains("FROM " + table.name() + " A"), table.name());
+            Assertions.assertTrue(boundSql(configuration, visibleStatement, params)
+                    .contains("FROM " + table.name() + " A"), table.name());
+        }
+
+        Map<String, Object> unknown = Map.of("table", ImageBoard.ALGO, "targetIds", List.of(1));
+        RuntimeException targetsException = Assertions.assertThrows(RuntimeException.class,
+                () -> boundSql(configuration, targetsStatement, unknown));
+        RuntimeException visibleException = Assertions.assertThrows(RuntimeException.class,
+                () -> boundSql(configuration, visibleStatement, unknown));
+        Assertions.assertTrue(targetsException.getMessage().contains("등록되지 않은 테이블"));
+        Assertions.assertTrue(visibleException.getMessage().contains("등록되지 않은 테이블"));
+    }
+
+    private String boundSql(Configuration configuration, String statement, Map<String, Object> params) {
+        return configuration.getMappedStatement(statement).getBoundSql(params).getSql().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,93 @@
+package com.threego.algo.report.query.service;
+
+import com.threego.algo.report.query.constants.ReportTargetTable;
+import com.threego.algo.report.query.dao.ReportTargetMapper;
+import com.threego.algo.report.query.dto.ReportDetailResponseDTO;
+import com.threego.algo.report.query.dto.ReportTargetDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportTargetResolverTest {
+    @Mock
+    private ReportTargetMapper reportTargetMapper;
+
+    private ReportTargetResolver reportTargetResolver;
+
+    @BeforeEach
+    void setUp() {
+        reportTargetResolver = new ReportTargetResolver(List.of(new TableReportTargetLoader(reportTargetMapper)));
+    }
+
+    @DisplayName("신고 목록을 카테고리별로 묶어 카테고리마다 한 번만 조회")
+    @Test
+    void attachTargetsQueriesOncePerCategoryTest() {
+        // given
+        List<ReportDetailResponseDTO> reports = List.of(
+                report(5, 10), report(5, 11), report(5, 10),
+                report(8, 3), report(8, 4));
+
+        when(reportTargetMapper.selectTargetsByIds(eq(ReportTargetTable.ALGO_POST), any()))
+                .thenReturn(List.of(new ReportTargetDTO(10, 1, "알고 게시물"), new ReportTargetDTO(11, 2, "알고 게시물2")));
+        when(reportTargetMapper.selectTargetsByIds(eq(ReportTargetTable.CODING_COMMENT), any()))
+                .thenReturn(List.of(new ReportTargetDTO(3, 3, "코딩 댓글")));
+
+        // when
+        reportTargetResolver.attachTargets(reports,
+                ReportDetailResponseDTO::getCategoryId,
+                ReportDetailResponseDTO::getTargetId,
+                (report, target) -> report.setTargetContent(target == null ? null : target.getContent()));
+
+        // then
+        verify(reportTargetMapper, times(2)).selectTargetsByIds(any(), any());
+        verify(reportTargetMapper).selectTargetsByIds(ReportTargetTable.ALGO_POST, Set.of(10, 11));
+        Assertions.assertEquals("알고 게시물", reports.get(0).getTargetContent());
+        Assertions.assertEquals("알고 게시물", reports.get(2).getTargetContent());
+        Assertions.assertEquals("코딩 댓글", reports.get(3).getTargetContent());
+        Assertions.assertNull(reports.get(4).getTargetContent());
+    }
+
+    @DisplayName("같은 카테고리를 담당하는 조회기가 두 개면 등록 시 실패")
+    @Test
+    void duplicateLoaderRegistrationTest() {
+        // given
+        ReportTargetLoader duplicate = new ReportTargetLoader() {
+            @Override
+            public Set<Integer> getCategoryIds() {
+                return Set.of(ReportTargetTable.STUDY_POST.getCategoryId());
+            }
+
+            @Override
+            public Map<Integer, ReportTargetDTO> loadTargets(int categoryId, Collection<Integer> targetIds) {
+                return Map.of();
+            }
+        };
+
+        // when & then
+        Assertions.assertThrows(IllegalStateException.class, () -> new ReportTargetResolver(
+                List.of(new TableReportTargetLoader(reportTargetMapper), duplicate)));
+    }
+
+    private ReportDetailResponseDTO report(int categoryId, int targetId) {
+        return ReportDetailResponseDTO.builder()
+                .categoryId(categoryId)
+                .targetId(targetId)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.threego.algo.search.command.infrastructure.service;
+
+import com.threego.algo.search.command.domain.aggregate.enums.SearchBoard;
+import com.threego.algo.search.query.dto.SearchDocumentDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/* 설명. 게시판 목록 검색용 ID 조회 - 문제/로드맵, 커서 조건과 상한 초과 시 LIKE 대체 확인 */
+class PostSearchIndexTest {
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex("");
+        for (int postId = 1; postId <= 6; postId++) {
+            postSearchIndex.upsert(SearchBoard.CODING,
+                    new SearchDocumentDTO(postId, "다익스트라 풀이 " + postId, "내용", "코뉴비", postId % 2 == 0 ? 10 : 20));
+        }
+        postSearchIndex.upsert(SearchBoard.ALGO, new SearchDocumentDTO(1, "다익스트라 개념", "내용", "코뉴비", 1));
+        postSearchIndex.refresh();
+        postSearchIndex.markReady();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        postSearchIndex.destroy();
+    }
+
+    @DisplayName("문제 ID와 커서 조건을 색인에서 먼저 적용")
+    @Test
+    void scopeAndCursorAreAppliedInIndexTest() {
+        // when
+        final List<Integer> problemPosts = postSearchIndex.findPostIds(SearchBoard.CODING, "다익스트라", 10, null, 100)
+                .orElseThrow();
+        final List<Integer> nextPage = postSearchIndex.findPostIds(SearchBoard.CODING, "다익스트라", 10, 4, 100)
+                .orElseThrow();
+
+        // then
+        Assertions.assertEquals(List.of(2, 4, 6), problemPosts.stream().sorted().collect(Collectors.toList()));
+        Assertions.assertEquals(List.of(2), nextPage);
+    }
+
+    @DisplayName("일치 건수가 상한을 넘으면 잘린 ID 대신 empty (LIKE 검색으로 대체)")
+    @Test
+    void overLimitFallsBackToLikeTest() {
+        // when
+        final Optional<List<Integer>> capped = postSearchIndex.findPostIds(SearchBoard.CODING, "다익스트라", null, null, 5);
+        final Optional<List<Integer>> exact = postSearchIndex.findPostIds(SearchBoard.CODING, "다익스트라", null, null, 6);
+
+        // then
+        Assertions.assertTrue(capped.isEmpty());
+        Assertions.assertEquals(6, exact.orElseThrow().size());
+    }
+
+    @DisplayName("한 글자 검색어는 색인으로 처리하지 않음")
+    @Test
+    void singleCharacterKeywordIsNotSearchableTest() {
+        Assertions.assertFalse(postSearchIndex.isSearchable("다"));
+        Assertions.assertTrue(postSearchIndex.isSearchable("다익"));
+        Assertions.assertTrue(postSearchIndex.findPostIds(SearchBoard.CODING, "다", null, null, 100).isEmpty());
+    }
+}
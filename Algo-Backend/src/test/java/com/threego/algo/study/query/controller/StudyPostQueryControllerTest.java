@@ -0,0 +1,70 @@
+package com.threego.algo.study.query.controller;
+
+import com.threego.algo.common.service.ImageThumbnails;
+import com.threego.algo.common.service.PostImageLoader;
+import com.threego.algo.study.query.dao.StudyPostMapper;
+import com.threego.algo.study.query.dto.StudyPostSearchDTO;
+import com.threego.algo.study.query.service.StudyPostQueryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class StudyPostQueryControllerTest {
+
+    @Mock
+    private StudyPostMapper studyPostMapper;
+
+    @Mock
+    private PostImageLoader postImageLoader;
+
+    @Mock
+    private ImageThumbnails imageThumbnails;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudyPostQueryController(
+                new StudyPostQueryServiceImpl(studyPostMapper, postImageLoader, imageThumbnails))).build();
+    }
+
+    @DisplayName("OFFSET 허용 범위를 넘긴 페이지는 500 이 아닌 400 으로 lastSeenId 조회를 안내")
+    @Test
+    void deepOffsetPageIsBadRequestTest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/study/1/posts").param("page", String.valueOf(StudyPostSearchDTO.MAX_OFFSET_PAGE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("lastSeenId")));
+        verify(studyPostMapper, never()).selectAllStudyPosts(any());
+    }
+
+    @DisplayName("lastSeenId 를 함께 보내면 깊은 페이지도 조회")
+    @Test
+    void deepPageWithCursorIsAllowedTest() throws Exception {
+        // given
+        when(studyPostMapper.selectAllStudyPosts(any())).thenReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/study/1/posts")
+                        .param("page", String.valueOf(StudyPostSearchDTO.MAX_OFFSET_PAGE + 1))
+                        .param("lastSeenId", "100"))
+                .andExpect(status().isOk());
+    }
+}
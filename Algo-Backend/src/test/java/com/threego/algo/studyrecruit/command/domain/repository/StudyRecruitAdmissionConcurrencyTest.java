@@ -0,0 +1,279 @@
+package com.threego.algo.studyrecruit.command.domain.repository;
+
+import com.threego.algo.common.util.DateTimeUtils;
+import com.threego.algo.member.command.domain.aggregate.MemberRank;
+import com.threego.algo.member.command.domain.repository.MemberCommandRepository;
+import com.threego.algo.member.command.domain.repository.MemberFixtures;
+import com.threego.algo.member.command.domain.repository.MemberRankRepository;
+import com.threego.algo.studyrecruit.command.application.service.StudyRecruitMemberService;
+import com.threego.algo.studyrecruit.command.application.service.StudyRecruitMemberServiceImpl;
+import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitMember;
+import com.threego.algo.studyrecruit.command.domain.aggregate.StudyRecruitPost;
+import com.threego.algo.studyrecruit.command.domain.aggregate.enums.ApplicationStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/* 설명. 스터디 참가 신청 / 승인 동시성 테스트 (H2, MariaDB 호환 모드)
+ *  - StudyRecruitMemberServiceImpl 의 신청/승인을 각각 별도 트랜잭션으로 동시에 호출해
+ *    중복 신청과 정원 초과 승인이 없고, 거부 사유가 올바르게 응답되는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:study-recruit-admission;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StudyRecruitMemberServiceImpl.class)
+class StudyRecruitAdmissionConcurrencyTest {
+    private static final int APPLICANT_COUNT = 40;
+    private static final int CAPACITY = 5;
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private StudyRecruitMemberService studyRecruitMemberService;
+
+    @Autowired
+    private StudyRecruitMemberRepository studyRecruitMemberRepository;
+
+    @Autowired
+    private StudyRecruitPostRepository studyRecruitPostRepository;
+
+    @Autowired
+    private MemberCommandRepository memberCommandRepository;
+
+    @Autowired
+    private MemberRankRepository memberRankRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private MemberRank memberRank;
+
+    private int authorId;
+
+    private int postId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        memberRank = MemberFixtures.saveRank(memberRankRepository);
+        authorId = createMemberId();
+        postId = createPost("Y");
+    }
+
+    @DisplayName("같은 회원이 동시에 여러 번 신청해도 신청은 한 건만 저장되고 나머지는 중복 신청으로 응답")
+    @Test
+    void concurrentDuplicateApplyTest() throws Exception {
+        // given
+        final int memberId = createMemberId();
+        final List<Callable<ResponseEntity<String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            tasks.add(() -> studyRecruitMemberService.applyToStudy(postId, memberId));
+        }
+
+        // when
+        final List<ResponseEntity<String>> results = runConcurrently(tasks);
+
+        // then
+        Assertions.assertEquals(1, count(results, HttpStatus.CREATED));
+        Assertions.assertEquals(APPLICANT_COUNT - 1, results.stream()
+                .filter(result -> result.getStatusCode() == HttpStatus.BAD_REQUEST)
+                .filter(result -> "이미 신청한 스터디입니다.".equals(result.getBody()))
+                .count());
+        Assertions.assertEquals(1, findApplications().size());
+    }
+
+    @DisplayName("다른 트랜잭션이 먼저 넣은 신청과 유니크 키가 겹치면 롤백하고 중복 신청으로 응답")
+    @Test
+    void uniqueKeyViolationIsMappedTest() throws Exception {
+        // given
+        final int memberId = createMemberId();
+        final CountDownLatch inserted = new CountDownLatch(1);
+        final CountDownLatch commit = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // 먼저 INSERT 한 트랜잭션을 커밋하지 않은 채로 둔다. (NOT EXISTS 검사로는 보이지 않는 신청)
+            final Future<Integer> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                final int inserted1 = studyRecruitMemberRepository.insertIfAdmissible(postId, memberId);
+                inserted.countDown();
+                await(commit);
+                return inserted1;
+            }));
+            Assertions.assertTrue(inserted.await(5, TimeUnit.SECONDS));
+
+            // when
+            final Future<ResponseEntity<String>> second = executor.submit(() ->
+                    studyRecruitMemberService.applyToStudy(postId, memberId));
+            Thread.sleep(200);
+            commit.countDown();
+
+            // then
+            Assertions.assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            final ResponseEntity<String> result = second.get(5, TimeUnit.SECONDS);
+            Assertions.assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+            Assertions.assertEquals("이미 신청한 스터디입니다.", result.getBody());
+            Assertions.assertEquals(1, findApplications().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("동시에 승인해도 스터디장 포함 정원을 넘지 않고, 정원이 차면 신청은 마감으로 거부")
+    @Test
+    void concurrentAcceptDoesNotExceedCapacityTest() throws Exception {
+        // given
+        final List<Callable<ResponseEntity<String>>> applyTasks = new ArrayList<>();
+        for (int i = 0; i < APPLICANT_COUNT; i++) {
+            final int memberId = createMemberId();
+            applyTasks.add(() -> studyRecruitMemberService.applyToStudy(postId, memberId));
+        }
+        final List<ResponseEntity<String>> applied = runConcurrently(applyTasks);
+
+        final List<Callable<ResponseEntity<String>>> acceptTasks = findApplications().stream()
+                .map(application -> (Callable<ResponseEntity<String>>) () ->
+                        studyRecruitMemberService.acceptApplication(application.getId(), authorId))
+                .collect(Collectors.toList());
+
+        // when
+        final List<ResponseEntity<String>> accepted = runConcurrently(acceptTasks);
+
+        // then
+        Assertions.assertEquals(APPLICANT_COUNT, count(applied, HttpStatus.CREATED));
+        Assertions.assertEquals(CAPACITY - 1, count(accepted, HttpStatus.OK));
+        Assertions.assertTrue(accepted.stream()
+                .filter(result -> result.getStatusCode() != HttpStatus.OK)
+                .allMatch(result -> "모집 정원이 모두 찼습니다.".equals(result.getBody())));
+        Assertions.assertEquals(CAPACITY - 1, findApplications().stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.APPROVED)
+                .count());
+        Assertions.assertEquals(CAPACITY - 1, studyRecruitPostRepository.findById(postId).orElseThrow().getApprovedCount());
+
+        final ResponseEntity<String> late = studyRecruitMemberService.applyToStudy(postId, createMemberId());
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, late.getStatusCode());
+        Assertions.assertEquals("모집이 마감된 스터디입니다.", late.getBody());
+    }
+
+    @DisplayName("같은 신청을 동시에 승인하면 한 번만 승인되고 나머지가 선점한 자리는 롤백")
+    @Test
+    void concurrentAcceptOfSameApplicationTest() throws Exception {
+        // given
+        Assertions.assertEquals(HttpStatus.CREATED,
+                studyRecruitMemberService.applyToStudy(postId, createMemberId()).getStatusCode());
+        final int joinId = findApplications().get(0).getId();
+        final List<Callable<ResponseEntity<String>>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tasks.add(() -> studyRecruitMemberService.acceptApplication(joinId, authorId));
+        }
+
+        // when
+        final List<ResponseEntity<String>> results = runConcurrently(tasks);
+
+        // then
+        Assertions.assertEquals(1, count(results, HttpStatus.OK));
+        Assertions.assertTrue(results.stream()
+                .filter(result -> result.getStatusCode() != HttpStatus.OK)
+                .allMatch(result -> "이미 처리된 신청입니다.".equals(result.getBody())));
+        Assertions.assertEquals(1, studyRecruitPostRepository.findById(postId).orElseThrow().getApprovedCount());
+    }
+
+    @DisplayName("신청이 거부되면 공개 여부 / 중복 신청 사유를 구분해 응답")
+    @Test
+    void applyRejectReasonTest() {
+        // given
+        final int hiddenPostId = createPost("N");
+        final int memberId = createMemberId();
+        studyRecruitMemberService.applyToStudy(postId, memberId);
+
+        // when
+        final ResponseEntity<String> hidden = studyRecruitMemberService.applyToStudy(hiddenPostId, memberId);
+        final ResponseEntity<String> duplicated = studyRecruitMemberService.applyToStudy(postId, memberId);
+
+        // then
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, hidden.getStatusCode());
+        Assertions.assertEquals("존재하지 않거나 공개되지 않은 모집글입니다.", hidden.getBody());
+        Assertions.assertEquals(HttpStatus.BAD_REQUEST, duplicated.getStatusCode());
+        Assertions.assertEquals("이미 신청한 스터디입니다.", duplicated.getBody());
+    }
+
+    private List<ResponseEntity<String>> runConcurrently(final List<Callable<ResponseEntity<String>>> tasks)
+            throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<ResponseEntity<String>>> futures = new ArrayList<>();
+
+        try {
+            for (Callable<ResponseEntity<String>> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+
+            start.countDown();
+
+            // 서비스 밖으로 예외(UnexpectedRollbackException 등)가 나오면 future.get 에서 실패
+            final List<ResponseEntity<String>> results = new ArrayList<>();
+            for (Future<ResponseEntity<String>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long count(final List<ResponseEntity<String>> results, final HttpStatus status) {
+        return results.stream().filter(result -> result.getStatusCode() == status).count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<StudyRecruitMember> findApplications() {
+        return studyRecruitMemberRepository.findAll().stream()
+                .filter(application -> application.getStudyRecruitPost().getId() == postId)
+                .collect(Collectors.toList());
+    }
+
+    private int createPost(final String visibility) {
+        final StudyRecruitPost post = new StudyRecruitPost(memberCommandRepository.findById(authorId).orElseThrow(),
+                "알고리즘 스터디 모집", "주 2회 알고리즘 문제를 함께 풉니다.", "2025-01-01", "2025-03-01",
+                "2099-12-31 23:59:59", CAPACITY, DateTimeUtils.nowDateTime());
+        post.setVisibility(visibility);
+        return studyRecruitPostRepository.save(post).getId();
+    }
+
+    private int createMemberId() {
+        return MemberFixtures.saveMember(memberCommandRepository, memberRank, "study").getId();
+    }
+}
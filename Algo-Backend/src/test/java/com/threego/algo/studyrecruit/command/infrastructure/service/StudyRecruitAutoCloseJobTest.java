@@ -0,0 +1,89 @@
+package com.threego.algo.studyrecruit.command.infrastructure.service;
+
+import com.threego.algo.common.service.SchedulerLease;
+import com.threego.algo.studyrecruit.query.dao.StudyRecruitPostMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRecruitAutoCloseJobTest {
+    @Mock
+    private StudyRecruitPostMapper studyRecruitPostMapper;
+
+    @Mock
+    private SchedulerLease schedulerLease;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StudyRecruitAutoCloseJob studyRecruitAutoCloseJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        studyRecruitAutoCloseJob = new StudyRecruitAutoCloseJob(studyRecruitPostMapper, schedulerLease,
+                transactionManager, meterRegistry, 2, 300);
+    }
+
+    @DisplayName("모집 중인 게시물을 chunk 단위로 끝까지 마감 처리하고 사유별로 집계")
+    @Test
+    void closeAllInChunksTest() {
+        // given
+        when(schedulerLease.tryAcquire(anyString(), any())).thenReturn(true);
+        when(studyRecruitPostMapper.selectOpenPostIdsAfter(0, 2)).thenReturn(List.of(1, 2));
+        when(studyRecruitPostMapper.selectOpenPostIdsAfter(2, 2)).thenReturn(List.of(5));
+        when(studyRecruitPostMapper.selectOpenPostIdsAfter(5, 2)).thenReturn(List.of());
+        when(studyRecruitPostMapper.closeExpiredPosts(eq(List.of(1, 2)), anyString())).thenReturn(2);
+        when(studyRecruitPostMapper.closeExpiredPosts(eq(List.of(5)), anyString())).thenReturn(0);
+        when(studyRecruitPostMapper.closeFullPosts(eq(List.of(1, 2)), anyString())).thenReturn(0);
+        when(studyRecruitPostMapper.closeFullPosts(eq(List.of(5)), anyString())).thenReturn(1);
+
+        // when
+        studyRecruitAutoCloseJob.scheduledClose();
+
+        // then
+        Assertions.assertEquals(2.0, meterRegistry.get("study.recruit.auto-close.closed")
+                .tag("reason", "expired").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("study.recruit.auto-close.closed")
+                .tag("reason", "full").counter().count());
+        Assertions.assertEquals(3.0, meterRegistry.get("study.recruit.auto-close.run.closed")
+                .summary().totalAmount());
+        verify(schedulerLease).release("study-recruit-auto-close");
+    }
+
+    @DisplayName("다른 서버가 lease 를 보유 중이면 실행하지 않음")
+    @Test
+    void skipWhenLeaseNotAcquiredTest() {
+        // given
+        when(schedulerLease.tryAcquire(anyString(), any())).thenReturn(false);
+
+        // when
+        studyRecruitAutoCloseJob.scheduledClose();
+
+        // then
+        verify(studyRecruitPostMapper, never()).selectOpenPostIdsAfter(anyInt(), anyInt());
+        verify(studyRecruitPostMapper, never()).closeExpiredPosts(anyList(), anyString());
+        verify(schedulerLease, never()).release(anyString());
+        Assertions.assertEquals(1.0, meterRegistry.get("study.recruit.auto-close.lease.skipped").counter().count());
+    }
+}
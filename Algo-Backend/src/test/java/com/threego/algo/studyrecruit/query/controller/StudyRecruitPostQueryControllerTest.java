@@ -0,0 +1,51 @@
+package com.threego.algo.studyrecruit.query.controller;
+
+import com.threego.algo.search.query.service.PostSearchService;
+import com.threego.algo.studyrecruit.query.dao.StudyRecruitCommentMapper;
+import com.threego.algo.studyrecruit.query.dao.StudyRecruitPostMapper;
+import com.threego.algo.studyrecruit.query.dto.StudyRecruitSearchDTO;
+import com.threego.algo.studyrecruit.query.service.StudyRecruitPostQueryServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRecruitPostQueryControllerTest {
+
+    @Mock
+    private StudyRecruitPostMapper studyRecruitPostMapper;
+
+    @Mock
+    private StudyRecruitCommentMapper studyRecruitCommentMapper;
+
+    @Mock
+    private PostSearchService postSearchService;
+
+    @DisplayName("OFFSET 허용 범위를 넘긴 모집글 페이지는 500 이 아닌 400 으로 lastSeenId 조회를 안내")
+    @Test
+    void deepOffsetPageIsBadRequestTest() throws Exception {
+        // given
+        final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StudyRecruitPostQueryController(
+                new StudyRecruitPostQueryServiceImpl(studyRecruitPostMapper, studyRecruitCommentMapper,
+                        postSearchService))).build();
+
+        // when & then
+        mockMvc.perform(get("/study-recruit/posts")
+                        .param("page", String.valueOf(StudyRecruitSearchDTO.MAX_OFFSET_PAGE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("lastSeenId")));
+        verify(studyRecruitPostMapper, never()).selectStudyRecruitList(any());
+    }
+}
@@ -10,6 +10,8 @@ DROP TABLE IF EXISTS `Algo_Quiz_Option`;
 DROP TABLE IF EXISTS `Algo_Comment`;
 DROP TABLE IF EXISTS `Algo_Member_Progress`;
 DROP TABLE IF EXISTS `Coding_Post_Image`;
+DROP TABLE IF EXISTS `Coding_Ai_Feedback_Job`;
+DROP TABLE IF EXISTS `Coding_Ai_Feedback_Cache`;
 DROP TABLE IF EXISTS `Coding_Comment`;
 DROP TABLE IF EXISTS `Career_Info_Comment`;
 DROP TABLE IF EXISTS `Study_Post_Image`;
@@ -28,6 +30,7 @@ DROP TABLE IF EXISTS `Study_Post`;
 DROP TABLE IF EXISTS `Study_Roadmap`;
 DROP TABLE IF EXISTS `Study`;
 DROP TABLE IF EXISTS `Study_Recruit_Post`;
+DROP TABLE IF EXISTS `Scheduler_Lease`;
 
 -- 3. 최상위 부모 테이블 DROP
 DROP TABLE IF EXISTS `Algo_Roadmap`;
@@ -151,6 +154,9 @@ CREATE TABLE `Algo_Post_Image` (
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Algo_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Algo_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Algo_Post_TO_Algo_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Algo_Post`(`id`)
 );
 
@@ -202,6 +208,7 @@ CREATE TABLE `Algo_Member_Progress` (
   `member_id` INT NOT NULL,
   `roadmap_id` INT NOT NULL,
   `count` INT NOT NULL,
+  UNIQUE KEY `UK_Algo_Member_Progress_Member_Roadmap` (`member_id`, `roadmap_id`),
   CONSTRAINT `FK_Member_TO_Algo_Member_Progress` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Algo_Roadmap_TO_Algo_Member_Progress` FOREIGN KEY (`roadmap_id`) REFERENCES `Algo_Roadmap`(`id`)
 );
@@ -236,20 +243,55 @@ CREATE TABLE `Coding_Post` (
   `ai_good` VARCHAR(255) NULL,
   `ai_bad` VARCHAR(255) NULL,
   `ai_plan` VARCHAR(255) NULL,
+  `ai_status` VARCHAR(10) NOT NULL DEFAULT 'DONE', -- PENDING / DONE / FAILED (신규 게시물은 PENDING으로 생성)
   `comment_count` INT NOT NULL DEFAULT 0,
   `like_count` INT NOT NULL DEFAULT 0,
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
+  INDEX `IDX_Coding_Post_Visibility_Id` (`visibility`, `id`),
+  INDEX `IDX_Coding_Post_Problem_Visibility_Id` (`problem_id`, `visibility`, `id`),
   CONSTRAINT `FK_Member_TO_Coding_Post` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Coding_Problem_TO_Coding_Post` FOREIGN KEY (`problem_id`) REFERENCES `Coding_Problem`(`id`)
 );
 
+-- 코딩 풀이 AI 피드백 작업 (outbox)
+CREATE TABLE `Coding_Ai_Feedback_Job` (
+  `id` INT AUTO_INCREMENT PRIMARY KEY,
+  `post_id` INT NOT NULL,
+  `status` VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING / PROCESSING / DONE / FAILED
+  `attempt_count` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` VARCHAR(20) NOT NULL,
+  `last_error` VARCHAR(500) NULL,
+  `created_at` VARCHAR(20) NOT NULL,
+  `updated_at` VARCHAR(20) NULL,
+  INDEX `IDX_Coding_Ai_Feedback_Job_Status` (`status`, `next_attempt_at`),
+  CONSTRAINT `FK_Coding_Post_TO_Coding_Ai_Feedback_Job` FOREIGN KEY (`post_id`) REFERENCES `Coding_Post`(`id`)
+);
+
+-- 코딩 풀이 AI 피드백 캐시 (문제별 정규화된 풀이 해시)
+CREATE TABLE `Coding_Ai_Feedback_Cache` (
+  `id` INT AUTO_INCREMENT PRIMARY KEY,
+  `problem_id` INT NOT NULL,
+  `code_hash` CHAR(64) NOT NULL,
+  `ai_big_o` VARCHAR(100) NULL,
+  `ai_good` VARCHAR(255) NULL,
+  `ai_bad` VARCHAR(255) NULL,
+  `ai_plan` VARCHAR(255) NULL,
+  `created_at` VARCHAR(20) NOT NULL,
+  UNIQUE KEY `UK_Coding_Ai_Feedback_Cache` (`problem_id`, `code_hash`),
+  INDEX `IDX_Coding_Ai_Feedback_Cache_Created` (`created_at`),
+  CONSTRAINT `FK_Coding_Problem_TO_Coding_Ai_Feedback_Cache` FOREIGN KEY (`problem_id`) REFERENCES `Coding_Problem`(`id`)
+);
+
 -- 코딩 풀이 게시물 이미지
 CREATE TABLE `Coding_Post_Image` (
   `id` INT AUTO_INCREMENT PRIMARY KEY,
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Coding_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Coding_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Coding_Post_TO_Coding_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Coding_Post`(`id`)
 );
 
@@ -306,6 +348,11 @@ CREATE TABLE `Likes` (
   `algo_post_id` INT NULL,
   `coding_post_id` INT NULL,
   `career_info_post_id` INT NULL,
+  `counted` CHAR(1) NOT NULL DEFAULT 'N' COMMENT '게시물 추천 수/작성자 포인트 반영 여부',
+  UNIQUE KEY `UK_Likes_Algo_Post_Member` (`algo_post_id`, `member_id`),
+  UNIQUE KEY `UK_Likes_Coding_Post_Member` (`coding_post_id`, `member_id`),
+  UNIQUE KEY `UK_Likes_Career_Info_Post_Member` (`career_info_post_id`, `member_id`),
+  KEY `IDX_Likes_Counted` (`counted`),
   CONSTRAINT `FK_Member_TO_Likes` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Algo_Post_TO_Likes` FOREIGN KEY (`algo_post_id`) REFERENCES `Algo_Post`(`id`),
   CONSTRAINT `FK_Coding_Post_TO_Likes` FOREIGN KEY (`coding_post_id`) REFERENCES `Coding_Post`(`id`),
@@ -323,13 +370,23 @@ CREATE TABLE `Study_Recruit_Post` (
   `expires_at` VARCHAR(20) NOT NULL COMMENT '모집 마감 시각',
   `status` ENUM('OPEN','CLOSED','CANCELLED') NOT NULL DEFAULT 'OPEN',
   `capacity` INT NOT NULL DEFAULT 2 COMMENT '스터디장 포함 인원',
+  `approved_count` INT NOT NULL DEFAULT 0 COMMENT '승인된 신청자 수 (스터디장 제외)',
   `comment_count` INT NOT NULL DEFAULT 0,
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Recruit_Post_Visibility_Id` (`visibility`, `id`),
+  INDEX `IDX_Study_Recruit_Post_Status_Id` (`status`, `id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Post` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`)
 );
 
+-- 스케줄 작업 lease (여러 서버 중 한 곳에서만 실행)
+CREATE TABLE `Scheduler_Lease` (
+  `name` VARCHAR(100) PRIMARY KEY COMMENT '작업 이름',
+  `owner` VARCHAR(100) NOT NULL COMMENT 'lease 보유 서버',
+  `lease_until` VARCHAR(20) NOT NULL COMMENT 'lease 만료 시각'
+);
+
 -- 스터디 모집 댓글
 CREATE TABLE `Study_Recruit_Comment` (
   `id` INT AUTO_INCREMENT PRIMARY KEY,
@@ -340,6 +397,7 @@ CREATE TABLE `Study_Recruit_Comment` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Recruit_Comment_Visibility_Id` (`visibility`, `id`),
   CONSTRAINT `FK_Study_Recruit_Post_TO_Study_Recruit_Comment` FOREIGN KEY (`post_id`) REFERENCES `Study_Recruit_Post`(`id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Comment` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Study_Recruit_Comment_TO_Study_Recruit_Comment` FOREIGN KEY (`parent_id`) REFERENCES `Study_Recruit_Comment`(`id`)
@@ -351,6 +409,7 @@ CREATE TABLE `Study_Recruit_Member` (
   `member_id` INT NOT NULL,
   `post_id` INT NOT NULL,
   `status` ENUM('PENDING','APPROVED','REJECTED') NOT NULL DEFAULT 'PENDING',
+  UNIQUE KEY `UK_Study_Recruit_Member_Post_Member` (`post_id`, `member_id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Member` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Study_Recruit_Post_TO_Study_Recruit_Member` FOREIGN KEY (`post_id`) REFERENCES `Study_Recruit_Post`(`id`)
 );
@@ -387,6 +446,8 @@ CREATE TABLE `Study_Post` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Post_Study_Visibility_Created_Id` (`study_id`, `visibility`, `created_at`, `id`),
+  INDEX `IDX_Study_Post_Visibility_Created_Id` (`visibility`, `created_at`, `id`),
   CONSTRAINT `FK_Study_TO_Study_Post` FOREIGN KEY (`study_id`) REFERENCES `Study`(`id`),
   CONSTRAINT `FK_Study_Member_TO_Study_Post` FOREIGN KEY (`member_id`) REFERENCES `Study_Member`(`id`)
 );
@@ -397,6 +458,9 @@ CREATE TABLE `Study_Post_Image` (
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Study_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Study_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Study_Post_TO_Study_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Study_Post`(`id`)
 );
 
@@ -410,6 +474,7 @@ CREATE TABLE `Study_Comment` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Comment_Visibility_Created_Id` (`visibility`, `created_at`, `id`),
   CONSTRAINT `FK_Study_Post_TO_Study_Comment` FOREIGN KEY (`post_id`) REFERENCES `Study_Post`(`id`),
   CONSTRAINT `FK_Study_Member_TO_Study_Comment` FOREIGN KEY (`member_id`) REFERENCES `Study_Member`(`id`),
   CONSTRAINT `FK_Study_Comment_TO_Study_Comment` FOREIGN KEY (`parent_id`) REFERENCES `Study_Comment`(`id`)
@@ -460,6 +525,8 @@ CREATE TABLE `Report` (
   `target_id` INT NOT NULL COMMENT '신고 대상 엔티티 PK',
   `content` VARCHAR(500) NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  INDEX `IDX_Report_Category_Target_Member` (`category_id`, `target_id`, `member_id`),
+  INDEX `IDX_Report_Reported_Member_Member` (`reported_member_id`, `member_id`),
   CONSTRAINT `FK_Member_TO_Report` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Reported_Member_TO_Report` FOREIGN KEY (`reported_member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Report_Category_TO_Report` FOREIGN KEY (`category_id`) REFERENCES `Report_Category`(`id`),
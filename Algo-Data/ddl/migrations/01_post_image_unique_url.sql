@@ -0,0 +1,27 @@
+-- 게시물 이미지 중복 연결 방지 (기존 DB 적용용)
+--  - 같은 게시물에 같은 URL 이 여러 번 연결된 행은 가장 먼저 저장된 행만 남기고 삭제한 뒤 UNIQUE KEY 를 추가한다.
+--  - 이후 이미지 등록은 INSERT IGNORE 로 이 키에 걸린 중복을 건너뛴다.
+
+DELETE A FROM `Algo_Post_Image` A
+  JOIN `Algo_Post_Image` B
+    ON B.`post_id` = A.`post_id`
+   AND B.`image_url` = A.`image_url`
+   AND B.`id` < A.`id`;
+ALTER TABLE `Algo_Post_Image`
+  ADD UNIQUE KEY `UK_Algo_Post_Image_Post_Url` (`post_id`, `image_url`);
+
+DELETE A FROM `Coding_Post_Image` A
+  JOIN `Coding_Post_Image` B
+    ON B.`post_id` = A.`post_id`
+   AND B.`image_url` = A.`image_url`
+   AND B.`id` < A.`id`;
+ALTER TABLE `Coding_Post_Image`
+  ADD UNIQUE KEY `UK_Coding_Post_Image_Post_Url` (`post_id`, `image_url`);
+
+DELETE A FROM `Study_Post_Image` A
+  JOIN `Study_Post_Image` B
+    ON B.`post_id` = A.`post_id`
+   AND B.`image_url` = A.`image_url`
+   AND B.`id` < A.`id`;
+ALTER TABLE `Study_Post_Image`
+  ADD UNIQUE KEY `UK_Study_Post_Image_Post_Url` (`post_id`, `image_url`);
@@ -0,0 +1,62 @@
+-- 추천 중복 방지 키 + 추천 수 반영 여부 컬럼 (기존 DB 적용용)
+--  - 같은 회원이 같은 게시물을 여러 번 추천한 행은 가장 먼저 저장된 행만 남긴다.
+--    삭제되는 중복 행만큼 게시물 추천 수도 줄인 뒤 UNIQUE KEY 를 추가한다.
+--  - 기존 추천은 이미 추천 수/포인트에 반영되어 있으므로 counted = 'Y' 로 추가하고,
+--    이후 새 추천은 'N' 으로 저장되어 LikeWriteBuffer 가 반영한다.
+
+UPDATE `Algo_Post` P
+  JOIN (SELECT A.`algo_post_id` AS post_id, COUNT(*) AS duplicated
+          FROM `Likes` A
+         WHERE EXISTS (SELECT 1 FROM `Likes` B
+                        WHERE B.`algo_post_id` = A.`algo_post_id`
+                          AND B.`member_id` = A.`member_id`
+                          AND B.`id` < A.`id`)
+         GROUP BY A.`algo_post_id`) D
+    ON D.post_id = P.`id`
+   SET P.`like_count` = GREATEST(P.`like_count` - D.duplicated, 0);
+DELETE A FROM `Likes` A
+  JOIN `Likes` B
+    ON B.`algo_post_id` = A.`algo_post_id`
+   AND B.`member_id` = A.`member_id`
+   AND B.`id` < A.`id`;
+
+UPDATE `Coding_Post` P
+  JOIN (SELECT A.`coding_post_id` AS post_id, COUNT(*) AS duplicated
+          FROM `Likes` A
+         WHERE EXISTS (SELECT 1 FROM `Likes` B
+                        WHERE B.`coding_post_id` = A.`coding_post_id`
+                          AND B.`member_id` = A.`member_id`
+                          AND B.`id` < A.`id`)
+         GROUP BY A.`coding_post_id`) D
+    ON D.post_id = P.`id`
+   SET P.`like_count` = GREATEST(P.`like_count` - D.duplicated, 0);
+DELETE A FROM `Likes` A
+  JOIN `Likes` B
+    ON B.`coding_post_id` = A.`coding_post_id`
+   AND B.`member_id` = A.`member_id`
+   AND B.`id` < A.`id`;
+
+UPDATE `Career_Info_Post` P
+  JOIN (SELECT A.`career_info_post_id` AS post_id, COUNT(*) AS duplicated
+          FROM `Likes` A
+         WHERE EXISTS (SELECT 1 FROM `Likes` B
+                        WHERE B.`career_info_post_id` = A.`career_info_post_id`
+                          AND B.`member_id` = A.`member_id`
+                          AND B.`id` < A.`id`)
+         GROUP BY A.`career_info_post_id`) D
+    ON D.post_id = P.`id`
+   SET P.`like_count` = GREATEST(P.`like_count` - D.duplicated, 0);
+DELETE A FROM `Likes` A
+  JOIN `Likes` B
+    ON B.`career_info_post_id` = A.`career_info_post_id`
+   AND B.`member_id` = A.`member_id`
+   AND B.`id` < A.`id`;
+
+ALTER TABLE `Likes`
+  ADD UNIQUE KEY `UK_Likes_Algo_Post_Member` (`algo_post_id`, `member_id`),
+  ADD UNIQUE KEY `UK_Likes_Coding_Post_Member` (`coding_post_id`, `member_id`),
+  ADD UNIQUE KEY `UK_Likes_Career_Info_Post_Member` (`career_info_post_id`, `member_id`),
+  ADD COLUMN `counted` CHAR(1) NOT NULL DEFAULT 'Y' COMMENT '게시물 추천 수/작성자 포인트 반영 여부' AFTER `career_info_post_id`,
+  ADD KEY `IDX_Likes_Counted` (`counted`);
+ALTER TABLE `Likes`
+  ALTER COLUMN `counted` SET DEFAULT 'N';
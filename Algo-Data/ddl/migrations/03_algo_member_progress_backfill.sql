@@ -0,0 +1,31 @@
+-- 회원별 로드맵 진척도 채우기 (기존 DB 적용용)
+--  - 진척도 테이블 도입 전에 쌓인 정답 이력으로 (회원, 로드맵)별 맞힌 문제 수를 계산한다.
+--  - 공개 게시물의 문제만 센다. (countMemberCorrectAnswersInRoadmap 의 기존 조건과 동일)
+--  - 같은 (회원, 로드맵) 행이 여럿이면 UNIQUE KEY 를 추가할 수 없으므로 먼저 비운 뒤 다시 채운다.
+
+DELETE FROM `Algo_Member_Progress`;
+
+ALTER TABLE `Algo_Member_Progress`
+  ADD UNIQUE KEY `UK_Algo_Member_Progress_Member_Roadmap` (`member_id`, `roadmap_id`);
+
+INSERT INTO `Algo_Member_Progress` (`member_id`, `roadmap_id`, `count`)
+SELECT A.`member_id`
+     , C.`roadmap_id`
+     , COUNT(*)
+  FROM `Member_Algo_Correct_Quiz_History` A
+  JOIN `Algo_Quiz_Question` B
+    ON B.`id` = A.`algo_quiz_question_id`
+  JOIN `Algo_Post` C
+    ON C.`id` = B.`algo_post_id`
+ WHERE C.`visibility` = 'Y'
+ GROUP BY A.`member_id`, C.`roadmap_id`
+    ON DUPLICATE KEY UPDATE `count` = VALUES(`count`);
+
+-- 로드맵 문제 수도 공개 게시물의 문제 기준으로 다시 맞춘다.
+UPDATE `Algo_Roadmap` R
+   SET R.`question_count` = (SELECT COUNT(*)
+                               FROM `Algo_Quiz_Question` B
+                               JOIN `Algo_Post` C
+                                 ON C.`id` = B.`algo_post_id`
+                              WHERE C.`roadmap_id` = R.`id`
+                                AND C.`visibility` = 'Y');
\ No newline at end of file
@@ -0,0 +1,23 @@
+-- 스터디 신청 승인 인원 컬럼 + 중복 신청 방지 키 (기존 DB 적용용)
+--  - 같은 회원이 같은 모집글에 여러 번 신청한 행은 승인 > 대기 > 거절 순으로 한 건만 남기고,
+--    같은 상태끼리는 가장 먼저 저장된 행을 남긴 뒤 UNIQUE KEY 를 추가한다.
+--  - approved_count 는 정리된 신청 중 승인된 신청 수로 채운다. (스터디장 제외)
+
+ALTER TABLE `Study_Recruit_Post`
+  ADD COLUMN `approved_count` INT NOT NULL DEFAULT 0 COMMENT '승인된 신청자 수 (스터디장 제외)' AFTER `capacity`;
+
+DELETE A FROM `Study_Recruit_Member` A
+  JOIN `Study_Recruit_Member` B
+    ON B.`post_id` = A.`post_id`
+   AND B.`member_id` = A.`member_id`
+   AND (FIELD(B.`status`, 'APPROVED', 'PENDING', 'REJECTED') < FIELD(A.`status`, 'APPROVED', 'PENDING', 'REJECTED')
+        OR (B.`status` = A.`status` AND B.`id` < A.`id`));
+
+ALTER TABLE `Study_Recruit_Member`
+  ADD UNIQUE KEY `UK_Study_Recruit_Member_Post_Member` (`post_id`, `member_id`);
+
+UPDATE `Study_Recruit_Post` P
+   SET P.`approved_count` = (SELECT COUNT(*)
+                               FROM `Study_Recruit_Member` M
+                              WHERE M.`post_id` = P.`id`
+                                AND M.`status` = 'APPROVED');
\ No newline at end of file
@@ -0,0 +1,5 @@
+-- 회원 정지 판단용 인덱스 (기존 DB 적용용)
+--  - 신고당한 회원별 서로 다른 신고자 수를 인덱스만으로 센다. (ReportModerationMapper.selectActiveMemberIdsReachingReporters)
+
+ALTER TABLE `Report`
+  ADD INDEX `IDX_Report_Reported_Member_Member` (`reported_member_id`, `member_id`);
\ No newline at end of file
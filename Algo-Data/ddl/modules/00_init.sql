@@ -10,6 +10,8 @@ DROP TABLE IF EXISTS `Algo_Quiz_Option`;
 DROP TABLE IF EXISTS `Algo_Comment`;
 DROP TABLE IF EXISTS `Algo_Member_Progress`;
 DROP TABLE IF EXISTS `Coding_Post_Image`;
+DROP TABLE IF EXISTS `Coding_Ai_Feedback_Job`;
+DROP TABLE IF EXISTS `Coding_Ai_Feedback_Cache`;
 DROP TABLE IF EXISTS `Coding_Comment`;
 DROP TABLE IF EXISTS `Career_Info_Comment`;
 DROP TABLE IF EXISTS `Study_Post_Image`;
@@ -28,6 +30,7 @@ DROP TABLE IF EXISTS `Study_Post`;
 DROP TABLE IF EXISTS `Study_Roadmap`;
 DROP TABLE IF EXISTS `Study`;
 DROP TABLE IF EXISTS `Study_Recruit_Post`;
+DROP TABLE IF EXISTS `Scheduler_Lease`;
 
 -- 3. 최상위 부모 테이블 DROP
 DROP TABLE IF EXISTS `Algo_Roadmap`;
@@ -31,6 +31,9 @@ CREATE TABLE `Algo_Post_Image` (
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Algo_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Algo_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Algo_Post_TO_Algo_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Algo_Post`(`id`)
 );
 
@@ -82,6 +85,7 @@ CREATE TABLE `Algo_Member_Progress` (
   `member_id` INT NOT NULL,
   `roadmap_id` INT NOT NULL,
   `count` INT NOT NULL,
+  UNIQUE KEY `UK_Algo_Member_Progress_Member_Roadmap` (`member_id`, `roadmap_id`),
   CONSTRAINT `FK_Member_TO_Algo_Member_Progress` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Algo_Roadmap_TO_Algo_Member_Progress` FOREIGN KEY (`roadmap_id`) REFERENCES `Algo_Roadmap`(`id`)
 );
\ No newline at end of file
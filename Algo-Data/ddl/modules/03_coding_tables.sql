@@ -28,20 +28,55 @@ CREATE TABLE `Coding_Post` (
   `ai_good` VARCHAR(255) NULL,
   `ai_bad` VARCHAR(255) NULL,
   `ai_plan` VARCHAR(255) NULL,
+  `ai_status` VARCHAR(10) NOT NULL DEFAULT 'DONE', -- PENDING / DONE / FAILED (신규 게시물은 PENDING으로 생성)
   `comment_count` INT NOT NULL DEFAULT 0,
   `like_count` INT NOT NULL DEFAULT 0,
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
+  INDEX `IDX_Coding_Post_Visibility_Id` (`visibility`, `id`),
+  INDEX `IDX_Coding_Post_Problem_Visibility_Id` (`problem_id`, `visibility`, `id`),
   CONSTRAINT `FK_Member_TO_Coding_Post` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Coding_Problem_TO_Coding_Post` FOREIGN KEY (`problem_id`) REFERENCES `Coding_Problem`(`id`)
 );
 
+-- 코딩 풀이 AI 피드백 작업 (outbox)
+CREATE TABLE `Coding_Ai_Feedback_Job` (
+  `id` INT AUTO_INCREMENT PRIMARY KEY,
+  `post_id` INT NOT NULL,
+  `status` VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING / PROCESSING / DONE / FAILED
+  `attempt_count` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` VARCHAR(20) NOT NULL,
+  `last_error` VARCHAR(500) NULL,
+  `created_at` VARCHAR(20) NOT NULL,
+  `updated_at` VARCHAR(20) NULL,
+  INDEX `IDX_Coding_Ai_Feedback_Job_Status` (`status`, `next_attempt_at`),
+  CONSTRAINT `FK_Coding_Post_TO_Coding_Ai_Feedback_Job` FOREIGN KEY (`post_id`) REFERENCES `Coding_Post`(`id`)
+);
+
+-- 코딩 풀이 AI 피드백 캐시 (문제별 정규화된 풀이 해시)
+CREATE TABLE `Coding_Ai_Feedback_Cache` (
+  `id` INT AUTO_INCREMENT PRIMARY KEY,
+  `problem_id` INT NOT NULL,
+  `code_hash` CHAR(64) NOT NULL,
+  `ai_big_o` VARCHAR(100) NULL,
+  `ai_good` VARCHAR(255) NULL,
+  `ai_bad` VARCHAR(255) NULL,
+  `ai_plan` VARCHAR(255) NULL,
+  `created_at` VARCHAR(20) NOT NULL,
+  UNIQUE KEY `UK_Coding_Ai_Feedback_Cache` (`problem_id`, `code_hash`),
+  INDEX `IDX_Coding_Ai_Feedback_Cache_Created` (`created_at`),
+  CONSTRAINT `FK_Coding_Problem_TO_Coding_Ai_Feedback_Cache` FOREIGN KEY (`problem_id`) REFERENCES `Coding_Problem`(`id`)
+);
+
 -- 코딩 풀이 게시물 이미지
 CREATE TABLE `Coding_Post_Image` (
   `id` INT AUTO_INCREMENT PRIMARY KEY,
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Coding_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Coding_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Coding_Post_TO_Coding_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Coding_Post`(`id`)
 );
 
@@ -5,6 +5,11 @@ CREATE TABLE `Likes` (
   `algo_post_id` INT NULL,
   `coding_post_id` INT NULL,
   `career_info_post_id` INT NULL,
+  `counted` CHAR(1) NOT NULL DEFAULT 'N' COMMENT '게시물 추천 수/작성자 포인트 반영 여부',
+  UNIQUE KEY `UK_Likes_Algo_Post_Member` (`algo_post_id`, `member_id`),
+  UNIQUE KEY `UK_Likes_Coding_Post_Member` (`coding_post_id`, `member_id`),
+  UNIQUE KEY `UK_Likes_Career_Info_Post_Member` (`career_info_post_id`, `member_id`),
+  KEY `IDX_Likes_Counted` (`counted`),
   CONSTRAINT `FK_Member_TO_Likes` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Algo_Post_TO_Likes` FOREIGN KEY (`algo_post_id`) REFERENCES `Algo_Post`(`id`),
   CONSTRAINT `FK_Coding_Post_TO_Likes` FOREIGN KEY (`coding_post_id`) REFERENCES `Coding_Post`(`id`),
@@ -9,13 +9,23 @@ CREATE TABLE `Study_Recruit_Post` (
   `expires_at` VARCHAR(20) NOT NULL COMMENT '모집 마감 시각',
   `status` ENUM('OPEN','CLOSED','CANCELLED') NOT NULL DEFAULT 'OPEN',
   `capacity` INT NOT NULL DEFAULT 2 COMMENT '스터디장 포함 인원',
+  `approved_count` INT NOT NULL DEFAULT 0 COMMENT '승인된 신청자 수 (스터디장 제외)',
   `comment_count` INT NOT NULL DEFAULT 0,
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Recruit_Post_Visibility_Id` (`visibility`, `id`),
+  INDEX `IDX_Study_Recruit_Post_Status_Id` (`status`, `id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Post` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`)
 );
 
+-- 스케줄 작업 lease (여러 서버 중 한 곳에서만 실행)
+CREATE TABLE `Scheduler_Lease` (
+  `name` VARCHAR(100) PRIMARY KEY COMMENT '작업 이름',
+  `owner` VARCHAR(100) NOT NULL COMMENT 'lease 보유 서버',
+  `lease_until` VARCHAR(20) NOT NULL COMMENT 'lease 만료 시각'
+);
+
 -- 스터디 모집 댓글
 CREATE TABLE `Study_Recruit_Comment` (
   `id` INT AUTO_INCREMENT PRIMARY KEY,
@@ -26,6 +36,7 @@ CREATE TABLE `Study_Recruit_Comment` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Recruit_Comment_Visibility_Id` (`visibility`, `id`),
   CONSTRAINT `FK_Study_Recruit_Post_TO_Study_Recruit_Comment` FOREIGN KEY (`post_id`) REFERENCES `Study_Recruit_Post`(`id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Comment` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Study_Recruit_Comment_TO_Study_Recruit_Comment` FOREIGN KEY (`parent_id`) REFERENCES `Study_Recruit_Comment`(`id`)
@@ -37,6 +48,7 @@ CREATE TABLE `Study_Recruit_Member` (
   `member_id` INT NOT NULL,
   `post_id` INT NOT NULL,
   `status` ENUM('PENDING','APPROVED','REJECTED') NOT NULL DEFAULT 'PENDING',
+  UNIQUE KEY `UK_Study_Recruit_Member_Post_Member` (`post_id`, `member_id`),
   CONSTRAINT `FK_Member_TO_Study_Recruit_Member` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Study_Recruit_Post_TO_Study_Recruit_Member` FOREIGN KEY (`post_id`) REFERENCES `Study_Recruit_Post`(`id`)
 );
@@ -73,6 +85,8 @@ CREATE TABLE `Study_Post` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Post_Study_Visibility_Created_Id` (`study_id`, `visibility`, `created_at`, `id`),
+  INDEX `IDX_Study_Post_Visibility_Created_Id` (`visibility`, `created_at`, `id`),
   CONSTRAINT `FK_Study_TO_Study_Post` FOREIGN KEY (`study_id`) REFERENCES `Study`(`id`),
   CONSTRAINT `FK_Study_Member_TO_Study_Post` FOREIGN KEY (`member_id`) REFERENCES `Study_Member`(`id`)
 );
@@ -83,6 +97,9 @@ CREATE TABLE `Study_Post_Image` (
   `post_id` INT NOT NULL,
   `image_url` VARCHAR(255) NOT NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  `thumbnail_status` VARCHAR(10) NOT NULL DEFAULT 'PENDING', -- PENDING / DONE / FAILED (썸네일 생성 상태, DONE 이 아니면 원본 사용)
+  UNIQUE KEY `UK_Study_Post_Image_Post_Url` (`post_id`, `image_url`),
+  INDEX `IDX_Study_Post_Image_Thumbnail_Status_Id` (`thumbnail_status`, `id`),
   CONSTRAINT `FK_Study_Post_TO_Study_Post_Image` FOREIGN KEY (`post_id`) REFERENCES `Study_Post`(`id`)
 );
 
@@ -96,6 +113,7 @@ CREATE TABLE `Study_Comment` (
   `created_at` VARCHAR(20) NOT NULL,
   `updated_at` VARCHAR(20) NULL,
   `visibility` CHAR(1) NOT NULL DEFAULT 'Y',
+  INDEX `IDX_Study_Comment_Visibility_Created_Id` (`visibility`, `created_at`, `id`),
   CONSTRAINT `FK_Study_Post_TO_Study_Comment` FOREIGN KEY (`post_id`) REFERENCES `Study_Post`(`id`),
   CONSTRAINT `FK_Study_Member_TO_Study_Comment` FOREIGN KEY (`member_id`) REFERENCES `Study_Member`(`id`),
   CONSTRAINT `FK_Study_Comment_TO_Study_Comment` FOREIGN KEY (`parent_id`) REFERENCES `Study_Comment`(`id`)
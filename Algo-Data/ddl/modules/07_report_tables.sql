@@ -20,6 +20,8 @@ CREATE TABLE `Report` (
   `target_id` INT NOT NULL COMMENT '신고 대상 엔티티 PK',
   `content` VARCHAR(500) NULL,
   `created_at` VARCHAR(20) NOT NULL,
+  INDEX `IDX_Report_Category_Target_Member` (`category_id`, `target_id`, `member_id`),
+  INDEX `IDX_Report_Reported_Member_Member` (`reported_member_id`, `member_id`),
   CONSTRAINT `FK_Member_TO_Report` FOREIGN KEY (`member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Reported_Member_TO_Report` FOREIGN KEY (`reported_member_id`) REFERENCES `Member`(`id`),
   CONSTRAINT `FK_Report_Category_TO_Report` FOREIGN KEY (`category_id`) REFERENCES `Report_Category`(`id`),
@@ -0,0 +1,96 @@
+-- OFFSET vs seek(keyset) 페이징 비교 벤치마크 (page 1000, size 10)
+-- 샘플 데이터(samples/*) 적재 후 실행하며, 마지막에 ROLLBACK 하므로 데이터는 남지 않는다.
+-- ANALYZE 결과의 r_total_time_ms / r_rows 로 두 방식의 소요 시간과 읽은 행 수를 비교한다.
+
+START TRANSACTION;
+
+-- --------------------------------------------------------------------------------------------------------
+-- 벤치마크용 데이터 생성 (MariaDB Sequence 엔진 사용)
+
+INSERT INTO Study_Recruit_Post (member_id, title, content, start_date, end_date, expires_at, status, capacity, created_at)
+SELECT 1
+     , CONCAT('벤치마크 모집글 ', seq)
+     , '벤치마크용 내용'
+     , '2025-01-01 00:00:00'
+     , '2025-12-31 00:00:00'
+     , '2025-01-01 00:00:00'
+     , 'OPEN'
+     , 4
+     , DATE_FORMAT(DATE_ADD('2024-01-01 00:00:00', INTERVAL seq SECOND), '%Y-%m-%d %H:%i:%s')
+  FROM seq_1_to_200000;
+
+INSERT INTO Study_Post (study_id, member_id, title, content, comment_count, created_at, visibility)
+SELECT 1
+     , 1
+     , CONCAT('벤치마크 게시물 ', seq)
+     , '벤치마크용 내용'
+     , 0
+     , DATE_FORMAT(DATE_ADD('2024-01-01 00:00:00', INTERVAL seq SECOND), '%Y-%m-%d %H:%i:%s')
+     , 'Y'
+  FROM seq_1_to_200000;
+
+-- --------------------------------------------------------------------------------------------------------
+-- 1. 스터디 모집글 목록 - 기존 OFFSET 방식 (page = 1000)
+
+ANALYZE FORMAT=JSON
+SELECT A.ID, A.TITLE, COUNT(D.ID) AS PARTICIPANT_COUNT
+  FROM STUDY_RECRUIT_POST A
+  JOIN MEMBER B ON A.MEMBER_ID = B.ID
+  JOIN MEMBER_RANK C ON B.RANK_ID = C.ID
+  LEFT JOIN STUDY_RECRUIT_MEMBER D ON A.ID = D.POST_ID AND D.STATUS = 'APPROVED'
+ WHERE A.VISIBILITY = 'Y'
+ GROUP BY A.ID
+ ORDER BY A.ID DESC
+ LIMIT 10 OFFSET 10000;
+
+-- 2. 스터디 모집글 목록 - seek 방식 (999페이지 마지막 ID를 커서로 사용)
+
+SET @last_seen_id = (SELECT ID
+                       FROM (SELECT ID FROM STUDY_RECRUIT_POST
+                              WHERE VISIBILITY = 'Y'
+                              ORDER BY ID DESC
+                              LIMIT 1 OFFSET 9999) T);
+
+ANALYZE FORMAT=JSON
+SELECT A.ID, A.TITLE, COUNT(D.ID) AS PARTICIPANT_COUNT
+  FROM STUDY_RECRUIT_POST A
+  JOIN MEMBER B ON A.MEMBER_ID = B.ID
+  JOIN MEMBER_RANK C ON B.RANK_ID = C.ID
+  LEFT JOIN STUDY_RECRUIT_MEMBER D ON A.ID = D.POST_ID AND D.STATUS = 'APPROVED'
+ WHERE A.VISIBILITY = 'Y'
+   AND A.ID < @last_seen_id
+ GROUP BY A.ID
+ ORDER BY A.ID DESC
+ LIMIT 10;
+
+-- --------------------------------------------------------------------------------------------------------
+-- 3. 스터디 게시물 목록 - 기존 OFFSET 방식 (page = 1000)
+
+ANALYZE FORMAT=JSON
+SELECT A.ID, A.TITLE, A.CREATED_AT
+  FROM STUDY_POST A
+ WHERE A.STUDY_ID = 1
+   AND A.VISIBILITY = 'Y'
+ ORDER BY A.CREATED_AT DESC, A.ID DESC
+ LIMIT 10 OFFSET 10000;
+
+-- 4. 스터디 게시물 목록 - seek 방식 ((CREATED_AT, ID) 커서)
+
+SET @last_seen_post_id = (SELECT ID
+                            FROM (SELECT ID FROM STUDY_POST
+                                   WHERE STUDY_ID = 1 AND VISIBILITY = 'Y'
+                                   ORDER BY CREATED_AT DESC, ID DESC
+                                   LIMIT 1 OFFSET 9999) T);
+
+ANALYZE FORMAT=JSON
+SELECT A.ID, A.TITLE, A.CREATED_AT
+  FROM STUDY_POST A
+  JOIN (SELECT CREATED_AT, ID FROM STUDY_POST WHERE ID = @last_seen_post_id) CUR
+    ON (A.CREATED_AT < CUR.CREATED_AT
+        OR (A.CREATED_AT = CUR.CREATED_AT AND A.ID < CUR.ID))
+ WHERE A.STUDY_ID = 1
+   AND A.VISIBILITY = 'Y'
+ ORDER BY A.CREATED_AT DESC, A.ID DESC
+ LIMIT 10;
+
+ROLLBACK;
@@ -194,6 +194,15 @@ INSERT INTO Study_Recruit_Member (member_id, post_id, status) VALUES
 (12, 10, 'PENDING'),
 (13, 10, 'REJECTED');
 
+-- 모집글별 승인 인원 수 동기화
+UPDATE Study_Recruit_Post p
+SET p.approved_count = (
+    SELECT COUNT(*)
+    FROM Study_Recruit_Member m
+    WHERE m.post_id = p.id
+      AND m.status = 'APPROVED'
+);
+
 INSERT INTO Study_Recruit_Comment (post_id, member_id, parent_id, content, created_at, updated_at, visibility) VALUES
 -- Post 1 (작성자: 1, 신청자: 2,3,4,5,6,...)
 (1, 2, NULL, '관심 있습니다! 참여하고 싶습니다.', '2024-03-22 10:15:00', NULL, 'Y'),
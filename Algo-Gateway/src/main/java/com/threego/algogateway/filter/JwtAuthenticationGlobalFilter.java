@@ -0,0 +1,59 @@
+package com.threego.algogateway.filter;
+
+import com.threego.algogateway.security.InternalIdentitySigner;
+import com.threego.algogateway.security.TokenVerifier;
+import com.threego.algogateway.security.VerifiedIdentity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+
+/* 설명. 모든 라우트에 적용되는 JWT 검증 필터
+ *  - 토큰은 게이트웨이에서 한 번만 검증하고, 검증된 신원을 서명된 내부 헤더로 하위 서비스에 전달한다.
+ *  - 클라이언트가 직접 보낸 신원 헤더는 항상 제거한다.
+ *  - 토큰이 없거나 유효하지 않으면 신원 헤더 없이 그대로 전달한다. (인가는 각 서비스에서 판단)
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationGlobalFilter implements GlobalFilter, Ordered {
+
+	private static final List<String> IDENTITY_HEADERS =
+			List.of(InternalIdentitySigner.HEADER, "X-Member-Id", "X-Member-Email", "X-Member-Roles");
+
+	private final TokenVerifier tokenVerifier;
+	private final InternalIdentitySigner internalIdentitySigner;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+		String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+		Optional<VerifiedIdentity> identity = Optional.empty();
+		if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+			identity = tokenVerifier.verify(authorizationHeader.substring(7));
+		}
+
+		Optional<String> signedIdentity = identity.map(internalIdentitySigner::sign);
+
+		ServerHttpRequest request = exchange.getRequest().mutate()
+				.headers(headers -> {
+					IDENTITY_HEADERS.forEach(headers::remove);
+					signedIdentity.ifPresent(value -> headers.set(InternalIdentitySigner.HEADER, value));
+				})
+				.build();
+
+		return chain.filter(exchange.mutate().request(request).build());
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
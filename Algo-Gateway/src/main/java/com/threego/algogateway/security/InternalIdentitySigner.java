@@ -0,0 +1,54 @@
+package com.threego.algogateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/* 설명. 하위 서비스로 전달하는 내부 신원 헤더 서명
+ *  - 형식: base64url(회원ID \n 이메일 \n 권한(,) \n 발급시각ms) + "." + base64url(HMAC-SHA256)
+ *  - 하위 서비스(Algo-Backend, Algo-Member-Service)의 InternalIdentityVerifier 와 형식을 맞춰야 한다.
+ */
+@Component
+public class InternalIdentitySigner {
+
+	public static final String HEADER = "X-Algo-Identity";
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final SecretKeySpec key;
+
+	// Mac 은 스레드 안전하지 않으므로 스레드마다 하나씩 사용
+	private final ThreadLocal<Mac> mac;
+
+	public InternalIdentitySigner(@Value("${token.internal-identity.secret}") String secret) {
+		this.key = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+		this.mac = ThreadLocal.withInitial(this::newMac);
+	}
+
+	public String sign(VerifiedIdentity identity) {
+		String payload = String.join("\n",
+				identity.getMemberId() == null ? "" : String.valueOf(identity.getMemberId()),
+				identity.getEmail(),
+				String.join(",", identity.getRoles()),
+				String.valueOf(System.currentTimeMillis()));
+
+		byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+		return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(mac.get().doFinal(payloadBytes));
+	}
+
+	private Mac newMac() {
+		try {
+			Mac instance = Mac.getInstance(ALGORITHM);
+			instance.init(key);
+			return instance;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("내부 신원 헤더 서명 키 초기화 실패", e);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.threego.algogateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/* 설명. JWT 검증 + 검증 결과 캐시
+ *  - 같은 토큰은 만료 시각까지 서명 검증 없이 캐시된 결과를 사용한다. (크기 제한)
+ *  - 검증에 실패한 토큰은 캐싱하지 않는다. (임의 토큰으로 캐시를 채우지 못하도록)
+ */
+@Slf4j
+@Component
+public class TokenVerifier {
+
+	private final JwtParser parser;
+	private final Cache<String, VerifiedIdentity> cache;
+
+	public TokenVerifier(@Value("${token.secret}") String secret,
+						 @Value("${token.verification-cache.max-size:10000}") long maxSize) {
+		this.parser = Jwts.parserBuilder()
+				.setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+				.build();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new Expiry<String, VerifiedIdentity>() {
+					@Override
+					public long expireAfterCreate(String token, VerifiedIdentity identity, long currentTime) {
+						return Math.max(0L, Duration.between(Instant.now(), identity.getExpiresAt()).toNanos());
+					}
+
+					@Override
+					public long expireAfterUpdate(String token, VerifiedIdentity identity, long currentTime,
+												  long currentDuration) {
+						return currentDuration;
+					}
+
+					@Override
+					public long expireAfterRead(String token, VerifiedIdentity identity, long currentTime,
+												long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
+	}
+
+	public Optional<VerifiedIdentity> verify(String token) {
+		VerifiedIdentity cached = cache.getIfPresent(token);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		Optional<VerifiedIdentity> identity = parse(token);
+		identity.ifPresent(verified -> cache.put(token, verified));
+		return identity;
+	}
+
+	private Optional<VerifiedIdentity> parse(String token) {
+		try {
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			if (claims.get("auth") == null || claims.getExpiration() == null) {
+				log.info("권한 또는 만료 시각이 없는 토큰");
+				return Optional.empty();
+			}
+
+			return Optional.of(new VerifiedIdentity(
+					claims.get("memberId", Integer.class),
+					claims.getSubject(),
+					toRoles(claims.get("auth")),
+					claims.getExpiration().toInstant()));
+		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+			log.info("유효하지 않은 토큰");
+		} catch (ExpiredJwtException e) {
+			log.info("만료된 토큰");
+		} catch (UnsupportedJwtException e) {
+			log.info("지원하지 않는 토큰");
+		} catch (IllegalArgumentException e) {
+			log.info("클레임이 비어있는 토큰");
+		}
+
+		return Optional.empty();
+	}
+
+	private List<String> toRoles(Object auth) {
+		if (auth instanceof List<?> roles) {
+			return roles.stream().map(String::valueOf).collect(Collectors.toList());
+		}
+		return Arrays.stream(auth.toString()
+						.replace("[", "")
+						.replace("]", "")
+						.split(", "))
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,17 @@
+package com.threego.algogateway.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/* 설명. 게이트웨이에서 검증을 마친 토큰의 사용자 정보 (토큰 만료 시각까지 캐싱) */
+@Getter
+@AllArgsConstructor
+public class VerifiedIdentity {
+	private final Integer memberId;
+	private final String email;
+	private final List<String> roles;
+	private final Instant expiresAt;
+}
@@ -0,0 +1,82 @@
+package com.threego.algogateway.filter;
+
+import com.threego.algogateway.security.GatewayTokens;
+import com.threego.algogateway.security.InternalIdentitySigner;
+import com.threego.algogateway.security.TokenVerifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/* 설명. 게이트웨이 전역 JWT 필터 - 클라이언트가 보낸 신원 헤더 제거와 서명된 신원 헤더 전달 확인 */
+class JwtAuthenticationGlobalFilterTest {
+
+	private final JwtAuthenticationGlobalFilter filter = new JwtAuthenticationGlobalFilter(
+			new TokenVerifier(GatewayTokens.TOKEN_SECRET, 100),
+			new InternalIdentitySigner(GatewayTokens.IDENTITY_SECRET));
+
+	@DisplayName("유효한 토큰이면 위조 헤더를 지우고 서명된 신원 헤더를 전달 (Authorization 은 유지)")
+	@Test
+	void validTokenForwardsSignedIdentityTest() {
+		// given
+		String token = GatewayTokens.token(7, "algo@algo.co.kr", 60_000);
+		MockServerHttpRequest request = MockServerHttpRequest.get("/algo/posts")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.header(InternalIdentitySigner.HEADER, "forged.identity")
+				.header("X-Member-Id", "1")
+				.header("X-Member-Roles", "ROLE_ADMIN")
+				.build();
+
+		// when
+		HttpHeaders forwarded = filterAndCapture(request);
+
+		// then
+		Assertions.assertNull(forwarded.getFirst("X-Member-Id"));
+		Assertions.assertNull(forwarded.getFirst("X-Member-Roles"));
+		Assertions.assertEquals("Bearer " + token, forwarded.getFirst(HttpHeaders.AUTHORIZATION));
+		Assertions.assertEquals(1, forwarded.get(InternalIdentitySigner.HEADER).size());
+
+		String payload = GatewayTokens.verifiedPayload(forwarded.getFirst(InternalIdentitySigner.HEADER));
+		Assertions.assertNotNull(payload);
+		Assertions.assertTrue(payload.startsWith("7\nalgo@algo.co.kr\nROLE_USER\n"));
+	}
+
+	@DisplayName("토큰이 없거나 유효하지 않으면 신원 헤더 없이 전달")
+	@Test
+	void missingOrInvalidTokenStripsIdentityTest() {
+		// given
+		MockServerHttpRequest anonymous = MockServerHttpRequest.get("/algo/posts")
+				.header(InternalIdentitySigner.HEADER, "forged.identity")
+				.header("X-Member-Email", "admin@algo.co.kr")
+				.build();
+		MockServerHttpRequest invalidToken = MockServerHttpRequest.get("/algo/posts")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer invalid.token.value")
+				.header(InternalIdentitySigner.HEADER, "forged.identity")
+				.build();
+		MockServerHttpRequest expiredToken = MockServerHttpRequest.get("/algo/posts")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + GatewayTokens.token(7, "algo@algo.co.kr", -1_000))
+				.build();
+
+		// when & then
+		for (MockServerHttpRequest request : new MockServerHttpRequest[]{anonymous, invalidToken, expiredToken}) {
+			HttpHeaders forwarded = filterAndCapture(request);
+			Assertions.assertFalse(forwarded.containsKey(InternalIdentitySigner.HEADER));
+			Assertions.assertFalse(forwarded.containsKey("X-Member-Email"));
+		}
+	}
+
+	private HttpHeaders filterAndCapture(MockServerHttpRequest request) {
+		AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+		filter.filter(MockServerWebExchange.from(request), exchange -> {
+			forwarded.set(exchange);
+			return Mono.empty();
+		}).block();
+		return forwarded.get().getRequest().getHeaders();
+	}
+}
@@ -0,0 +1,53 @@
+package com.threego.algogateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+
+/* 설명. 게이트웨이 테스트용 토큰/키 (Algo-Member-Service 로그인 토큰과 같은 클레임) */
+public final class GatewayTokens {
+
+	public static final String TOKEN_SECRET = Base64.getEncoder()
+			.encodeToString("algo-gateway-test-token-secret-key-0123456789".getBytes(StandardCharsets.UTF_8));
+	public static final String IDENTITY_SECRET = Base64.getEncoder()
+			.encodeToString("algo-internal-identity-secret-key!!".getBytes(StandardCharsets.UTF_8));
+
+	private GatewayTokens() {
+	}
+
+	public static String token(int memberId, String email, long expiresInMillis) {
+		return Jwts.builder()
+				.setSubject(email)
+				.claim("auth", "[ROLE_USER]")
+				.claim("memberId", memberId)
+				.setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(TOKEN_SECRET)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+
+	/* 설명. 하위 서비스의 InternalIdentityVerifier 와 같은 방식으로 서명 확인 후 payload 반환 (불일치 시 null) */
+	public static String verifiedPayload(String header) {
+		int separator = header.indexOf('.');
+		Base64.Decoder decoder = Base64.getUrlDecoder();
+		byte[] payload = decoder.decode(header.substring(0, separator));
+		byte[] signature = decoder.decode(header.substring(separator + 1));
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(Base64.getDecoder().decode(IDENTITY_SECRET), "HmacSHA256"));
+			return MessageDigest.isEqual(mac.doFinal(payload), signature)
+					? new String(payload, StandardCharsets.UTF_8)
+					: null;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.threego.algogateway.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/* 설명. 내부 신원 헤더 서명 - 하위 서비스 InternalIdentityVerifier 와 같은 형식/키로 검증되는지 확인 */
+class InternalIdentitySignerTest {
+
+	private final InternalIdentitySigner signer = new InternalIdentitySigner(GatewayTokens.IDENTITY_SECRET);
+
+	@DisplayName("회원 ID, 이메일, 권한, 발급 시각을 담아 HMAC 으로 서명")
+	@Test
+	void signedHeaderCarriesIdentityTest() {
+		// given
+		long before = System.currentTimeMillis();
+
+		// when
+		String header = signer.sign(new VerifiedIdentity(7, "algo@algo.co.kr", List.of("ROLE_USER", "ROLE_ADMIN"),
+				Instant.now().plusSeconds(60)));
+
+		// then
+		String[] fields = GatewayTokens.verifiedPayload(header).split("\n", -1);
+		Assertions.assertEquals("7", fields[0]);
+		Assertions.assertEquals("algo@algo.co.kr", fields[1]);
+		Assertions.assertEquals("ROLE_USER,ROLE_ADMIN", fields[2]);
+		Assertions.assertTrue(Long.parseLong(fields[3]) >= before);
+	}
+
+	@DisplayName("payload 를 바꾸면 서명이 맞지 않음")
+	@Test
+	void tamperedPayloadDoesNotMatchSignatureTest() {
+		// given
+		String header = signer.sign(new VerifiedIdentity(7, "algo@algo.co.kr", List.of("ROLE_USER"),
+				Instant.now().plusSeconds(60)));
+		String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+				("1\nadmin@algo.co.kr\nROLE_ADMIN\n" + System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+
+		// when & then
+		Assertions.assertNull(GatewayTokens.verifiedPayload(forgedPayload + header.substring(header.indexOf('.'))));
+	}
+
+	@DisplayName("memberId 클레임이 없는 예전 토큰은 회원 ID 를 비워서 서명 (하위 서비스가 거부)")
+	@Test
+	void missingMemberIdIsSignedAsEmptyTest() {
+		// when
+		String header = signer.sign(new VerifiedIdentity(null, "algo@algo.co.kr", List.of("ROLE_USER"),
+				Instant.now().plusSeconds(60)));
+
+		// then
+		Assertions.assertEquals("", GatewayTokens.verifiedPayload(header).split("\n", -1)[0]);
+	}
+}
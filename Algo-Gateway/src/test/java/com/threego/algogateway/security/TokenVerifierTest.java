@@ -0,0 +1,62 @@
+package com.threego.algogateway.security;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+/* 설명. JWT 검증 결과 캐시 - 같은 토큰은 만료 전까지 다시 검증하지 않는다. */
+class TokenVerifierTest {
+
+	private final TokenVerifier tokenVerifier = new TokenVerifier(GatewayTokens.TOKEN_SECRET, 100);
+
+	@DisplayName("유효한 토큰의 회원 정보를 복원하고 같은 토큰은 캐시된 결과를 사용")
+	@Test
+	void verifiedTokenIsCachedTest() {
+		// given
+		String token = GatewayTokens.token(7, "algo@algo.co.kr", 60_000);
+
+		// when
+		Optional<VerifiedIdentity> first = tokenVerifier.verify(token);
+		Optional<VerifiedIdentity> second = tokenVerifier.verify(token);
+
+		// then
+		Assertions.assertTrue(first.isPresent());
+		Assertions.assertEquals(7, first.get().getMemberId());
+		Assertions.assertEquals("algo@algo.co.kr", first.get().getEmail());
+		Assertions.assertEquals(List.of("ROLE_USER"), first.get().getRoles());
+		Assertions.assertSame(first.get(), second.get());
+	}
+
+	@DisplayName("서명이 다르거나 형식이 잘못된 토큰은 매번 거부")
+	@Test
+	void invalidTokenIsRejectedTest() {
+		// given
+		String token = GatewayTokens.token(7, "algo@algo.co.kr", 60_000);
+		int signatureStart = token.lastIndexOf('.') + 1;
+		String tampered = token.substring(0, signatureStart) + (token.charAt(signatureStart) == 'A' ? 'B' : 'A')
+				+ token.substring(signatureStart + 1);
+
+		// when & then
+		Assertions.assertTrue(tokenVerifier.verify(tampered).isEmpty());
+		Assertions.assertTrue(tokenVerifier.verify(tampered).isEmpty());
+		Assertions.assertTrue(tokenVerifier.verify("not.a.token").isEmpty());
+	}
+
+	@DisplayName("토큰 만료 시각이 지나면 캐시에서도 빠져 다시 검증되고 거부")
+	@Test
+	void cachedTokenExpiresWithTokenTest() throws InterruptedException {
+		// given
+		String token = GatewayTokens.token(7, "algo@algo.co.kr", 1_000);
+		Assertions.assertTrue(tokenVerifier.verify(token).isPresent());
+
+		// when
+		Thread.sleep(2_100);
+
+		// then
+		Assertions.assertTrue(tokenVerifier.verify(token).isEmpty());
+		Assertions.assertTrue(tokenVerifier.verify(GatewayTokens.token(7, "algo@algo.co.kr", -1_000)).isEmpty());
+	}
+}
@@ -5,6 +5,7 @@ import com.threego.algomemberservice.auth.command.application.dto.RequestRegistU
 import com.threego.algomemberservice.auth.command.application.dto.ResponseRegistUserDTO;
 import com.threego.algomemberservice.auth.command.application.dto.UserDTO;
 import com.threego.algomemberservice.auth.command.application.service.AuthService;
+import com.threego.algomemberservice.security.PasswordHashRejectedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,8 +14,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -70,4 +73,12 @@ public class AuthController {
         // 실제 로그인 로직 대신 예시 응답
         return ResponseEntity.ok("로그인 성공: " + email);
     }
+
+    // 해시 풀이 가득 차 거절된 회원가입은 일시적 과부하(503)로 응답 (로그인은 AuthenticationFilter 에서 처리)
+    @ExceptionHandler(PasswordHashRejectedException.class)
+    public ResponseEntity<String> handlePasswordHashRejected(PasswordHashRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
 }
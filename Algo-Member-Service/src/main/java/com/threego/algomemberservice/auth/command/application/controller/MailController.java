@@ -8,8 +8,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Tag(
         name = "Auth - Mail",
@@ -20,7 +18,6 @@ import java.util.concurrent.ConcurrentHashMap;
 public class MailController {
 
     private final MailService mailService;
-    private final Map<String, Integer> numberMap = new ConcurrentHashMap<>();
 
     public MailController(MailService mailService) {
         this.mailService = mailService;
@@ -38,8 +35,7 @@ public class MailController {
         HashMap<String, Object> map = new HashMap<>();
 
         try {
-            int number = mailService.sendMail(mail);
-            numberMap.put(mail, number);
+            mailService.sendMail(mail);
 
             map.put("success", true);
         } catch (Exception e) {
@@ -61,13 +57,6 @@ public class MailController {
             @Parameter(description = "사용자가 입력한 인증번호", required = true)
             @RequestParam String userNumber
     ) {
-        Integer correctNumber = numberMap.get(mail);
-        boolean isMatch = correctNumber != null && userNumber.equals(String.valueOf(correctNumber));
-
-        if(isMatch) {
-            numberMap.remove(mail);
-        }
-
-        return ResponseEntity.ok(isMatch);
+        return ResponseEntity.ok(mailService.verifyCode(mail, userNumber));
     }
 }
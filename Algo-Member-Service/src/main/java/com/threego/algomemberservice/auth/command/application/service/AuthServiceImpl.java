@@ -9,15 +9,16 @@ import com.threego.algomemberservice.member.command.domain.repository.MemberRepo
 import com.threego.algomemberservice.member.query.dao.AuthMapper;
 import com.threego.algomemberservice.member.query.dto.LoginUserResponseDTO;
 import com.threego.algomemberservice.security.CustomUserDetails;
+import com.threego.algomemberservice.security.PasswordHasher;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -29,7 +30,7 @@ import static com.threego.algomemberservice.member.command.domain.aggregate.Memb
 @Slf4j
 public class AuthServiceImpl implements AuthService {
     ModelMapper modelMapper;
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordHasher passwordHasher;
     MemberRepository memberRepository;
     MemberRankRepository memberRankRepository;
     AuthMapper authMapper;
@@ -37,11 +38,11 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     public AuthServiceImpl(MemberRepository memberRepository,
                            MemberRankRepository memberRankRepository,
-                           BCryptPasswordEncoder bCryptPasswordEncoder,
+                           PasswordHasher passwordHasher,
                            ModelMapper modelMapper,
                            AuthMapper authMapper
     ) {
-        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.passwordHasher = passwordHasher;
         this.memberRepository = memberRepository;
         this.modelMapper = modelMapper;
         this.authMapper = authMapper;
@@ -54,7 +55,7 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("기본 Rank 없음"));
 
         Member member = UserToMember(userDTO, defaultRank);
-        member.setPassword(bCryptPasswordEncoder.encode(userDTO.getPassword()));
+        member.setPassword(passwordHasher.encode(userDTO.getPassword()));
 
         Member savedMember = memberRepository.save(member);
 
@@ -67,8 +68,42 @@ public class AuthServiceImpl implements AuthService {
         memberRepository.save(savedMember);
     }
 
+    /* 설명. 로그인 비밀번호 검증
+     *  - BCrypt 검증은 전용 풀에서 수행 (PasswordHasher)
+     *  - 저장된 해시가 현재 설정 강도보다 낮으면 로그인 성공 시 새 강도로 다시 저장 (비동기)
+     */
+    @Override
+    public UserDetails login(String email, String password) {
+        CustomUserDetails loginUser = loadLoginUser(email);
+
+        if (!passwordHasher.matches(password, loginUser.getPassword())) {
+            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
+        }
+
+        // 재해시는 응답을 기다리게 하지 않도록 해시 풀에서 저장까지 처리 (실패하면 다음 로그인 때 재시도)
+        if (passwordHasher.needsRehash(loginUser.getPassword())) {
+            final int memberId = loginUser.getMemberId();
+            final boolean queued = passwordHasher.encodeLater(password, encoded -> {
+                try {
+                    memberRepository.updatePassword(memberId, encoded);
+                } catch (RuntimeException e) {
+                    log.warn("비밀번호 재해시 저장 실패: {}", memberId, e);
+                }
+            });
+            if (!queued) {
+                log.info("해시 풀이 가득 차 비밀번호 재해시를 다음 로그인으로 미룸: {}", memberId);
+            }
+        }
+
+        return loginUser;
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return loadLoginUser(email);
+    }
+
+    private CustomUserDetails loadLoginUser(String email) {
         LoginUserResponseDTO loginUser = authMapper.selectMemberByEmail(email);
         if (loginUser == null) {
             throw new UsernameNotFoundException(email + "이메일 사용자는 존재하지 않습니다.");
@@ -2,6 +2,8 @@ package com.threego.algomemberservice.auth.command.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.threego.algomemberservice.auth.command.application.dto.RequestLoginDTO;
+import com.threego.algomemberservice.security.CustomUserDetails;
+import com.threego.algomemberservice.security.PasswordHashRejectedException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -11,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -57,6 +60,11 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         Claims claims = Jwts.claims().setSubject(id);
         claims.put("auth", roles);
 
+        // 게이트웨이가 DB 조회 없이 회원을 식별할 수 있도록 회원 ID 포함
+        if (authResult.getPrincipal() instanceof CustomUserDetails userDetails) {
+            claims.put("memberId", userDetails.getMemberId());
+        }
+
         String token = Jwts.builder()
                 .setClaims(claims)
                 .setExpiration(new java.util.Date(System.currentTimeMillis()
@@ -66,4 +74,17 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
         response.addHeader("token", token);
     }
+
+    @Override
+    protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
+        // 해시 풀이 가득 차 거절된 로그인은 인증 실패(401)가 아닌 일시적 과부하(503)로 응답
+        if (failed instanceof PasswordHashRejectedException) {
+            SecurityContextHolder.clearContext();
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), failed.getMessage());
+            return;
+        }
+
+        super.unsuccessfulAuthentication(request, response, failed);
+    }
 }
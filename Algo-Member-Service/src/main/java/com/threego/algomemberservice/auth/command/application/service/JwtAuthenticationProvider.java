@@ -2,25 +2,20 @@ package com.threego.algomemberservice.auth.command.application.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationProvider;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtAuthenticationProvider implements AuthenticationProvider {
 
     private final AuthService authService;
-    private final PasswordEncoder passwordEncoder;
 
     @Autowired
-    public JwtAuthenticationProvider(AuthService authService
-                                    ,PasswordEncoder passwordEncoder) {
+    public JwtAuthenticationProvider(AuthService authService) {
         this.authService = authService;
-        this.passwordEncoder = passwordEncoder;
     }
 
     @Override
@@ -28,11 +23,7 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
         String email = authentication.getName();
         String password = authentication.getCredentials().toString();
 
-        UserDetails userDetails = authService.loadUserByUsername(email);
-
-        if(!passwordEncoder.matches(password, userDetails.getPassword())) {
-            throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
-        }
+        UserDetails userDetails = authService.login(email, password);
 
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -1,7 +1,7 @@
 package com.threego.algomemberservice.auth.command.application.service;
 
-import jakarta.mail.MessagingException;
-
 public interface MailService {
-    int sendMail(String email) throws MessagingException;
+    void sendMail(String email);
+
+    boolean verifyCode(String email, String code);
 }
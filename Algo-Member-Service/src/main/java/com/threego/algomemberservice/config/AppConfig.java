@@ -1,14 +1,52 @@
 package com.threego.algomemberservice.config;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+@EnableScheduling
 @Configuration
 public class AppConfig {
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        // 강도를 올리면 기존 해시는 다음 로그인 때 새 강도로 다시 저장된다. (AuthServiceImpl.login)
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /* 설명. BCrypt 해시/검증 전용 풀 (요청 스레드의 CPU 독점 방지, 대기열이 가득 차면 즉시 거절) */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:64}") int queueCapacity) {
+        // 기본값은 코어 수의 절반 (나머지 CPU 는 다른 API 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /* 설명. 메일 발송 워커 풀 (각 워커가 발송 큐를 비울 때까지 처리하므로 대기는 워커 수만큼, 나머지는 버림) */
+    @Bean(name = "mailSendExecutor")
+    public ThreadPoolTaskExecutor mailSendExecutor(@Value("${auth.mail.worker-threads:2}") int workerThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(workerThreads);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
     }
 
     @Bean
@@ -2,9 +2,17 @@ package com.threego.algomemberservice.member.command.domain.repository;
 
 import com.threego.algomemberservice.member.command.domain.aggregate.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Integer> {
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :memberId")
+    int updatePassword(@Param("memberId") int memberId, @Param("password") String password);
 }
\ No newline at end of file
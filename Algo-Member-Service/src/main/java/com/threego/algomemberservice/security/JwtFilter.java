@@ -10,18 +10,32 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final InternalIdentityVerifier internalIdentityVerifier;
 
-    public JwtFilter(JwtUtil jwtUtil) {
+    public JwtFilter(JwtUtil jwtUtil, InternalIdentityVerifier internalIdentityVerifier) {
         this.jwtUtil = jwtUtil;
+        this.internalIdentityVerifier = internalIdentityVerifier;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        // 게이트웨이 신뢰 모드: 게이트웨이가 이미 검증한 신원을 HMAC 확인만으로 사용
+        String identityHeader = request.getHeader(InternalIdentityVerifier.HEADER);
+        if(identityHeader != null && internalIdentityVerifier.isEnabled()) {
+            Optional<Authentication> authentication = internalIdentityVerifier.verify(identityHeader);
+            if(authentication.isPresent()) {
+                SecurityContextHolder.getContext().setAuthentication(authentication.get());
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
         String authorizationHeader = request.getHeader("Authorization");
 
 
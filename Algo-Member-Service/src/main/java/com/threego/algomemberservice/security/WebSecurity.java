@@ -23,15 +23,18 @@ public class WebSecurity {
     private JwtAuthenticationProvider jwtAuthenticationProvider;
     private Environment env;
     private JwtUtil jwtUtil;
+    private InternalIdentityVerifier internalIdentityVerifier;
 
 
     @Autowired
     public WebSecurity(JwtAuthenticationProvider jwtAuthenticationProvider
             , Environment env
-            , JwtUtil jwtUtil) {
+            , JwtUtil jwtUtil
+            , InternalIdentityVerifier internalIdentityVerifier) {
         this.jwtAuthenticationProvider = jwtAuthenticationProvider;
         this.env = env;
         this.jwtUtil = jwtUtil;
+        this.internalIdentityVerifier = internalIdentityVerifier;
     }
 
     @Bean
@@ -62,7 +65,7 @@ public class WebSecurity {
 
         http.addFilter(getAuthenticationFilter(authenticationManager()));
 
-        http.addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtFilter(jwtUtil, internalIdentityVerifier), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,72 @@
+package com.threego.algomemberservice.auth.command.infrastructure.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerificationCodeStoreTest {
+
+    @DisplayName("이메일마다 인증번호를 따로 저장하고, 성공하면 재사용 불가")
+    @Test
+    void codeIsStoredPerEmailTest() {
+        // given
+        VerificationCodeStore store = new VerificationCodeStore(300, 5, 100, 1800, 5, 3600);
+        String first = store.issue("algo1@algo.co.kr");
+        String second = store.issue("algo2@algo.co.kr");
+
+        // when & then
+        Assertions.assertTrue(store.verify("algo1@algo.co.kr", first));
+        Assertions.assertTrue(store.verify("algo2@algo.co.kr", second));
+        Assertions.assertFalse(store.verify("algo1@algo.co.kr", first));
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 맞는 번호도 거절")
+    @Test
+    void attemptLimitTest() {
+        // given
+        VerificationCodeStore store = new VerificationCodeStore(300, 3, 100, 1800, 5, 3600);
+        String code = store.issue("algo@algo.co.kr");
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertFalse(store.verify("algo@algo.co.kr", wrong));
+        }
+
+        // then
+        Assertions.assertFalse(store.verify("algo@algo.co.kr", code));
+    }
+
+    @DisplayName("번호를 다시 발급받아도 틀린 횟수는 초기화되지 않음")
+    @Test
+    void reissueDoesNotResetAttemptsTest() {
+        // given
+        VerificationCodeStore store = new VerificationCodeStore(300, 3, 100, 1800, 10, 3600);
+        String code = store.issue("algo@algo.co.kr");
+        String wrong = code.equals("000000") ? "111111" : "000000";
+        Assertions.assertFalse(store.verify("algo@algo.co.kr", wrong));
+        Assertions.assertFalse(store.verify("algo@algo.co.kr", wrong));
+
+        // when
+        String reissued = store.issue("algo@algo.co.kr");
+        String wrongAgain = reissued.equals("000000") ? "111111" : "000000";
+        Assertions.assertFalse(store.verify("algo@algo.co.kr", wrongAgain));
+
+        // then
+        Assertions.assertThrows(IllegalStateException.class, () -> store.issue("algo@algo.co.kr"));
+        Assertions.assertFalse(store.verify("algo@algo.co.kr", reissued));
+    }
+
+    @DisplayName("발급 횟수 제한을 넘기면 발급 거절")
+    @Test
+    void issueQuotaTest() {
+        // given
+        VerificationCodeStore store = new VerificationCodeStore(300, 5, 100, 1800, 2, 3600);
+        store.issue("algo@algo.co.kr");
+        store.issue("algo@algo.co.kr");
+
+        // when & then
+        Assertions.assertThrows(IllegalStateException.class, () -> store.issue("algo@algo.co.kr"));
+        Assertions.assertNotNull(store.issue("other@algo.co.kr"));
+    }
+}
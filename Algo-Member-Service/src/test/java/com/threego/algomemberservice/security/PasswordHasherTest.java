@@ -0,0 +1,113 @@
+package com.threego.algomemberservice.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/* 설명. BCrypt 전용 풀 거절 / 비동기 재해시 테스트 */
+class PasswordHasherTest {
+    private static final long TIMEOUT_MILLIS = 500;
+
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private ThreadPoolTaskExecutor executor;
+    private PasswordHasher passwordHasher;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        bCryptPasswordEncoder = new BCryptPasswordEncoder(4);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        passwordHasher = new PasswordHasher(bCryptPasswordEncoder, executor, TIMEOUT_MILLIS);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @DisplayName("예상 대기 시간이 timeout 을 넘으면 대기열에 넣지 않고 바로 거절")
+    @Test
+    void expectedWaitOverTimeoutIsRejectedImmediatelyTest() {
+        // given
+        passwordHasher.recordHash(TimeUnit.MILLISECONDS.toNanos(400));
+        occupyWorker();
+        final String encoded = bCryptPasswordEncoder.encode("pass01");
+
+        // when
+        final long startedAt = System.nanoTime();
+        Assertions.assertThrows(PasswordHashRejectedException.class, () -> passwordHasher.matches("pass01", encoded));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        Assertions.assertTrue(elapsedMillis < TIMEOUT_MILLIS, "요청 스레드가 timeout 까지 기다리지 않아야 함: " + elapsedMillis);
+        Assertions.assertEquals(0, executor.getThreadPoolExecutor().getQueue().size());
+    }
+
+    @DisplayName("여유가 있으면 전용 풀에서 검증")
+    @Test
+    void matchesOnHashPoolTest() {
+        // given
+        final String encoded = bCryptPasswordEncoder.encode("pass01");
+
+        // when & then
+        Assertions.assertTrue(passwordHasher.matches("pass01", encoded));
+        Assertions.assertFalse(passwordHasher.matches("pass02", encoded));
+    }
+
+    @DisplayName("재해시는 결과를 기다리지 않고 풀에서 처리한 뒤 콜백으로 전달")
+    @Test
+    void encodeLaterDoesNotBlockCallerTest() throws Exception {
+        // given
+        occupyWorker();
+        final AtomicReference<String> saved = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        final boolean queued = passwordHasher.encodeLater("pass01", encoded -> {
+            saved.set(encoded);
+            done.countDown();
+        });
+
+        // then
+        Assertions.assertTrue(queued);
+        Assertions.assertNull(saved.get());
+        release.countDown();
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(bCryptPasswordEncoder.matches("pass01", saved.get()));
+    }
+
+    // 하나뿐인 작업 스레드를 release 전까지 붙잡아 둔다.
+    private void occupyWorker() {
+        final CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}